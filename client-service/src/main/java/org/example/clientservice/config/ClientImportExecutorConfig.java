@@ -0,0 +1,31 @@
+package org.example.clientservice.config;
+
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ClientImportExecutorConfig {
+
+    private static final String THREAD_NAME_PREFIX = "client-import-";
+
+    @Value("${client.import.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    @Value("${client.import.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Bean
+    @NonNull
+    public ThreadPoolTaskExecutor clientImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        executor.initialize();
+        return executor;
+    }
+}
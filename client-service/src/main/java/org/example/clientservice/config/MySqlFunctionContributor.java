@@ -0,0 +1,19 @@
+package org.example.clientservice.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.clientservice.mappers;
+
+import lombok.NonNull;
+import org.example.clientservice.models.client.ClientImportJob;
+import org.example.clientservice.models.dto.client.ClientImportJobDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+@Component
+public class ClientImportJobMapper {
+
+    private static final String ERRORS_SEPARATOR = "\n";
+
+    public ClientImportJobDTO toDTO(@NonNull ClientImportJob job) {
+        ClientImportJobDTO dto = new ClientImportJobDTO();
+        dto.setId(job.getId());
+        dto.setClientTypeId(job.getClientTypeId());
+        dto.setFileName(job.getFileName());
+        dto.setStatus(job.getStatus());
+        dto.setTotalRows(job.getTotalRows());
+        dto.setParsedRows(job.getParsedRows());
+        dto.setSavedRows(job.getSavedRows());
+        dto.setFailedRows(job.getFailedRows());
+        dto.setErrors(splitErrors(job.getErrors()));
+        dto.setMessage(job.getMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        return dto;
+    }
+
+    public String joinErrors(@NonNull List<String> errors) {
+        return errors.isEmpty() ? null : String.join(ERRORS_SEPARATOR, errors);
+    }
+
+    private List<String> splitErrors(String errors) {
+        if (errors == null || errors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return List.of(errors.split(ERRORS_SEPARATOR));
+    }
+}
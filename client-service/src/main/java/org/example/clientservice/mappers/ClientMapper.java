@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.example.clientservice.models.client.Client;
 import org.example.clientservice.models.clienttype.ClientFieldValue;
 import org.example.clientservice.models.clienttype.ClientType;
+import org.example.clientservice.models.clienttype.ClientTypeField;
+import org.example.clientservice.models.clienttype.ClientTypeFieldListValue;
 import org.example.clientservice.models.dto.client.*;
 import org.example.clientservice.models.dto.clienttype.ClientFieldValueCreateDTO;
 import org.example.clientservice.models.dto.clienttype.ClientFieldValueDTO;
@@ -36,6 +38,16 @@ public class ClientMapper {
 
 
     public ClientDTO clientToClientDTO(@NonNull Client client) {
+        if (client.getFieldValues() != null && !client.getFieldValues().isEmpty()) {
+            List<ClientFieldValueDTO> fieldValueDTOs = client.getFieldValues().stream()
+                    .map(fieldValueMapper::toDTO)
+                    .collect(Collectors.toList());
+            return clientToClientDTO(client, fieldValueDTOs);
+        }
+        return clientToClientDTO(client, Collections.emptyList());
+    }
+
+    public ClientDTO clientToClientDTO(@NonNull Client client, @NonNull List<ClientFieldValueDTO> fieldValues) {
         ClientDTO clientDTO = new ClientDTO();
         clientDTO.setId(client.getId());
         clientDTO.setCompany(client.getCompany());
@@ -45,15 +57,7 @@ public class ClientMapper {
         if (client.getSourceId() != null) {
             clientDTO.setSourceId(String.valueOf(client.getSourceId()));
         }
-        
-        if (client.getFieldValues() != null && !client.getFieldValues().isEmpty()) {
-            List<ClientFieldValueDTO> fieldValueDTOs = client.getFieldValues().stream()
-                    .map(fieldValueMapper::toDTO)
-                    .collect(Collectors.toList());
-            clientDTO.setFieldValues(fieldValueDTOs);
-        } else {
-            clientDTO.setFieldValues(Collections.emptyList());
-        }
+        clientDTO.setFieldValues(fieldValues);
 
         return clientDTO;
     }
@@ -116,13 +120,14 @@ public class ClientMapper {
                 .map(dto -> {
                     ClientFieldValue fieldValue = new ClientFieldValue();
                     fieldValue.setClient(client);
-                    fieldValue.setField(clientTypeFieldService.getFieldById(dto.getFieldId()));
+                    ClientTypeField field = clientTypeFieldService.getFieldById(dto.getFieldId());
+                    fieldValue.setField(field);
                     fieldValue.setValueText(dto.getValueText());
                     fieldValue.setValueNumber(dto.getValueNumber());
                     fieldValue.setValueDate(dto.getValueDate());
                     fieldValue.setValueBoolean(dto.getValueBoolean());
                     if (dto.getValueListId() != null) {
-                        fieldValue.setValueList(clientTypeService.getListValueById(dto.getValueListId()));
+                        fieldValue.setValueList(findListValue(field, dto.getValueListId()));
                     }
                     fieldValue.setDisplayOrder(dto.getDisplayOrder() != null ? dto.getDisplayOrder() : DEFAULT_DISPLAY_ORDER);
                     return fieldValue;
@@ -138,6 +143,17 @@ public class ClientMapper {
                 .collect(Collectors.toList());
     }
     
+    private ClientTypeFieldListValue findListValue(@NonNull ClientTypeField field, @NonNull Long listValueId) {
+        if (field.getListValues() != null) {
+            for (ClientTypeFieldListValue listValue : field.getListValues()) {
+                if (listValueId.equals(listValue.getId())) {
+                    return listValue;
+                }
+            }
+        }
+        return clientTypeService.getListValueById(listValueId);
+    }
+
     private String buildFieldValueKey(@NonNull ClientFieldValue fieldValue) {
         Long fieldId = fieldValue.getField().getId();
         if (fieldValue.getValueList() != null) {
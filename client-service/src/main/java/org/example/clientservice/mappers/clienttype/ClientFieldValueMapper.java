@@ -2,6 +2,8 @@ package org.example.clientservice.mappers.clienttype;
 
 import lombok.NonNull;
 import org.example.clientservice.models.clienttype.ClientFieldValue;
+import org.example.clientservice.models.clienttype.ClientFieldValueRow;
+import org.example.clientservice.models.clienttype.ClientTypeFieldDefinition;
 import org.example.clientservice.models.dto.clienttype.ClientFieldValueDTO;
 import org.springframework.stereotype.Component;
 
@@ -27,5 +29,24 @@ public class ClientFieldValueMapper {
         dto.setDisplayOrder(fieldValue.getDisplayOrder());
         return dto;
     }
-}
 
+    public ClientFieldValueDTO toDTO(@NonNull ClientFieldValueRow row, @NonNull ClientTypeFieldDefinition field) {
+        ClientFieldValueDTO dto = new ClientFieldValueDTO();
+        dto.setId(row.id());
+
+        dto.setFieldId(field.id());
+        dto.setFieldName(field.fieldName());
+        dto.setFieldLabel(field.fieldLabel());
+
+        dto.setFieldType(field.fieldType().name());
+
+        dto.setValueText(row.valueText());
+        dto.setValueNumber(row.valueNumber());
+        dto.setValueDate(row.valueDate());
+        dto.setValueBoolean(row.valueBoolean());
+        dto.setValueListId(row.valueListId());
+        dto.setValueListValue(row.valueListValue());
+        dto.setDisplayOrder(row.displayOrder());
+        return dto;
+    }
+}
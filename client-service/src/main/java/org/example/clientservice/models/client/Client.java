@@ -49,6 +49,9 @@ public class Client {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "changed_at", insertable = false, updatable = false)
+    private LocalDateTime changedAt;
+
     @Column(name = "is_active")
     private Boolean isActive = DEFAULT_IS_ACTIVE;
 
@@ -0,0 +1,12 @@
+package org.example.clientservice.models.client;
+
+import java.time.LocalDateTime;
+
+public record ClientExportRow(
+        Long id,
+        String company,
+        Long sourceId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,66 @@
+package org.example.clientservice.models.client;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "client_import_jobs")
+public class ClientImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_type_id", nullable = false)
+    private Long clientTypeId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ClientImportJobStatus status;
+
+    @Column(name = "total_rows", nullable = false)
+    private int totalRows;
+
+    @Column(name = "parsed_rows", nullable = false)
+    private int parsedRows;
+
+    @Column(name = "saved_rows", nullable = false)
+    private int savedRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private int failedRows;
+
+    @Column(name = "errors", columnDefinition = "MEDIUMTEXT")
+    private String errors;
+
+    @Column(name = "message", length = 1000)
+    private String message;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "owner_id", length = 64)
+    private String ownerId;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+}
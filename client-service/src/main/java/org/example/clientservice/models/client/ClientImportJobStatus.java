@@ -0,0 +1,9 @@
+package org.example.clientservice.models.client;
+
+public enum ClientImportJobStatus {
+    QUEUED,
+    VALIDATING,
+    SAVING,
+    COMPLETED,
+    FAILED
+}
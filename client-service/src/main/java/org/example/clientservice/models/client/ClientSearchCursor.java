@@ -0,0 +1,11 @@
+package org.example.clientservice.models.client;
+
+import org.springframework.data.domain.Sort;
+
+public record ClientSearchCursor(
+        String sort,
+        Sort.Direction direction,
+        String value,
+        Long id
+) {
+}
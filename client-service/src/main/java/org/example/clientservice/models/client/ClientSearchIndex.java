@@ -0,0 +1,27 @@
+package org.example.clientservice.models.client;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "client_search_index")
+public class ClientSearchIndex {
+
+    @Id
+    @Column(name = "client_id")
+    private Long clientId;
+
+    @Column(name = "client_type_id")
+    private Long clientTypeId;
+
+    @Column(name = "search_text", columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String searchText;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
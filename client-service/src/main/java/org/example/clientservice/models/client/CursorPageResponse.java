@@ -0,0 +1,12 @@
+package org.example.clientservice.models.client;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+}
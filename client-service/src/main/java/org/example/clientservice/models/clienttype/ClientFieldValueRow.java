@@ -0,0 +1,18 @@
+package org.example.clientservice.models.clienttype;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ClientFieldValueRow(
+        Long id,
+        Long clientId,
+        Long fieldId,
+        String valueText,
+        BigDecimal valueNumber,
+        LocalDate valueDate,
+        Boolean valueBoolean,
+        Long valueListId,
+        String valueListValue,
+        Integer displayOrder
+) {
+}
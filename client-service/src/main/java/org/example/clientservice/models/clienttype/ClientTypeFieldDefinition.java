@@ -0,0 +1,95 @@
+package org.example.clientservice.models.clienttype;
+
+import lombok.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public record ClientTypeFieldDefinition(
+        @NonNull Long id,
+        @NonNull Long clientTypeId,
+        @NonNull String fieldName,
+        @NonNull String fieldLabel,
+        @NonNull FieldType fieldType,
+        Boolean isRequired,
+        Boolean isSearchable,
+        Boolean isFilterable,
+        Boolean isVisibleInTable,
+        Boolean isVisibleInCreate,
+        Integer displayOrder,
+        Integer columnWidth,
+        String validationPattern,
+        Boolean allowMultiple,
+        @NonNull List<ListValue> listValues,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public record ListValue(Long id, String value, Integer displayOrder, LocalDateTime createdAt) {
+    }
+
+    public static ClientTypeFieldDefinition of(@NonNull ClientTypeField field) {
+        List<ListValue> listValues = field.getListValues() == null
+                ? List.of()
+                : field.getListValues().stream()
+                        .map(listValue -> new ListValue(listValue.getId(), listValue.getValue(),
+                                listValue.getDisplayOrder(), listValue.getCreatedAt()))
+                        .toList();
+
+        return new ClientTypeFieldDefinition(
+                field.getId(),
+                field.getClientType().getId(),
+                field.getFieldName(),
+                field.getFieldLabel(),
+                field.getFieldType(),
+                field.getIsRequired(),
+                field.getIsSearchable(),
+                field.getIsFilterable(),
+                field.getIsVisibleInTable(),
+                field.getIsVisibleInCreate(),
+                field.getDisplayOrder(),
+                field.getColumnWidth(),
+                field.getValidationPattern(),
+                field.getAllowMultiple(),
+                listValues,
+                field.getCreatedAt(),
+                field.getUpdatedAt());
+    }
+
+    public ClientTypeField toEntity() {
+        ClientType clientType = new ClientType();
+        clientType.setId(clientTypeId);
+
+        ClientTypeField field = new ClientTypeField();
+        field.setId(id);
+        field.setClientType(clientType);
+        field.setFieldName(fieldName);
+        field.setFieldLabel(fieldLabel);
+        field.setFieldType(fieldType);
+        field.setIsRequired(isRequired);
+        field.setIsSearchable(isSearchable);
+        field.setIsFilterable(isFilterable);
+        field.setIsVisibleInTable(isVisibleInTable);
+        field.setIsVisibleInCreate(isVisibleInCreate);
+        field.setDisplayOrder(displayOrder);
+        field.setColumnWidth(columnWidth);
+        field.setValidationPattern(validationPattern);
+        field.setAllowMultiple(allowMultiple);
+        field.setCreatedAt(createdAt);
+        field.setUpdatedAt(updatedAt);
+
+        List<ClientTypeFieldListValue> entityListValues = new ArrayList<>(listValues.size());
+        for (ListValue listValue : listValues) {
+            ClientTypeFieldListValue entityListValue = new ClientTypeFieldListValue();
+            entityListValue.setId(listValue.id());
+            entityListValue.setField(field);
+            entityListValue.setValue(listValue.value());
+            entityListValue.setDisplayOrder(listValue.displayOrder());
+            entityListValue.setCreatedAt(listValue.createdAt());
+            entityListValues.add(entityListValue);
+        }
+        field.setListValues(entityListValues);
+        return field;
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.clientservice.models.clienttype;
+
+import lombok.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+public record ClientTypeFieldSnapshot(
+        @NonNull Long clientTypeId,
+        @NonNull List<ClientTypeFieldDefinition> fields,
+        @NonNull List<ClientTypeFieldDefinition> visibleFields,
+        @NonNull List<ClientTypeFieldDefinition> searchableFields,
+        @NonNull List<ClientTypeFieldDefinition> filterableFields,
+        @NonNull List<ClientTypeFieldDefinition> visibleInCreateFields,
+        @NonNull Map<Long, ClientTypeFieldDefinition> fieldsById,
+        @NonNull Map<String, ClientTypeFieldDefinition> fieldsByName
+) {
+
+    public static ClientTypeFieldSnapshot of(@NonNull Long clientTypeId,
+                                             @NonNull List<ClientTypeFieldDefinition> fields) {
+        Map<Long, ClientTypeFieldDefinition> fieldsById = new LinkedHashMap<>();
+        Map<String, ClientTypeFieldDefinition> fieldsByName = new LinkedHashMap<>();
+        for (ClientTypeFieldDefinition field : fields) {
+            fieldsById.put(field.id(), field);
+            fieldsByName.putIfAbsent(field.fieldName().toLowerCase(), field);
+        }
+
+        return new ClientTypeFieldSnapshot(
+                clientTypeId,
+                List.copyOf(fields),
+                filter(fields, field -> Boolean.TRUE.equals(field.isVisibleInTable())),
+                filter(fields, field -> Boolean.TRUE.equals(field.isSearchable())),
+                filter(fields, field -> Boolean.TRUE.equals(field.isFilterable())),
+                filter(fields, field -> Boolean.TRUE.equals(field.isVisibleInCreate())),
+                Map.copyOf(fieldsById),
+                Map.copyOf(fieldsByName));
+    }
+
+    public ClientTypeFieldDefinition findById(Long fieldId) {
+        return fieldId != null ? fieldsById.get(fieldId) : null;
+    }
+
+    public ClientTypeFieldDefinition findByName(String fieldName) {
+        return fieldName != null ? fieldsByName.get(fieldName.toLowerCase()) : null;
+    }
+
+    private static List<ClientTypeFieldDefinition> filter(@NonNull List<ClientTypeFieldDefinition> fields,
+                                                          @NonNull Predicate<ClientTypeFieldDefinition> condition) {
+        return fields.stream().filter(condition).toList();
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.clientservice.models.clienttype;
+
+public record ClientTypePermissionFlags(
+        Long clientTypeId,
+        Boolean canView,
+        Boolean canEdit
+) {
+}
@@ -0,0 +1,41 @@
+package org.example.clientservice.models.clienttype;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+public record ClientTypePermissionSnapshot(
+        long[] viewableClientTypeIds,
+        long[] editableClientTypeIds
+) {
+
+    public static ClientTypePermissionSnapshot of(@NonNull List<ClientTypePermissionFlags> permissions) {
+        return new ClientTypePermissionSnapshot(
+                collectIds(permissions, permission -> Boolean.TRUE.equals(permission.canView())),
+                collectIds(permissions, permission -> Boolean.TRUE.equals(permission.canEdit())));
+    }
+
+    public boolean canView(long clientTypeId) {
+        return Arrays.binarySearch(viewableClientTypeIds, clientTypeId) >= 0;
+    }
+
+    public boolean canEdit(long clientTypeId) {
+        return Arrays.binarySearch(editableClientTypeIds, clientTypeId) >= 0;
+    }
+
+    public List<Long> viewableIds() {
+        return Arrays.stream(viewableClientTypeIds).boxed().toList();
+    }
+
+    private static long[] collectIds(@NonNull List<ClientTypePermissionFlags> permissions,
+                                     @NonNull Predicate<ClientTypePermissionFlags> condition) {
+        return permissions.stream()
+                .filter(permission -> permission.clientTypeId() != null && condition.test(permission))
+                .mapToLong(ClientTypePermissionFlags::clientTypeId)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+}
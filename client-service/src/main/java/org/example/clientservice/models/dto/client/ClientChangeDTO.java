@@ -0,0 +1,15 @@
+package org.example.clientservice.models.dto.client;
+
+import java.time.LocalDateTime;
+
+public record ClientChangeDTO(
+        Long id,
+        String company,
+        Long clientTypeId,
+        Long sourceId,
+        Boolean isActive,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime changedAt
+) {
+}
@@ -1,10 +1,10 @@
 package org.example.clientservice.models.dto.client;
 
 import lombok.NonNull;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public record ClientExportResult(
-        byte @NonNull [] excelData,
+        @NonNull StreamingResponseBody excelData,
         @NonNull String filename
 ) {
 }
-
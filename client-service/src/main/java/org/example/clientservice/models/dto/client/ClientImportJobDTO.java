@@ -0,0 +1,24 @@
+package org.example.clientservice.models.dto.client;
+
+import lombok.Data;
+import org.example.clientservice.models.client.ClientImportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class ClientImportJobDTO {
+    private Long id;
+    private Long clientTypeId;
+    private String fileName;
+    private ClientImportJobStatus status;
+    private int totalRows;
+    private int parsedRows;
+    private int savedRows;
+    private int failedRows;
+    private List<String> errors;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,13 @@
+package org.example.clientservice.models.dto.clienttype;
+
+import lombok.Data;
+
+@Data
+public class ClientTypePermissionCacheStatsDTO {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private double averageLoadPenaltyMillis;
+}
@@ -0,0 +1,98 @@
+package org.example.clientservice.repositories;
+
+import lombok.NonNull;
+import org.example.clientservice.models.client.ClientImportJob;
+import org.example.clientservice.models.client.ClientImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ClientImportJobRepository extends JpaRepository<ClientImportJob, Long> {
+
+    @Query("SELECT j.id FROM ClientImportJob j WHERE j.status IN :activeStatuses " +
+            "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    @NonNull
+    List<Long> findStaleJobIds(@NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                               @NonNull @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.status = :status, j.message = :message, j.finishedAt = :finishedAt " +
+            "WHERE j.id = :jobId AND j.status IN :activeStatuses " +
+            "AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int failStaleJob(@NonNull @Param("jobId") Long jobId,
+                     @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                     @NonNull @Param("staleBefore") LocalDateTime staleBefore,
+                     @NonNull @Param("status") ClientImportJobStatus status,
+                     @NonNull @Param("message") String message,
+                     @NonNull @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.heartbeatAt = :heartbeatAt " +
+            "WHERE j.ownerId = :ownerId AND j.status IN :activeStatuses")
+    int touchHeartbeats(@NonNull @Param("ownerId") String ownerId,
+                        @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                        @NonNull @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.status = :status, j.startedAt = :startedAt, j.heartbeatAt = :startedAt " +
+            "WHERE j.id = :jobId AND j.status IN :activeStatuses")
+    int startActiveJob(@NonNull @Param("jobId") Long jobId,
+                       @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                       @NonNull @Param("status") ClientImportJobStatus status,
+                       @NonNull @Param("startedAt") LocalDateTime startedAt);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.parsedRows = :parsedRows, j.failedRows = :failedRows, " +
+            "j.heartbeatAt = :heartbeatAt WHERE j.id = :jobId AND j.status IN :activeStatuses")
+    int updateActiveValidationProgress(@NonNull @Param("jobId") Long jobId,
+                                       @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                                       @Param("parsedRows") int parsedRows,
+                                       @Param("failedRows") int failedRows,
+                                       @NonNull @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.status = :status, j.totalRows = :totalRows, j.parsedRows = :totalRows, " +
+            "j.failedRows = 0, j.heartbeatAt = :heartbeatAt WHERE j.id = :jobId AND j.status IN :activeStatuses")
+    int markActiveJobSaving(@NonNull @Param("jobId") Long jobId,
+                            @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                            @NonNull @Param("status") ClientImportJobStatus status,
+                            @Param("totalRows") int totalRows,
+                            @NonNull @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.savedRows = :savedRows, j.heartbeatAt = :heartbeatAt " +
+            "WHERE j.id = :jobId AND j.status IN :activeStatuses")
+    int updateActiveSavedRows(@NonNull @Param("jobId") Long jobId,
+                              @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                              @Param("savedRows") int savedRows,
+                              @NonNull @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.savedRows = 0 WHERE j.id = :jobId")
+    int resetSavedRows(@NonNull @Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.status = :status, j.savedRows = :savedRows, j.message = :message, " +
+            "j.finishedAt = :finishedAt WHERE j.id = :jobId AND j.status IN :activeStatuses")
+    int completeActiveJob(@NonNull @Param("jobId") Long jobId,
+                          @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                          @NonNull @Param("status") ClientImportJobStatus status,
+                          @Param("savedRows") int savedRows,
+                          @NonNull @Param("message") String message,
+                          @NonNull @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Modifying
+    @Query("UPDATE ClientImportJob j SET j.status = :status, j.message = :message, j.errors = :errors, " +
+            "j.finishedAt = :finishedAt WHERE j.id = :jobId AND j.status IN :activeStatuses")
+    int failActiveJob(@NonNull @Param("jobId") Long jobId,
+                      @NonNull @Param("activeStatuses") Collection<ClientImportJobStatus> activeStatuses,
+                      @NonNull @Param("status") ClientImportJobStatus status,
+                      @NonNull @Param("message") String message,
+                      @Param("errors") String errors,
+                      @NonNull @Param("finishedAt") LocalDateTime finishedAt);
+}
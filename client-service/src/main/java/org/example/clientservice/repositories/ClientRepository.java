@@ -2,21 +2,23 @@ package org.example.clientservice.repositories;
 
 import lombok.NonNull;
 import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.dto.client.ClientChangeDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecificationExecutor<Client> {
     @Modifying
-    @Query("UPDATE Client c SET c.isActive = false WHERE c.id = :clientId")
+    @Query("UPDATE Client c SET c.isActive = false, c.updatedAt = LOCAL DATETIME WHERE c.id = :clientId")
     void deactivateClientById(@NonNull @Param("clientId") Long clientId);
 
     @Modifying
-    @Query("UPDATE Client c SET c.isActive = true WHERE c.id = :clientId")
+    @Query("UPDATE Client c SET c.isActive = true, c.updatedAt = LOCAL DATETIME WHERE c.id = :clientId")
     void activateClientById(@NonNull @Param("clientId") Long clientId);
 
     @EntityGraph(attributePaths = {"clientType"})
@@ -33,4 +35,17 @@ public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecif
 
     long countByClientTypeId(@NonNull Long clientTypeId);
 
+    @Query("SELECT c.id FROM Client c WHERE c.id IN :ids")
+    @NonNull
+    List<Long> findExistingIds(@NonNull @Param("ids") List<Long> ids);
+
+    @Query("SELECT new org.example.clientservice.models.dto.client.ClientChangeDTO(" +
+            "c.id, c.company, c.clientType.id, c.sourceId, c.isActive, c.createdAt, c.updatedAt, c.changedAt) " +
+            "FROM Client c WHERE c.changedAt > :changedAfter OR (c.changedAt = :changedAfter AND c.id > :afterId) " +
+            "ORDER BY c.changedAt, c.id")
+    @NonNull
+    List<ClientChangeDTO> findChangesAfter(@NonNull @Param("changedAfter") LocalDateTime changedAfter,
+                                           @NonNull @Param("afterId") Long afterId,
+                                           @NonNull Pageable pageable);
+
 }
@@ -0,0 +1,38 @@
+package org.example.clientservice.repositories;
+
+import lombok.NonNull;
+import org.example.clientservice.models.client.ClientSearchIndex;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface ClientSearchIndexRepository extends JpaRepository<ClientSearchIndex, Long> {
+
+    String REFRESH_SELECT = """
+            SELECT c.id, c.client_type_id,
+                   LOWER(CONCAT_WS('\\n', c.id, c.company,
+                       GROUP_CONCAT(COALESCE(lv.value, v.value_text) ORDER BY v.field_id, v.display_order SEPARATOR '\\n'))),
+                   NOW()
+            FROM clients c
+            LEFT JOIN client_field_values v ON v.client_id = c.id
+                AND v.field_id IN (SELECT f.id FROM client_type_fields f WHERE f.is_searchable = TRUE)
+            LEFT JOIN client_type_field_list_values lv ON lv.id = v.value_list_id
+            """;
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "REPLACE INTO client_search_index (client_id, client_type_id, search_text, updated_at) "
+            + REFRESH_SELECT
+            + "WHERE c.id IN (:clientIds) GROUP BY c.id, c.client_type_id, c.company",
+            nativeQuery = true)
+    int refreshByClientIds(@NonNull @Param("clientIds") Collection<Long> clientIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "REPLACE INTO client_search_index (client_id, client_type_id, search_text, updated_at) "
+            + REFRESH_SELECT
+            + "WHERE c.client_type_id = :clientTypeId GROUP BY c.id, c.client_type_id, c.company",
+            nativeQuery = true)
+    int refreshByClientTypeId(@NonNull @Param("clientTypeId") Long clientTypeId);
+}
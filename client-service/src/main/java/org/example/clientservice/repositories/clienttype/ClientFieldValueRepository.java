@@ -2,6 +2,7 @@ package org.example.clientservice.repositories.clienttype;
 
 import lombok.NonNull;
 import org.example.clientservice.models.clienttype.ClientFieldValue;
+import org.example.clientservice.models.clienttype.ClientFieldValueRow;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,5 +18,22 @@ public interface ClientFieldValueRepository extends JpaRepository<ClientFieldVal
     @Query("SELECT cfv FROM ClientFieldValue cfv WHERE cfv.client.id IN :clientIds ORDER BY cfv.client.id ASC, cfv.displayOrder ASC")
     @NonNull
     List<ClientFieldValue> findByClientIdInWithFieldAndValueList(@NonNull @Param("clientIds") List<Long> clientIds);
-}
 
+    @Query("SELECT new org.example.clientservice.models.clienttype.ClientFieldValueRow(" +
+            "cfv.id, cfv.client.id, cfv.field.id, cfv.valueText, cfv.valueNumber, cfv.valueDate, cfv.valueBoolean, " +
+            "lv.id, lv.value, cfv.displayOrder) " +
+            "FROM ClientFieldValue cfv LEFT JOIN cfv.valueList lv " +
+            "WHERE cfv.client.id IN :clientIds ORDER BY cfv.client.id ASC, cfv.displayOrder ASC")
+    @NonNull
+    List<ClientFieldValueRow> findRowsByClientIdIn(@NonNull @Param("clientIds") List<Long> clientIds);
+
+    @Query("SELECT new org.example.clientservice.models.clienttype.ClientFieldValueRow(" +
+            "cfv.id, cfv.client.id, cfv.field.id, cfv.valueText, cfv.valueNumber, cfv.valueDate, cfv.valueBoolean, " +
+            "lv.id, lv.value, cfv.displayOrder) " +
+            "FROM ClientFieldValue cfv LEFT JOIN cfv.valueList lv " +
+            "WHERE cfv.client.id IN :clientIds AND cfv.field.id IN :fieldIds " +
+            "ORDER BY cfv.client.id ASC, cfv.displayOrder ASC")
+    @NonNull
+    List<ClientFieldValueRow> findRowsByClientIdInAndFieldIdIn(@NonNull @Param("clientIds") List<Long> clientIds,
+                                                               @NonNull @Param("fieldIds") List<Long> fieldIds);
+}
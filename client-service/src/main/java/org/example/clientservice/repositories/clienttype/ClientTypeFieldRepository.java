@@ -13,32 +13,15 @@ public interface ClientTypeFieldRepository extends JpaRepository<ClientTypeField
     @NonNull
     List<ClientTypeField> findByClientTypeIdOrderByDisplayOrderAsc(@NonNull Long clientTypeId);
     
-    @Query("SELECT DISTINCT f FROM ClientTypeField f LEFT JOIN FETCH f.listValues WHERE f.clientType.id = :clientTypeId ORDER BY f.displayOrder ASC")
+    @Query("SELECT DISTINCT f FROM ClientTypeField f JOIN FETCH f.clientType LEFT JOIN FETCH f.listValues WHERE f.clientType.id = :clientTypeId ORDER BY f.displayOrder ASC")
     @NonNull
-    List<ClientTypeField> findByClientTypeIdOrderByDisplayOrderAscWithListValues(@NonNull @Param("clientTypeId") Long clientTypeId);
-    
-    @Query("SELECT DISTINCT f FROM ClientTypeField f LEFT JOIN FETCH f.listValues WHERE f.id IN :fieldIds")
-    @NonNull
-    List<ClientTypeField> findByIdsWithListValues(@NonNull @Param("fieldIds") List<Long> fieldIds);
+    List<ClientTypeField> findByClientTypeIdWithClientTypeAndListValues(@NonNull @Param("clientTypeId") Long clientTypeId);
+
+    @Query("SELECT f.clientType.id FROM ClientTypeField f WHERE f.id = :fieldId")
+    Optional<Long> findClientTypeIdByFieldId(@NonNull @Param("fieldId") Long fieldId);
     
     Optional<ClientTypeField> findByClientTypeIdAndFieldName(@NonNull Long clientTypeId, @NonNull String fieldName);
     
-    @Query("SELECT DISTINCT f FROM ClientTypeField f LEFT JOIN FETCH f.listValues WHERE f.clientType.id = :clientTypeId AND f.isVisibleInTable = true ORDER BY f.displayOrder ASC")
-    @NonNull
-    List<ClientTypeField> findVisibleFieldsByClientTypeId(@NonNull @Param("clientTypeId") Long clientTypeId);
-    
-    @Query("SELECT DISTINCT f FROM ClientTypeField f LEFT JOIN FETCH f.listValues WHERE f.clientType.id = :clientTypeId AND f.isSearchable = true ORDER BY f.displayOrder ASC")
-    @NonNull
-    List<ClientTypeField> findSearchableFieldsByClientTypeId(@NonNull @Param("clientTypeId") Long clientTypeId);
-    
-    @Query("SELECT DISTINCT f FROM ClientTypeField f LEFT JOIN FETCH f.listValues WHERE f.clientType.id = :clientTypeId AND f.isFilterable = true ORDER BY f.displayOrder ASC")
-    @NonNull
-    List<ClientTypeField> findFilterableFieldsByClientTypeId(@NonNull @Param("clientTypeId") Long clientTypeId);
-    
-    @Query("SELECT DISTINCT f FROM ClientTypeField f LEFT JOIN FETCH f.listValues WHERE f.clientType.id = :clientTypeId AND f.isVisibleInCreate = true ORDER BY f.displayOrder ASC")
-    @NonNull
-    List<ClientTypeField> findVisibleInCreateFieldsByClientTypeId(@NonNull @Param("clientTypeId") Long clientTypeId);
-
     @Query("SELECT DISTINCT f FROM ClientTypeField f LEFT JOIN FETCH f.listValues WHERE f.id = :fieldId")
     Optional<ClientTypeField> findByIdWithListValues(@NonNull @Param("fieldId") Long fieldId);
 }
@@ -2,6 +2,7 @@ package org.example.clientservice.repositories.clienttype;
 
 import lombok.NonNull;
 import org.example.clientservice.models.clienttype.ClientTypePermission;
+import org.example.clientservice.models.clienttype.ClientTypePermissionFlags;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -20,8 +21,10 @@ public interface ClientTypePermissionRepository extends JpaRepository<ClientType
     @NonNull
     List<ClientTypePermission> findByClientTypeId(@NonNull Long clientTypeId);
     
-    @Query("SELECT ctp FROM ClientTypePermission ctp WHERE ctp.userId = :userId AND ctp.clientType.id = :clientTypeId AND ctp.canView = true")
-    Optional<ClientTypePermission> findViewPermission(@NonNull @Param("userId") Long userId, @NonNull @Param("clientTypeId") Long clientTypeId);
+    @Query("SELECT new org.example.clientservice.models.clienttype.ClientTypePermissionFlags(" +
+            "ctp.clientType.id, ctp.canView, ctp.canEdit) FROM ClientTypePermission ctp WHERE ctp.userId = :userId")
+    @NonNull
+    List<ClientTypePermissionFlags> findFlagsByUserId(@NonNull @Param("userId") Long userId);
 
 }
 
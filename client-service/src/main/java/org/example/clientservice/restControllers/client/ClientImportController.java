@@ -3,6 +3,7 @@ package org.example.clientservice.restControllers.client;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.example.clientservice.models.dto.client.ClientImportJobDTO;
 import org.example.clientservice.services.impl.IClientImportService;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -34,11 +35,18 @@ public class ClientImportController {
     
     @PreAuthorize("hasAuthority('client:create')")
     @PostMapping("/{clientTypeId}")
-    public ResponseEntity<String> importClients(
+    public ResponseEntity<ClientImportJobDTO> importClients(
             @PathVariable @Positive Long clientTypeId,
             @RequestParam("file") @NotNull MultipartFile file) {
-        String result = clientImportService.importClients(clientTypeId, file);
-        return ResponseEntity.ok(result);
+        ClientImportJobDTO job = clientImportService.submitImport(clientTypeId, file);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @PreAuthorize("hasAuthority('client:create')")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ClientImportJobDTO> getImportJob(@PathVariable @Positive Long jobId) {
+        ClientImportJobDTO job = clientImportService.getImportJob(jobId);
+        return ResponseEntity.ok(job);
     }
 }
 
@@ -6,17 +6,22 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
+import org.example.clientservice.models.client.CursorPageResponse;
 import org.example.clientservice.models.client.PageResponse;
+import org.example.clientservice.models.dto.client.ClientChangeDTO;
 import org.example.clientservice.models.dto.client.ClientDTO;
 import org.example.clientservice.models.dto.client.ClientListDTO;
 import org.example.clientservice.models.dto.client.ClientSearchRequest;
 import org.example.clientservice.services.impl.IClientSearchService;
+import org.example.clientservice.utils.ClientIdSetCodec;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +48,22 @@ public class ClientSearchController {
         return ResponseEntity.ok(response);
     }
 
+    @PreAuthorize("hasAuthority('client:view')")
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPageResponse<ClientDTO>> searchClientsByCursor(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(name = "size", defaultValue = "100") @Positive @Max(1000) int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "sort", defaultValue = "updatedAt") String sortProperty,
+            @RequestParam(name = "direction", defaultValue = "DESC") Sort.Direction sortDirection,
+            @RequestParam(name = "filters", required = false) String filtersJson,
+            @RequestParam(name = "clientTypeId", required = false) @Positive Long clientTypeId,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal) {
+        CursorPageResponse<ClientDTO> response = clientService.searchClientsByCursor(
+                query, size, cursor, sortProperty, sortDirection, filtersJson, clientTypeId, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
     @PreAuthorize("hasAuthority('client:view')")
     @PostMapping("/search")
     public ResponseEntity<List<ClientListDTO>> searchClientsForPurchase(
@@ -90,6 +111,14 @@ public class ClientSearchController {
         return ResponseEntity.ok(result);
     }
 
+    @PreAuthorize("hasAuthority('client:view')")
+    @PostMapping(value = "/ids/search/compact", produces = ClientIdSetCodec.MEDIA_TYPE)
+    public ResponseEntity<byte[]> searchClientIdsCompact(
+            @RequestBody @Valid ClientSearchRequest request) {
+        List<Long> result = clientService.searchClientIds(request);
+        return ResponseEntity.ok(ClientIdSetCodec.encode(result));
+    }
+
     @PreAuthorize("hasAuthority('client:view')")
     @PostMapping("/by-ids")
     public ResponseEntity<List<ClientDTO>> getClientsByIds(
@@ -97,4 +126,14 @@ public class ClientSearchController {
         List<ClientDTO> result = clientService.getClientsByIds(clientIds);
         return ResponseEntity.ok(result);
     }
+
+    @PreAuthorize("hasAuthority('client:view')")
+    @GetMapping("/changes")
+    public ResponseEntity<List<ClientChangeDTO>> getClientChanges(
+            @RequestParam(name = "changedAfter") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime changedAfter,
+            @RequestParam(name = "afterId", defaultValue = "0") @PositiveOrZero Long afterId,
+            @RequestParam(name = "limit", defaultValue = "1000") @Positive @Max(5000) int limit) {
+        List<ClientChangeDTO> result = clientService.getClientChanges(changedAfter, afterId, limit);
+        return ResponseEntity.ok(result);
+    }
 }
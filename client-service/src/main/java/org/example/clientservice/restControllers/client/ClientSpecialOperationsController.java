@@ -17,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -33,7 +34,7 @@ public class ClientSpecialOperationsController {
 
     @PreAuthorize("hasAuthority('client:excel')")
     @PostMapping("/export/excel")
-    public ResponseEntity<byte[]> exportClientToExcel(
+    public ResponseEntity<StreamingResponseBody> exportClientToExcel(
             @RequestBody @Valid @NonNull ClientExportRequest request,
             @RequestParam(name = "q", required = false)
             @Size(max = 255, message = "{validation.query.size}") String query,
@@ -6,6 +6,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.example.clientservice.mappers.clienttype.ClientTypePermissionMapper;
 import org.example.clientservice.models.clienttype.ClientTypePermission;
+import org.example.clientservice.models.dto.clienttype.ClientTypePermissionCacheStatsDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionCreateDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionUpdateDTO;
@@ -87,5 +88,10 @@ public class ClientTypePermissionController {
         List<ClientTypePermissionDTO> response = permissionService.getMyPermissions();
         return ResponseEntity.ok(response);
     }
-}
 
+    @PreAuthorize("hasAuthority('administration:view')")
+    @GetMapping("/permission/cache-stats")
+    public ResponseEntity<ClientTypePermissionCacheStatsDTO> getPermissionCacheStats() {
+        return ResponseEntity.ok(permissionService.getPermissionCacheStats());
+    }
+}
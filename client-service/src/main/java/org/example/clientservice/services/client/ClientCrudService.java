@@ -33,6 +33,7 @@ public class ClientCrudService implements IClientCrudService {
     private final ISourceService sourceService;
     private final ClientPermissionService clientPermissionService;
     private final ClientDeletionValidator clientDeletionValidator;
+    private final ClientSearchIndexService searchIndexService;
 
     @Override
     @Transactional
@@ -41,7 +42,10 @@ public class ClientCrudService implements IClientCrudService {
 
         clientPermissionService.checkClientTypePermission(client.getClientType(), PermissionAction.CREATE);
 
-        return clientRepository.save(client);
+        Client savedClient = clientRepository.save(client);
+        searchIndexService.refreshClient(savedClient.getId());
+
+        return savedClient;
     }
 
     @Override
@@ -57,7 +61,10 @@ public class ClientCrudService implements IClientCrudService {
 
         updateExistingClient(existingClient, client, clientSource);
 
-        return clientRepository.save(existingClient);
+        Client savedClient = clientRepository.save(existingClient);
+        searchIndexService.refreshClient(savedClient.getId());
+
+        return savedClient;
     }
 
     @Override
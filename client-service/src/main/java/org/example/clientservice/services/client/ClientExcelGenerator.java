@@ -5,16 +5,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.client.ClientExportRow;
+import org.example.clientservice.models.clienttype.ClientFieldValueRow;
 import org.example.clientservice.models.clienttype.ClientTypeField;
 import org.example.clientservice.models.dto.clienttype.FieldIdsRequest;
 import org.example.clientservice.models.field.Source;
 import org.example.clientservice.services.impl.IClientTypeFieldService;
 import org.example.clientservice.services.impl.ISourceService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,31 +30,59 @@ import java.util.stream.Collectors;
 public class ClientExcelGenerator {
 
     private static final String FIELD_PREFIX = "field_";
+    private static final String SHEET_NAME = "Client Data";
+    private static final int ROW_ACCESS_WINDOW = 100;
 
     private final IClientTypeFieldService clientTypeFieldService;
     private final ISourceService sourceService;
     private final ClientFieldValueFormatter fieldValueFormatter;
     private final ClientExportValidator validator;
+    private final ClientExportDataFetcher dataFetcher;
 
-    public Workbook generateWorkbook(@NonNull List<Client> clientList, @NonNull List<String> selectedFields) {
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Client Data");
+    @Value("${client.export.chunk-size:1000}")
+    private int chunkSize;
 
-        Map<String, String> fieldToHeader = createFieldToHeaderMap(selectedFields);
-        Map<Long, Source> sourceMap = buildSourceMap(clientList);
-        
-        createHeaderRow(sheet, selectedFields, fieldToHeader);
-        fillDataRows(sheet, clientList, selectedFields, sourceMap);
-
-        return workbook;
+    public void writeWorkbook(@NonNull Specification<Client> spec, @NonNull Sort.Order order,
+                              @NonNull List<String> selectedFields, @NonNull OutputStream outputStream)
+            throws IOException {
+        List<Long> fieldIds = extractFieldIds(selectedFields);
+        Map<Long, ClientTypeField> fieldMap = loadFieldMap(fieldIds);
+        Map<String, String> fieldToHeader = createFieldToHeaderMap(selectedFields, fieldMap);
+        Map<Long, Source> sourceMap = buildSourceMap();
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try (workbook) {
+            Sheet sheet = workbook.createSheet(SHEET_NAME);
+            createHeaderRow(sheet, selectedFields, fieldToHeader);
+
+            int rowIndex = 1;
+            ClientExportRow last = null;
+            List<ClientExportRow> chunk;
+            do {
+                chunk = dataFetcher.fetchChunk(spec, order, last, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                List<Long> clientIds = chunk.stream().map(ClientExportRow::id).toList();
+                Map<Long, Map<Long, List<ClientFieldValueRow>>> fieldValues =
+                        dataFetcher.fetchFieldValues(clientIds, fieldIds);
+                rowIndex = fillDataRows(sheet, rowIndex, chunk, fieldValues, selectedFields, fieldMap, sourceMap);
+                last = chunk.getLast();
+            } while (chunk.size() == chunkSize);
+
+            workbook.write(outputStream);
+            log.info("Exported {} clients to Excel", rowIndex - 1);
+        } finally {
+            workbook.dispose();
+        }
     }
 
-    private Map<String, String> createFieldToHeaderMap(@NonNull List<String> selectedFields) {
+    private Map<String, String> createFieldToHeaderMap(@NonNull List<String> selectedFields,
+                                                       @NonNull Map<Long, ClientTypeField> fieldMap) {
         Map<String, String> headerMap = createStaticHeaderMap();
 
-        List<Long> fieldIds = extractFieldIds(selectedFields);
-        if (!fieldIds.isEmpty()) {
-            Map<Long, ClientTypeField> fieldMap = loadFieldMap(fieldIds);
+        if (!fieldMap.isEmpty()) {
             addDynamicFieldHeaders(headerMap, selectedFields, fieldMap);
         }
         
@@ -106,19 +140,10 @@ public class ClientExcelGenerator {
                 .collect(Collectors.toMap(ClientTypeField::getId, field -> field));
     }
 
-    private Map<Long, Source> buildSourceMap(@NonNull List<Client> clientList) {
-        Set<Long> sourceIds = clientList.stream()
-                .map(Client::getSourceId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-        
-        if (sourceIds.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        
+    private Map<Long, Source> buildSourceMap() {
         List<Source> allSources = sourceService.getAllSources();
         return allSources.stream()
-                .filter(source -> source.getId() != null && sourceIds.contains(source.getId()))
+                .filter(source -> source.getId() != null)
                 .collect(Collectors.toMap(Source::getId, source -> source));
     }
 
@@ -132,16 +157,20 @@ public class ClientExcelGenerator {
         }
     }
 
-    private void fillDataRows(@NonNull Sheet sheet, @NonNull List<Client> clientList, 
-                             @NonNull List<String> selectedFields, @NonNull Map<Long, Source> sourceMap) {
-        int rowIndex = 1;
-        for (Client client : clientList) {
+    private int fillDataRows(@NonNull Sheet sheet, int rowIndex, @NonNull List<ClientExportRow> chunk,
+                             @NonNull Map<Long, Map<Long, List<ClientFieldValueRow>>> fieldValues,
+                             @NonNull List<String> selectedFields, @NonNull Map<Long, ClientTypeField> fieldMap,
+                             @NonNull Map<Long, Source> sourceMap) {
+        for (ClientExportRow client : chunk) {
+            Map<Long, List<ClientFieldValueRow>> clientFieldValues =
+                    fieldValues.getOrDefault(client.id(), Collections.emptyMap());
             Row row = sheet.createRow(rowIndex++);
             int colIndex = 0;
             for (String field : selectedFields) {
                 row.createCell(colIndex++).setCellValue(
-                        fieldValueFormatter.getFieldValue(client, field, sourceMap));
+                        fieldValueFormatter.getFieldValue(client, field, clientFieldValues, fieldMap, sourceMap));
             }
         }
+        return rowIndex;
     }
 }
@@ -2,61 +2,101 @@ package org.example.clientservice.services.client;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.client.ClientExportRow;
+import org.example.clientservice.models.clienttype.ClientFieldValueRow;
+import org.example.clientservice.repositories.clienttype.ClientFieldValueRepository;
+import org.example.clientservice.spec.ClientKeysetSpecification;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ClientExportDataFetcher {
 
+    private static final String SORT_SOURCE = "source";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_COMPANY = "company";
+    private static final String FIELD_SOURCE_ID = "sourceId";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
+    private final ClientFieldValueRepository fieldValueRepository;
+
     @PersistenceContext
     private EntityManager entityManager;
 
-    public List<Client> fetchClients(@NonNull Specification<Client> spec, @NonNull Sort sort) {
+    public List<ClientExportRow> fetchChunk(@NonNull Specification<Client> spec, @NonNull Sort.Order order,
+                                            ClientExportRow after, int chunkSize) {
+        String sortAttribute = toSortAttribute(order.getProperty());
+        Specification<Client> chunkSpec = after != null
+                ? spec.and(createKeysetSpecification(sortAttribute, order.getDirection(), after))
+                : spec;
+
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Client> cq = cb.createQuery(Client.class);
+        CriteriaQuery<ClientExportRow> cq = cb.createQuery(ClientExportRow.class);
         Root<Client> root = cq.from(Client.class);
 
-        configureFetches(root);
-        cq.distinct(true);
+        cq.select(cb.construct(ClientExportRow.class,
+                root.get(FIELD_ID), root.get(FIELD_COMPANY), root.get(FIELD_SOURCE_ID),
+                root.get(FIELD_CREATED_AT), root.get(FIELD_UPDATED_AT)));
 
-        Predicate specPredicate = spec.toPredicate(root, cq, cb);
+        Predicate specPredicate = chunkSpec.toPredicate(root, cq, cb);
         if (specPredicate != null) {
             cq.where(specPredicate);
         }
 
-        applySorting(cq, root, cb, sort);
-        
-        TypedQuery<Client> typedQuery = entityManager.createQuery(cq);
-        return typedQuery.getResultList();
+        Path<?> sortPath = root.get(sortAttribute);
+        Path<?> idPath = root.get(FIELD_ID);
+        cq.orderBy(order.isAscending()
+                ? List.of(cb.asc(sortPath), cb.asc(idPath))
+                : List.of(cb.desc(sortPath), cb.desc(idPath)));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(chunkSize)
+                .getResultList();
     }
 
-    private void configureFetches(@NonNull Root<Client> root) {
-        root.fetch("clientType", JoinType.LEFT);
+    public Map<Long, Map<Long, List<ClientFieldValueRow>>> fetchFieldValues(@NonNull List<Long> clientIds,
+                                                                           @NonNull List<Long> fieldIds) {
+        if (clientIds.isEmpty() || fieldIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        Fetch<Object, Object> fieldValuesFetch = root.fetch("fieldValues", JoinType.LEFT);
-        fieldValuesFetch.fetch("field", JoinType.LEFT);
-        fieldValuesFetch.fetch("valueList", JoinType.LEFT);
+        Map<Long, Map<Long, List<ClientFieldValueRow>>> valuesByClient = new HashMap<>(clientIds.size());
+        for (ClientFieldValueRow row : fieldValueRepository.findRowsByClientIdInAndFieldIdIn(clientIds, fieldIds)) {
+            valuesByClient.computeIfAbsent(row.clientId(), _ -> new HashMap<>())
+                    .computeIfAbsent(row.fieldId(), _ -> new ArrayList<>())
+                    .add(row);
+        }
+        return valuesByClient;
     }
 
-    private void applySorting(@NonNull CriteriaQuery<Client> cq, @NonNull Root<Client> root,
-                             @NonNull CriteriaBuilder cb, @NonNull Sort sort) {
-        List<Order> orders = new ArrayList<>();
-        for (Sort.Order order : sort) {
-            Path<?> path = root.get(order.getProperty());
-            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
-        }
-        cq.orderBy(orders);
+    private String toSortAttribute(@NonNull String sortProperty) {
+        return SORT_SOURCE.equals(sortProperty) ? FIELD_SOURCE_ID : sortProperty;
+    }
+
+    private ClientKeysetSpecification<?> createKeysetSpecification(@NonNull String sortAttribute,
+                                                                  @NonNull Sort.Direction direction,
+                                                                  @NonNull ClientExportRow after) {
+        return switch (sortAttribute) {
+            case FIELD_ID -> new ClientKeysetSpecification<>(sortAttribute, direction, after.id(), after.id());
+            case FIELD_COMPANY -> new ClientKeysetSpecification<>(sortAttribute, direction, after.company(), after.id());
+            case FIELD_SOURCE_ID -> new ClientKeysetSpecification<>(sortAttribute, direction, after.sourceId(), after.id());
+            case FIELD_CREATED_AT -> new ClientKeysetSpecification<>(sortAttribute, direction, after.createdAt(), after.id());
+            default -> new ClientKeysetSpecification<>(sortAttribute, direction, after.updatedAt(), after.id());
+        };
     }
 }
@@ -3,8 +3,8 @@ package org.example.clientservice.services.client;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.clientservice.models.client.Client;
-import org.example.clientservice.models.clienttype.ClientFieldValue;
+import org.example.clientservice.models.client.ClientExportRow;
+import org.example.clientservice.models.clienttype.ClientFieldValueRow;
 import org.example.clientservice.models.clienttype.ClientTypeField;
 import org.example.clientservice.models.field.Source;
 import org.springframework.stereotype.Service;
@@ -24,73 +24,55 @@ public class ClientFieldValueFormatter {
 
     private final ClientExportValidator validator;
 
-    public String getFieldValue(@NonNull Client client, @NonNull String field, 
+    public String getFieldValue(@NonNull ClientExportRow client, @NonNull String field,
+                                @NonNull Map<Long, List<ClientFieldValueRow>> fieldValues,
+                                @NonNull Map<Long, ClientTypeField> fieldMap,
                                 @NonNull Map<Long, Source> sourceMap) {
         if (field.startsWith(FIELD_PREFIX)) {
-            return getDynamicFieldValue(client, field);
+            return getDynamicFieldValue(field, fieldValues, fieldMap);
         }
 
         return switch (field) {
-            case "id" -> client.getId() != null ? String.valueOf(client.getId()) : EMPTY_STRING;
-            case "company" -> client.getCompany();
-            case "createdAt" -> client.getCreatedAt() != null ? client.getCreatedAt().toString() : EMPTY_STRING;
-            case "updatedAt" -> client.getUpdatedAt() != null ? client.getUpdatedAt().toString() : EMPTY_STRING;
+            case "id" -> client.id() != null ? String.valueOf(client.id()) : EMPTY_STRING;
+            case "company" -> client.company();
+            case "createdAt" -> client.createdAt() != null ? client.createdAt().toString() : EMPTY_STRING;
+            case "updatedAt" -> client.updatedAt() != null ? client.updatedAt().toString() : EMPTY_STRING;
             case "source" -> getSourceName(client, sourceMap);
             default -> EMPTY_STRING;
         };
     }
 
-    private String getSourceName(@NonNull Client client, @NonNull Map<Long, Source> sourceMap) {
-        if (client.getSourceId() == null) {
+    private String getSourceName(@NonNull ClientExportRow client, @NonNull Map<Long, Source> sourceMap) {
+        if (client.sourceId() == null) {
             return EMPTY_STRING;
         }
         
-        Source source = sourceMap.get(client.getSourceId());
+        Source source = sourceMap.get(client.sourceId());
         return source != null ? source.getName() : EMPTY_STRING;
     }
 
-    private String getDynamicFieldValue(@NonNull Client client, @NonNull String field) {
+    private String getDynamicFieldValue(@NonNull String field,
+                                        @NonNull Map<Long, List<ClientFieldValueRow>> fieldValues,
+                                        @NonNull Map<Long, ClientTypeField> fieldMap) {
         try {
             Long fieldId = validator.parseFieldIdFromString(field);
             if (fieldId == null) {
                 return EMPTY_STRING;
             }
-            return getDynamicFieldValueById(client, fieldId);
+
+            List<ClientFieldValueRow> values = fieldValues.get(fieldId);
+            ClientTypeField clientTypeField = fieldMap.get(fieldId);
+            if (values == null || values.isEmpty() || clientTypeField == null) {
+                return EMPTY_STRING;
+            }
+            return formatFieldValues(values, clientTypeField);
         } catch (Exception e) {
             log.warn("Failed to get dynamic field value for field {}: {}", field, e.getMessage());
             return EMPTY_STRING;
         }
     }
 
-    private String getDynamicFieldValueById(@NonNull Client client, @NonNull Long fieldId) {
-        if (client.getFieldValues() == null || client.getFieldValues().isEmpty()) {
-            return EMPTY_STRING;
-        }
-        
-        List<ClientFieldValue> fieldValues = findFieldValuesByFieldId(client, fieldId);
-        
-        if (fieldValues.isEmpty()) {
-            return EMPTY_STRING;
-        }
-        
-        ClientTypeField field = extractFieldType(fieldValues);
-
-        return formatFieldValues(fieldValues, field);
-    }
-
-    private List<ClientFieldValue> findFieldValuesByFieldId(@NonNull Client client, @NonNull Long fieldId) {
-        return client.getFieldValues().stream()
-                .filter(fv -> fv.getField().getId() != null && fv.getField().getId().equals(fieldId))
-                .sorted(Comparator.comparingInt(fv -> fv.getDisplayOrder() != null ? fv.getDisplayOrder() : 0))
-                .collect(Collectors.toList());
-    }
-
-    private ClientTypeField extractFieldType(@NonNull List<ClientFieldValue> fieldValues) {
-        ClientFieldValue firstValue = fieldValues.getFirst();
-        return firstValue.getField();
-    }
-
-    private String formatFieldValues(@NonNull List<ClientFieldValue> fieldValues, @NonNull ClientTypeField field) {
+    private String formatFieldValues(@NonNull List<ClientFieldValueRow> fieldValues, @NonNull ClientTypeField field) {
         boolean allowMultiple = Boolean.TRUE.equals(field.getAllowMultiple());
         
         if (allowMultiple && fieldValues.size() > 1) {
@@ -100,20 +82,21 @@ public class ClientFieldValueFormatter {
         }
     }
 
-    private String formatMultipleFieldValues(@NonNull List<ClientFieldValue> fieldValues, @NonNull ClientTypeField field) {
+    private String formatMultipleFieldValues(@NonNull List<ClientFieldValueRow> fieldValues,
+                                             @NonNull ClientTypeField field) {
         return fieldValues.stream()
                 .map(fv -> formatFieldValue(fv, field))
                 .filter(v -> !v.isEmpty())
                 .collect(Collectors.joining(", "));
     }
 
-    private String formatFieldValue(@NonNull ClientFieldValue fieldValue, @NonNull ClientTypeField field) {
+    private String formatFieldValue(@NonNull ClientFieldValueRow fieldValue, @NonNull ClientTypeField field) {
         return switch (field.getFieldType()) {
-            case TEXT, PHONE -> fieldValue.getValueText() != null ? fieldValue.getValueText() : EMPTY_STRING;
-            case NUMBER -> fieldValue.getValueNumber() != null ? String.valueOf(fieldValue.getValueNumber()) : EMPTY_STRING;
-            case DATE -> fieldValue.getValueDate() != null ? fieldValue.getValueDate().toString() : EMPTY_STRING;
-            case BOOLEAN -> formatBooleanValue(fieldValue.getValueBoolean());
-            case LIST -> formatListValue(fieldValue);
+            case TEXT, PHONE -> fieldValue.valueText() != null ? fieldValue.valueText() : EMPTY_STRING;
+            case NUMBER -> fieldValue.valueNumber() != null ? String.valueOf(fieldValue.valueNumber()) : EMPTY_STRING;
+            case DATE -> fieldValue.valueDate() != null ? fieldValue.valueDate().toString() : EMPTY_STRING;
+            case BOOLEAN -> formatBooleanValue(fieldValue.valueBoolean());
+            case LIST -> fieldValue.valueListValue() != null ? fieldValue.valueListValue() : EMPTY_STRING;
         };
     }
 
@@ -123,11 +106,4 @@ public class ClientFieldValueFormatter {
         }
         return value ? BOOLEAN_TRUE_UA : BOOLEAN_FALSE_UA;
     }
-
-    private String formatListValue(@NonNull ClientFieldValue fieldValue) {
-        if (fieldValue.getValueList() != null && fieldValue.getValueList().getValue() != null) {
-            return fieldValue.getValueList().getValue();
-        }
-        return EMPTY_STRING;
-    }
 }
@@ -0,0 +1,40 @@
+package org.example.clientservice.services.client;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.NonNull;
+import org.example.clientservice.models.client.Client;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class ClientIdFetcher {
+
+    private static final String FIELD_ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Long> fetchIds(@NonNull Specification<Client> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Client> root = cq.from(Client.class);
+        Path<Long> idPath = root.get(FIELD_ID);
+
+        cq.select(idPath);
+        Predicate specPredicate = spec.toPredicate(root, cq, cb);
+        if (specPredicate != null) {
+            cq.where(specPredicate);
+        }
+        cq.orderBy(cb.asc(idPath));
+
+        return entityManager.createQuery(cq).getResultList();
+    }
+}
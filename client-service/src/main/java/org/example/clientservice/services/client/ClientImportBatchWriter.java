@@ -0,0 +1,271 @@
+package org.example.clientservice.services.client;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.exceptions.client.ClientException;
+import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.clienttype.ClientFieldValue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientImportBatchWriter {
+
+    private static final String CLIENT_COLUMNS = "client_type_id, company, source_id, is_active, created_at, updated_at";
+    private static final String CLIENT_COLUMNS_WITH_ID = "id, " + CLIENT_COLUMNS;
+    private static final String FIELD_VALUE_COLUMNS = "client_id, field_id, value_text, value_number, value_date, "
+            + "value_boolean, value_list_id, display_order, created_at, updated_at";
+    private static final int CLIENT_PARAMS = 6;
+    private static final int FIELD_VALUE_PARAMS = 10;
+    private static final int MAX_FIELD_VALUE_ROWS_PER_STATEMENT = 1000;
+    private static final int ROLLBACK_BATCH_SIZE = 1000;
+    private static final String GENERATED_KEY_COLUMN = "GENERATED_KEY";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClientSearchIndexService searchIndexService;
+
+    @Value("${client.import.chunk-size:500}")
+    private int chunkSize;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int writeChunk(@NonNull Long jobId, @NonNull List<Client> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Client> clientsWithId = new ArrayList<>();
+        List<Client> clientsWithoutId = new ArrayList<>();
+        for (Client client : chunk) {
+            validateClientForSave(client);
+            if (client.getId() != null) {
+                clientsWithId.add(client);
+            } else {
+                clientsWithoutId.add(client);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(_ -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (!clientsWithId.isEmpty()) {
+                insertClientsWithId(clientsWithId, now);
+            }
+            if (!clientsWithoutId.isEmpty()) {
+                insertClientsWithGeneratedId(clientsWithoutId, now);
+            }
+            insertFieldValues(chunk, now);
+            recordJobClients(jobId, chunk);
+            searchIndexService.refreshClients(chunk.stream().map(Client::getId).toList());
+        });
+
+        return chunk.size();
+    }
+
+    public int rollbackJob(@NonNull Long jobId) {
+        int removed = 0;
+        while (true) {
+            List<Long> clientIds = jdbcTemplate.queryForList(
+                    "SELECT client_id FROM client_import_job_clients WHERE job_id = ? LIMIT " + ROLLBACK_BATCH_SIZE,
+                    Long.class, jobId);
+            if (clientIds.isEmpty()) {
+                return removed;
+            }
+            String placeholders = String.join(", ", Collections.nCopies(clientIds.size(), "?"));
+            Object[] params = clientIds.toArray();
+            Integer deleted = transactionTemplate.execute(_ -> {
+                jdbcTemplate.update("DELETE FROM client_field_values WHERE client_id IN (" + placeholders + ")", params);
+                int clients = jdbcTemplate.update("DELETE FROM clients WHERE id IN (" + placeholders + ")", params);
+                jdbcTemplate.update("DELETE FROM client_import_job_clients WHERE job_id = ? AND client_id IN ("
+                        + placeholders + ")", prepend(jobId, params));
+                return clients;
+            });
+            removed += deleted != null ? deleted : 0;
+        }
+    }
+
+    @NonNull
+    public List<Long> findFailedJobsWithSavedClients() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT jc.job_id FROM client_import_job_clients jc "
+                + "JOIN client_import_jobs j ON j.id = jc.job_id WHERE j.status = 'FAILED'", Long.class);
+    }
+
+    public void releaseJob(@NonNull Long jobId) {
+        jdbcTemplate.update("DELETE FROM client_import_job_clients WHERE job_id = ?", jobId);
+    }
+
+    public void reserveIdsUpTo(long maxSpecifiedId) {
+        try {
+            Long currentMaxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM clients", Long.class);
+            if (currentMaxId == null || maxSpecifiedId >= currentMaxId) {
+                jdbcTemplate.execute("ALTER TABLE clients AUTO_INCREMENT = " + (maxSpecifiedId + 1));
+                log.info("Updated AUTO_INCREMENT for table clients to {}", maxSpecifiedId + 1);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to update AUTO_INCREMENT for table clients: {}", e.getMessage(), e);
+        }
+    }
+
+    private void insertClientsWithId(@NonNull List<Client> chunk, @NonNull LocalDateTime now) {
+        String sql = buildMultiRowInsert("clients", CLIENT_COLUMNS_WITH_ID, CLIENT_PARAMS + 1, chunk.size());
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            int index = 1;
+            for (Client client : chunk) {
+                ps.setLong(index++, client.getId());
+                index = bindClient(ps, index, client, now);
+            }
+            return ps;
+        });
+    }
+
+    private void insertClientsWithGeneratedId(@NonNull List<Client> chunk, @NonNull LocalDateTime now) {
+        String sql = buildMultiRowInsert("clients", CLIENT_COLUMNS, CLIENT_PARAMS, chunk.size());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (Client client : chunk) {
+                index = bindClient(ps, index, client, now);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new ClientException("IMPORT_SAVE_ERROR",
+                    String.format("Expected %d generated IDs, got %d", chunk.size(), keys.size()));
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            Object key = keys.get(i).get(GENERATED_KEY_COLUMN);
+            if (key == null) {
+                key = keys.get(i).values().iterator().next();
+            }
+            chunk.get(i).setId(((Number) key).longValue());
+        }
+    }
+
+    private int bindClient(@NonNull PreparedStatement ps, int index, @NonNull Client client,
+                           @NonNull LocalDateTime now) throws SQLException {
+        LocalDateTime createdAt = client.getCreatedAt() != null ? client.getCreatedAt() : now;
+        LocalDateTime updatedAt = client.getUpdatedAt() != null ? client.getUpdatedAt() : now;
+
+        ps.setLong(index++, client.getClientType().getId());
+        ps.setString(index++, client.getCompany());
+        setNullableLong(ps, index++, client.getSourceId());
+        ps.setBoolean(index++, client.getIsActive() != null ? client.getIsActive() : ClientImportConstants.DEFAULT_IS_ACTIVE);
+        ps.setTimestamp(index++, Timestamp.valueOf(createdAt));
+        ps.setTimestamp(index++, Timestamp.valueOf(updatedAt));
+        return index;
+    }
+
+    private void recordJobClients(@NonNull Long jobId, @NonNull List<Client> chunk) {
+        String sql = buildMultiRowInsert("client_import_job_clients", "job_id, client_id", 2, chunk.size());
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            int index = 1;
+            for (Client client : chunk) {
+                ps.setLong(index++, jobId);
+                ps.setLong(index++, client.getId());
+            }
+            return ps;
+        });
+    }
+
+    private void insertFieldValues(@NonNull List<Client> chunk, @NonNull LocalDateTime now) {
+        List<ClientFieldValue> fieldValues = new ArrayList<>();
+        for (Client client : chunk) {
+            if (client.getFieldValues() == null) {
+                continue;
+            }
+            for (ClientFieldValue fieldValue : client.getFieldValues()) {
+                fieldValue.setClient(client);
+                fieldValues.add(fieldValue);
+            }
+        }
+
+        for (int from = 0; from < fieldValues.size(); from += MAX_FIELD_VALUE_ROWS_PER_STATEMENT) {
+            List<ClientFieldValue> batch = fieldValues.subList(from,
+                    Math.min(from + MAX_FIELD_VALUE_ROWS_PER_STATEMENT, fieldValues.size()));
+            String sql = buildMultiRowInsert("client_field_values", FIELD_VALUE_COLUMNS, FIELD_VALUE_PARAMS, batch.size());
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                int index = 1;
+                for (ClientFieldValue fieldValue : batch) {
+                    index = bindFieldValue(ps, index, fieldValue, now);
+                }
+                return ps;
+            });
+        }
+    }
+
+    private int bindFieldValue(@NonNull PreparedStatement ps, int index, @NonNull ClientFieldValue fieldValue,
+                               @NonNull LocalDateTime now) throws SQLException {
+        ps.setLong(index++, fieldValue.getClient().getId());
+        ps.setLong(index++, fieldValue.getField().getId());
+        ps.setString(index++, fieldValue.getValueText());
+        ps.setBigDecimal(index++, fieldValue.getValueNumber());
+        if (fieldValue.getValueDate() != null) {
+            ps.setObject(index++, fieldValue.getValueDate());
+        } else {
+            ps.setNull(index++, Types.DATE);
+        }
+        if (fieldValue.getValueBoolean() != null) {
+            ps.setBoolean(index++, fieldValue.getValueBoolean());
+        } else {
+            ps.setNull(index++, Types.BOOLEAN);
+        }
+        setNullableLong(ps, index++, fieldValue.getValueList() != null ? fieldValue.getValueList().getId() : null);
+        ps.setInt(index++, fieldValue.getDisplayOrder() != null ? fieldValue.getDisplayOrder() : 0);
+        ps.setTimestamp(index++, Timestamp.valueOf(now));
+        ps.setTimestamp(index++, Timestamp.valueOf(now));
+        return index;
+    }
+
+    private void setNullableLong(@NonNull PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private String buildMultiRowInsert(@NonNull String table, @NonNull String columns, int paramsPerRow, int rows) {
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(paramsPerRow, "?")) + ")";
+        return "INSERT INTO " + table + " (" + columns + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, rowPlaceholders));
+    }
+
+    private Object[] prepend(@NonNull Object first, @NonNull Object[] rest) {
+        Object[] params = new Object[rest.length + 1];
+        params[0] = first;
+        System.arraycopy(rest, 0, params, 1, rest.length);
+        return params;
+    }
+
+    private void validateClientForSave(@NonNull Client client) {
+        if (client.getClientType() == null || client.getClientType().getId() == null) {
+            throw new ClientException("IMPORT_INVALID_DATA", "Client type is required");
+        }
+    }
+}
@@ -23,7 +23,6 @@ final class ClientImportConstants {
     static final String EXAMPLE_PHONE = "+380123456789";
     static final String EXAMPLE_BOOLEAN = "Так";
     static final String SHEET_NAME = "Clients";
-    static final int MIN_ROWS_REQUIRED = 2;
     static final int EXAMPLE_ROW_INDEX = 1;
     static final int HEADER_ROW_INDEX = 0;
     static final boolean DEFAULT_IS_ACTIVE = true;
@@ -50,8 +49,9 @@ final class ClientImportConstants {
     static final String CONTENT_TYPE_EXCEL_OLD = "application/vnd.ms-excel";
     static final String CONTENT_TYPE_EXCEL_NEW = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
     static final String FILE_EXTENSION_XLSX = ".xlsx";
-    static final String FILE_EXTENSION_XLS = ".xls";
-    static final long MAX_FILE_SIZE_BYTES = 10 * 1024 * 1024;
+    static final long MAX_FILE_SIZE_BYTES = 50 * 1024 * 1024;
+    static final String TEMP_FILE_PREFIX = "client-import-";
+    static final int ID_LOOKUP_BATCH_SIZE = 1000;
     static final String COMMA_SEPARATOR = ",";
     static final String EMPTY_STRING = "";
 
@@ -0,0 +1,139 @@
+package org.example.clientservice.services.client;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.exceptions.client.ClientException;
+import org.example.clientservice.exceptions.client.ClientNotFoundException;
+import org.example.clientservice.mappers.ClientImportJobMapper;
+import org.example.clientservice.models.client.ClientImportJob;
+import org.example.clientservice.models.client.ClientImportJobStatus;
+import org.example.clientservice.repositories.ClientImportJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClientImportJobService {
+
+    private static final int MAX_STORED_ERRORS = 1000;
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    static final String ERROR_INTERRUPTED = "IMPORT_INTERRUPTED";
+    private static final String MESSAGE_INTERRUPTED = "Import was interrupted because its service instance stopped responding";
+    private static final List<ClientImportJobStatus> ACTIVE_STATUSES = List.of(
+            ClientImportJobStatus.QUEUED, ClientImportJobStatus.VALIDATING, ClientImportJobStatus.SAVING);
+
+    private final ClientImportJobRepository jobRepository;
+    private final ClientImportJobMapper jobMapper;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${client.import.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    @Transactional
+    public ClientImportJob createJob(@NonNull Long clientTypeId, Long userId, String fileName) {
+        ClientImportJob job = new ClientImportJob();
+        job.setClientTypeId(clientTypeId);
+        job.setUserId(userId);
+        job.setFileName(fileName);
+        job.setStatus(ClientImportJobStatus.QUEUED);
+        job.setOwnerId(instanceId);
+        job.setHeartbeatAt(LocalDateTime.now());
+        return jobRepository.save(job);
+    }
+
+    @Transactional(readOnly = true)
+    public ClientImportJob getJob(@NonNull Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ClientNotFoundException(
+                        String.format("Import job with ID %d not found", jobId)));
+    }
+
+    @Transactional
+    public void markValidating(@NonNull Long jobId) {
+        requireActive(jobId, jobRepository.startActiveJob(jobId, ACTIVE_STATUSES, ClientImportJobStatus.VALIDATING,
+                LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void updateValidationProgress(@NonNull Long jobId, int parsedRows, int failedRows) {
+        requireActive(jobId, jobRepository.updateActiveValidationProgress(jobId, ACTIVE_STATUSES, parsedRows,
+                failedRows, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void markSaving(@NonNull Long jobId, int totalRows) {
+        requireActive(jobId, jobRepository.markActiveJobSaving(jobId, ACTIVE_STATUSES, ClientImportJobStatus.SAVING,
+                totalRows, LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void updateSavedRows(@NonNull Long jobId, int savedRows) {
+        requireActive(jobId, jobRepository.updateActiveSavedRows(jobId, ACTIVE_STATUSES, savedRows,
+                LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void markRolledBack(@NonNull Long jobId) {
+        jobRepository.resetSavedRows(jobId);
+    }
+
+    @Transactional
+    public void complete(@NonNull Long jobId, int savedRows, @NonNull String message) {
+        requireActive(jobId, jobRepository.completeActiveJob(jobId, ACTIVE_STATUSES, ClientImportJobStatus.COMPLETED,
+                savedRows, truncate(message), LocalDateTime.now()));
+    }
+
+    @Transactional
+    public void fail(@NonNull Long jobId, @NonNull String message, @NonNull List<String> errors) {
+        int updated = jobRepository.failActiveJob(jobId, ACTIVE_STATUSES, ClientImportJobStatus.FAILED,
+                truncate(message), jobMapper.joinErrors(errors.subList(0, Math.min(errors.size(), MAX_STORED_ERRORS))),
+                LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("Import job {} already finished, keeping its final status instead of: {}", jobId, message);
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${client.import.heartbeat-interval-ms:30000}")
+    public void sendHeartbeats() {
+        jobRepository.touchHeartbeats(instanceId, ACTIVE_STATUSES, LocalDateTime.now());
+    }
+
+    @Transactional
+    public List<Long> failStaleJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minusSeconds(staleAfterSeconds);
+        List<Long> failed = new ArrayList<>();
+        for (Long jobId : jobRepository.findStaleJobIds(ACTIVE_STATUSES, staleBefore)) {
+            if (jobRepository.failStaleJob(jobId, ACTIVE_STATUSES, staleBefore, ClientImportJobStatus.FAILED,
+                    MESSAGE_INTERRUPTED, now) > 0) {
+                failed.add(jobId);
+            }
+        }
+        if (!failed.isEmpty()) {
+            log.warn("Marked client import jobs {} as failed: no heartbeat for {} seconds", failed, staleAfterSeconds);
+        }
+        return failed;
+    }
+
+    private void requireActive(@NonNull Long jobId, int updatedRows) {
+        if (updatedRows == 0) {
+            getJob(jobId);
+            throw new ClientException(ERROR_INTERRUPTED,
+                    String.format("Import job %d is no longer running", jobId));
+        }
+    }
+
+    private String truncate(@NonNull String message) {
+        return message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.clientservice.services.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClientImportRecoveryService {
+
+    private static final String SPOOL_FILE_GLOB = ClientImportConstants.TEMP_FILE_PREFIX + "*"
+            + ClientImportConstants.FILE_EXTENSION_XLSX;
+
+    private final ClientImportJobService importJobService;
+    private final ClientImportBatchWriter batchWriter;
+
+    @Value("${client.import.storage-dir}")
+    private String storageDirectory;
+
+    @Value("${client.import.spool-retention-hours:24}")
+    private long spoolRetentionHours;
+
+    @Scheduled(fixedDelayString = "${client.import.recovery-interval-ms:60000}")
+    public void recoverInterruptedJobs() {
+        try {
+            importJobService.failStaleJobs();
+            for (Long jobId : batchWriter.findFailedJobsWithSavedClients()) {
+                rollBackFailedJob(jobId);
+            }
+        } catch (Exception e) {
+            log.error("Error recovering interrupted client import jobs: {}", e.getMessage(), e);
+        }
+        deleteExpiredSpoolFiles();
+    }
+
+    private void rollBackFailedJob(Long jobId) {
+        try {
+            int removed = batchWriter.rollbackJob(jobId);
+            importJobService.markRolledBack(jobId);
+            log.warn("Removed {} clients left behind by failed import job {}", removed, jobId);
+        } catch (Exception e) {
+            log.error("Failed to remove clients left behind by import job {}: {}", jobId, e.getMessage(), e);
+        }
+    }
+
+    private void deleteExpiredSpoolFiles() {
+        Path directory = Path.of(storageDirectory);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(Duration.ofHours(spoolRetentionHours));
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SPOOL_FILE_GLOB)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up import storage directory {}: {}", directory, e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} abandoned client import files from {}", deleted, directory);
+        }
+    }
+}
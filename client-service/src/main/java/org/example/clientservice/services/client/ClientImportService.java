@@ -6,28 +6,35 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.example.clientservice.exceptions.client.ClientException;
+import org.example.clientservice.exceptions.client.ClientNotFoundException;
+import org.example.clientservice.mappers.ClientImportJobMapper;
 import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.client.ClientImportJob;
 import org.example.clientservice.models.clienttype.ClientFieldValue;
 import org.example.clientservice.models.clienttype.ClientType;
 import org.example.clientservice.models.clienttype.ClientTypeField;
 import org.example.clientservice.models.clienttype.ClientTypeFieldListValue;
+import org.example.clientservice.models.dto.client.ClientImportJobDTO;
 import org.example.clientservice.models.field.Source;
 import org.example.clientservice.repositories.ClientRepository;
-import org.example.clientservice.services.impl.IClientCrudService;
+import org.example.clientservice.services.client.ClientImportSheetReader.ImportRow;
 import org.example.clientservice.services.impl.IClientImportService;
 import org.example.clientservice.services.impl.ISourceService;
 import org.example.clientservice.services.impl.IClientTypeFieldService;
 import org.example.clientservice.services.impl.IClientTypeService;
+import org.example.clientservice.utils.SecurityUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.metamodel.EntityType;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -41,23 +48,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ClientImportService implements IClientImportService {
 
-    @PersistenceContext
-    private EntityManager entityManager;
-
     private final IClientTypeService clientTypeService;
     private final IClientTypeFieldService clientTypeFieldService;
     private final ClientRepository clientRepository;
-    private final IClientCrudService clientCrudService;
     private final ISourceService sourceService;
+    private final ClientPermissionService clientPermissionService;
+    private final ClientImportBatchWriter batchWriter;
+    private final ClientImportSheetReader sheetReader;
+    private final ClientImportJobService importJobService;
+    private final ClientImportJobMapper importJobMapper;
+    private final ThreadPoolTaskExecutor clientImportExecutor;
 
-    private String getClientTableName() {
-        EntityType<?> entityType = entityManager.getMetamodel().entity(Client.class);
-        jakarta.persistence.Table tableAnnotation = Client.class.getAnnotation(jakarta.persistence.Table.class);
-        if (tableAnnotation != null && !tableAnnotation.name().isEmpty()) {
-            return tableAnnotation.name();
-        }
-        return entityType.getName().toLowerCase();
-    }
+    @Value("${client.import.storage-dir}")
+    private String storageDirectory;
 
     @Override
     public byte[] generateTemplate(@NonNull Long clientTypeId) {
@@ -147,304 +150,278 @@ public class ClientImportService implements IClientImportService {
     }
 
     @Override
-    @Transactional(rollbackFor = Exception.class)
-    public String importClients(@NonNull Long clientTypeId, @NonNull MultipartFile file) {
-        log.info("Starting import for client type: {}, file size: {} bytes", clientTypeId, file.getSize());
+    public ClientImportJobDTO submitImport(@NonNull Long clientTypeId, @NonNull MultipartFile file) {
+        log.info("Submitting import for client type: {}, file size: {} bytes", clientTypeId, file.getSize());
 
         validateImportFile(file);
 
         ClientType clientType = clientTypeService.getClientTypeById(clientTypeId);
-        List<ClientTypeField> fields = clientTypeFieldService.getFieldsByClientTypeId(clientTypeId);
+        clientPermissionService.checkClientTypePermission(clientType, ClientPermissionService.PermissionAction.CREATE);
 
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
+        Path storedFile = storeUpload(file);
+        ClientImportJob job = importJobService.createJob(clientTypeId, SecurityUtils.getCurrentUserId(),
+                file.getOriginalFilename());
+        try {
+            clientImportExecutor.execute(() -> runImport(job.getId(), clientTypeId, storedFile));
+        } catch (TaskRejectedException e) {
+            deleteStoredFile(storedFile);
+            importJobService.fail(job.getId(), "Import queue is full", Collections.emptyList());
+            throw new ClientException("IMPORT_QUEUE_FULL",
+                    "Too many imports are in progress, please try again later");
+        }
 
-            validateSheet(sheet);
+        log.info("Queued import job {} for client type {}", job.getId(), clientTypeId);
+        return importJobMapper.toDTO(job);
+    }
 
-            Row headerRow = sheet.getRow(ClientImportConstants.HEADER_ROW_INDEX);
-            if (headerRow == null) {
-                throw new ClientException("IMPORT_INVALID_FILE", "Header row is missing");
-            }
+    @Override
+    public ClientImportJobDTO getImportJob(@NonNull Long jobId) {
+        ClientImportJob job = importJobService.getJob(jobId);
+        if (!SecurityUtils.isAdmin() && !Objects.equals(job.getUserId(), SecurityUtils.getCurrentUserId())) {
+            throw new ClientNotFoundException(String.format("Import job with ID %d not found", jobId));
+        }
+        return importJobMapper.toDTO(job);
+    }
 
-            Map<String, Integer> columnIndexMap = parseHeaders(headerRow, fields, clientType);
-            validateRequiredColumns(columnIndexMap);
+    private void runImport(@NonNull Long jobId, @NonNull Long clientTypeId, @NonNull Path storedFile) {
+        try {
+            importJobService.markValidating(jobId);
 
+            ClientType clientType = clientTypeService.getClientTypeById(clientTypeId);
+            List<ClientTypeField> fields = clientTypeFieldService.getFieldsByClientTypeId(clientTypeId);
             Map<String, Source> sourceNameMap = buildSourceNameMap();
 
-            ImportResult importResult = processRows(sheet, clientType, fields, columnIndexMap, sourceNameMap);
+            ImportScan scan = scanRows(jobId, storedFile.toFile(), clientType, fields, sourceNameMap);
+            scan.errors.addAll(findTakenIds(scan.specifiedIdRows));
 
-            if (!importResult.errors().isEmpty()) {
-                throw buildImportErrorsException(importResult.errors());
+            if (!scan.errors.isEmpty()) {
+                importJobService.updateValidationProgress(jobId, scan.dataRowCount, scan.errors.size());
+                importJobService.fail(jobId,
+                        String.format("Import errors (%d rows)", scan.errors.size()), scan.errors);
+                log.warn("Import job {} rejected: {} invalid rows", jobId, scan.errors.size());
+                return;
             }
 
-            saveClients(importResult.clients());
+            importJobService.markSaving(jobId, scan.dataRowCount);
+            if (!scan.specifiedIdRows.isEmpty()) {
+                batchWriter.reserveIdsUpTo(Collections.max(scan.specifiedIdRows.keySet()));
+            }
 
-            return String.format("Successfully imported %d clients", importResult.clients().size());
+            int savedCount;
+            try {
+                savedCount = writeRows(jobId, storedFile.toFile(), clientType, fields, scan, sourceNameMap);
+                if (savedCount != scan.dataRowCount) {
+                    throw new ClientException("IMPORT_SAVE_ERROR", String.format(
+                            "Saved %d of %d validated rows", savedCount, scan.dataRowCount));
+                }
+            } catch (RuntimeException e) {
+                if (isInterrupted(e)) {
+                    throw e;
+                }
+                failSaving(jobId, e);
+                return;
+            }
+            importJobService.complete(jobId, savedCount,
+                    String.format("Successfully imported %d clients", savedCount));
+            batchWriter.releaseJob(jobId);
+            log.info("Import job {} completed: {} clients saved", jobId, savedCount);
+        } catch (ClientException e) {
+            if (isInterrupted(e)) {
+                log.warn("Import job {} stopped: it was failed by recovery while this worker was running", jobId);
+                return;
+            }
+            log.warn("Import job {} failed: {}", jobId, e.getMessage());
+            importJobService.fail(jobId, e.getMessage(), Collections.emptyList());
+        } catch (Exception e) {
+            log.error("Import job {} failed unexpectedly: {}", jobId, e.getMessage(), e);
+            importJobService.fail(jobId, String.format("Unexpected error - %s", e.getMessage()),
+                    Collections.emptyList());
+        } finally {
+            deleteStoredFile(storedFile);
+        }
+    }
 
+    private Path storeUpload(@NonNull MultipartFile file) {
+        try {
+            Path storageDir = Files.createDirectories(Path.of(storageDirectory));
+            Path storedFile = Files.createTempFile(storageDir, ClientImportConstants.TEMP_FILE_PREFIX,
+                    ClientImportConstants.FILE_EXTENSION_XLSX);
+            file.transferTo(storedFile);
+            return storedFile;
         } catch (IOException e) {
-            log.error("Error reading Excel file for client type {}: {}", clientTypeId, e.getMessage(), e);
+            log.error("Error storing uploaded Excel file {}: {}", file.getOriginalFilename(), e.getMessage(), e);
             throw new ClientException("IMPORT_READ_ERROR",
                     String.format("Error reading Excel file: %s", e.getMessage()));
         }
     }
 
-    private void validateSheet(@NonNull Sheet sheet) {
-        if (sheet.getPhysicalNumberOfRows() < ClientImportConstants.MIN_ROWS_REQUIRED) {
-            throw new ClientException("IMPORT_INVALID_FILE",
-                    "Excel file must contain at least a header and one row of data");
+    private void deleteStoredFile(@NonNull Path storedFile) {
+        try {
+            Files.deleteIfExists(storedFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete stored import file {}: {}", storedFile, e.getMessage());
         }
     }
 
-    private void validateRequiredColumns(@NonNull Map<String, Integer> columnIndexMap) {
-        if (!columnIndexMap.containsKey(ClientImportConstants.COLUMN_COMPANY)) {
-            throw new ClientException("IMPORT_MISSING_COLUMN",
-                    "Required column 'company' not found in header");
-        }
-    }
+    private ImportScan scanRows(@NonNull Long jobId, @NonNull File file, @NonNull ClientType clientType,
+                                @NonNull List<ClientTypeField> fields,
+                                @NonNull Map<String, Source> sourceNameMap) {
+        ImportScan scan = new ImportScan();
+        int progressInterval = batchWriter.getChunkSize();
 
-    private Map<String, Source> buildSourceNameMap() {
-        List<Source> allSources = sourceService.getAllSources();
-        return allSources.stream()
-                .collect(Collectors.toMap(
-                        s -> s.getName().trim().toLowerCase(),
-                        s -> s,
-                        (s1, _) -> s1
-                ));
-    }
-
-    private ImportResult processRows(@NonNull Sheet sheet, @NonNull ClientType clientType,
-                                     @NonNull List<ClientTypeField> fields,
-                                     @NonNull Map<String, Integer> columnIndexMap,
-                                     @NonNull Map<String, Source> sourceNameMap) {
-        List<Client> clientsToCreate = new ArrayList<>();
-        List<String> rowErrors = new ArrayList<>();
-
-        for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-            Row row = sheet.getRow(rowIndex);
-            if (row == null || isEmptyRow(row)) {
-                continue;
+        sheetReader.readFirstSheet(file, row -> {
+            if (row.rowIndex() == ClientImportConstants.HEADER_ROW_INDEX) {
+                scan.columnIndexMap.putAll(parseHeaders(row, fields, clientType));
+                validateRequiredColumns(scan.columnIndexMap);
+                scan.headerFound = true;
+                return;
+            }
+            if (!scan.headerFound) {
+                throw new ClientException("IMPORT_INVALID_FILE", "Header row is missing");
+            }
+            if (row.isEmpty()) {
+                return;
             }
 
+            int rowNumber = row.rowIndex() + 1;
+            scan.dataRowCount++;
             try {
-                Client client = parseClientRow(row, clientType, fields, columnIndexMap, rowIndex + 1, sourceNameMap);
-                clientsToCreate.add(client);
+                Client client = parseClientRow(row, clientType, fields, scan.columnIndexMap, rowNumber, sourceNameMap);
+                if (client.getId() != null) {
+                    Integer firstRow = scan.specifiedIdRows.putIfAbsent(client.getId(), rowNumber);
+                    if (firstRow != null) {
+                        scan.errors.add(String.format("Row %d: ID %d is already used in row %d",
+                                rowNumber, client.getId(), firstRow));
+                    }
+                }
             } catch (ClientException e) {
-                String errorMessage = String.format("Рядок %d: %s", rowIndex + 1, e.getMessage());
-                rowErrors.add(errorMessage);
-                log.warn("Error parsing row {}: {}", rowIndex + 1, e.getMessage());
+                String errorMessage = String.format("Рядок %d: %s", rowNumber, e.getMessage());
+                scan.errors.add(errorMessage);
+                log.warn("Error parsing row {}: {}", rowNumber, e.getMessage());
             } catch (Exception e) {
-                String errorMessage = String.format("Рядок %d: Unexpected error - %s", rowIndex + 1, e.getMessage());
-                rowErrors.add(errorMessage);
-                log.warn("Unexpected error parsing row {}: {}", rowIndex + 1, e.getMessage(), e);
+                String errorMessage = String.format("Рядок %d: Unexpected error - %s", rowNumber, e.getMessage());
+                scan.errors.add(errorMessage);
+                log.warn("Unexpected error parsing row {}: {}", rowNumber, e.getMessage(), e);
             }
-        }
 
-        return new ImportResult(clientsToCreate, rowErrors);
-    }
+            if (scan.dataRowCount % progressInterval == 0) {
+                importJobService.updateValidationProgress(jobId, scan.dataRowCount, scan.errors.size());
+            }
+        });
 
-    private boolean isEmptyRow(@NonNull Row row) {
-        int lastCellNum = row.getLastCellNum();
-        if (lastCellNum <= 0) {
-            return true;
+        if (!scan.headerFound) {
+            throw new ClientException("IMPORT_INVALID_FILE", "Header row is missing");
         }
-
-        for (int cellIndex = 0; cellIndex < lastCellNum; cellIndex++) {
-            Cell cell = row.getCell(cellIndex);
-            if (cell != null) {
-                String cellValue = getCellValueAsString(cell);
-                if (cellValue != null && !cellValue.trim().isEmpty()) {
-                    return false;
-                }
-            }
+        if (scan.dataRowCount == 0) {
+            throw new ClientException("IMPORT_INVALID_FILE",
+                    "Excel file must contain at least a header and one row of data");
         }
-        return true;
-    }
-
-    private ClientException buildImportErrorsException(@NonNull List<String> rowErrors) {
-        String errorDetails = String.join("\n", rowErrors);
-        return new ClientException("IMPORT_ERRORS",
-                String.format("Import errors (%d rows):\n%s", rowErrors.size(), errorDetails));
+        return scan;
     }
 
-    private void saveClients(@NonNull List<Client> clients) {
-        if (clients.isEmpty()) {
-            return;
-        }
+    private int writeRows(@NonNull Long jobId, @NonNull File file, @NonNull ClientType clientType,
+                          @NonNull List<ClientTypeField> fields, @NonNull ImportScan scan,
+                          @NonNull Map<String, Source> sourceNameMap) {
+        int totalRows = scan.dataRowCount;
+        int chunkSize = batchWriter.getChunkSize();
+        List<Client> chunk = new ArrayList<>(chunkSize);
+        int[] savedCount = new int[1];
 
-        List<Client> clientsWithId = new ArrayList<>();
-        List<Client> clientsWithoutId = new ArrayList<>();
-
-        for (Client client : clients) {
-            if (client.getId() != null) {
-                clientsWithId.add(client);
-            } else {
-                clientsWithoutId.add(client);
+        sheetReader.readFirstSheet(file, row -> {
+            if (row.rowIndex() == ClientImportConstants.HEADER_ROW_INDEX || row.isEmpty()) {
+                return;
             }
-        }
-
-        if (!clientsWithoutId.isEmpty()) {
-            saveClientsWithoutId(clientsWithoutId);
-            log.info("Saved {} clients without specified ID", clientsWithoutId.size());
-        }
-
-        if (!clientsWithId.isEmpty()) {
-            saveClientsWithIdBatch(clientsWithId);
-            log.info("Saved {} clients with specified ID", clientsWithId.size());
-            Long maxSpecifiedId = findMaxSpecifiedId(clientsWithId);
-            if (maxSpecifiedId != null) {
-                updateAutoIncrement(maxSpecifiedId);
+            chunk.add(parseClientRow(row, clientType, fields, scan.columnIndexMap, row.rowIndex() + 1, sourceNameMap));
+            if (chunk.size() >= chunkSize) {
+                savedCount[0] += flushChunk(jobId, chunk, savedCount[0], totalRows);
             }
-        }
-    }
+        });
+        savedCount[0] += flushChunk(jobId, chunk, savedCount[0], totalRows);
 
-    private void saveClientsWithoutId(@NonNull List<Client> clients) {
-        for (Client client : clients) {
-            Client savedClient = clientCrudService.createClient(client);
-            if (client.getFieldValues() != null && !client.getFieldValues().isEmpty()) {
-                Long clientId = savedClient.getId();
-                if (clientId != null) {
-                    saveFieldValuesForClient(client, savedClient);
-                } else {
-                    log.warn("Client saved but ID is null, cannot save field values");
-                }
-            }
-        }
+        return savedCount[0];
     }
 
-    private void saveClientsWithIdBatch(@NonNull List<Client> clients) {
-        for (Client client : clients) {
-            saveClientWithId(client, client.getId());
+    private int flushChunk(@NonNull Long jobId, @NonNull List<Client> chunk, int savedBefore, int totalRows) {
+        if (chunk.isEmpty()) {
+            return 0;
         }
+        int saved = batchWriter.writeChunk(jobId, chunk);
+        chunk.clear();
+        importJobService.updateSavedRows(jobId, savedBefore + saved);
+        log.info("Import job {}: chunk saved ({}/{} clients)", jobId, savedBefore + saved, totalRows);
+        return saved;
     }
 
-    private Long findMaxSpecifiedId(@NonNull List<Client> clients) {
-        return clients.stream()
-                .map(Client::getId)
-                .filter(Objects::nonNull)
-                .max(Long::compareTo)
-                .orElse(null);
-    }
-
-    private void saveClientWithId(@NonNull Client client, @NonNull Long specifiedId) {
-        validateClientForSave(client);
-
-        jakarta.persistence.Query query = createInsertQuery(client);
-        setQueryParameters(query, client, specifiedId);
-        executeClientInsert(query);
-
-        if (client.getFieldValues() != null && !client.getFieldValues().isEmpty()) {
-            Client savedClient = entityManager.find(Client.class, specifiedId);
-            if (savedClient != null) {
-                saveFieldValuesForClient(client, savedClient);
-            } else {
-                log.warn("Client with id {} not found after save, cannot save field values", specifiedId);
-            }
-        }
-    }
-
-    private void validateClientForSave(@NonNull Client client) {
-        if (client.getClientType() == null || client.getClientType().getId() == null) {
-            throw new ClientException("IMPORT_INVALID_DATA", "Client type is required");
+    private void validateRequiredColumns(@NonNull Map<String, Integer> columnIndexMap) {
+        if (!columnIndexMap.containsKey(ClientImportConstants.COLUMN_COMPANY)) {
+            throw new ClientException("IMPORT_MISSING_COLUMN",
+                    "Required column 'company' not found in header");
         }
     }
 
-    private jakarta.persistence.Query createInsertQuery(@NonNull Client client) {
-        String tableName = getClientTableName();
-        String insertQuery = buildInsertQuery(client, tableName);
-        return entityManager.createNativeQuery(insertQuery);
-    }
-
-    private void setQueryParameters(@NonNull jakarta.persistence.Query query,
-                                    @NonNull Client client,
-                                    @NonNull Long specifiedId) {
-        query.setParameter("id", specifiedId)
-                .setParameter("clientTypeId", client.getClientType().getId())
-                .setParameter("company", client.getCompany())
-                .setParameter("sourceId", client.getSourceId())
-                .setParameter("isActive", client.getIsActive() != null ? client.getIsActive() : ClientImportConstants.DEFAULT_IS_ACTIVE);
-
-        if (client.getCreatedAt() != null) {
-            query.setParameter("createdAt", client.getCreatedAt());
-        }
-        if (client.getUpdatedAt() != null) {
-            query.setParameter("updatedAt", client.getUpdatedAt());
-        }
+    private Map<String, Source> buildSourceNameMap() {
+        List<Source> allSources = sourceService.getAllSources();
+        return allSources.stream()
+                .collect(Collectors.toMap(
+                        s -> s.getName().trim().toLowerCase(),
+                        s -> s,
+                        (s1, _) -> s1
+                ));
     }
 
-    private void executeClientInsert(@NonNull jakarta.persistence.Query query) {
-        query.executeUpdate();
+    private boolean isInterrupted(@NonNull RuntimeException e) {
+        return e instanceof ClientException clientException
+                && ClientImportJobService.ERROR_INTERRUPTED.equals(clientException.getErrorCode());
     }
 
-    private String buildInsertQuery(@NonNull Client client, @NonNull String tableName) {
-        StringBuilder query = new StringBuilder("INSERT INTO ");
-        query.append(tableName);
-        query.append(" (id, client_type_id, company, source_id, is_active");
-        boolean hasCreatedAt = client.getCreatedAt() != null;
-        boolean hasUpdatedAt = client.getUpdatedAt() != null;
-
-        if (hasCreatedAt) {
-            query.append(", created_at");
-        }
-        if (hasUpdatedAt) {
-            query.append(", updated_at");
-        }
+    private void failSaving(@NonNull Long jobId, @NonNull RuntimeException cause) {
+        String reason = cause instanceof ClientException
+                ? cause.getMessage()
+                : String.format("Unexpected error - %s", cause.getMessage());
+        log.error("Import job {} failed while saving: {}", jobId, cause.getMessage(), cause);
 
-        query.append(") VALUES (:id, :clientTypeId, :company, :sourceId, :isActive");
-
-        if (hasCreatedAt) {
-            query.append(", :createdAt");
-        }
-        if (hasUpdatedAt) {
-            query.append(", :updatedAt");
+        try {
+            int removed = batchWriter.rollbackJob(jobId);
+            importJobService.markRolledBack(jobId);
+            importJobService.fail(jobId, String.format("%s. No clients were imported", reason),
+                    Collections.emptyList());
+            log.warn("Import job {}: removed {} clients saved before the failure", jobId, removed);
+        } catch (RuntimeException rollbackError) {
+            log.error("Import job {}: failed to remove clients saved before the failure: {}",
+                    jobId, rollbackError.getMessage(), rollbackError);
+            importJobService.fail(jobId, String.format(
+                    "%s. Clients saved before the failure could not be removed and remain imported", reason),
+                    Collections.emptyList());
         }
-
-        query.append(")");
-        return query.toString();
     }
 
-    private void saveFieldValuesForClient(@NonNull Client client, @NonNull Client savedClient) {
-        if (client.getFieldValues() == null || client.getFieldValues().isEmpty()) {
-            return;
-        }
+    private List<String> findTakenIds(@NonNull Map<Long, Integer> specifiedIdRows) {
+        List<Long> ids = new ArrayList<>(specifiedIdRows.keySet());
+        ids.sort(Comparator.comparing(specifiedIdRows::get));
 
-        for (ClientFieldValue fieldValue : client.getFieldValues()) {
-            fieldValue.setClient(savedClient);
-            entityManager.persist(fieldValue);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
         }
-        entityManager.flush();
-    }
 
-    private void updateAutoIncrement(@NonNull Long maxSpecifiedId) {
-        try {
-            String tableName = getClientTableName();
-            String selectMaxIdQuery = "SELECT MAX(id) FROM " + tableName;
-            Long currentMaxId = (Long) entityManager.createNativeQuery(selectMaxIdQuery).getSingleResult();
-            if (currentMaxId != null && maxSpecifiedId >= currentMaxId) {
-                String alterAutoIncrementQuery = "ALTER TABLE " + tableName + " AUTO_INCREMENT = :nextId";
-                entityManager.createNativeQuery(alterAutoIncrementQuery)
-                        .setParameter("nextId", maxSpecifiedId + 1)
-                        .executeUpdate();
-                log.info("Updated AUTO_INCREMENT for table {} to {}", tableName, maxSpecifiedId + 1);
+        List<String> errors = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += ClientImportConstants.ID_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ClientImportConstants.ID_LOOKUP_BATCH_SIZE, ids.size()));
+            for (Long takenId : clientRepository.findExistingIds(batch)) {
+                errors.add(String.format("Row %d: ID %d is already taken", specifiedIdRows.get(takenId), takenId));
             }
-        } catch (Exception e) {
-            log.warn("Failed to update AUTO_INCREMENT for table {}: {}", getClientTableName(), e.getMessage(), e);
         }
+        return errors;
     }
 
-    private Map<String, Integer> parseHeaders(@NonNull Row headerRow, @NonNull List<ClientTypeField> fields, @NonNull ClientType clientType) {
+    private Map<String, Integer> parseHeaders(@NonNull ImportRow headerRow, @NonNull List<ClientTypeField> fields, @NonNull ClientType clientType) {
         Map<String, Integer> columnIndexMap = new HashMap<>();
 
         String companyFieldLabel = clientType.getNameFieldLabel();
 
         Map<String, ClientTypeField> fieldLabelMap = buildFieldLabelMap(fields);
 
-        for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-            Cell cell = headerRow.getCell(i);
-            if (cell == null) {
-                continue;
-            }
-
-            String headerValue = getCellValueAsString(cell);
+        for (int i = 0; i <= headerRow.lastColumnIndex(); i++) {
+            String headerValue = headerRow.value(i);
             if (headerValue == null || headerValue.trim().isEmpty()) {
                 continue;
             }
@@ -515,7 +492,7 @@ public class ClientImportService implements IClientImportService {
         }
     }
 
-    private Client parseClientRow(@NonNull Row row, @NonNull ClientType clientType,
+    private Client parseClientRow(@NonNull ImportRow row, @NonNull ClientType clientType,
                                   @NonNull List<ClientTypeField> fields,
                                   @NonNull Map<String, Integer> columnIndexMap,
                                   int rowNumber,
@@ -535,39 +512,27 @@ public class ClientImportService implements IClientImportService {
         return client;
     }
 
-    private void parseId(@NonNull Client client, @NonNull Row row, @NonNull Map<String, Integer> columnIndexMap, int rowNumber) {
+    private void parseId(@NonNull Client client, @NonNull ImportRow row, @NonNull Map<String, Integer> columnIndexMap, int rowNumber) {
         Integer idCol = columnIndexMap.get(ClientImportConstants.COLUMN_ID);
         if (idCol == null) {
             return;
         }
 
-        Cell idCell = row.getCell(idCol);
-        if (idCell == null) {
-            return;
-        }
-
-        Long id = parseIdFromCell(idCell);
+        Long id = parseIdValue(row.value(idCol));
         if (id == null) {
             return;
         }
 
-        if (clientRepository.existsById(id)) {
-            throw new ClientException("IMPORT_ID_EXISTS",
-                    String.format("Row %d: ID %d is already taken", rowNumber, id));
-        }
-
         client.setId(id);
     }
 
-    private void parseCompany(@NonNull Client client, @NonNull Row row, @NonNull Map<String, Integer> columnIndexMap, int rowNumber) {
+    private void parseCompany(@NonNull Client client, @NonNull ImportRow row, @NonNull Map<String, Integer> columnIndexMap, int rowNumber) {
         Integer companyCol = columnIndexMap.get(ClientImportConstants.COLUMN_COMPANY);
         if (companyCol == null) {
             throw new ClientException("IMPORT_MISSING_COLUMN",
                     String.format("Row %d: Company name column not found", rowNumber));
         }
-
-        Cell companyCell = row.getCell(companyCol);
-        String company = getCellValueAsString(companyCell);
+        String company = row.value(companyCol);
         if (company == null || company.trim().isEmpty()) {
             throw new ClientException("IMPORT_REQUIRED_FIELD",
                     String.format("Row %d: Company name is a required field", rowNumber));
@@ -576,7 +541,7 @@ public class ClientImportService implements IClientImportService {
         client.setCompany(company.trim());
     }
 
-    private void parseSource(@NonNull Client client, @NonNull Row row,
+    private void parseSource(@NonNull Client client, @NonNull ImportRow row,
                             @NonNull Map<String, Integer> columnIndexMap,
                             @NonNull Map<String, Source> sourceNameMap,
                             int rowNumber) {
@@ -584,9 +549,7 @@ public class ClientImportService implements IClientImportService {
         if (sourceCol == null) {
             return;
         }
-
-        Cell sourceCell = row.getCell(sourceCol);
-        String sourceValue = getCellValueAsString(sourceCell);
+        String sourceValue = row.value(sourceCol);
         if (sourceValue == null || sourceValue.trim().isEmpty()) {
             return;
         }
@@ -602,7 +565,7 @@ public class ClientImportService implements IClientImportService {
         client.setSourceId(foundSource.getId());
     }
 
-    private void parseDateTimeField(@NonNull Client client, @NonNull Row row,
+    private void parseDateTimeField(@NonNull Client client, @NonNull ImportRow row,
                                    @NonNull Map<String, Integer> columnIndexMap,
                                    @NonNull String columnKey,
                                    int rowNumber) {
@@ -610,9 +573,7 @@ public class ClientImportService implements IClientImportService {
         if (dateTimeCol == null) {
             return;
         }
-
-        Cell dateTimeCell = row.getCell(dateTimeCol);
-        String dateTimeValue = getCellValueAsString(dateTimeCell);
+        String dateTimeValue = row.value(dateTimeCol);
         if (dateTimeValue == null || dateTimeValue.trim().isEmpty()) {
             return;
         }
@@ -630,11 +591,10 @@ public class ClientImportService implements IClientImportService {
         }
     }
 
-    private void parseIsActive(@NonNull Client client, @NonNull Row row, @NonNull Map<String, Integer> columnIndexMap, int rowNumber) {
+    private void parseIsActive(@NonNull Client client, @NonNull ImportRow row, @NonNull Map<String, Integer> columnIndexMap, int rowNumber) {
         Integer isActiveCol = columnIndexMap.get(ClientImportConstants.COLUMN_IS_ACTIVE);
         if (isActiveCol != null) {
-            Cell isActiveCell = row.getCell(isActiveCol);
-            String isActiveValue = getCellValueAsString(isActiveCell);
+            String isActiveValue = row.value(isActiveCol);
             if (isActiveValue != null && !isActiveValue.trim().isEmpty()) {
                 client.setIsActive(parseBoolean(isActiveValue.trim(), rowNumber));
             } else {
@@ -645,7 +605,7 @@ public class ClientImportService implements IClientImportService {
         }
     }
 
-    private void parseFieldValues(@NonNull Client client, @NonNull Row row,
+    private void parseFieldValues(@NonNull Client client, @NonNull ImportRow row,
                                   @NonNull List<ClientTypeField> fields,
                                   @NonNull Map<String, Integer> columnIndexMap,
                                   int rowNumber) {
@@ -655,9 +615,7 @@ public class ClientImportService implements IClientImportService {
                 handleMissingField(field, columnIndexMap, rowNumber);
                 continue;
             }
-
-            Cell fieldCell = row.getCell(fieldCol);
-            String fieldValue = getCellValueAsString(fieldCell);
+            String fieldValue = row.value(fieldCol);
 
             if (fieldValue == null || fieldValue.trim().isEmpty()) {
                 validateRequiredField(field, rowNumber);
@@ -804,33 +762,12 @@ public class ClientImportService implements IClientImportService {
         }
     }
 
-    private Long parseIdFromCell(Cell cell) {
-        if (cell == null) {
-            return null;
-        }
-
-        try {
-            return switch (cell.getCellType()) {
-                case NUMERIC -> parseNumericId(cell);
-                case STRING -> parseStringId(cell);
-                case FORMULA -> parseFormulaId(cell);
-                default -> null;
-            };
-        } catch (Exception e) {
+    private Long parseIdValue(String value) {
+        if (value == null) {
             return null;
         }
-    }
-
-    private Long parseNumericId(@NonNull Cell cell) {
-        double numericValue = cell.getNumericCellValue();
-        if (numericValue == (long) numericValue) {
-            return (long) numericValue;
-        }
-        return null;
-    }
 
-    private Long parseStringId(@NonNull Cell cell) {
-        String stringValue = cell.getStringCellValue().trim();
+        String stringValue = value.trim();
         if (stringValue.isEmpty()) {
             return null;
         }
@@ -853,71 +790,6 @@ public class ClientImportService implements IClientImportService {
         return null;
     }
 
-    private Long parseFormulaId(@NonNull Cell cell) {
-        try {
-            return switch (cell.getCachedFormulaResultType()) {
-                case NUMERIC -> parseNumericId(cell);
-                case STRING -> parseStringId(cell);
-                default -> null;
-            };
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return null;
-        }
-
-        try {
-            return switch (cell.getCellType()) {
-                case STRING -> cell.getStringCellValue();
-                case NUMERIC -> formatNumericCell(cell);
-                case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-                case FORMULA -> formatFormulaCell(cell);
-                case BLANK -> null;
-                default -> formatCellWithFormatter(cell);
-            };
-        } catch (Exception e) {
-            return formatCellWithFormatter(cell);
-        }
-    }
-
-    private String formatNumericCell(@NonNull Cell cell) {
-        if (DateUtil.isCellDateFormatted(cell)) {
-            return cell.getLocalDateTimeCellValue().format(ClientImportConstants.DATE_TIME_FORMATTER);
-        }
-
-        double numericValue = cell.getNumericCellValue();
-        if (numericValue == (long) numericValue) {
-            return String.valueOf((long) numericValue);
-        }
-        return String.valueOf(numericValue);
-    }
-
-    private String formatFormulaCell(@NonNull Cell cell) {
-        try {
-            return switch (cell.getCachedFormulaResultType()) {
-                case STRING -> cell.getStringCellValue();
-                case NUMERIC -> formatNumericCell(cell);
-                case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-                default -> cell.getCellFormula();
-            };
-        } catch (Exception e) {
-            return cell.getCellFormula();
-        }
-    }
-
-    private String formatCellWithFormatter(@NonNull Cell cell) {
-        try {
-            DataFormatter formatter = new DataFormatter();
-            return formatter.formatCellValue(cell);
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
     private byte[] convertWorkbookToBytes(@NonNull Workbook workbook) {
         try (workbook; ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             workbook.write(baos);
@@ -940,8 +812,8 @@ public class ClientImportService implements IClientImportService {
         }
 
         String filename = file.getOriginalFilename();
-        if (filename == null || (!filename.toLowerCase().endsWith(ClientImportConstants.FILE_EXTENSION_XLSX) && !filename.toLowerCase().endsWith(ClientImportConstants.FILE_EXTENSION_XLS))) {
-            throw new ClientException("IMPORT_INVALID_FILE_TYPE", "Only Excel files (.xlsx, .xls) are supported");
+        if (filename == null || !filename.toLowerCase().endsWith(ClientImportConstants.FILE_EXTENSION_XLSX)) {
+            throw new ClientException("IMPORT_INVALID_FILE_TYPE", "Only Excel files (.xlsx) are supported");
         }
 
         String contentType = file.getContentType();
@@ -957,6 +829,11 @@ public class ClientImportService implements IClientImportService {
                 contentType.equals(ClientImportConstants.CONTENT_TYPE_EXCEL_NEW);
     }
 
-    private record ImportResult(@NonNull List<Client> clients, @NonNull List<String> errors) {
+    private static final class ImportScan {
+        private final Map<String, Integer> columnIndexMap = new HashMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private final Map<Long, Integer> specifiedIdRows = new HashMap<>();
+        private boolean headerFound;
+        private int dataRowCount;
     }
 }
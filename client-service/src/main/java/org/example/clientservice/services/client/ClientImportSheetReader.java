@@ -0,0 +1,119 @@
+package org.example.clientservice.services.client;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.example.clientservice.exceptions.client.ClientException;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class ClientImportSheetReader {
+
+    public void readFirstSheet(@NonNull File file, @NonNull Consumer<ImportRow> rowConsumer) {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new ClientException("IMPORT_INVALID_FILE", "Excel file does not contain any sheets");
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, sharedStrings, new RowCollector(rowConsumer), new ImportDataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            log.error("Error reading Excel file {}: {}", file.getName(), e.getMessage(), e);
+            throw new ClientException("IMPORT_READ_ERROR",
+                    String.format("Error reading Excel file: %s", e.getMessage()));
+        }
+    }
+
+    public record ImportRow(int rowIndex, @NonNull Map<Integer, String> values) {
+
+        public String value(Integer columnIndex) {
+            return columnIndex != null ? values.get(columnIndex) : null;
+        }
+
+        public int lastColumnIndex() {
+            return values.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        }
+
+        public boolean isEmpty() {
+            return values.values().stream().allMatch(value -> value == null || value.trim().isEmpty());
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final Consumer<ImportRow> rowConsumer;
+        private Map<Integer, String> currentValues;
+        private int currentColumn;
+
+        private RowCollector(@NonNull Consumer<ImportRow> rowConsumer) {
+            this.rowConsumer = rowConsumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentValues = new HashMap<>();
+            currentColumn = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowConsumer.accept(new ImportRow(rowNum, currentValues));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            currentColumn = cellReference != null
+                    ? new CellReference(cellReference).getCol()
+                    : currentColumn + 1;
+            if (formattedValue != null) {
+                currentValues.put(currentColumn, formattedValue);
+            }
+        }
+    }
+
+    private static final class ImportDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).format(ClientImportConstants.DATE_TIME_FORMATTER);
+            }
+            if (value == (long) value) {
+                return String.valueOf((long) value);
+            }
+            return String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.clientservice.services.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class ClientSearchCountCache {
+
+    private static final long MAXIMUM_SIZE = 1000L;
+
+    private final Cache<CountKey, Long> counts;
+
+    public ClientSearchCountCache(@Value("${client.search.count-cache-ttl-seconds:60}") long ttlSeconds) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public long getOrCount(String query, @NonNull Map<String, List<String>> filters, Long clientTypeId,
+                           List<Long> allowedClientTypeIds, @NonNull Supplier<Long> counter) {
+        CountKey key = new CountKey(query, filters, clientTypeId, allowedClientTypeIds);
+        return counts.get(key, _ -> counter.get());
+    }
+
+    private record CountKey(
+            String query,
+            Map<String, List<String>> filters,
+            Long clientTypeId,
+            List<Long> allowedClientTypeIds
+    ) {
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.clientservice.services.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.exceptions.client.ClientException;
+import org.example.clientservice.models.client.ClientSearchCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientSearchCursorCodec {
+
+    private final ObjectMapper objectMapper;
+
+    @NonNull
+    public String encode(@NonNull ClientSearchCursor cursor) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(cursor);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new ClientException("INVALID_CURSOR", "Failed to encode search cursor");
+        }
+    }
+
+    @NonNull
+    public ClientSearchCursor decode(@NonNull String token, @NonNull String sortProperty,
+                                     @NonNull Sort.Direction sortDirection) {
+        ClientSearchCursor cursor;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            cursor = objectMapper.readValue(json, ClientSearchCursor.class);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            log.debug("Rejected malformed search cursor: {}", e.getMessage());
+            throw new ClientException("INVALID_CURSOR", "Search cursor is malformed");
+        }
+
+        if (cursor.id() == null) {
+            throw new ClientException("INVALID_CURSOR", "Search cursor is malformed");
+        }
+        if (!sortProperty.equals(cursor.sort()) || sortDirection != cursor.direction()) {
+            throw new ClientException("INVALID_CURSOR", "Search cursor does not match the requested sort order");
+        }
+        return cursor;
+    }
+}
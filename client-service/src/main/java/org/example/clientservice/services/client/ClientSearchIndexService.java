@@ -0,0 +1,52 @@
+package org.example.clientservice.services.client;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.repositories.ClientSearchIndexRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClientSearchIndexService {
+
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final ClientSearchIndexRepository searchIndexRepository;
+
+    @Transactional
+    public void refreshClient(@NonNull Long clientId) {
+        searchIndexRepository.refreshByClientIds(List.of(clientId));
+    }
+
+    @Transactional
+    public void refreshClients(@NonNull Collection<Long> clientIds) {
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(clientIds));
+        uniqueIds.removeIf(Objects::isNull);
+
+        if (uniqueIds.isEmpty()) {
+            return;
+        }
+
+        for (int from = 0; from < uniqueIds.size(); from += REFRESH_BATCH_SIZE) {
+            int to = Math.min(from + REFRESH_BATCH_SIZE, uniqueIds.size());
+            searchIndexRepository.refreshByClientIds(new ArrayList<>(uniqueIds.subList(from, to)));
+        }
+
+        log.debug("Refreshed search index for {} clients", uniqueIds.size());
+    }
+
+    @Transactional
+    public void refreshClientType(@NonNull Long clientTypeId) {
+        int refreshed = searchIndexRepository.refreshByClientTypeId(clientTypeId);
+        log.info("Refreshed search index for client type {}: {} rows", clientTypeId, refreshed);
+    }
+}
@@ -3,26 +3,41 @@ package org.example.clientservice.services.client;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.exceptions.client.ClientException;
 import org.example.clientservice.mappers.ClientMapper;
+import org.example.clientservice.mappers.clienttype.ClientFieldValueMapper;
 import org.example.clientservice.models.client.Client;
 import org.example.clientservice.models.client.ClientFilterIds;
+import org.example.clientservice.models.client.ClientSearchCursor;
+import org.example.clientservice.models.client.CursorPageResponse;
 import org.example.clientservice.models.client.PageResponse;
-import org.example.clientservice.models.clienttype.ClientFieldValue;
+import org.example.clientservice.models.clienttype.ClientFieldValueRow;
+import org.example.clientservice.models.clienttype.ClientTypeFieldDefinition;
+import org.example.clientservice.models.clienttype.ClientTypeFieldSnapshot;
+import org.example.clientservice.models.dto.client.ClientChangeDTO;
 import org.example.clientservice.models.dto.client.ClientDTO;
 import org.example.clientservice.models.dto.client.ClientListDTO;
 import org.example.clientservice.models.dto.client.ClientSearchRequest;
 import org.example.clientservice.models.dto.client.ExternalClientDataCache;
+import org.example.clientservice.models.dto.clienttype.ClientFieldValueDTO;
 import org.example.clientservice.repositories.ClientRepository;
 import org.example.clientservice.repositories.clienttype.ClientFieldValueRepository;
+import org.example.clientservice.services.clienttype.ClientTypeFieldRegistry;
 import org.example.clientservice.services.impl.IClientSearchService;
 import org.example.clientservice.services.impl.ISourceService;
+import org.example.clientservice.spec.ClientKeysetSpecification;
 import org.example.clientservice.spec.ClientSpecification;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,17 +45,28 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ClientSearchService implements IClientSearchService {
+
+    private static final String SORT_SOURCE = "source";
+    private static final String SORT_COMPANY = "company";
+    private static final String ATTRIBUTE_SOURCE_ID = "sourceId";
+    private static final String ATTRIBUTE_ID = "id";
     
     private final ClientRepository clientRepository;
     private final ClientFieldValueRepository fieldValueRepository;
     private final ISourceService sourceService;
     private final ClientMapper clientMapper;
+    private final ClientFieldValueMapper fieldValueMapper;
     private final ClientSearchValidator validator;
     private final ClientSearchQueryProcessor queryProcessor;
     private final ClientSearchPermissionResolver permissionResolver;
+    private final ClientTypeFieldRegistry fieldRegistry;
+    private final ClientSearchCursorCodec cursorCodec;
+    private final ClientSearchCountCache countCache;
+    private final ClientIdFetcher clientIdFetcher;
 
     @Override
     @NonNull
+    @Transactional(readOnly = true)
     public PageResponse<ClientDTO> searchClients(String query, int size, int page, String sortProperty,
                                                 Sort.Direction sortDirection, String filtersJson, Long clientTypeId) {
         validator.validatePaginationParams(size, page);
@@ -55,11 +81,62 @@ public class ClientSearchService implements IClientSearchService {
         Pageable pageable = PageRequest.of(page, size, Sort.by(validatedSortDirection, validatedSortProperty));
         
         Page<Client> clientPage = searchClientsInternal(normalizedQuery, pageable, filters, clientTypeId);
-        Page<ClientDTO> clientDTOPage = clientPage.map(clientMapper::clientToClientDTO);
+        Page<ClientDTO> clientDTOPage = new PageImpl<>(toClientDTOs(clientPage.getContent()),
+                clientPage.getPageable(), clientPage.getTotalElements());
         
         return new PageResponse<>(clientDTOPage);
     }
 
+    @Override
+    @NonNull
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ClientDTO> searchClientsByCursor(String query, int size, String cursor,
+                                                               String sortProperty, Sort.Direction sortDirection,
+                                                               String filtersJson, Long clientTypeId,
+                                                               boolean includeTotal) {
+        validator.validatePaginationParams(size, 0);
+
+        String normalizedQuery = queryProcessor.normalizeQuery(query);
+        validator.validateQuery(normalizedQuery);
+
+        Map<String, List<String>> filters = queryProcessor.parseFilters(filtersJson);
+        String validatedSortProperty = validator.validateAndNormalizeSortProperty(sortProperty);
+        Sort.Direction validatedSortDirection = validator.validateSortDirection(sortProperty, sortDirection);
+        ClientSearchCursor after = cursor != null && !cursor.isBlank()
+                ? cursorCodec.decode(cursor, validatedSortProperty, validatedSortDirection)
+                : null;
+
+        List<Long> allowedClientTypeIds = permissionResolver.determineAllowedClientTypeIds(clientTypeId);
+        if (allowedClientTypeIds != null && allowedClientTypeIds.isEmpty()) {
+            return new CursorPageResponse<>(Collections.emptyList(), size, null, false, includeTotal ? 0L : null);
+        }
+
+        ClientFilterIds filterIds = normalizedQuery != null ? queryProcessor.fetchFilterIds(normalizedQuery) : null;
+        ClientSpecification specification = createClientSpecification(normalizedQuery, filters, filterIds,
+                clientTypeId, allowedClientTypeIds);
+
+        String sortAttribute = toSortAttribute(validatedSortProperty);
+        Sort sort = Sort.by(validatedSortDirection, sortAttribute).and(Sort.by(validatedSortDirection, ATTRIBUTE_ID));
+        Specification<Client> pageSpecification = after != null
+                ? specification.and(createKeysetSpecification(sortAttribute, validatedSortDirection, after))
+                : specification;
+
+        List<Client> clients = clientRepository.findBy(pageSpecification,
+                q -> q.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = clients.size() > size;
+        List<Client> pageClients = hasNext ? clients.subList(0, size) : clients;
+
+        String nextCursor = hasNext
+                ? cursorCodec.encode(toCursor(pageClients.getLast(), validatedSortProperty, validatedSortDirection))
+                : null;
+        Long totalElements = includeTotal
+                ? countCache.getOrCount(normalizedQuery, filters, clientTypeId, allowedClientTypeIds,
+                        () -> clientRepository.count(specification))
+                : null;
+
+        return new CursorPageResponse<>(toClientDTOs(pageClients), size, nextCursor, hasNext, totalElements);
+    }
+
     @Override
     @NonNull
     public List<ClientListDTO> searchClientsForPurchase(@NonNull ClientSearchRequest request) {
@@ -107,11 +184,7 @@ public class ClientSearchService implements IClientSearchService {
         ClientSpecification specification = createClientSpecification(query, filterParams, filterIds, 
                 clientTypeId, allowedClientTypeIds);
         
-        Page<Client> clientPage = clientRepository.findAll(specification, pageable);
-        
-        loadFieldValuesIfNeeded(clientPage.getContent());
-        
-        return clientPage;
+        return clientRepository.findAll(specification, pageable);
     }
 
     private List<Client> fetchClients(String query, @NonNull Map<String, List<String>> filterParams,
@@ -122,41 +195,71 @@ public class ClientSearchService implements IClientSearchService {
         return clientRepository.findAll(specification);
     }
     
-    private void loadFieldValuesIfNeeded(@NonNull List<Client> clients) {
-        if (!clients.isEmpty()) {
-            loadFieldValuesForClients(clients);
+    private String toSortAttribute(@NonNull String sortProperty) {
+        return SORT_SOURCE.equals(sortProperty) ? ATTRIBUTE_SOURCE_ID : sortProperty;
+    }
+
+    private ClientSearchCursor toCursor(@NonNull Client client, @NonNull String sortProperty,
+                                        @NonNull Sort.Direction sortDirection) {
+        Object value = switch (sortProperty) {
+            case SORT_COMPANY -> client.getCompany();
+            case SORT_SOURCE -> client.getSourceId();
+            case "createdAt" -> client.getCreatedAt();
+            default -> client.getUpdatedAt();
+        };
+        return new ClientSearchCursor(sortProperty, sortDirection, value != null ? value.toString() : null,
+                client.getId());
+    }
+
+    private ClientKeysetSpecification<?> createKeysetSpecification(@NonNull String sortAttribute,
+                                                                  @NonNull Sort.Direction sortDirection,
+                                                                  @NonNull ClientSearchCursor cursor) {
+        String value = cursor.value();
+        try {
+            return switch (cursor.sort()) {
+                case SORT_COMPANY -> new ClientKeysetSpecification<>(sortAttribute, sortDirection, value, cursor.id());
+                case SORT_SOURCE -> new ClientKeysetSpecification<>(sortAttribute, sortDirection,
+                        value != null ? Long.valueOf(value) : null, cursor.id());
+                default -> new ClientKeysetSpecification<>(sortAttribute, sortDirection,
+                        value != null ? LocalDateTime.parse(value) : null, cursor.id());
+            };
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new ClientException("INVALID_CURSOR", "Search cursor is malformed");
         }
     }
-    
-    
+
     private ClientSpecification createClientSpecification(String query, @NonNull Map<String, List<String>> filterParams,
                                                           ClientFilterIds filterIds, Long clientTypeId,
                                                           List<Long> allowedClientTypeIds) {
         List<Long> sourceIds = filterIds != null ? filterIds.sourceIds() : null;
-        return new ClientSpecification(query, filterParams, sourceIds, clientTypeId, allowedClientTypeIds);
+        ClientTypeFieldSnapshot fieldSnapshot = clientTypeId != null ? fieldRegistry.getSnapshot(clientTypeId) : null;
+        return new ClientSpecification(query, filterParams, sourceIds, clientTypeId, allowedClientTypeIds, fieldSnapshot);
     }
     
-    private void loadFieldValuesForClients(@NonNull List<Client> clients) {
+    private List<ClientDTO> toClientDTOs(@NonNull List<Client> clients) {
+        if (clients.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         List<Long> clientIds = clients.stream()
                 .map(Client::getId)
                 .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        
-        if (clientIds.isEmpty()) {
-            return;
+                .toList();
+
+        Map<Long, List<ClientFieldValueDTO>> fieldValuesByClient = new HashMap<>(clientIds.size());
+        for (ClientFieldValueRow row : fieldValueRepository.findRowsByClientIdIn(clientIds)) {
+            ClientTypeFieldDefinition field = fieldRegistry.findField(row.fieldId());
+            if (field == null) {
+                continue;
+            }
+            fieldValuesByClient.computeIfAbsent(row.clientId(), _ -> new ArrayList<>())
+                    .add(fieldValueMapper.toDTO(row, field));
         }
-        
-        List<ClientFieldValue> fieldValues = fieldValueRepository.findByClientIdInWithFieldAndValueList(clientIds);
-        
-        Map<Long, List<ClientFieldValue>> fieldValuesMap = fieldValues.stream()
-                .filter(fv -> fv.getClient().getId() != null)
-                .collect(Collectors.groupingBy(fv -> fv.getClient().getId()));
-        
-        clients.forEach(client -> {
-            List<ClientFieldValue> clientFieldValues = fieldValuesMap.getOrDefault(
-                    client.getId(), Collections.emptyList());
-            client.setFieldValues(clientFieldValues);
-        });
+
+        return clients.stream()
+                .map(client -> clientMapper.clientToClientDTO(client,
+                        fieldValuesByClient.getOrDefault(client.getId(), Collections.emptyList())))
+                .toList();
     }
 
     private SearchParams prepareSearchParams(@NonNull ClientSearchRequest request) {
@@ -183,14 +286,10 @@ public class ClientSearchService implements IClientSearchService {
     @NonNull
     public List<Long> searchClientIds(@NonNull ClientSearchRequest request) {
         SearchParams searchParams = prepareSearchParams(request);
-        List<Client> clients = fetchClients(searchParams.normalizedQuery(), searchParams.cleanedFilterParams(), 
-                searchParams.filterIds(), request.clientTypeId());
-        
-        return clients.stream()
-                .map(Client::getId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
+        ClientSpecification specification = createClientSpecification(searchParams.normalizedQuery(),
+                searchParams.cleanedFilterParams(), searchParams.filterIds(), request.clientTypeId(), null);
+
+        return clientIdFetcher.fetchIds(specification);
     }
 
     @Override
@@ -207,4 +306,11 @@ public class ClientSearchService implements IClientSearchService {
                 .map(clientMapper::clientToClientDTO)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    @NonNull
+    public List<ClientChangeDTO> getClientChanges(@NonNull LocalDateTime changedAfter, @NonNull Long afterId, int limit) {
+        return clientRepository.findChangesAfter(changedAfter, afterId, PageRequest.of(0, limit));
+    }
 }
@@ -0,0 +1,81 @@
+package org.example.clientservice.services.clienttype;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.models.clienttype.ClientTypeFieldDefinition;
+import org.example.clientservice.models.clienttype.ClientTypeFieldSnapshot;
+import org.example.clientservice.repositories.clienttype.ClientTypeFieldRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+public class ClientTypeFieldRegistry {
+
+    private static final long MAXIMUM_CLIENT_TYPES = 1_000L;
+    private static final long MAXIMUM_FIELDS = 50_000L;
+
+    private final ClientTypeFieldRepository fieldRepository;
+    private final Cache<Long, ClientTypeFieldSnapshot> snapshots;
+    private final Cache<Long, Long> fieldClientTypeIds;
+
+    public ClientTypeFieldRegistry(ClientTypeFieldRepository fieldRepository,
+                                   @Value("${client.field-registry.ttl-seconds:60}") long ttlSeconds) {
+        this.fieldRepository = fieldRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_CLIENT_TYPES)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        this.fieldClientTypeIds = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_FIELDS)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @NonNull
+    public ClientTypeFieldSnapshot getSnapshot(@NonNull Long clientTypeId) {
+        return snapshots.get(clientTypeId, this::load);
+    }
+
+    public ClientTypeFieldDefinition findField(@NonNull Long fieldId) {
+        Long clientTypeId = fieldClientTypeIds.getIfPresent(fieldId);
+        if (clientTypeId == null) {
+            clientTypeId = fieldRepository.findClientTypeIdByFieldId(fieldId).orElse(null);
+            if (clientTypeId == null) {
+                return null;
+            }
+            fieldClientTypeIds.put(fieldId, clientTypeId);
+        }
+        return getSnapshot(clientTypeId).findById(fieldId);
+    }
+
+    public void invalidate(@NonNull Long clientTypeId) {
+        snapshots.invalidate(clientTypeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshots.invalidate(clientTypeId);
+                }
+            });
+        }
+    }
+
+    private ClientTypeFieldSnapshot load(@NonNull Long clientTypeId) {
+        List<ClientTypeFieldDefinition> fields = fieldRepository
+                .findByClientTypeIdWithClientTypeAndListValues(clientTypeId).stream()
+                .map(ClientTypeFieldDefinition::of)
+                .toList();
+        fields.forEach(field -> fieldClientTypeIds.put(field.id(), clientTypeId));
+
+        log.debug("Loaded {} fields for client type {}", fields.size(), clientTypeId);
+        return ClientTypeFieldSnapshot.of(clientTypeId, fields);
+    }
+}
@@ -8,6 +8,7 @@ import org.example.clientservice.exceptions.client.ClientNotFoundException;
 import org.example.clientservice.mappers.clienttype.ClientTypeFieldMapper;
 import org.example.clientservice.models.clienttype.ClientType;
 import org.example.clientservice.models.clienttype.ClientTypeField;
+import org.example.clientservice.models.clienttype.ClientTypeFieldDefinition;
 import org.example.clientservice.models.dto.clienttype.ClientTypeFieldCreateDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypeFieldDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypeFieldUpdateDTO;
@@ -15,11 +16,14 @@ import org.example.clientservice.models.dto.clienttype.ClientTypeFieldsAllDTO;
 import org.example.clientservice.models.dto.clienttype.FieldIdsRequest;
 import org.example.clientservice.models.dto.clienttype.FieldReorderDTO;
 import org.example.clientservice.repositories.clienttype.ClientTypeFieldRepository;
+import org.example.clientservice.services.client.ClientSearchIndexService;
 import org.example.clientservice.services.impl.IClientTypeFieldService;
 import org.example.clientservice.services.impl.IClientTypeService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -34,6 +38,8 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
     private final IClientTypeService clientTypeService;
     private final ClientTypeFieldValidator validator;
     private final ClientTypeFieldStaticFieldsHandler staticFieldsHandler;
+    private final ClientSearchIndexService searchIndexService;
+    private final ClientTypeFieldRegistry fieldRegistry;
 
     @Override
     @Transactional
@@ -50,7 +56,9 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
             }
 
             ClientTypeField field = fieldMapper.createDTOToField(dto, clientType);
-            return fieldRepository.save(field);
+            ClientTypeField savedField = fieldRepository.save(field);
+            fieldRegistry.invalidate(clientTypeId);
+            return savedField;
         } catch (ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -67,9 +75,17 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
         log.info("Updating field with ID: {}", fieldId);
         
         try {
-            ClientTypeField field = getFieldById(fieldId);
+            ClientTypeField field = loadFieldForUpdate(fieldId);
+            boolean wasSearchable = Boolean.TRUE.equals(field.getIsSearchable());
             fieldMapper.updateFieldFromDTO(field, dto);
-            return fieldRepository.save(field);
+            ClientTypeField savedField = fieldRepository.save(field);
+            fieldRegistry.invalidate(savedField.getClientType().getId());
+
+            if (affectsSearchIndex(wasSearchable, savedField, dto)) {
+                searchIndexService.refreshClientType(savedField.getClientType().getId());
+            }
+
+            return savedField;
         } catch (ClientNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -82,45 +98,55 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
     @Override
     @NonNull
     public ClientTypeField getFieldById(@NonNull Long fieldId) {
-        return fieldRepository.findByIdWithListValues(fieldId)
-                .orElseThrow(() -> new ClientNotFoundException("Field not found with id: " + fieldId));
+        ClientTypeFieldDefinition field = fieldRegistry.findField(fieldId);
+        if (field == null) {
+            throw new ClientNotFoundException("Field not found with id: " + fieldId);
+        }
+        return field.toEntity();
     }
 
     @Override
     @NonNull
     public List<ClientTypeField> getFieldsByClientTypeId(@NonNull Long clientTypeId) {
-        return fieldRepository.findByClientTypeIdOrderByDisplayOrderAscWithListValues(clientTypeId);
+        return toEntities(fieldRegistry.getSnapshot(clientTypeId).fields());
     }
 
     @Override
     @NonNull
     public List<ClientTypeField> getVisibleFieldsByClientTypeId(@NonNull Long clientTypeId) {
-        return fieldRepository.findVisibleFieldsByClientTypeId(clientTypeId);
+        return toEntities(fieldRegistry.getSnapshot(clientTypeId).visibleFields());
     }
 
     @Override
     @NonNull
     public List<ClientTypeField> getSearchableFieldsByClientTypeId(@NonNull Long clientTypeId) {
-        return fieldRepository.findSearchableFieldsByClientTypeId(clientTypeId);
+        return toEntities(fieldRegistry.getSnapshot(clientTypeId).searchableFields());
     }
 
     @Override
     @NonNull
     public List<ClientTypeField> getFilterableFieldsByClientTypeId(@NonNull Long clientTypeId) {
-        return fieldRepository.findFilterableFieldsByClientTypeId(clientTypeId);
+        return toEntities(fieldRegistry.getSnapshot(clientTypeId).filterableFields());
     }
 
     @Override
     @NonNull
     public List<ClientTypeField> getVisibleInCreateFieldsByClientTypeId(@NonNull Long clientTypeId) {
-        return fieldRepository.findVisibleInCreateFieldsByClientTypeId(clientTypeId);
+        return toEntities(fieldRegistry.getSnapshot(clientTypeId).visibleInCreateFields());
     }
 
     @Override
     @NonNull
     public List<ClientTypeField> getFieldsByIds(@NonNull FieldIdsRequest request) {
         validator.validateFieldIdsRequest(request);
-        return fieldRepository.findByIdsWithListValues(request.fieldIds());
+        List<ClientTypeField> fields = new ArrayList<>(request.fieldIds().size());
+        for (Long fieldId : new LinkedHashSet<>(request.fieldIds())) {
+            ClientTypeFieldDefinition field = fieldRegistry.findField(fieldId);
+            if (field != null) {
+                fields.add(field.toEntity());
+            }
+        }
+        return fields;
     }
 
     @Override
@@ -129,8 +155,15 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
         log.info("Deleting field with ID: {}", fieldId);
         
         try {
-            ClientTypeField field = getFieldById(fieldId);
+            ClientTypeField field = loadFieldForUpdate(fieldId);
+            Long clientTypeId = field.getClientType().getId();
+            boolean wasSearchable = Boolean.TRUE.equals(field.getIsSearchable());
             fieldRepository.delete(field);
+            fieldRegistry.invalidate(clientTypeId);
+
+            if (wasSearchable) {
+                searchIndexService.refreshClientType(clientTypeId);
+            }
         } catch (ClientNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -154,6 +187,7 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
             updateFieldDisplayOrders(dto, fieldMap);
             
             fieldRepository.saveAll(fields);
+            fieldRegistry.invalidate(clientTypeId);
         } catch (ClientException | ClientNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -192,6 +226,11 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
     }
     
     
+    private ClientTypeField loadFieldForUpdate(@NonNull Long fieldId) {
+        return fieldRepository.findByIdWithListValues(fieldId)
+                .orElseThrow(() -> new ClientNotFoundException("Field not found with id: " + fieldId));
+    }
+
     private Map<Long, ClientTypeField> buildFieldMap(@NonNull List<ClientTypeField> fields) {
         return fields.stream()
                 .filter(field -> field.getId() != null)
@@ -216,10 +255,25 @@ public class ClientTypeFieldService implements IClientTypeFieldService {
         }
     }
     
+    private boolean affectsSearchIndex(boolean wasSearchable, @NonNull ClientTypeField field,
+                                       @NonNull ClientTypeFieldUpdateDTO dto) {
+        boolean isSearchable = Boolean.TRUE.equals(field.getIsSearchable());
+        if (wasSearchable != isSearchable) {
+            return true;
+        }
+        return isSearchable && dto.getListValues() != null;
+    }
+    
     private List<ClientTypeFieldDTO> mapFieldsToDTOs(@NonNull List<ClientTypeField> fields) {
         return fields.stream()
                 .map(ClientTypeFieldMapper::toDTO)
                 .collect(Collectors.toList());
     }
     
+    private List<ClientTypeField> toEntities(@NonNull List<ClientTypeFieldDefinition> fields) {
+        return fields.stream()
+                .map(ClientTypeFieldDefinition::toEntity)
+                .collect(Collectors.toList());
+    }
+    
 }
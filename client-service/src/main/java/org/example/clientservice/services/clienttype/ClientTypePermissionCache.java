@@ -0,0 +1,74 @@
+package org.example.clientservice.services.clienttype;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.models.clienttype.ClientTypePermissionSnapshot;
+import org.example.clientservice.models.dto.clienttype.ClientTypePermissionCacheStatsDTO;
+import org.example.clientservice.repositories.clienttype.ClientTypePermissionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class ClientTypePermissionCache {
+
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    private final ClientTypePermissionRepository permissionRepository;
+    private final Cache<Long, ClientTypePermissionSnapshot> snapshots;
+
+    public ClientTypePermissionCache(ClientTypePermissionRepository permissionRepository,
+                                     @Value("${client.permission-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.permissionRepository = permissionRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    @NonNull
+    public ClientTypePermissionSnapshot getSnapshot(@NonNull Long userId) {
+        return snapshots.get(userId, this::load);
+    }
+
+    public void invalidate(@NonNull Long userId) {
+        snapshots.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshots.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    @NonNull
+    public ClientTypePermissionCacheStatsDTO getStats() {
+        CacheStats stats = snapshots.stats();
+        ClientTypePermissionCacheStatsDTO dto = new ClientTypePermissionCacheStatsDTO();
+        dto.setSize(snapshots.estimatedSize());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setAverageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0);
+        return dto;
+    }
+
+    private ClientTypePermissionSnapshot load(@NonNull Long userId) {
+        ClientTypePermissionSnapshot snapshot =
+                ClientTypePermissionSnapshot.of(permissionRepository.findFlagsByUserId(userId));
+        log.debug("Loaded permission snapshot for user {}: {} viewable, {} editable client types",
+                userId, snapshot.viewableClientTypeIds().length, snapshot.editableClientTypeIds().length);
+        return snapshot;
+    }
+}
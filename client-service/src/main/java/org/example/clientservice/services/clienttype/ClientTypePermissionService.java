@@ -8,6 +8,8 @@ import org.example.clientservice.exceptions.client.ClientNotFoundException;
 import org.example.clientservice.mappers.clienttype.ClientTypePermissionMapper;
 import org.example.clientservice.models.clienttype.ClientType;
 import org.example.clientservice.models.clienttype.ClientTypePermission;
+import org.example.clientservice.models.clienttype.ClientTypePermissionSnapshot;
+import org.example.clientservice.models.dto.clienttype.ClientTypePermissionCacheStatsDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionCreateDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionUpdateDTO;
@@ -34,6 +36,7 @@ public class ClientTypePermissionService implements IClientTypePermissionService
     private final ClientTypePermissionRepository permissionRepository;
     private final IClientTypeService clientTypeService;
     private final ClientTypePermissionMapper permissionMapper;
+    private final ClientTypePermissionCache permissionCache;
 
     @Override
     @Transactional
@@ -52,7 +55,9 @@ public class ClientTypePermissionService implements IClientTypePermissionService
             }
 
             ClientTypePermission permission = buildPermission(dto, clientType);
-            return permissionRepository.save(permission);
+            ClientTypePermission saved = permissionRepository.save(permission);
+            permissionCache.invalidate(dto.getUserId());
+            return saved;
         } catch (ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -73,7 +78,9 @@ public class ClientTypePermissionService implements IClientTypePermissionService
         try {
             ClientTypePermission permission = getPermission(clientTypeId, userId);
             updatePermissionFields(permission, dto);
-            return permissionRepository.save(permission);
+            ClientTypePermission saved = permissionRepository.save(permission);
+            permissionCache.invalidate(userId);
+            return saved;
         } catch (ClientNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -104,10 +111,22 @@ public class ClientTypePermissionService implements IClientTypePermissionService
         return permissionRepository.findByUserId(userId);
     }
 
+    @Override
+    @NonNull
+    public ClientTypePermissionSnapshot getPermissionSnapshot(@NonNull Long userId) {
+        return permissionCache.getSnapshot(userId);
+    }
+
+    @Override
+    @NonNull
+    public ClientTypePermissionCacheStatsDTO getPermissionCacheStats() {
+        return permissionCache.getStats();
+    }
+
     @Override
     public boolean canUserView(@NonNull Long userId, @NonNull Long clientTypeId) {
         try {
-            return permissionRepository.findViewPermission(userId, clientTypeId).isPresent();
+            return permissionCache.getSnapshot(userId).canView(clientTypeId);
         } catch (Exception e) {
             log.warn("Error checking view permission for user {} and client type {}: {}", 
                     userId, clientTypeId, e.getMessage());
@@ -122,7 +141,13 @@ public class ClientTypePermissionService implements IClientTypePermissionService
 
     @Override
     public boolean canUserEdit(@NonNull Long userId, @NonNull Long clientTypeId) {
-        return checkUserPermission(userId, clientTypeId, ClientTypePermission::getCanEdit);
+        try {
+            return permissionCache.getSnapshot(userId).canEdit(clientTypeId);
+        } catch (Exception e) {
+            log.warn("Error checking edit permission for user {} and client type {}: {}", 
+                    userId, clientTypeId, e.getMessage());
+            return false;
+        }
     }
 
     @Override
@@ -159,6 +184,7 @@ public class ClientTypePermissionService implements IClientTypePermissionService
         try {
             ClientTypePermission permission = getPermission(clientTypeId, userId);
             permissionRepository.delete(permission);
+            permissionCache.invalidate(userId);
         } catch (ClientNotFoundException e) {
             throw e;
         } catch (Exception e) {
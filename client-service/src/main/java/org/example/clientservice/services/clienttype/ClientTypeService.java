@@ -43,6 +43,7 @@ public class ClientTypeService implements IClientTypeService {
     private final ClientTypeMapper clientTypeMapper;
     private final ClientTypeFieldListValueRepository listValueRepository;
     private final ObjectMapper objectMapper;
+    private final ClientTypeFieldRegistry fieldRegistry;
 
     @Override
     @Transactional
@@ -81,7 +82,9 @@ public class ClientTypeService implements IClientTypeService {
             }
             
             clientTypeMapper.updateClientTypeFromDTO(clientType, dto);
-            return clientTypeRepository.save(clientType);
+            ClientType savedClientType = clientTypeRepository.save(clientType);
+            fieldRegistry.invalidate(id);
+            return savedClientType;
         } catch (ClientNotFoundException | ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -143,6 +146,7 @@ public class ClientTypeService implements IClientTypeService {
             }
             
             clientTypeRepository.delete(clientType);
+            fieldRegistry.invalidate(id);
         } catch (ClientNotFoundException | ClientException e) {
             throw e;
         } catch (Exception e) {
@@ -182,6 +186,7 @@ public class ClientTypeService implements IClientTypeService {
             String configJson = objectMapper.writeValueAsString(config);
             clientType.setStaticFieldsConfig(configJson);
             clientTypeRepository.save(clientType);
+            fieldRegistry.invalidate(id);
             return config;
         } catch (ClientNotFoundException e) {
             throw e;
@@ -1,10 +1,11 @@
 package org.example.clientservice.services.impl;
 
 import lombok.NonNull;
+import org.example.clientservice.models.dto.client.ClientImportJobDTO;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface IClientImportService {
     byte[] generateTemplate(@NonNull Long clientTypeId);
-    String importClients(@NonNull Long clientTypeId, @NonNull MultipartFile file);
+    ClientImportJobDTO submitImport(@NonNull Long clientTypeId, @NonNull MultipartFile file);
+    ClientImportJobDTO getImportJob(@NonNull Long jobId);
 }
-
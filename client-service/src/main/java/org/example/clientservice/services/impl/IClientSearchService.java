@@ -1,12 +1,15 @@
 package org.example.clientservice.services.impl;
 
 import lombok.NonNull;
+import org.example.clientservice.models.client.CursorPageResponse;
 import org.example.clientservice.models.client.PageResponse;
+import org.example.clientservice.models.dto.client.ClientChangeDTO;
 import org.example.clientservice.models.dto.client.ClientDTO;
 import org.example.clientservice.models.dto.client.ClientListDTO;
 import org.example.clientservice.models.dto.client.ClientSearchRequest;
 import org.springframework.data.domain.Sort;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +17,10 @@ public interface IClientSearchService {
     PageResponse<ClientDTO> searchClients(String query, int size, int page, String sortProperty,
                                           Sort.Direction sortDirection, String filtersJson, Long clientTypeId);
 
+    CursorPageResponse<ClientDTO> searchClientsByCursor(String query, int size, String cursor, String sortProperty,
+                                                        Sort.Direction sortDirection, String filtersJson,
+                                                        Long clientTypeId, boolean includeTotal);
+
     List<ClientListDTO> searchClientsForPurchase(@NonNull ClientSearchRequest request);
 
     List<Map<Long, String>> searchIdsClient(@NonNull List<Long> ids);
@@ -21,4 +28,6 @@ public interface IClientSearchService {
     List<Long> searchClientIds(@NonNull ClientSearchRequest request);
     
     List<ClientDTO> getClientsByIds(@NonNull List<Long> clientIds);
+
+    List<ClientChangeDTO> getClientChanges(@NonNull LocalDateTime changedAfter, @NonNull Long afterId, int limit);
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package org.example.clientservice.services.impl;
 
 import lombok.NonNull;
 import org.example.clientservice.models.clienttype.ClientTypePermission;
+import org.example.clientservice.models.clienttype.ClientTypePermissionSnapshot;
+import org.example.clientservice.models.dto.clienttype.ClientTypePermissionCacheStatsDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionCreateDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionDTO;
 import org.example.clientservice.models.dto.clienttype.ClientTypePermissionUpdateDTO;
@@ -24,6 +26,12 @@ public interface IClientTypePermissionService {
     @NonNull
     List<ClientTypePermission> getPermissionsByUserId(@NonNull Long userId);
     
+    @NonNull
+    ClientTypePermissionSnapshot getPermissionSnapshot(@NonNull Long userId);
+    
+    @NonNull
+    ClientTypePermissionCacheStatsDTO getPermissionCacheStats();
+    
     @NonNull
     List<ClientTypePermissionDTO> getMyPermissions();
     
@@ -4,6 +4,7 @@ import jakarta.persistence.criteria.*;
 import lombok.extern.slf4j.Slf4j;
 import org.example.clientservice.models.client.Client;
 import org.example.clientservice.models.clienttype.ClientFieldValue;
+import org.example.clientservice.models.clienttype.ClientTypeFieldDefinition;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,59 +15,22 @@ import java.util.stream.Collectors;
 
 import static org.example.clientservice.spec.ClientSubqueryBuilder.buildWherePredicates;
 import static org.example.clientservice.spec.ClientSubqueryBuilder.createFieldValueSubquery;
+import static org.example.clientservice.spec.ClientSubqueryBuilder.createFieldValueSubqueryWithoutJoins;
 import static org.example.clientservice.spec.ClientFilterValueParser.*;
 
 @Slf4j
 public class ClientDynamicFieldFilterBuilder {
 
-    private static final String FIELD_CLIENT = "client";
     private static final String FIELD_ID = "id";
+    private static final String FIELD_FIELD = "field";
     private static final String FIELD_FIELD_NAME = "fieldName";
     private static final String FIELD_VALUE_TEXT = "valueText";
     private static final String FIELD_VALUE_BOOLEAN = "valueBoolean";
     private static final String FIELD_VALUE_DATE = "valueDate";
     private static final String FIELD_VALUE_NUMBER = "valueNumber";
     private static final String FIELD_VALUE_LIST = "valueList";
-    private static final String FIELD_VALUE = "value";
     private static final String VALUE_TRUE = "true";
 
-    public static Predicate addDynamicFieldSearchPredicate(Root<Client> root, CriteriaQuery<?> query, 
-                                                          CriteriaBuilder criteriaBuilder,
-                                                          Predicate keywordPredicate,
-                                                          String searchQuery,
-                                                          Long clientTypeId) {
-        SubqueryContext subqueryContext = createFieldValueSubquery(query);
-        
-        Predicate clientPredicate = criteriaBuilder.equal(subqueryContext.fieldValueRoot().get(FIELD_CLIENT), root);
-        Predicate searchablePredicate = criteriaBuilder.isTrue(subqueryContext.fieldJoin().get("isSearchable").as(Boolean.class));
-        List<Predicate> basePredicates = buildBasePredicates(
-                criteriaBuilder, subqueryContext, clientPredicate, searchablePredicate, clientTypeId);
-
-        String searchPattern = createSearchPattern(searchQuery);
-
-        Predicate textSearchPredicate = criteriaBuilder.like(
-                criteriaBuilder.lower(subqueryContext.fieldValueRoot().get(FIELD_VALUE_TEXT)),
-                searchPattern
-        );
-
-        Join<ClientFieldValue, ?> valueListJoin = subqueryContext.fieldValueRoot().join(
-                FIELD_VALUE_LIST, jakarta.persistence.criteria.JoinType.LEFT);
-        Predicate listValueSearchPredicate = criteriaBuilder.like(
-                criteriaBuilder.lower(valueListJoin.get(FIELD_VALUE)),
-                searchPattern
-        );
-
-        Predicate dynamicFieldPredicate = criteriaBuilder.or(textSearchPredicate, listValueSearchPredicate);
-        basePredicates.add(dynamicFieldPredicate);
-        
-        subqueryContext.subquery().where(criteriaBuilder.and(basePredicates.toArray(new Predicate[0])));
-        
-        return criteriaBuilder.or(
-                keywordPredicate,
-                criteriaBuilder.exists(subqueryContext.subquery())
-        );
-    }
-
     public static Predicate addDynamicFieldFilter(Predicate predicate, Root<Client> root, CriteriaQuery<?> query,
                                                  CriteriaBuilder criteriaBuilder, String fieldName, 
                                                  List<String> values, Long clientTypeId) {
@@ -109,13 +73,43 @@ public class ClientDynamicFieldFilterBuilder {
         return applyRangeFilter(predicate, root, criteriaBuilder, context, values, fieldId, isFrom);
     }
 
+    public static Predicate addKnownFieldFilter(Predicate predicate, Root<Client> root, CriteriaQuery<?> query,
+                                                CriteriaBuilder criteriaBuilder, ClientTypeFieldDefinition field,
+                                                List<String> values) {
+        FilterContext context = createKnownFieldFilterContext(query, values, predicate, field, criteriaBuilder);
+        if (context == null) {
+            return predicate;
+        }
+
+        return applyValueFilterPredicate(predicate, root, criteriaBuilder, context.subqueryContext(),
+                context.basePredicates(), values, resolveFieldType(field, values));
+    }
+
+    public static Predicate addKnownFieldRangeFilter(Predicate predicate, Root<Client> root, CriteriaQuery<?> query,
+                                                     CriteriaBuilder criteriaBuilder, ClientTypeFieldDefinition field,
+                                                     List<String> values, boolean isFrom) {
+        FilterContext context = createKnownFieldFilterContext(query, values, predicate, field, criteriaBuilder);
+        if (context == null) {
+            return predicate;
+        }
+
+        return applyRangeFilter(predicate, root, criteriaBuilder, context, values, field.id(), isFrom);
+    }
+
     private static Predicate applyValueFilterPredicate(Predicate predicate, Root<Client> root, 
                                                      CriteriaBuilder criteriaBuilder,
                                                      SubqueryContext subqueryContext, 
                                                      List<Predicate> basePredicates, 
                                                      List<String> values) {
-        FieldType fieldType = determineFieldType(values);
-        
+        return applyValueFilterPredicate(predicate, root, criteriaBuilder, subqueryContext, basePredicates, values,
+                determineFieldType(values));
+    }
+
+    private static Predicate applyValueFilterPredicate(Predicate predicate, Root<Client> root,
+                                                     CriteriaBuilder criteriaBuilder,
+                                                     SubqueryContext subqueryContext,
+                                                     List<Predicate> basePredicates,
+                                                     List<String> values, FieldType fieldType) {
         return switch (fieldType) {
             case BOOLEAN -> applyBooleanFilter(predicate, root, criteriaBuilder, subqueryContext, basePredicates, values);
             case LIST -> applyListFilter(predicate, root, criteriaBuilder, subqueryContext, basePredicates, values);
@@ -124,6 +118,15 @@ public class ClientDynamicFieldFilterBuilder {
         };
     }
 
+    private static FieldType resolveFieldType(ClientTypeFieldDefinition field, List<String> values) {
+        return switch (field.fieldType()) {
+            case BOOLEAN -> FieldType.BOOLEAN;
+            case LIST -> FieldType.LIST;
+            case TEXT, PHONE -> FieldType.TEXT;
+            default -> determineFieldType(values);
+        };
+    }
+
     private static FieldType determineFieldType(List<String> values) {
         if (values == null || values.isEmpty()) {
             return FieldType.UNKNOWN;
@@ -186,6 +189,20 @@ public class ClientDynamicFieldFilterBuilder {
         return new FilterContext(subqueryContext, basePredicates, predicate);
     }
 
+    private static FilterContext createKnownFieldFilterContext(CriteriaQuery<?> query, List<String> values,
+                                                               Predicate predicate, ClientTypeFieldDefinition field,
+                                                               CriteriaBuilder criteriaBuilder) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        SubqueryContext subqueryContext = createFieldValueSubqueryWithoutJoins(query);
+        Predicate fieldIdPredicate = criteriaBuilder.equal(
+                subqueryContext.fieldValueRoot().get(FIELD_FIELD).get(FIELD_ID), field.id());
+
+        return new FilterContext(subqueryContext, new ArrayList<>(List.of(fieldIdPredicate)), predicate);
+    }
+
     private static Predicate applyRangeFilter(Predicate predicate, Root<Client> root, CriteriaBuilder criteriaBuilder,
                                              FilterContext context, List<String> values, Long fieldId, boolean isFrom) {
         try {
@@ -0,0 +1,54 @@
+package org.example.clientservice.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.NonNull;
+import org.example.clientservice.models.client.Client;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public class ClientKeysetSpecification<T extends Comparable<? super T>> implements Specification<Client> {
+    private static final String FIELD_ID = "id";
+
+    private final String sortAttribute;
+    private final Sort.Direction direction;
+    private final T lastValue;
+    private final Long lastId;
+
+    public ClientKeysetSpecification(@NonNull String sortAttribute, @NonNull Sort.Direction direction,
+                                     T lastValue, @NonNull Long lastId) {
+        this.sortAttribute = sortAttribute;
+        this.direction = direction;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    @Override
+    public Predicate toPredicate(@NonNull Root<Client> root, CriteriaQuery<?> query, @NonNull CriteriaBuilder criteriaBuilder) {
+        Path<T> sortPath = root.get(sortAttribute);
+        Path<Long> idPath = root.get(FIELD_ID);
+
+        Predicate idAfter = direction.isAscending()
+                ? criteriaBuilder.greaterThan(idPath, lastId)
+                : criteriaBuilder.lessThan(idPath, lastId);
+
+        if (lastValue == null) {
+            Predicate sameNullValue = criteriaBuilder.and(criteriaBuilder.isNull(sortPath), idAfter);
+            return direction.isAscending()
+                    ? criteriaBuilder.or(sameNullValue, criteriaBuilder.isNotNull(sortPath))
+                    : sameNullValue;
+        }
+
+        Predicate valueAfter = direction.isAscending()
+                ? criteriaBuilder.greaterThan(sortPath, lastValue)
+                : criteriaBuilder.lessThan(sortPath, lastValue);
+        Predicate sameValue = criteriaBuilder.and(criteriaBuilder.equal(sortPath, lastValue), idAfter);
+
+        return direction.isAscending()
+                ? criteriaBuilder.or(valueAfter, sameValue)
+                : criteriaBuilder.or(valueAfter, sameValue, criteriaBuilder.isNull(sortPath));
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.clientservice.spec;
+
+import jakarta.persistence.criteria.*;
+import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.client.ClientSearchIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.clientservice.config.MySqlFunctionContributor.MATCH_AGAINST;
+import static org.example.clientservice.spec.ClientFilterValueParser.createSearchPattern;
+
+public class ClientSearchIndexPredicateBuilder {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CLIENT_ID = "clientId";
+    private static final String FIELD_CLIENT_TYPE_ID = "clientTypeId";
+    private static final String FIELD_SEARCH_TEXT = "searchText";
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final double MIN_RELEVANCE = 0.0;
+    private static final String PHRASE_QUOTE = "\"";
+    private static final String WHITESPACE_REGEX = "\\s+";
+
+    public static Predicate createIndexedKeywordPredicate(Root<Client> root, CriteriaQuery<?> query,
+                                                          CriteriaBuilder criteriaBuilder,
+                                                          String searchQuery,
+                                                          Long clientTypeId) {
+        Subquery<Long> indexSubquery = query.subquery(Long.class);
+        Root<ClientSearchIndex> indexRoot = indexSubquery.from(ClientSearchIndex.class);
+        indexSubquery.select(indexRoot.get(FIELD_CLIENT_ID));
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        String fullTextQuery = buildFullTextQuery(searchQuery);
+        if (fullTextQuery != null) {
+            predicates.add(criteriaBuilder.greaterThan(
+                    criteriaBuilder.function(MATCH_AGAINST, Double.class,
+                            indexRoot.get(FIELD_SEARCH_TEXT), criteriaBuilder.literal(fullTextQuery)),
+                    MIN_RELEVANCE));
+        }
+
+        predicates.add(criteriaBuilder.like(indexRoot.get(FIELD_SEARCH_TEXT), createSearchPattern(searchQuery)));
+
+        if (clientTypeId != null) {
+            predicates.add(criteriaBuilder.equal(indexRoot.get(FIELD_CLIENT_TYPE_ID), clientTypeId));
+        }
+
+        indexSubquery.where(criteriaBuilder.and(predicates.toArray(new Predicate[0])));
+
+        return root.get(FIELD_ID).in(indexSubquery);
+    }
+
+    static String buildFullTextQuery(String searchQuery) {
+        String phrase = searchQuery.toLowerCase().replace(PHRASE_QUOTE, " ").trim();
+        if (phrase.isEmpty()) {
+            return null;
+        }
+
+        for (String word : phrase.split(WHITESPACE_REGEX)) {
+            if (word.length() < NGRAM_TOKEN_SIZE) {
+                return null;
+            }
+        }
+
+        return PHRASE_QUOTE + phrase + PHRASE_QUOTE;
+    }
+}
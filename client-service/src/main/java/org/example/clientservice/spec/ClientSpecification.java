@@ -4,6 +4,8 @@ import jakarta.persistence.criteria.*;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.clienttype.ClientTypeFieldDefinition;
+import org.example.clientservice.models.clienttype.ClientTypeFieldSnapshot;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
@@ -13,7 +15,6 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.example.clientservice.spec.ClientFilterValueParser.*;
-import static org.example.clientservice.spec.ClientDynamicFieldFilterBuilder.*;
 
 @Slf4j
 public class ClientSpecification implements Specification<Client> {
@@ -24,7 +25,6 @@ public class ClientSpecification implements Specification<Client> {
     private static final String FIELD_CLIENT_TYPE = "clientType";
     private static final String FIELD_IS_ACTIVE = "isActive";
     private static final String FIELD_ID = "id";
-    private static final String FIELD_COMPANY = "company";
     private static final String FIELD_SOURCE_ID = "sourceId";
     private static final String FIELD_CREATED_AT = "createdAt";
     private static final String FIELD_UPDATED_AT = "updatedAt";
@@ -48,22 +48,32 @@ public class ClientSpecification implements Specification<Client> {
     private final List<Long> sourceIds;
     private final Long clientTypeId;
     private final List<Long> allowedClientTypeIds;
+    private final ClientTypeFieldSnapshot fieldSnapshot;
 
     public ClientSpecification(String query, Map<String, List<String>> filterParams,
                                List<Long> sourceIds,
                                Long clientTypeId) {
-        this(query, filterParams, sourceIds, clientTypeId, null);
+        this(query, filterParams, sourceIds, clientTypeId, null, null);
     }
 
     public ClientSpecification(String query, Map<String, List<String>> filterParams,
                                List<Long> sourceIds,
                                Long clientTypeId,
                                List<Long> allowedClientTypeIds) {
+        this(query, filterParams, sourceIds, clientTypeId, allowedClientTypeIds, null);
+    }
+
+    public ClientSpecification(String query, Map<String, List<String>> filterParams,
+                               List<Long> sourceIds,
+                               Long clientTypeId,
+                               List<Long> allowedClientTypeIds,
+                               ClientTypeFieldSnapshot fieldSnapshot) {
         this.query = query;
         this.filterParams = filterParams;
         this.sourceIds = sourceIds;
         this.clientTypeId = clientTypeId;
         this.allowedClientTypeIds = allowedClientTypeIds;
+        this.fieldSnapshot = fieldSnapshot;
     }
 
     @Override
@@ -153,20 +163,10 @@ public class ClientSpecification implements Specification<Client> {
 
     private Predicate createKeywordPredicate(Root<Client> root, CriteriaQuery<?> query,
                                              CriteriaBuilder criteriaBuilder) {
-        String searchPattern = createSearchPattern(this.query);
-        
-        Predicate keywordPredicate = criteriaBuilder.or(
-                criteriaBuilder.like(
-                        criteriaBuilder.toString(root.get(FIELD_ID)), searchPattern),
-                criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get(FIELD_COMPANY)), searchPattern)
-        );
-
-        keywordPredicate = addJoinPredicates(root, criteriaBuilder, keywordPredicate);
-        keywordPredicate = addDynamicFieldSearchPredicate(root, query, criteriaBuilder, keywordPredicate, 
-                this.query, clientTypeId);
+        Predicate keywordPredicate = ClientSearchIndexPredicateBuilder.createIndexedKeywordPredicate(
+                root, query, criteriaBuilder, this.query, clientTypeId);
 
-        return keywordPredicate;
+        return addJoinPredicates(root, criteriaBuilder, keywordPredicate);
     }
 
     private Predicate addJoinPredicates(Root<Client> root, CriteriaBuilder criteriaBuilder,
@@ -196,7 +196,10 @@ public class ClientSpecification implements Specification<Client> {
             } else if (key.startsWith(FIELD_PREFIX)) {
                 predicate = applyDynamicFieldFilter(predicate, root, query, criteriaBuilder, key, values);
             } else if (isDynamicFieldKey(key)) {
-                predicate = addDynamicFieldFilter(predicate, root, query, criteriaBuilder, key, values, clientTypeId);
+                ClientTypeFieldDefinition knownField = findKnownFieldByName(key);
+                predicate = knownField != null
+                        ? ClientDynamicFieldFilterBuilder.addKnownFieldFilter(predicate, root, query, criteriaBuilder, knownField, values)
+                        : addDynamicFieldFilter(predicate, root, query, criteriaBuilder, key, values, clientTypeId);
             }
         }
 
@@ -241,6 +244,18 @@ public class ClientSpecification implements Specification<Client> {
         return predicate;
     }
 
+    private ClientTypeFieldDefinition findKnownField(Long fieldId) {
+        return fieldSnapshot != null && fieldSnapshot.clientTypeId().equals(clientTypeId)
+                ? fieldSnapshot.findById(fieldId)
+                : null;
+    }
+
+    private ClientTypeFieldDefinition findKnownFieldByName(String fieldName) {
+        return fieldSnapshot != null && fieldSnapshot.clientTypeId().equals(clientTypeId)
+                ? fieldSnapshot.findByName(fieldName)
+                : null;
+    }
+
 
     private Predicate addSourceIdFilter(Predicate predicate, Root<Client> root, CriteriaBuilder criteriaBuilder,
                                        List<String> values) {
@@ -272,6 +287,11 @@ public class ClientSpecification implements Specification<Client> {
     private Predicate addDynamicFieldFilterById(Predicate predicate, Root<Client> root, CriteriaQuery<?> query,
                                                 CriteriaBuilder criteriaBuilder, Long fieldId, List<String> values, 
                                                 Long clientTypeId) {
+        ClientTypeFieldDefinition knownField = findKnownField(fieldId);
+        if (knownField != null) {
+            return ClientDynamicFieldFilterBuilder.addKnownFieldFilter(
+                    predicate, root, query, criteriaBuilder, knownField, values);
+        }
         return ClientDynamicFieldFilterBuilder.addDynamicFieldFilterById(
                 predicate, root, query, criteriaBuilder, fieldId, values, clientTypeId);
     }
@@ -279,6 +299,11 @@ public class ClientSpecification implements Specification<Client> {
     private Predicate addDynamicFieldRangeFilter(Predicate predicate, Root<Client> root, CriteriaQuery<?> query,
                                                 CriteriaBuilder criteriaBuilder, Long fieldId, List<String> values, 
                                                 Long clientTypeId, boolean isFrom) {
+        ClientTypeFieldDefinition knownField = findKnownField(fieldId);
+        if (knownField != null) {
+            return ClientDynamicFieldFilterBuilder.addKnownFieldRangeFilter(
+                    predicate, root, query, criteriaBuilder, knownField, values, isFrom);
+        }
         return ClientDynamicFieldFilterBuilder.addDynamicFieldRangeFilter(
                 predicate, root, query, criteriaBuilder, fieldId, values, clientTypeId, isFrom);
     }
@@ -26,6 +26,15 @@ public class ClientSubqueryBuilder {
         return new SubqueryContext(fieldValueSubquery, fieldValueRoot, fieldJoin, clientTypeJoin);
     }
 
+    public static SubqueryContext createFieldValueSubqueryWithoutJoins(CriteriaQuery<?> query) {
+        Subquery<Long> fieldValueSubquery = query.subquery(Long.class);
+        Root<ClientFieldValue> fieldValueRoot = fieldValueSubquery.from(ClientFieldValue.class);
+
+        fieldValueSubquery.select(fieldValueRoot.get(FIELD_CLIENT).get(FIELD_ID));
+
+        return new SubqueryContext(fieldValueSubquery, fieldValueRoot, null, null);
+    }
+
     public static List<Predicate> buildWherePredicates(List<Predicate> basePredicates, 
                                                        Root<ClientFieldValue> fieldValueRoot,
                                                        Root<Client> root, 
@@ -0,0 +1,23 @@
+SET SESSION innodb_ft_enable_stopword = OFF;
+SET SESSION group_concat_max_len = 1048576;
+
+CREATE TABLE client_search_index (
+    client_id BIGINT NOT NULL PRIMARY KEY,
+    client_type_id BIGINT NULL,
+    search_text MEDIUMTEXT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_client_search_index_client FOREIGN KEY (client_id) REFERENCES clients (id) ON DELETE CASCADE,
+    INDEX idx_client_search_index_client_type (client_type_id),
+    FULLTEXT INDEX ft_client_search_index_text (search_text) WITH PARSER ngram
+) ENGINE = InnoDB;
+
+INSERT INTO client_search_index (client_id, client_type_id, search_text, updated_at)
+SELECT c.id, c.client_type_id,
+       LOWER(CONCAT_WS('\n', c.id, c.company,
+           GROUP_CONCAT(COALESCE(lv.value, v.value_text) ORDER BY v.field_id, v.display_order SEPARATOR '\n'))),
+       NOW()
+FROM clients c
+LEFT JOIN client_field_values v ON v.client_id = c.id
+    AND v.field_id IN (SELECT f.id FROM client_type_fields f WHERE f.is_searchable = TRUE)
+LEFT JOIN client_type_field_list_values lv ON lv.id = v.value_list_id
+GROUP BY c.id, c.client_type_id, c.company;
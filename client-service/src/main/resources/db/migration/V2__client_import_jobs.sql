@@ -0,0 +1,18 @@
+CREATE TABLE client_import_jobs (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    client_type_id BIGINT NOT NULL,
+    user_id BIGINT NULL,
+    file_name VARCHAR(255) NULL,
+    status VARCHAR(20) NOT NULL,
+    total_rows INT NOT NULL DEFAULT 0,
+    parsed_rows INT NOT NULL DEFAULT 0,
+    saved_rows INT NOT NULL DEFAULT 0,
+    failed_rows INT NOT NULL DEFAULT 0,
+    errors MEDIUMTEXT NULL,
+    message VARCHAR(1000) NULL,
+    created_at DATETIME(6) NULL,
+    started_at DATETIME(6) NULL,
+    finished_at DATETIME(6) NULL,
+    INDEX idx_client_import_jobs_status (status),
+    INDEX idx_client_import_jobs_user (user_id, created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+CREATE INDEX idx_clients_type_active_updated ON clients (client_type_id, is_active, updated_at, id);
+CREATE INDEX idx_clients_type_active_created ON clients (client_type_id, is_active, created_at, id);
+CREATE INDEX idx_clients_type_active_company ON clients (client_type_id, is_active, company, id);
+CREATE INDEX idx_clients_type_active_source ON clients (client_type_id, is_active, source_id, id);
@@ -0,0 +1,3 @@
+UPDATE clients SET updated_at = COALESCE(created_at, NOW()) WHERE updated_at IS NULL;
+
+CREATE INDEX idx_clients_updated_id ON clients (updated_at, id);
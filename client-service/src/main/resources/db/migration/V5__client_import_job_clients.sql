@@ -0,0 +1,5 @@
+CREATE TABLE client_import_job_clients (
+    job_id BIGINT NOT NULL,
+    client_id BIGINT NOT NULL,
+    PRIMARY KEY (job_id, client_id)
+) ENGINE = InnoDB;
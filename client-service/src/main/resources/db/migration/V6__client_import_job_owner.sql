@@ -0,0 +1,8 @@
+ALTER TABLE client_import_jobs
+    ADD COLUMN owner_id VARCHAR(64) NULL,
+    ADD COLUMN heartbeat_at DATETIME(6) NULL;
+
+UPDATE client_import_jobs SET heartbeat_at = COALESCE(started_at, created_at)
+WHERE status IN ('QUEUED', 'VALIDATING', 'SAVING');
+
+CREATE INDEX idx_client_import_jobs_heartbeat ON client_import_jobs (status, heartbeat_at);
@@ -0,0 +1,6 @@
+ALTER TABLE clients
+    ADD COLUMN changed_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_clients_changed_id ON clients (changed_at, id);
+
+DROP INDEX idx_clients_updated_id ON clients;
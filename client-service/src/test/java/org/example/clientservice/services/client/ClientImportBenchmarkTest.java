@@ -0,0 +1,162 @@
+package org.example.clientservice.services.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.example.clientservice.models.client.Client;
+import org.example.clientservice.models.client.ClientImportJobStatus;
+import org.example.clientservice.models.clienttype.ClientType;
+import org.example.clientservice.models.dto.client.ClientImportJobDTO;
+import org.example.clientservice.services.impl.IClientCrudService;
+import org.example.clientservice.services.impl.IClientImportService;
+import org.example.clientservice.services.impl.IClientTypeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Client import throughput for a generated workbook, batched writer against the per-row path it replaced. Seeds the
+ * configured database, so it only runs with {@code -Dclient.import.benchmark=true};
+ * {@code client.import.benchmark.rows} and {@code client.import.benchmark.per-row-rows} override the sizes.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "client.import.benchmark", matches = "true")
+class ClientImportBenchmarkTest {
+
+    private static final int ROW_COUNT = Integer.getInteger("client.import.benchmark.rows", 50_000);
+    private static final int PER_ROW_COUNT = Integer.getInteger("client.import.benchmark.per-row-rows", ROW_COUNT);
+    private static final long JOB_TIMEOUT_MS = Long.getLong("client.import.benchmark.timeout-ms", 600_000L);
+    private static final long POLL_INTERVAL_MS = 200L;
+    private static final String COMPANY_LABEL = "Компанія";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IClientImportService clientImportService;
+
+    @Autowired
+    private IClientCrudService clientCrudService;
+
+    @Autowired
+    private IClientTypeService clientTypeService;
+
+    private Long clientTypeId;
+
+    @BeforeEach
+    void createClientType() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO client_types (name, name_field_label, is_active, created_at, updated_at) "
+                            + "VALUES (?, ?, TRUE, NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, "import-benchmark-" + System.nanoTime());
+            ps.setString(2, COMPANY_LABEL);
+            return ps;
+        }, keyHolder);
+        clientTypeId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    @AfterEach
+    void removeClients() {
+        if (clientTypeId == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM client_import_job_clients WHERE client_id IN "
+                + "(SELECT id FROM clients WHERE client_type_id = ?)", clientTypeId);
+        jdbcTemplate.update("DELETE FROM clients WHERE client_type_id = ?", clientTypeId);
+        jdbcTemplate.update("DELETE FROM client_import_jobs WHERE client_type_id = ?", clientTypeId);
+        jdbcTemplate.update("DELETE FROM client_types WHERE id = ?", clientTypeId);
+    }
+
+    @Test
+    void batchedImportOutpacesPerRowSaves() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "import-benchmark.xlsx",
+                ClientImportConstants.CONTENT_TYPE_EXCEL_NEW, generateWorkbook(ROW_COUNT));
+
+        long start = System.nanoTime();
+        ClientImportJobDTO job = awaitJob(clientImportService.submitImport(clientTypeId, file).getId());
+        long batchedNanos = System.nanoTime() - start;
+
+        assertEquals(ClientImportJobStatus.COMPLETED, job.getStatus(), job.getMessage());
+        assertEquals(ROW_COUNT, job.getSavedRows());
+
+        ClientType clientType = clientTypeService.getClientTypeById(clientTypeId);
+        start = System.nanoTime();
+        for (int i = 0; i < PER_ROW_COUNT; i++) {
+            Client client = new Client();
+            client.setClientType(clientType);
+            client.setCompany(companyName(i));
+            client.setIsActive(ClientImportConstants.DEFAULT_IS_ACTIVE);
+            clientCrudService.createClient(client);
+        }
+        long perRowNanos = System.nanoTime() - start;
+
+        double batchedRate = rowsPerSecond(ROW_COUNT, batchedNanos);
+        double perRowRate = rowsPerSecond(PER_ROW_COUNT, perRowNanos);
+        log.info("Client import of {} rows: batched writer {} rows/s (including parsing and validation), "
+                        + "per-row saves of {} rows {} rows/s, speedup x{}",
+                ROW_COUNT, String.format("%.0f", batchedRate), PER_ROW_COUNT, String.format("%.0f", perRowRate),
+                String.format("%.1f", batchedRate / perRowRate));
+    }
+
+    private ClientImportJobDTO awaitJob(Long jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MS;
+        while (true) {
+            ClientImportJobDTO job = clientImportService.getImportJob(jobId);
+            if (job.getStatus() == ClientImportJobStatus.COMPLETED || job.getStatus() == ClientImportJobStatus.FAILED) {
+                return job;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(String.format("Import job %d did not finish within %d ms",
+                        jobId, JOB_TIMEOUT_MS));
+            }
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+    }
+
+    private static byte[] generateWorkbook(int rows) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(1000);
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet(ClientImportConstants.SHEET_NAME);
+            Row header = sheet.createRow(ClientImportConstants.HEADER_ROW_INDEX);
+            header.createCell(0).setCellValue(COMPANY_LABEL);
+            header.createCell(1).setCellValue(ClientImportConstants.HEADER_IS_ACTIVE);
+            for (int i = 0; i < rows; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(companyName(i));
+                row.createCell(1).setCellValue(ClientImportConstants.BOOLEAN_TRUE_UA);
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static String companyName(int index) {
+        return "Import benchmark " + index;
+    }
+
+    private static double rowsPerSecond(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.clientservice.services.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.clientservice.services.impl.IClientSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Keyword search latency against a generated client type. Seeds the configured database, so it only runs
+ * with {@code -Dclient.search.benchmark=true}; {@code client.search.benchmark.clients} and
+ * {@code client.search.benchmark.p95-budget-ms} override the size and the latency budget.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "client.search.benchmark", matches = "true")
+class ClientSearchBenchmarkTest {
+
+    private static final int CLIENT_COUNT = Integer.getInteger("client.search.benchmark.clients", 500_000);
+    private static final long P95_BUDGET_MS = Long.getLong("client.search.benchmark.p95-budget-ms", 250L);
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int WARMUP_QUERIES = 20;
+    private static final int MEASURED_QUERIES = 200;
+    private static final int PAGE_SIZE = 50;
+    private static final String[] WORDS = {"агро", "трейд", "зерно", "logistic", "farm", "олія", "капітал", "export"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IClientSearchService clientSearchService;
+
+    @Autowired
+    private ClientSearchIndexService searchIndexService;
+
+    private Long clientTypeId;
+
+    @BeforeEach
+    void seedClients() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO client_types (name, name_field_label, is_active, created_at, updated_at) "
+                            + "VALUES (?, 'Компанія', TRUE, NOW(), NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, "search-benchmark-" + System.nanoTime());
+            return ps;
+        }, keyHolder);
+        clientTypeId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+
+        for (int from = 0; from < CLIENT_COUNT; from += SEED_BATCH_SIZE) {
+            int batchStart = from;
+            int batchEnd = Math.min(from + SEED_BATCH_SIZE, CLIENT_COUNT);
+            String sql = "INSERT INTO clients (client_type_id, company, is_active, created_at, updated_at) VALUES "
+                    + String.join(", ", Collections.nCopies(batchEnd - batchStart, "(?, ?, TRUE, NOW(), NOW())"));
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (int i = batchStart; i < batchEnd; i++) {
+                    ps.setLong(index++, clientTypeId);
+                    ps.setString(index++, companyName(i));
+                }
+            });
+        }
+        searchIndexService.refreshClientType(clientTypeId);
+        log.info("Seeded {} benchmark clients for client type {}", CLIENT_COUNT, clientTypeId);
+    }
+
+    @AfterEach
+    void removeClients() {
+        if (clientTypeId == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM clients WHERE client_type_id = ?", clientTypeId);
+        jdbcTemplate.update("DELETE FROM client_types WHERE id = ?", clientTypeId);
+    }
+
+    @Test
+    void keywordSearchStaysWithinLatencyBudget() {
+        Random random = new Random(42);
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            search(randomQuery(random));
+        }
+
+        List<Long> latencies = new ArrayList<>(MEASURED_QUERIES);
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            String query = randomQuery(random);
+            long start = System.nanoTime();
+            search(query);
+            latencies.add((System.nanoTime() - start) / 1_000_000);
+        }
+        Collections.sort(latencies);
+
+        long p50 = percentile(latencies, 50);
+        long p95 = percentile(latencies, 95);
+        long p99 = percentile(latencies, 99);
+        log.info("Client keyword search over {} clients: p50={} ms, p95={} ms, p99={} ms, max={} ms",
+                CLIENT_COUNT, p50, p95, p99, latencies.getLast());
+
+        assertTrue(p95 <= P95_BUDGET_MS,
+                String.format("p95 latency %d ms exceeds the %d ms budget", p95, P95_BUDGET_MS));
+    }
+
+    private void search(String query) {
+        clientSearchService.searchClients(query, PAGE_SIZE, 0, "updatedAt", Sort.Direction.DESC, null, clientTypeId);
+    }
+
+    private String randomQuery(Random random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> WORDS[random.nextInt(WORDS.length)];
+            case 1 -> WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            default -> String.valueOf(random.nextInt(CLIENT_COUNT));
+        };
+    }
+
+    private static String companyName(int index) {
+        return String.format("%s %s %d", WORDS[index % WORDS.length], WORDS[(index / WORDS.length) % WORDS.length],
+                index);
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.clientservice.services.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.clientservice.exceptions.client.ClientException;
+import org.example.clientservice.models.client.ClientSearchCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientSearchCursorCodecTest {
+
+    private ClientSearchCursorCodec cursorCodec;
+
+    @BeforeEach
+    void setUp() {
+        cursorCodec = new ClientSearchCursorCodec(new ObjectMapper());
+    }
+
+    @Test
+    void roundTripsCursor() {
+        ClientSearchCursor cursor = new ClientSearchCursor("company", Sort.Direction.ASC, "ТОВ \"Агро\" / 5+5", 42L);
+
+        String token = cursorCodec.encode(cursor);
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "Token must be URL-safe and unpadded: " + token);
+        assertEquals(cursor, cursorCodec.decode(token, "company", Sort.Direction.ASC));
+    }
+
+    @Test
+    void roundTripsNullSortValue() {
+        ClientSearchCursor cursor = new ClientSearchCursor("source", Sort.Direction.DESC, null, 7L);
+
+        assertEquals(cursor, cursorCodec.decode(cursorCodec.encode(cursor), "source", Sort.Direction.DESC));
+    }
+
+    @Test
+    void rejectsCursorForDifferentSortProperty() {
+        String token = cursorCodec.encode(new ClientSearchCursor("company", Sort.Direction.ASC, "a", 1L));
+
+        assertInvalidCursor(() -> cursorCodec.decode(token, "updatedAt", Sort.Direction.ASC));
+    }
+
+    @Test
+    void rejectsCursorForDifferentDirection() {
+        String token = cursorCodec.encode(new ClientSearchCursor("company", Sort.Direction.ASC, "a", 1L));
+
+        assertInvalidCursor(() -> cursorCodec.decode(token, "company", Sort.Direction.DESC));
+    }
+
+    @Test
+    void rejectsTokenThatIsNotBase64() {
+        assertInvalidCursor(() -> cursorCodec.decode("not a cursor!", "company", Sort.Direction.ASC));
+    }
+
+    @Test
+    void rejectsTokenThatIsNotJson() {
+        String token = encodeRaw("company,ASC,a,1");
+
+        assertInvalidCursor(() -> cursorCodec.decode(token, "company", Sort.Direction.ASC));
+    }
+
+    @Test
+    void rejectsCursorWithoutId() {
+        String token = encodeRaw("{\"sort\":\"company\",\"direction\":\"ASC\",\"value\":\"a\"}");
+
+        assertInvalidCursor(() -> cursorCodec.decode(token, "company", Sort.Direction.ASC));
+    }
+
+    private static String encodeRaw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalidCursor(Executable decode) {
+        ClientException exception = assertThrows(ClientException.class, decode);
+        assertEquals("INVALID_CURSOR", exception.getErrorCode());
+    }
+}
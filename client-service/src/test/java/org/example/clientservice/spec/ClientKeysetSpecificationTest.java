@@ -0,0 +1,92 @@
+package org.example.clientservice.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.clientservice.models.client.Client;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClientKeysetSpecificationTest {
+
+    private static final String LAST_COMPANY = "agro";
+    private static final Long LAST_ID = 10L;
+
+    private Root<Client> root;
+    private CriteriaBuilder criteriaBuilder;
+    private Path<String> companyPath;
+    private Path<Long> idPath;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        root = mock(Root.class);
+        criteriaBuilder = mock(CriteriaBuilder.class);
+        companyPath = mock(Path.class);
+        idPath = mock(Path.class);
+        when(root.<String>get("company")).thenReturn(companyPath);
+        when(root.<Long>get("id")).thenReturn(idPath);
+    }
+
+    @Test
+    void ascendingSeeksPastLastValueThenLastId() {
+        Predicate idAfter = stub(() -> criteriaBuilder.greaterThan(idPath, LAST_ID));
+        Predicate valueAfter = stub(() -> criteriaBuilder.greaterThan(companyPath, LAST_COMPANY));
+        Predicate sameCompany = stub(() -> criteriaBuilder.equal(companyPath, LAST_COMPANY));
+        Predicate sameValue = stub(() -> criteriaBuilder.and(sameCompany, idAfter));
+        Predicate expected = stub(() -> criteriaBuilder.or(valueAfter, sameValue));
+
+        assertSame(expected, toPredicate(Sort.Direction.ASC, LAST_COMPANY));
+    }
+
+    @Test
+    void descendingAlsoIncludesNullsThatSortLast() {
+        Predicate idBefore = stub(() -> criteriaBuilder.lessThan(idPath, LAST_ID));
+        Predicate valueBefore = stub(() -> criteriaBuilder.lessThan(companyPath, LAST_COMPANY));
+        Predicate sameCompany = stub(() -> criteriaBuilder.equal(companyPath, LAST_COMPANY));
+        Predicate sameValue = stub(() -> criteriaBuilder.and(sameCompany, idBefore));
+        Predicate isNull = stub(() -> criteriaBuilder.isNull(companyPath));
+        Predicate expected = stub(() -> criteriaBuilder.or(valueBefore, sameValue, isNull));
+
+        assertSame(expected, toPredicate(Sort.Direction.DESC, LAST_COMPANY));
+    }
+
+    @Test
+    void ascendingFromNullContinuesThroughNullsThenAllValues() {
+        Predicate idAfter = stub(() -> criteriaBuilder.greaterThan(idPath, LAST_ID));
+        Predicate isNull = stub(() -> criteriaBuilder.isNull(companyPath));
+        Predicate sameNullValue = stub(() -> criteriaBuilder.and(isNull, idAfter));
+        Predicate isNotNull = stub(() -> criteriaBuilder.isNotNull(companyPath));
+        Predicate expected = stub(() -> criteriaBuilder.or(sameNullValue, isNotNull));
+
+        assertSame(expected, toPredicate(Sort.Direction.ASC, null));
+    }
+
+    @Test
+    void descendingFromNullOnlyContinuesThroughNulls() {
+        Predicate idBefore = stub(() -> criteriaBuilder.lessThan(idPath, LAST_ID));
+        Predicate isNull = stub(() -> criteriaBuilder.isNull(companyPath));
+        Predicate expected = stub(() -> criteriaBuilder.and(isNull, idBefore));
+
+        assertSame(expected, toPredicate(Sort.Direction.DESC, null));
+    }
+
+    private Predicate toPredicate(Sort.Direction direction, String lastValue) {
+        return new ClientKeysetSpecification<>("company", direction, lastValue, LAST_ID)
+                .toPredicate(root, null, criteriaBuilder);
+    }
+
+    private static Predicate stub(Supplier<Predicate> call) {
+        Predicate predicate = mock(Predicate.class);
+        when(call.get()).thenReturn(predicate);
+        return predicate;
+    }
+}
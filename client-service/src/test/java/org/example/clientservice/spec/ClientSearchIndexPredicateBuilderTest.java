@@ -0,0 +1,42 @@
+package org.example.clientservice.spec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ClientSearchIndexPredicateBuilderTest {
+
+    @Test
+    void buildsLowerCasedPhraseQuery() {
+        assertEquals("\"agro trade\"", ClientSearchIndexPredicateBuilder.buildFullTextQuery("Agro Trade"));
+    }
+
+    @Test
+    void lowerCasesCyrillicTerms() {
+        assertEquals("\"тов агро\"", ClientSearchIndexPredicateBuilder.buildFullTextQuery("ТОВ Агро"));
+    }
+
+    @Test
+    void replacesEmbeddedQuotesSoThePhraseCannotBeClosedEarly() {
+        assertEquals("\"ab cd\"", ClientSearchIndexPredicateBuilder.buildFullTextQuery("ab\"cd"));
+        assertEquals("\"agro\"", ClientSearchIndexPredicateBuilder.buildFullTextQuery("\"agro\""));
+    }
+
+    @Test
+    void keepsDigitsAndPhoneFragments() {
+        assertEquals("\"380 67\"", ClientSearchIndexPredicateBuilder.buildFullTextQuery("380 67"));
+    }
+
+    @Test
+    void fallsBackWhenAnyWordIsShorterThanTheNgramSize() {
+        assertNull(ClientSearchIndexPredicateBuilder.buildFullTextQuery("a"));
+        assertNull(ClientSearchIndexPredicateBuilder.buildFullTextQuery("agro a"));
+    }
+
+    @Test
+    void fallsBackForBlankQueries() {
+        assertNull(ClientSearchIndexPredicateBuilder.buildFullTextQuery("   "));
+        assertNull(ClientSearchIndexPredicateBuilder.buildFullTextQuery("\"\""));
+    }
+}
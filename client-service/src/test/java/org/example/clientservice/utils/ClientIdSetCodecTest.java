@@ -0,0 +1,150 @@
+package org.example.clientservice.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+class ClientIdSetCodecTest {
+
+    private static final int BENCHMARK_ID_COUNT = 100_000;
+    private static final int BENCHMARK_ITERATIONS = 200;
+
+    @Test
+    void roundTripsEmptySet() {
+        assertEquals(Collections.emptyList(), ClientIdSetCodec.decode(ClientIdSetCodec.encode(Collections.emptyList())));
+    }
+
+    @Test
+    void sortsAndDeduplicatesIds() {
+        List<Long> ids = Arrays.asList(42L, 7L, 42L, 1L, 7L, 100_000L);
+
+        assertEquals(List.of(1L, 7L, 42L, 100_000L), ClientIdSetCodec.decode(ClientIdSetCodec.encode(ids)));
+    }
+
+    @Test
+    void dropsNullAndNonPositiveIds() {
+        List<Long> ids = Arrays.asList(3L, null, 0L, -5L, 2L);
+
+        assertEquals(List.of(2L, 3L), ClientIdSetCodec.decode(ClientIdSetCodec.encode(ids)));
+    }
+
+    @Test
+    void roundTripsLargeGaps() {
+        List<Long> ids = List.of(1L, 128L, 16_384L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE);
+
+        assertEquals(ids, ClientIdSetCodec.decode(ClientIdSetCodec.encode(ids)));
+    }
+
+    @Test
+    void rejectsCountLargerThanPayload() {
+        assertMalformed(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F});
+        assertMalformed(new byte[]{2, 1});
+    }
+
+    @Test
+    void rejectsNegativeCount() {
+        assertMalformed(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01});
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        assertMalformed(new byte[0]);
+        assertMalformed(new byte[]{1, (byte) 0x80});
+    }
+
+    @Test
+    void rejectsTrailingBytes() {
+        assertMalformed(new byte[]{1, 1, 9});
+    }
+
+    @Test
+    void rejectsZeroDelta() {
+        assertMalformed(new byte[]{2, 1, 0});
+    }
+
+    @Test
+    void rejectsOverlongVarint() {
+        assertMalformed(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x02});
+        assertMalformed(new byte[]{1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01});
+    }
+
+    @Test
+    void compactEncodingIsMuchSmallerThanJson() throws Exception {
+        List<Long> ids = denseIds();
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(ids);
+        byte[] compact = ClientIdSetCodec.encode(ids);
+
+        assertTrue(compact.length * 4 < json.length,
+                String.format("compact %d bytes, JSON %d bytes", compact.length, json.length));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "client.ids.benchmark", matches = "true")
+    void reportsEncodeAndDecodeTimeAgainstJson() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        TypeReference<List<Long>> listType = new TypeReference<>() {
+        };
+        List<Long> ids = denseIds();
+
+        long jsonNanos = 0;
+        long compactNanos = 0;
+        int jsonBytes = 0;
+        int compactBytes = 0;
+        for (int i = 0; i < BENCHMARK_ITERATIONS * 2; i++) {
+            boolean measured = i >= BENCHMARK_ITERATIONS;
+
+            long start = System.nanoTime();
+            byte[] json = objectMapper.writeValueAsBytes(ids);
+            assertEquals(ids.size(), objectMapper.readValue(json, listType).size());
+            long jsonElapsed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            byte[] compact = ClientIdSetCodec.encode(ids);
+            assertEquals(ids.size(), ClientIdSetCodec.decode(compact).size());
+            long compactElapsed = System.nanoTime() - start;
+
+            if (measured) {
+                jsonNanos += jsonElapsed;
+                compactNanos += compactElapsed;
+                jsonBytes = json.length;
+                compactBytes = compact.length;
+            }
+        }
+
+        log.info("{} client IDs: JSON {} bytes, {} us per round trip; compact {} bytes, {} us per round trip",
+                ids.size(), jsonBytes, jsonNanos / BENCHMARK_ITERATIONS / 1000,
+                compactBytes, compactNanos / BENCHMARK_ITERATIONS / 1000);
+    }
+
+    private static List<Long> denseIds() {
+        Random random = new Random(42);
+        List<Long> ids = new ArrayList<>(BENCHMARK_ID_COUNT);
+        long id = 0;
+        for (int i = 0; i < BENCHMARK_ID_COUNT; i++) {
+            id += 1 + random.nextInt(3);
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static void assertMalformed(byte[] data) {
+        assertThrows(IllegalArgumentException.class, () -> ClientIdSetCodec.decode(data));
+    }
+}
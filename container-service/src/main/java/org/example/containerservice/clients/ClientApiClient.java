@@ -5,6 +5,7 @@ import org.example.containerservice.config.FeignConfig;
 import org.example.containerservice.models.dto.client.ClientDTO;
 import org.example.containerservice.models.dto.client.ClientSearchRequest;
 import org.example.containerservice.models.dto.clienttype.ClientFieldValueDTO;
+import org.example.containerservice.utils.ClientIdSetCodec;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +24,9 @@ public interface ClientApiClient {
     @PostMapping("/ids/search")
     ResponseEntity<List<Long>> searchClientIds(@RequestBody @NonNull ClientSearchRequest request);
     
+    @PostMapping(value = "/ids/search/compact", produces = ClientIdSetCodec.MEDIA_TYPE)
+    ResponseEntity<byte[]> searchClientIdsCompact(@RequestBody @NonNull ClientSearchRequest request);
+    
     @PostMapping("/by-ids")
     ResponseEntity<List<ClientDTO>> getClientsByIds(@RequestBody @NonNull List<Long> clientIds);
     
@@ -8,6 +8,7 @@ import org.example.containerservice.clients.ClientApiClient;
 import org.example.containerservice.models.ClientData;
 import org.example.containerservice.models.dto.client.ClientDTO;
 import org.example.containerservice.models.dto.client.ClientSearchRequest;
+import org.example.containerservice.utils.ClientIdSetCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -72,10 +73,10 @@ public class ClientDataFetcher {
                                                  @NonNull Map<String, List<String>> clientFilterParams, 
                                                  Long clientTypeId) {
         ClientSearchRequest clientRequest = new ClientSearchRequest(query, clientFilterParams, clientTypeId);
-        List<Long> clientIds = clientApiClient.searchClientIds(clientRequest).getBody();
-        if (clientIds == null) {
-            clientIds = Collections.emptyList();
-        }
+        byte[] encodedIds = clientApiClient.searchClientIdsCompact(clientRequest).getBody();
+        List<Long> clientIds = encodedIds != null && encodedIds.length > 0
+                ? ClientIdSetCodec.decode(encodedIds)
+                : Collections.emptyList();
         return new ClientData(clientIds, Collections.emptyMap());
     }
 
@@ -2,17 +2,25 @@ package org.example.purchaseservice.clients;
 
 import lombok.NonNull;
 import org.example.purchaseservice.config.FeignConfig;
+import org.example.purchaseservice.models.dto.transaction.TransactionBatchCreateDTO;
 import org.example.purchaseservice.models.dto.transaction.TransactionCreateRequestDTO;
 import org.example.purchaseservice.models.dto.transaction.TransactionDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
 
 @FeignClient(name = "account-transaction-client", url = "${user.service.url}/api/v1/transaction",
         configuration = FeignConfig.class, contextId = "accountTransactionClient")
 public interface AccountTransactionClient {
 
     @PostMapping
-    ResponseEntity<TransactionDTO> createTransaction(@RequestBody @NonNull TransactionCreateRequestDTO request);
+    ResponseEntity<TransactionDTO> createTransaction(@RequestBody @NonNull TransactionCreateRequestDTO request,
+                                                     @RequestHeader("Idempotency-Key") @NonNull String idempotencyKey);
+
+    @PostMapping("/batch")
+    ResponseEntity<List<TransactionDTO>> createTransactions(@RequestBody @NonNull List<TransactionBatchCreateDTO> requests);
 }
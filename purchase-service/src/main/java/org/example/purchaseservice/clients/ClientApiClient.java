@@ -2,15 +2,18 @@ package org.example.purchaseservice.clients;
 
 import lombok.NonNull;
 import org.example.purchaseservice.config.FeignConfig;
+import org.example.purchaseservice.models.dto.client.ClientChangeDTO;
 import org.example.purchaseservice.models.dto.client.ClientDTO;
 import org.example.purchaseservice.models.dto.client.ClientSearchRequest;
 import org.example.purchaseservice.models.dto.clienttype.ClientFieldValueDTO;
+import org.example.purchaseservice.utils.ClientIdSetCodec;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 import java.util.Map;
@@ -31,6 +34,14 @@ public interface ClientApiClient {
     @PostMapping("/ids/search")
     ResponseEntity<List<Long>> searchClientIds(@RequestBody @NonNull ClientSearchRequest request);
     
+    @PostMapping(value = "/ids/search/compact", produces = ClientIdSetCodec.MEDIA_TYPE)
+    ResponseEntity<byte[]> searchClientIdsCompact(@RequestBody @NonNull ClientSearchRequest request);
+    
     @PostMapping("/by-ids")
     ResponseEntity<List<ClientDTO>> getClientsByIds(@RequestBody @NonNull List<Long> clientIds);
+
+    @GetMapping("/changes")
+    ResponseEntity<List<ClientChangeDTO>> getClientChanges(@RequestParam("changedAfter") @NonNull String changedAfter,
+                                                           @RequestParam("afterId") @NonNull Long afterId,
+                                                           @RequestParam("limit") int limit);
 }
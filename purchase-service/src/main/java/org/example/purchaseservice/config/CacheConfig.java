@@ -4,6 +4,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.NonNull;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,15 +16,27 @@ public class CacheConfig {
     private static final int INITIAL_CAPACITY = 100;
     private static final long MAXIMUM_SIZE = 1000L;
     private static final long EXPIRE_AFTER_ACCESS_HOURS = 12L;
+    private static final String VEHICLE_STATS_CACHE = "vehicleStats";
+    private static final long VEHICLE_STATS_MAXIMUM_SIZE = 500L;
+    private static final long VEHICLE_STATS_EXPIRE_AFTER_WRITE_SECONDS = 30L;
     private static final String[] CACHE_NAMES = {"products", "warehouses", "withdrawalReasons", 
             "exchangeRates"};
 
+    /**
+     * Caches are transaction-aware: evictions and puts issued inside a transaction apply after it commits, so a
+     * {@code vehicleStats} read landing between a vehicle write and its commit is evicted again once the write is
+     * visible rather than serving pre-commit totals until the entry expires.
+     */
     @Bean
     @NonNull
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager(CACHE_NAMES);
         cacheManager.setCaffeine(caffeineCacheBuilder());
-        return cacheManager;
+        cacheManager.registerCustomCache(VEHICLE_STATS_CACHE, Caffeine.newBuilder()
+                .maximumSize(VEHICLE_STATS_MAXIMUM_SIZE)
+                .expireAfterWrite(VEHICLE_STATS_EXPIRE_AFTER_WRITE_SECONDS, TimeUnit.SECONDS)
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
     }
 
     private Caffeine<@NonNull Object, @NonNull Object> caffeineCacheBuilder() {
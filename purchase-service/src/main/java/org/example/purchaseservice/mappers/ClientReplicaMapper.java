@@ -0,0 +1,55 @@
+package org.example.purchaseservice.mappers;
+
+import lombok.NonNull;
+import org.example.purchaseservice.models.ClientReplica;
+import org.example.purchaseservice.models.dto.client.ClientChangeDTO;
+import org.example.purchaseservice.models.dto.client.ClientDTO;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+@Component
+public class ClientReplicaMapper {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    public void applyChange(@NonNull ClientReplica replica, @NonNull ClientChangeDTO change) {
+        replica.setId(change.id());
+        replica.setCompany(change.company());
+        replica.setClientTypeId(change.clientTypeId());
+        replica.setSourceId(change.sourceId());
+        replica.setIsActive(change.isActive() == null || change.isActive());
+        replica.setCreatedAt(change.createdAt());
+        replica.setUpdatedAt(change.updatedAt());
+        replica.setChangedAt(change.changedAt());
+    }
+
+    public boolean matches(@NonNull ClientReplica replica, @NonNull ClientChangeDTO change) {
+        return Objects.equals(replica.getCompany(), change.company())
+                && Objects.equals(replica.getClientTypeId(), change.clientTypeId())
+                && Objects.equals(replica.getSourceId(), change.sourceId())
+                && Objects.equals(replica.getIsActive(), change.isActive() == null || change.isActive())
+                && Objects.equals(replica.getCreatedAt(), change.createdAt())
+                && Objects.equals(replica.getUpdatedAt(), change.updatedAt())
+                && Objects.equals(replica.getChangedAt(), change.changedAt());
+    }
+
+    public ClientDTO replicaToClientDTO(@NonNull ClientReplica replica) {
+        ClientDTO dto = new ClientDTO();
+        dto.setId(replica.getId());
+        dto.setCompany(replica.getCompany());
+        dto.setIsActive(replica.getIsActive());
+        dto.setCreatedAt(formatTime(replica.getCreatedAt()));
+        dto.setUpdatedAt(formatTime(replica.getUpdatedAt()));
+        if (replica.getSourceId() != null) {
+            dto.setSourceId(String.valueOf(replica.getSourceId()));
+        }
+        return dto;
+    }
+
+    private String formatTime(LocalDateTime time) {
+        return time != null ? time.format(DATE_TIME_FORMATTER) : null;
+    }
+}
@@ -5,5 +5,9 @@ import org.example.purchaseservice.models.dto.client.ClientDTO;
 import java.util.List;
 import java.util.Map;
 
-public record ClientData(List<Long> clientIds, Map<Long, ClientDTO> clientMap) {
+public record ClientData(List<Long> clientIds, Map<Long, ClientDTO> clientMap, ClientReplicaFilter replicaFilter) {
+
+    public ClientData(List<Long> clientIds, Map<Long, ClientDTO> clientMap) {
+        this(clientIds, clientMap, null);
+    }
 }
@@ -0,0 +1,6 @@
+package org.example.purchaseservice.models;
+
+import java.math.BigDecimal;
+
+public record ClientProductQuantity(Long clientId, Long productId, BigDecimal quantity) {
+}
@@ -0,0 +1,41 @@
+package org.example.purchaseservice.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "client_replicas")
+public class ClientReplica {
+
+    @Id
+    private Long id;
+
+    @Column(name = "company", nullable = false)
+    private String company;
+
+    @Column(name = "client_type_id", nullable = false)
+    private Long clientTypeId;
+
+    @Column(name = "source_id")
+    private Long sourceId;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    @Column(name = "reconcile_run")
+    private Long reconcileRun;
+}
@@ -0,0 +1,6 @@
+package org.example.purchaseservice.models;
+
+import java.util.List;
+
+public record ClientReplicaFilter(Long clientTypeId, List<Long> sourceIds) {
+}
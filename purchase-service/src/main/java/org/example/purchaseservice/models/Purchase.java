@@ -47,7 +47,7 @@ public class Purchase {
     @Column(name = "payment_method", nullable = false)
     private PaymentMethod paymentMethod;
 
-    @Column(name = "transaction_id")
+    @Column(name = "transaction_id", updatable = false)
     private Long transaction;
 
     @CreationTimestamp
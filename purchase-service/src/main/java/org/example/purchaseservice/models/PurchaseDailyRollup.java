@@ -0,0 +1,43 @@
+package org.example.purchaseservice.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "purchase_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"rollup_date", "user_id", "source_id", "product_id"}))
+public class PurchaseDailyRollup {
+
+    public static final long NO_SOURCE = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false, precision = 20, scale = 2)
+    private BigDecimal quantity = BigDecimal.ZERO;
+
+    @Column(name = "total_price_eur", nullable = false, precision = 20, scale = 6)
+    private BigDecimal totalPriceEur = BigDecimal.ZERO;
+
+    @Column(name = "purchase_count", nullable = false)
+    private Long purchaseCount = 0L;
+}
@@ -0,0 +1,7 @@
+package org.example.purchaseservice.models;
+
+import java.math.BigDecimal;
+
+public record PurchaseReportRow(Long userId, Long sourceId, Long productId,
+                                BigDecimal quantity, BigDecimal totalPriceEur) {
+}
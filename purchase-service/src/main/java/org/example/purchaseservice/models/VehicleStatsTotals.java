@@ -0,0 +1,11 @@
+package org.example.purchaseservice.models;
+
+import java.math.BigDecimal;
+
+public record VehicleStatsTotals(BigDecimal totalQuantity, BigDecimal totalCostEur) {
+
+    public VehicleStatsTotals {
+        totalQuantity = totalQuantity != null ? totalQuantity : BigDecimal.ZERO;
+        totalCostEur = totalCostEur != null ? totalCostEur : BigDecimal.ZERO;
+    }
+}
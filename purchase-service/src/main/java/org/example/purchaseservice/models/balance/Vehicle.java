@@ -31,6 +31,9 @@ public class Vehicle {
     
     @Column(name = "invoice_eu", length = 100)
     private String invoiceEu;
+
+    @Column(name = "search_key")
+    private String searchKey;
     
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
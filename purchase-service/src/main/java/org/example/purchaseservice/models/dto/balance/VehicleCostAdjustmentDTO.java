@@ -0,0 +1,29 @@
+package org.example.purchaseservice.models.dto.balance;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleCostAdjustmentDTO {
+    @NotNull(message = "Vehicle ID is required")
+    @Positive(message = "Vehicle ID must be positive")
+    private Long vehicleId;
+
+    @NotNull(message = "Amount EUR is required")
+    @DecimalMin(value = "0.00", message = "Amount must be non-negative")
+    private BigDecimal amountEur;
+
+    @NotBlank(message = "Operation is required")
+    @Pattern(regexp = "^(?i)(add|subtract)$", message = "Operation must be 'add' or 'subtract'")
+    private String operation;
+}
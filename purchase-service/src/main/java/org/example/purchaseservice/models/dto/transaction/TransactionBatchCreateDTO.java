@@ -0,0 +1,13 @@
+package org.example.purchaseservice.models.dto.transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionBatchCreateDTO {
+    private String idempotencyKey;
+    private TransactionCreateRequestDTO transaction;
+}
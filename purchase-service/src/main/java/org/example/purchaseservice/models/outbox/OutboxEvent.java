@@ -0,0 +1,81 @@
+package org.example.purchaseservice.models.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "purchase_id", nullable = false)
+    private Long purchaseId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private OutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private OutboxEventStatus status;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64, unique = true)
+    private String idempotencyKey;
+
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "from_account_id")
+    private Long fromAccountId;
+
+    @Column(name = "amount", precision = 20, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    @Column(name = "client_id")
+    private Long clientId;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "executor_user_id", nullable = false)
+    private Long executorUserId;
+
+    @Column(name = "executor_login", nullable = false)
+    private String executorLogin;
+
+    @Column(name = "executor_authorities", columnDefinition = "TEXT")
+    private String executorAuthorities;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -0,0 +1,7 @@
+package org.example.purchaseservice.models.outbox;
+
+public enum OutboxEventStatus {
+    PENDING,
+    DELIVERED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package org.example.purchaseservice.models.outbox;
+
+public enum OutboxEventType {
+    TRANSACTION_CREATE,
+    TRANSACTION_UPDATE_AMOUNT,
+    TRANSACTION_DELETE
+}
@@ -0,0 +1,26 @@
+package org.example.purchaseservice.repositories;
+
+import lombok.NonNull;
+import org.example.purchaseservice.models.ClientReplica;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ClientReplicaRepository extends JpaRepository<ClientReplica, Long> {
+
+    Optional<ClientReplica> findFirstByOrderByChangedAtDescIdDesc();
+
+    @Modifying
+    @Query("UPDATE ClientReplica r SET r.reconcileRun = :run WHERE r.id IN :ids")
+    void markReconciled(@Param("ids") @NonNull Collection<Long> ids, @Param("run") long run);
+
+    @Modifying
+    @Query("DELETE FROM ClientReplica r WHERE (r.reconcileRun IS NULL OR r.reconcileRun <> :run) " +
+            "AND r.changedAt <= :changedBefore")
+    int deleteNotReconciled(@Param("run") long run, @Param("changedBefore") @NonNull LocalDateTime changedBefore);
+}
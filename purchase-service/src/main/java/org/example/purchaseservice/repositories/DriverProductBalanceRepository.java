@@ -1,9 +1,13 @@
 package org.example.purchaseservice.repositories;
 
 import lombok.NonNull;
+import jakarta.persistence.LockModeType;
 import org.example.purchaseservice.models.balance.DriverProductBalance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,6 +15,17 @@ import java.util.Optional;
 public interface DriverProductBalanceRepository extends JpaRepository<DriverProductBalance, Long> {
     Optional<DriverProductBalance> findByDriverIdAndProductId(@NonNull Long driverId, @NonNull Long productId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT dpb FROM DriverProductBalance dpb WHERE dpb.driverId = :driverId AND dpb.productId = :productId")
+    Optional<DriverProductBalance> findForUpdate(@Param("driverId") @NonNull Long driverId,
+                                                 @Param("productId") @NonNull Long productId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO driver_product_balances " +
+            "(driver_id, product_id, quantity, average_price_eur, total_cost_eur, created_at, updated_at) " +
+            "VALUES (:driverId, :productId, 0, 0, 0, NOW(), NOW())", nativeQuery = true)
+    void insertEmptyIfAbsent(@Param("driverId") @NonNull Long driverId, @Param("productId") @NonNull Long productId);
+
     @NonNull
     List<DriverProductBalance> findByDriverId(@NonNull Long driverId);
 
@@ -0,0 +1,33 @@
+package org.example.purchaseservice.repositories;
+
+import lombok.NonNull;
+import org.example.purchaseservice.models.outbox.OutboxEvent;
+import org.example.purchaseservice.models.outbox.OutboxEventStatus;
+import org.example.purchaseservice.models.outbox.OutboxEventType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<OutboxEvent> findDue(@Param("status") @NonNull OutboxEventStatus status,
+                              @Param("now") @NonNull LocalDateTime now,
+                              @NonNull Pageable pageable);
+
+    boolean existsByPurchaseIdAndStatusAndIdLessThan(@NonNull Long purchaseId, @NonNull OutboxEventStatus status,
+                                                     @NonNull Long id);
+
+    boolean existsByPurchaseIdAndEventTypeAndStatusIn(@NonNull Long purchaseId, @NonNull OutboxEventType eventType,
+                                                      @NonNull Collection<OutboxEventStatus> statuses);
+
+    Optional<OutboxEvent> findFirstByPurchaseIdAndEventTypeAndStatusOrderByIdDesc(@NonNull Long purchaseId,
+                                                                                @NonNull OutboxEventType eventType,
+                                                                                @NonNull OutboxEventStatus status);
+}
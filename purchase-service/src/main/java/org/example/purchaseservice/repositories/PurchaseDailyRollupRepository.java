@@ -0,0 +1,37 @@
+package org.example.purchaseservice.repositories;
+
+import lombok.NonNull;
+import org.example.purchaseservice.models.PurchaseDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface PurchaseDailyRollupRepository extends JpaRepository<PurchaseDailyRollup, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO purchase_daily_rollups " +
+            "(rollup_date, user_id, source_id, product_id, quantity, total_price_eur, purchase_count) " +
+            "VALUES (:rollupDate, :userId, :sourceId, :productId, :quantity, :totalPriceEur, :purchaseCount) " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), " +
+            "total_price_eur = total_price_eur + VALUES(total_price_eur), " +
+            "purchase_count = purchase_count + VALUES(purchase_count)", nativeQuery = true)
+    void applyDelta(@Param("rollupDate") @NonNull LocalDate rollupDate,
+                    @Param("userId") @NonNull Long userId,
+                    @Param("sourceId") @NonNull Long sourceId,
+                    @Param("productId") @NonNull Long productId,
+                    @Param("quantity") @NonNull BigDecimal quantity,
+                    @Param("totalPriceEur") @NonNull BigDecimal totalPriceEur,
+                    @Param("purchaseCount") long purchaseCount);
+
+    @Modifying
+    @Query(value = "DELETE FROM purchase_daily_rollups WHERE rollup_date = :rollupDate AND user_id = :userId " +
+            "AND source_id = :sourceId AND product_id = :productId AND purchase_count <= 0", nativeQuery = true)
+    void deleteIfEmpty(@Param("rollupDate") @NonNull LocalDate rollupDate,
+                       @Param("userId") @NonNull Long userId,
+                       @Param("sourceId") @NonNull Long sourceId,
+                       @Param("productId") @NonNull Long productId);
+}
@@ -1,18 +1,45 @@
 package org.example.purchaseservice.repositories;
 
+import jakarta.persistence.QueryHint;
 import lombok.NonNull;
+import org.example.purchaseservice.models.ClientProductQuantity;
 import org.example.purchaseservice.models.Purchase;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface PurchaseRepository extends JpaRepository<Purchase, Long>, JpaSpecificationExecutor<Purchase> {
     @NonNull
     Page<Purchase> findAll(Specification<Purchase> spec, @NonNull Pageable pageable);
 
     List<Purchase> findByClient(@NonNull Long clientId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new org.example.purchaseservice.models.ClientProductQuantity(p.client, p.product, SUM(p.quantity)) " +
+            "FROM Purchase p WHERE p.createdAt BETWEEN :from AND :to " +
+            "GROUP BY p.client, p.product ORDER BY p.client, p.product")
+    Stream<ClientProductQuantity> streamClientProductQuantities(@Param("from") @NonNull LocalDateTime from,
+                                                                @Param("to") @NonNull LocalDateTime to);
+
+    @Modifying
+    @Query("UPDATE Purchase p SET p.transaction = :transactionId WHERE p.id = :purchaseId")
+    int updateTransaction(@Param("purchaseId") @NonNull Long purchaseId,
+                          @Param("transactionId") @NonNull Long transactionId);
+
+    @Query("SELECT p.id FROM Purchase p WHERE p.id IN :purchaseIds AND EXISTS (" +
+            "SELECT 1 FROM WarehouseReceipt r WHERE r.userId = p.user AND r.productId = p.product " +
+            "AND r.createdAt >= p.createdAt)")
+    List<Long> findReceivedPurchaseIds(@Param("purchaseIds") @NonNull Collection<Long> purchaseIds);
 }
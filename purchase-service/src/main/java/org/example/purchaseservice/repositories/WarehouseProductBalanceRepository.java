@@ -1,9 +1,13 @@
 package org.example.purchaseservice.repositories;
 
 import lombok.NonNull;
+import jakarta.persistence.LockModeType;
 import org.example.purchaseservice.models.balance.WarehouseProductBalance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,6 +15,17 @@ import java.util.Optional;
 public interface WarehouseProductBalanceRepository extends JpaRepository<WarehouseProductBalance, Long> {
     Optional<WarehouseProductBalance> findByWarehouseIdAndProductId(@NonNull Long warehouseId, @NonNull Long productId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT wpb FROM WarehouseProductBalance wpb WHERE wpb.warehouseId = :warehouseId AND wpb.productId = :productId")
+    Optional<WarehouseProductBalance> findForUpdate(@Param("warehouseId") @NonNull Long warehouseId,
+                                                    @Param("productId") @NonNull Long productId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO warehouse_product_balances " +
+            "(warehouse_id, product_id, quantity, average_price_eur, total_cost_eur, created_at, updated_at) " +
+            "VALUES (:warehouseId, :productId, 0, 0, 0, NOW(), NOW())", nativeQuery = true)
+    void insertEmptyIfAbsent(@Param("warehouseId") @NonNull Long warehouseId, @Param("productId") @NonNull Long productId);
+
     @NonNull
     List<WarehouseProductBalance> findByWarehouseId(@NonNull Long warehouseId);
 
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface WarehouseReceiptRepository extends JpaRepository<WarehouseReceipt, Long> {
@@ -16,5 +17,8 @@ public interface WarehouseReceiptRepository extends JpaRepository<WarehouseRecei
     @NonNull
     List<WarehouseReceipt> findAll(Specification<WarehouseReceipt> specification);
 
+    boolean existsByUserIdAndProductIdAndCreatedAtGreaterThanEqual(@NonNull Long userId, @NonNull Long productId,
+                                                                  @NonNull LocalDateTime createdAt);
+
 }
 
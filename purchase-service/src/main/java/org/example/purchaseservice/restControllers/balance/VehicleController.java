@@ -3,7 +3,9 @@ package org.example.purchaseservice.restControllers.balance;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +14,7 @@ import org.example.purchaseservice.models.PageResponse;
 import org.example.purchaseservice.models.balance.Vehicle;
 import org.example.purchaseservice.models.balance.VehicleProduct;
 import org.example.purchaseservice.models.dto.balance.UpdateVehicleCostRequest;
+import org.example.purchaseservice.models.dto.balance.VehicleCostAdjustmentDTO;
 import org.example.purchaseservice.models.dto.balance.OurVehiclesStatsDTO;
 import org.example.purchaseservice.models.dto.balance.VehiclesStatsDTO;
 import org.example.purchaseservice.models.dto.balance.VehicleCreateDTO;
@@ -46,6 +49,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Validated
 public class VehicleController {
+    private static final int MAX_COST_BATCH_SIZE = 500;
+
     private final IVehicleService vehicleService;
     private final ObjectMapper objectMapper;
     private final IVehicleExportService vehicleExportService;
@@ -257,6 +262,14 @@ public class VehicleController {
         return ResponseEntity.ok().build();
     }
 
+    @PreAuthorize("hasAuthority('declarant:create')")
+    @PostMapping("/cost/batch")
+    public ResponseEntity<Void> updateVehicleCosts(
+            @RequestBody @NotEmpty @Size(max = MAX_COST_BATCH_SIZE) @NonNull List<@Valid VehicleCostAdjustmentDTO> adjustments) {
+        vehicleService.applyWithdrawalCosts(adjustments);
+        return ResponseEntity.ok().build();
+    }
+
     @PreAuthorize("hasAuthority('warehouse:view') or hasAuthority('declarant:view')")
     @GetMapping("/search")
     public ResponseEntity<PageResponse<VehicleDetailsDTO>> searchVehicles(
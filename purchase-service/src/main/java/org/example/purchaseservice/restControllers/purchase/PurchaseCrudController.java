@@ -1,7 +1,9 @@
 package org.example.purchaseservice.restControllers.purchase;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.example.purchaseservice.mappers.PurchaseMapper;
@@ -10,6 +12,7 @@ import org.example.purchaseservice.models.dto.purchase.PurchaseCreateDTO;
 import org.example.purchaseservice.models.dto.purchase.PurchaseDTO;
 import org.example.purchaseservice.models.dto.purchase.PurchaseUpdateDTO;
 import org.example.purchaseservice.services.impl.IPurchaseCrudService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -17,12 +20,15 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/purchase")
 @RequiredArgsConstructor
 @Validated
 public class PurchaseCrudController {
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final IPurchaseCrudService purchaseCrudService;
     private final PurchaseMapper purchaseMapper;
 
@@ -40,6 +46,19 @@ public class PurchaseCrudController {
         return ResponseEntity.created(location).body(createdPurchaseDto);
     }
 
+    @PreAuthorize("hasAuthority('purchase:create')")
+    @PostMapping("/batch")
+    public ResponseEntity<List<PurchaseDTO>> createPurchases(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) @NonNull List<@Valid PurchaseCreateDTO> purchaseCreateDTOs) {
+        List<Purchase> purchases = purchaseCreateDTOs.stream()
+                .map(purchaseMapper::purchaseCreateDTOToPurchase)
+                .toList();
+        List<PurchaseDTO> createdPurchases = purchaseCrudService.createPurchases(purchases).stream()
+                .map(purchaseMapper::toDtoForCreate)
+                .toList();
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdPurchases);
+    }
+
     @PreAuthorize("hasAuthority('purchase:edit')")
     @PatchMapping("/{id}")
     public ResponseEntity<PurchaseDTO> updatePurchase(
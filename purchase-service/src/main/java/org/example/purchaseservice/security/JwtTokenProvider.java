@@ -17,6 +17,7 @@ import javax.crypto.SecretKey;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 @Slf4j
@@ -86,6 +87,19 @@ public class JwtTokenProvider {
         }
     }
 
+    public String createToken(@NonNull Long userId, @NonNull String login, @NonNull List<String> authorities,
+                              long validityMilliseconds) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(login)
+                .claim(SecurityConstants.CLAIM_USER_ID, userId)
+                .claim(SecurityConstants.CLAIM_AUTHORITIES, authorities)
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + validityMilliseconds))
+                .signWith(getSigningKey())
+                .compact();
+    }
+
     private List<GrantedAuthority> extractAuthorities(@NonNull Claims claims) {
         Object authoritiesClaim = claims.get(SecurityConstants.CLAIM_AUTHORITIES);
         if (authoritiesClaim == null) {
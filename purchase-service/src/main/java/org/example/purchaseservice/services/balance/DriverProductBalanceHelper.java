@@ -1,5 +1,8 @@
 package org.example.purchaseservice.services.balance;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +13,10 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.util.Optional;
 
+/**
+ * Row-locking access to driver balances. Driver rows are locked before warehouse rows; see
+ * {@link WarehouseProductBalanceHelper} for the full lock order.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -17,17 +24,25 @@ public class DriverProductBalanceHelper {
 
     private final DriverProductBalanceRepository driverProductBalanceRepository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public DriverProductBalance getOrCreateBalance(@NonNull Long driverId, @NonNull Long productId) {
         return driverProductBalanceRepository
-                .findByDriverIdAndProductId(driverId, productId)
-                .orElseGet(() -> createNewBalance(driverId, productId));
+                .findForUpdate(driverId, productId)
+                .map(this::refreshLocked)
+                .orElseGet(() -> {
+                    driverProductBalanceRepository.insertEmptyIfAbsent(driverId, productId);
+                    return getBalanceOrThrow(driverId, productId);
+                });
     }
 
     public DriverProductBalance getBalanceOrThrow(@NonNull Long driverId, @NonNull Long productId) {
-        return driverProductBalanceRepository
-                .findByDriverIdAndProductId(driverId, productId)
+        DriverProductBalance balance = driverProductBalanceRepository
+                .findForUpdate(driverId, productId)
                 .orElseThrow(() -> new org.example.purchaseservice.exceptions.PurchaseException("BALANCE_NOT_FOUND",
                         String.format("Driver balance not found: driverId=%d, productId=%d", driverId, productId)));
+        return refreshLocked(balance);
     }
 
     public Optional<DriverProductBalance> deleteIfEmpty(@NonNull DriverProductBalance balance) {
@@ -39,13 +54,8 @@ public class DriverProductBalanceHelper {
         return Optional.of(balance);
     }
 
-    private DriverProductBalance createNewBalance(@NonNull Long driverId, @NonNull Long productId) {
-        DriverProductBalance newBalance = new DriverProductBalance();
-        newBalance.setDriverId(driverId);
-        newBalance.setProductId(productId);
-        newBalance.setQuantity(BigDecimal.ZERO);
-        newBalance.setTotalCostEur(BigDecimal.ZERO);
-        newBalance.setAveragePriceEur(BigDecimal.ZERO);
-        return newBalance;
+    private DriverProductBalance refreshLocked(@NonNull DriverProductBalance balance) {
+        entityManager.refresh(balance, LockModeType.PESSIMISTIC_WRITE);
+        return balance;
     }
 }
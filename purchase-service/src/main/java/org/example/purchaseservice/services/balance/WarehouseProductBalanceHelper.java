@@ -1,13 +1,23 @@
 package org.example.purchaseservice.services.balance;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.purchaseservice.exceptions.PurchaseException;
 import org.example.purchaseservice.models.balance.WarehouseProductBalance;
 import org.example.purchaseservice.repositories.WarehouseProductBalanceRepository;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 
+/**
+ * Row-locking access to warehouse balances. Transactions that lock several balance rows acquire them in one
+ * global order so that two of them can never wait on each other: driver balances before warehouse balances,
+ * and within each table ascending (owner id, product id).
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -15,20 +25,33 @@ public class WarehouseProductBalanceHelper {
     
     private final WarehouseProductBalanceRepository warehouseProductBalanceRepository;
     
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     public WarehouseProductBalance getOrCreateBalance(Long warehouseId, Long productId) {
         return warehouseProductBalanceRepository
-                .findByWarehouseIdAndProductId(warehouseId, productId)
-                .orElseGet(() -> createNewBalance(warehouseId, productId));
+                .findForUpdate(warehouseId, productId)
+                .map(this::refreshLocked)
+                .orElseGet(() -> {
+                    warehouseProductBalanceRepository.insertEmptyIfAbsent(warehouseId, productId);
+                    return getBalanceForUpdate(warehouseId, productId);
+                });
+    }
+    
+    public void lockBalances(Long warehouseId, Collection<Long> productIds) {
+        productIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(productId -> getOrCreateBalance(warehouseId, productId));
     }
     
-    public WarehouseProductBalance createNewBalance(Long warehouseId, Long productId) {
-        WarehouseProductBalance newBalance = new WarehouseProductBalance();
-        newBalance.setWarehouseId(warehouseId);
-        newBalance.setProductId(productId);
-        newBalance.setQuantity(BigDecimal.ZERO);
-        newBalance.setTotalCostEur(BigDecimal.ZERO);
-        newBalance.setAveragePriceEur(BigDecimal.ZERO);
-        return newBalance;
+    public WarehouseProductBalance getBalanceForUpdate(Long warehouseId, Long productId) {
+        WarehouseProductBalance balance = warehouseProductBalanceRepository
+                .findForUpdate(warehouseId, productId)
+                .orElseThrow(() -> new PurchaseException("WAREHOUSE_BALANCE_NOT_FOUND",
+                        String.format("Warehouse balance not found: warehouseId=%d, productId=%d",
+                                warehouseId, productId)));
+        return refreshLocked(balance);
     }
     
     public BigDecimal getSafeTotalCost(WarehouseProductBalance balance) {
@@ -62,4 +85,9 @@ public class WarehouseProductBalanceHelper {
         BigDecimal totalCost = getSafeTotalCost(balance);
         return quantity.compareTo(BigDecimal.ZERO) == 0 && totalCost.compareTo(BigDecimal.ZERO) == 0;
     }
+    
+    private WarehouseProductBalance refreshLocked(WarehouseProductBalance balance) {
+        entityManager.refresh(balance, LockModeType.PESSIMISTIC_WRITE);
+        return balance;
+    }
 }
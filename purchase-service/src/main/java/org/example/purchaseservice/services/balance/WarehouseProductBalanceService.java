@@ -3,7 +3,6 @@ package org.example.purchaseservice.services.balance;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.purchaseservice.exceptions.PurchaseException;
 import org.example.purchaseservice.models.balance.WarehouseBalanceAdjustment;
 import org.example.purchaseservice.models.balance.WarehouseProductBalance;
 import org.example.purchaseservice.services.balance.WarehouseBalanceUpdateRecords.AdjustmentUpdateResult;
@@ -15,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -73,11 +73,7 @@ public class WarehouseProductBalanceService implements IWarehouseProductBalanceS
         
         validator.validateQuantityPositive(quantity, "Removed");
         
-        WarehouseProductBalance balance = warehouseProductBalanceRepository
-                .findByWarehouseIdAndProductId(warehouseId, productId)
-                .orElseThrow(() -> new PurchaseException("WAREHOUSE_BALANCE_NOT_FOUND", 
-                        String.format("Warehouse balance not found: warehouseId=%d, productId=%d", 
-                                warehouseId, productId)));
+        WarehouseProductBalance balance = helper.getBalanceForUpdate(warehouseId, productId);
         
         validator.validateSufficientQuantity(balance, quantity, helper);
         
@@ -138,11 +134,7 @@ public class WarehouseProductBalanceService implements IWarehouseProductBalanceS
         validator.validateQuantityPositive(quantity, "Removed");
         validator.validateTotalCostNonNegative(totalCost, "Removed");
         
-        WarehouseProductBalance balance = warehouseProductBalanceRepository
-                .findByWarehouseIdAndProductId(warehouseId, productId)
-                .orElseThrow(() -> new PurchaseException("WAREHOUSE_BALANCE_NOT_FOUND", 
-                        String.format("Warehouse balance not found: warehouseId=%d, productId=%d", 
-                                warehouseId, productId)));
+        WarehouseProductBalance balance = helper.getBalanceForUpdate(warehouseId, productId);
         
         validator.validateSufficientQuantity(balance, quantity, helper);
         
@@ -196,11 +188,7 @@ public class WarehouseProductBalanceService implements IWarehouseProductBalanceS
         log.info("Adjusting warehouse product cost: warehouseId={}, productId={}, costDelta={}",
                 warehouseId, productId, costDelta);
 
-        WarehouseProductBalance balance = warehouseProductBalanceRepository
-                .findByWarehouseIdAndProductId(warehouseId, productId)
-                .orElseThrow(() -> new PurchaseException("WAREHOUSE_BALANCE_NOT_FOUND",
-                        String.format("Warehouse balance not found: warehouseId=%d, productId=%d",
-                                warehouseId, productId)));
+        WarehouseProductBalance balance = helper.getBalanceForUpdate(warehouseId, productId);
 
         BigDecimal currentTotalCost = helper.getSafeTotalCost(balance);
         BigDecimal newTotalCost = currentTotalCost.add(costDelta);
@@ -223,6 +211,12 @@ public class WarehouseProductBalanceService implements IWarehouseProductBalanceS
         }
     }
 
+    @Override
+    @Transactional
+    public void lockBalances(@NonNull Long warehouseId, @NonNull Collection<Long> productIds) {
+        helper.lockBalances(warehouseId, productIds);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean hasEnoughProduct(@NonNull Long warehouseId, @NonNull Long productId, @NonNull BigDecimal requiredQuantity) {
@@ -281,11 +275,7 @@ public class WarehouseProductBalanceService implements IWarehouseProductBalanceS
                                                  BigDecimal newTotalCost,
                                                  Long userId,
                                                  String description) {
-        WarehouseProductBalance balance = warehouseProductBalanceRepository
-                .findByWarehouseIdAndProductId(warehouseId, productId)
-                .orElseThrow(() -> new PurchaseException("WAREHOUSE_BALANCE_NOT_FOUND",
-                        String.format("Warehouse balance not found: warehouseId=%d, productId=%d",
-                                warehouseId, productId)));
+        WarehouseProductBalance balance = helper.getBalanceForUpdate(warehouseId, productId);
 
         BigDecimal previousQuantity = helper.getSafeQuantity(balance).setScale(QUANTITY_SCALE, QUANTITY_ROUNDING_MODE);
         BigDecimal previousTotalCost = helper.getSafeTotalCost(balance).setScale(PRICE_SCALE, QUANTITY_ROUNDING_MODE);
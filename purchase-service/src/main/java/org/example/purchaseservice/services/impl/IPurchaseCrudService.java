@@ -4,9 +4,13 @@ import lombok.NonNull;
 import org.example.purchaseservice.models.Purchase;
 import org.example.purchaseservice.models.dto.purchase.PurchaseDTO;
 
+import java.util.List;
+
 public interface IPurchaseCrudService {
     Purchase createPurchase(@NonNull Purchase purchase);
 
+    List<Purchase> createPurchases(@NonNull List<Purchase> purchases);
+
     Purchase updatePurchase(@NonNull Long id, @NonNull Purchase updatedPurchase);
 
     Purchase findPurchaseById(@NonNull Long id);
@@ -3,6 +3,7 @@ package org.example.purchaseservice.services.impl;
 import lombok.NonNull;
 import org.example.purchaseservice.models.balance.Vehicle;
 import org.example.purchaseservice.models.balance.VehicleProduct;
+import org.example.purchaseservice.models.dto.balance.VehicleCostAdjustmentDTO;
 import org.example.purchaseservice.models.dto.balance.VehicleUpdateDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +24,8 @@ public interface IVehicleService {
     
     void subtractWithdrawalCost(@NonNull Long vehicleId, BigDecimal withdrawalCost);
     
+    void applyWithdrawalCosts(@NonNull List<VehicleCostAdjustmentDTO> adjustments);
+    
     Vehicle getVehicle(@NonNull Long vehicleId);
     
     List<Vehicle> getVehiclesByIds(@NonNull List<Long> ids);
@@ -5,6 +5,7 @@ import org.example.purchaseservice.models.balance.WarehouseBalanceAdjustment;
 import org.example.purchaseservice.models.balance.WarehouseProductBalance;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface IWarehouseProductBalanceService {
@@ -19,6 +20,8 @@ public interface IWarehouseProductBalanceService {
     void removeProductWithCost(@NonNull Long warehouseId, @NonNull Long productId, 
                                @NonNull BigDecimal quantity, @NonNull BigDecimal totalCost);
     
+    void lockBalances(@NonNull Long warehouseId, @NonNull Collection<Long> productIds);
+    
     WarehouseProductBalance getBalance(@NonNull Long warehouseId, @NonNull Long productId);
     
     List<WarehouseProductBalance> getWarehouseBalances(@NonNull Long warehouseId);
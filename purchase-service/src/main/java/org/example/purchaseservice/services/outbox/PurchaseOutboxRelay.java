@@ -0,0 +1,335 @@
+package org.example.purchaseservice.services.outbox;
+
+import feign.FeignException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.purchaseservice.clients.AccountTransactionClient;
+import org.example.purchaseservice.clients.TransactionApiClient;
+import org.example.purchaseservice.exceptions.PurchaseException;
+import org.example.purchaseservice.models.dto.transaction.TransactionBatchCreateDTO;
+import org.example.purchaseservice.models.dto.transaction.TransactionCreateRequestDTO;
+import org.example.purchaseservice.models.dto.transaction.TransactionDTO;
+import org.example.purchaseservice.models.outbox.OutboxEvent;
+import org.example.purchaseservice.models.outbox.OutboxEventStatus;
+import org.example.purchaseservice.models.outbox.OutboxEventType;
+import org.example.purchaseservice.models.transaction.TransactionType;
+import org.example.purchaseservice.repositories.OutboxEventRepository;
+import org.example.purchaseservice.repositories.PurchaseRepository;
+import org.example.purchaseservice.security.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers pending outbox events to user-service. Each poll runs on one instance at a time under a database-level
+ * named lock, so events of a purchase are never delivered concurrently or out of order across instances; the
+ * version column makes a write from a poller that lost the lock anyway fail instead of overwriting the row.
+ */
+@Slf4j
+@Service
+public class PurchaseOutboxRelay {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final long MAX_BACKOFF_SECONDS = 3600L;
+    private static final String RELAY_LOCK_NAME = "purchase-service.outbox.relay";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final PurchaseRepository purchaseRepository;
+    private final AccountTransactionClient accountTransactionClient;
+    private final TransactionApiClient transactionApiClient;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+
+    @Value("${purchase.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${purchase.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${purchase.outbox.initial-backoff-seconds:5}")
+    private long initialBackoffSeconds;
+
+    @Value("${purchase.outbox.token-validity-seconds:300}")
+    private long tokenValiditySeconds;
+
+    public PurchaseOutboxRelay(@NonNull OutboxEventRepository outboxEventRepository,
+                               @NonNull PurchaseRepository purchaseRepository,
+                               @NonNull AccountTransactionClient accountTransactionClient,
+                               @NonNull TransactionApiClient transactionApiClient,
+                               @NonNull JwtTokenProvider jwtTokenProvider,
+                               @NonNull PlatformTransactionManager transactionManager,
+                               @NonNull DataSource dataSource) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.purchaseRepository = purchaseRepository;
+        this.accountTransactionClient = accountTransactionClient;
+        this.transactionApiClient = transactionApiClient;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dataSource = dataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${purchase.outbox.poll-interval-ms:2000}")
+    public void relayPendingEvents() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!acquireRelayLock(lockConnection)) {
+                log.debug("Outbox relay poll skipped: another instance holds the relay lock");
+                return;
+            }
+            try {
+                relayDueEvents();
+            } finally {
+                releaseRelayLock(lockConnection);
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to acquire outbox relay lock: {}", e.getMessage());
+        }
+    }
+
+    private void relayDueEvents() {
+        List<OutboxEvent> events = outboxEventRepository.findDue(
+                OutboxEventStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Set<Long> blockedPurchases = new HashSet<>();
+        int delivered = deliverCreates(events.stream()
+                .filter(event -> event.getEventType() == OutboxEventType.TRANSACTION_CREATE)
+                .toList(), blockedPurchases);
+        for (OutboxEvent event : events) {
+            if (event.getEventType() == OutboxEventType.TRANSACTION_CREATE) {
+                continue;
+            }
+            if (blockedPurchases.contains(event.getPurchaseId())
+                    || outboxEventRepository.existsByPurchaseIdAndStatusAndIdLessThan(
+                            event.getPurchaseId(), OutboxEventStatus.PENDING, event.getId())) {
+                blockedPurchases.add(event.getPurchaseId());
+                continue;
+            }
+            if (deliver(event)) {
+                delivered++;
+            } else {
+                blockedPurchases.add(event.getPurchaseId());
+            }
+        }
+        log.debug("Outbox relay delivered {} of {} due events", delivered, events.size());
+    }
+
+    private int deliverCreates(@NonNull List<OutboxEvent> creates, @NonNull Set<Long> blockedPurchases) {
+        Map<Long, List<OutboxEvent>> createsByExecutor = creates.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getExecutorUserId, LinkedHashMap::new, Collectors.toList()));
+
+        int delivered = 0;
+        for (List<OutboxEvent> group : createsByExecutor.values()) {
+            if (group.size() > 1 && deliverCreateBatch(group)) {
+                delivered += group.size();
+                continue;
+            }
+            for (OutboxEvent event : group) {
+                if (deliver(event)) {
+                    delivered++;
+                } else {
+                    blockedPurchases.add(event.getPurchaseId());
+                }
+            }
+        }
+        return delivered;
+    }
+
+    private boolean deliverCreateBatch(@NonNull List<OutboxEvent> events) {
+        SecurityContext previousContext = SecurityContextHolder.getContext();
+        try {
+            SecurityContextHolder.setContext(executorContext(events.getFirst()));
+            List<TransactionBatchCreateDTO> requests = events.stream()
+                    .map(event -> new TransactionBatchCreateDTO(event.getIdempotencyKey(), buildCreateRequest(event)))
+                    .toList();
+            List<TransactionDTO> created = accountTransactionClient.createTransactions(requests).getBody();
+            if (created == null || created.size() != events.size()) {
+                throw new PurchaseException("TRANSACTION_CREATION_FAILED",
+                        "Failed to create transactions: batch response does not match the request");
+            }
+            transactionTemplate.executeWithoutResult(_ -> {
+                for (int i = 0; i < events.size(); i++) {
+                    markDelivered(events.get(i), created.get(i).getId());
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Batch delivery of {} outbox events failed, retrying individually: {}", events.size(), e.getMessage());
+            return false;
+        } finally {
+            SecurityContextHolder.setContext(previousContext);
+        }
+    }
+
+    private boolean deliver(@NonNull OutboxEvent event) {
+        SecurityContext previousContext = SecurityContextHolder.getContext();
+        try {
+            SecurityContextHolder.setContext(executorContext(event));
+            Long transactionId = dispatch(event);
+            transactionTemplate.executeWithoutResult(_ -> markDelivered(event, transactionId));
+            return true;
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Outbox event {} was changed concurrently, leaving it to the next poll", event.getId());
+            return false;
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_FOUND.value() && event.getEventType() != OutboxEventType.TRANSACTION_CREATE) {
+                log.info("Transaction for outbox event {} no longer exists, treating as delivered", event.getId());
+                transactionTemplate.executeWithoutResult(_ -> markDelivered(event, event.getTransactionId()));
+                return true;
+            }
+            log.warn("Feign error delivering outbox event {}: status={}, error={}", event.getId(), e.status(), e.getMessage());
+            transactionTemplate.executeWithoutResult(_ -> markAttemptFailed(event, e.getMessage()));
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Error delivering outbox event {}: {}", event.getId(), e.getMessage(), e);
+            transactionTemplate.executeWithoutResult(_ -> markAttemptFailed(event, e.getMessage()));
+            return false;
+        } finally {
+            SecurityContextHolder.setContext(previousContext);
+        }
+    }
+
+    private boolean acquireRelayLock(@NonNull Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, RELAY_LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseRelayLock(@NonNull Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, RELAY_LOCK_NAME);
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Failed to release outbox relay lock: {}", e.getMessage());
+        }
+    }
+
+    private Long dispatch(@NonNull OutboxEvent event) {
+        return switch (event.getEventType()) {
+            case TRANSACTION_CREATE -> createTransaction(event);
+            case TRANSACTION_UPDATE_AMOUNT -> {
+                Long transactionId = resolveTransactionId(event);
+                transactionApiClient.updateTransactionAmount(transactionId, event.getAmount());
+                yield transactionId;
+            }
+            case TRANSACTION_DELETE -> {
+                Long transactionId = resolveTransactionId(event);
+                transactionApiClient.deleteTransaction(transactionId);
+                yield transactionId;
+            }
+        };
+    }
+
+    private Long createTransaction(@NonNull OutboxEvent event) {
+        TransactionCreateRequestDTO request = buildCreateRequest(event);
+        TransactionDTO transactionDTO = accountTransactionClient.createTransaction(request, event.getIdempotencyKey()).getBody();
+        if (transactionDTO == null || transactionDTO.getId() == null) {
+            throw new PurchaseException("TRANSACTION_CREATION_FAILED",
+                    "Failed to create transaction: response body or transaction ID is null");
+        }
+        return transactionDTO.getId();
+    }
+
+    private TransactionCreateRequestDTO buildCreateRequest(@NonNull OutboxEvent event) {
+        TransactionCreateRequestDTO request = new TransactionCreateRequestDTO();
+        request.setType(TransactionType.CLIENT_PAYMENT);
+        request.setFromAccountId(event.getFromAccountId());
+        request.setAmount(event.getAmount());
+        request.setCurrency(event.getCurrency());
+        request.setClientId(event.getClientId());
+        request.setDescription(event.getDescription());
+        return request;
+    }
+
+    private Long resolveTransactionId(@NonNull OutboxEvent event) {
+        if (event.getTransactionId() != null) {
+            return event.getTransactionId();
+        }
+        return outboxEventRepository.findFirstByPurchaseIdAndEventTypeAndStatusOrderByIdDesc(
+                        event.getPurchaseId(), OutboxEventType.TRANSACTION_CREATE, OutboxEventStatus.DELIVERED)
+                .map(OutboxEvent::getTransactionId)
+                .orElseThrow(() -> new PurchaseException("TRANSACTION_NOT_CREATED",
+                        String.format("No delivered transaction for purchase %d", event.getPurchaseId())));
+    }
+
+    private SecurityContext executorContext(@NonNull OutboxEvent event) {
+        List<String> authorities = event.getExecutorAuthorities() == null || event.getExecutorAuthorities().isEmpty()
+                ? List.of()
+                : Arrays.asList(event.getExecutorAuthorities().split(PurchaseOutboxService.AUTHORITIES_DELIMITER));
+        String token = jwtTokenProvider.createToken(event.getExecutorUserId(), event.getExecutorLogin(),
+                authorities, tokenValiditySeconds * 1000);
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                event.getExecutorLogin(), token, authorities.stream().map(SimpleGrantedAuthority::new).toList());
+        authentication.setDetails(event.getExecutorUserId());
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        return context;
+    }
+
+    private void markDelivered(@NonNull OutboxEvent event, Long transactionId) {
+        event.setStatus(OutboxEventStatus.DELIVERED);
+        event.setTransactionId(transactionId);
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(null);
+        event.setDeliveredAt(LocalDateTime.now());
+        outboxEventRepository.save(event);
+
+        if (event.getEventType() == OutboxEventType.TRANSACTION_CREATE && transactionId != null) {
+            purchaseRepository.updateTransaction(event.getPurchaseId(), transactionId);
+        }
+    }
+
+    private void markAttemptFailed(@NonNull OutboxEvent event, String error) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(error));
+        if (attempts >= maxAttempts) {
+            event.setStatus(OutboxEventStatus.FAILED);
+            log.error("Outbox event {} failed after {} attempts: purchaseId={}, type={}",
+                    event.getId(), attempts, event.getPurchaseId(), event.getEventType());
+        } else {
+            long backoffSeconds = Math.min(MAX_BACKOFF_SECONDS, initialBackoffSeconds << Math.min(attempts - 1, 20));
+            event.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+        }
+        outboxEventRepository.save(event);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
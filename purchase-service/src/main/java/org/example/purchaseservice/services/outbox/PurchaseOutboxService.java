@@ -0,0 +1,95 @@
+package org.example.purchaseservice.services.outbox;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.purchaseservice.exceptions.PurchaseException;
+import org.example.purchaseservice.models.Purchase;
+import org.example.purchaseservice.models.dto.transaction.TransactionCreateRequestDTO;
+import org.example.purchaseservice.models.outbox.OutboxEvent;
+import org.example.purchaseservice.models.outbox.OutboxEventStatus;
+import org.example.purchaseservice.models.outbox.OutboxEventType;
+import org.example.purchaseservice.repositories.OutboxEventRepository;
+import org.example.purchaseservice.utils.SecurityUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PurchaseOutboxService {
+
+    static final String AUTHORITIES_DELIMITER = ",";
+    private static final List<OutboxEventStatus> LIVE_CREATE_STATUSES =
+            List.of(OutboxEventStatus.PENDING, OutboxEventStatus.DELIVERED);
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueTransactionCreate(@NonNull Long purchaseId, @NonNull TransactionCreateRequestDTO request) {
+        OutboxEvent event = newEvent(purchaseId, OutboxEventType.TRANSACTION_CREATE);
+        event.setFromAccountId(request.getFromAccountId());
+        event.setAmount(request.getAmount());
+        event.setCurrency(request.getCurrency());
+        event.setClientId(request.getClientId());
+        event.setDescription(request.getDescription());
+        save(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueTransactionAmountUpdate(@NonNull Purchase purchase, @NonNull BigDecimal amount) {
+        if (!hasTransaction(purchase)) {
+            return;
+        }
+        OutboxEvent event = newEvent(purchase.getId(), OutboxEventType.TRANSACTION_UPDATE_AMOUNT);
+        event.setTransactionId(purchase.getTransaction());
+        event.setAmount(amount);
+        save(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueTransactionDelete(@NonNull Purchase purchase) {
+        if (!hasTransaction(purchase)) {
+            return;
+        }
+        OutboxEvent event = newEvent(purchase.getId(), OutboxEventType.TRANSACTION_DELETE);
+        event.setTransactionId(purchase.getTransaction());
+        save(event);
+    }
+
+    private boolean hasTransaction(@NonNull Purchase purchase) {
+        return purchase.getTransaction() != null || outboxEventRepository.existsByPurchaseIdAndEventTypeAndStatusIn(
+                purchase.getId(), OutboxEventType.TRANSACTION_CREATE, LIVE_CREATE_STATUSES);
+    }
+
+    private OutboxEvent newEvent(@NonNull Long purchaseId, @NonNull OutboxEventType eventType) {
+        Long executorUserId = SecurityUtils.getCurrentUserId();
+        String executorLogin = SecurityUtils.getCurrentUserLogin();
+        if (executorUserId == null || executorLogin == null) {
+            throw new PurchaseException("ACCESS_DENIED", "Current user is required to schedule a transaction change");
+        }
+
+        OutboxEvent event = new OutboxEvent();
+        event.setPurchaseId(purchaseId);
+        event.setEventType(eventType);
+        event.setStatus(OutboxEventStatus.PENDING);
+        event.setIdempotencyKey(UUID.randomUUID().toString());
+        event.setExecutorUserId(executorUserId);
+        event.setExecutorLogin(executorLogin);
+        event.setExecutorAuthorities(String.join(AUTHORITIES_DELIMITER, SecurityUtils.getCurrentUserAuthorities()));
+        event.setNextAttemptAt(LocalDateTime.now());
+        return event;
+    }
+
+    private void save(@NonNull OutboxEvent event) {
+        outboxEventRepository.save(event);
+        log.info("Outbox event queued: purchaseId={}, type={}, key={}",
+                event.getPurchaseId(), event.getEventType(), event.getIdempotencyKey());
+    }
+}
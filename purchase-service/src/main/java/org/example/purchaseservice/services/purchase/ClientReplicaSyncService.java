@@ -0,0 +1,292 @@
+package org.example.purchaseservice.services.purchase;
+
+import feign.FeignException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.purchaseservice.clients.ClientApiClient;
+import org.example.purchaseservice.mappers.ClientReplicaMapper;
+import org.example.purchaseservice.models.ClientReplica;
+import org.example.purchaseservice.models.dto.client.ClientChangeDTO;
+import org.example.purchaseservice.repositories.ClientReplicaRepository;
+import org.example.purchaseservice.security.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code client_replicas} in step with client-service. The incremental sync follows the change feed by
+ * the server-assigned {@code changed_at}, re-reading a short overlap so rows committed late with an earlier
+ * stamp are not skipped. The periodic reconcile re-reads the whole feed and removes replicas of clients that no
+ * longer exist; it runs on one instance at a time under a database-level named lock and only removes rows stamped
+ * before it started, so rows another instance's incremental sync adds meanwhile survive. Both run on the scheduler
+ * with a service token, never on a request thread.
+ */
+@Slf4j
+@Service
+public class ClientReplicaSyncService {
+
+    private static final LocalDateTime INITIAL_CURSOR = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final String CLIENT_VIEW_AUTHORITY = "client:view";
+    private static final String RECONCILE_LOCK_NAME = "purchase-service.client-replica.reconcile";
+
+    private final ClientApiClient clientApiClient;
+    private final ClientReplicaRepository replicaRepository;
+    private final ClientReplicaMapper replicaMapper;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final AtomicBoolean caughtUp = new AtomicBoolean();
+    private final AtomicBoolean reconcileRequired = new AtomicBoolean();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${purchase.client-replica.page-size:1000}")
+    private int pageSize;
+
+    @Value("${purchase.client-replica.service-user-id:0}")
+    private Long serviceUserId;
+
+    @Value("${purchase.client-replica.service-login:purchase-service}")
+    private String serviceLogin;
+
+    @Value("${purchase.client-replica.token-validity-seconds:300}")
+    private long tokenValiditySeconds;
+
+    public ClientReplicaSyncService(@NonNull ClientApiClient clientApiClient,
+                                    @NonNull ClientReplicaRepository replicaRepository,
+                                    @NonNull ClientReplicaMapper replicaMapper,
+                                    @NonNull JwtTokenProvider jwtTokenProvider,
+                                    @NonNull PlatformTransactionManager transactionManager,
+                                    @NonNull DataSource dataSource) {
+        this.clientApiClient = clientApiClient;
+        this.replicaRepository = replicaRepository;
+        this.replicaMapper = replicaMapper;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.dataSource = dataSource;
+    }
+
+    public boolean isCaughtUp() {
+        return caughtUp.get();
+    }
+
+    @Scheduled(fixedDelayString = "${purchase.client-replica.sync-interval-ms:30000}")
+    public void syncChanges() {
+        if (!syncLock.tryLock()) {
+            return;
+        }
+        SecurityContext previousContext = SecurityContextHolder.getContext();
+        try {
+            SecurityContextHolder.setContext(serviceContext());
+            pullChanges();
+            caughtUp.set(!reconcileRequired.get());
+        } catch (FeignException e) {
+            caughtUp.set(false);
+            log.warn("Feign error syncing client replica: status={}, error={}", e.status(), e.getMessage());
+        } catch (Exception e) {
+            caughtUp.set(false);
+            log.warn("Unexpected error syncing client replica: {}", e.getMessage(), e);
+        } finally {
+            SecurityContextHolder.setContext(previousContext);
+            syncLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${purchase.client-replica.reconcile-interval-ms:3600000}",
+            initialDelayString = "${purchase.client-replica.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        syncLock.lock();
+        SecurityContext previousContext = SecurityContextHolder.getContext();
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!acquireReconcileLock(lockConnection)) {
+                log.debug("Client replica reconcile skipped: another instance holds the reconcile lock");
+                return;
+            }
+            try {
+                SecurityContextHolder.setContext(serviceContext());
+                reconcileAll();
+            } finally {
+                releaseReconcileLock(lockConnection);
+            }
+        } catch (FeignException e) {
+            log.warn("Feign error reconciling client replica: status={}, error={}", e.status(), e.getMessage());
+        } catch (Exception e) {
+            log.warn("Unexpected error reconciling client replica: {}", e.getMessage(), e);
+        } finally {
+            SecurityContextHolder.setContext(previousContext);
+            syncLock.unlock();
+        }
+    }
+
+    private void pullChanges() {
+        LocalDateTime changedAfter = replicaRepository.findFirstByOrderByChangedAtDescIdDesc()
+                .map(latest -> latest.getChangedAt().minus(SYNC_OVERLAP))
+                .orElse(INITIAL_CURSOR);
+        long afterId = 0L;
+
+        while (true) {
+            List<ClientChangeDTO> changes = fetchChanges(changedAfter, afterId);
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(_ -> applyChanges(changes));
+            log.debug("Applied {} client changes to replica", changes.size());
+
+            ClientChangeDTO last = changes.getLast();
+            changedAfter = last.changedAt();
+            afterId = last.id();
+            if (changes.size() < pageSize) {
+                return;
+            }
+        }
+    }
+
+    private void reconcileAll() {
+        long run = System.currentTimeMillis();
+        LocalDateTime removableBefore = replicaRepository.findFirstByOrderByChangedAtDescIdDesc()
+                .map(latest -> latest.getChangedAt().minus(SYNC_OVERLAP))
+                .orElse(INITIAL_CURSOR);
+        LocalDateTime changedAfter = INITIAL_CURSOR;
+        long afterId = 0L;
+        int drifted = 0;
+
+        while (true) {
+            List<ClientChangeDTO> changes = fetchChanges(changedAfter, afterId);
+            if (changes.isEmpty()) {
+                break;
+            }
+
+            Integer pageDrift = transactionTemplate.execute(_ -> reconcilePage(changes, run));
+            if (pageDrift != null && pageDrift > 0) {
+                drifted += pageDrift;
+                markDrifted();
+            }
+
+            ClientChangeDTO last = changes.getLast();
+            changedAfter = last.changedAt();
+            afterId = last.id();
+            if (changes.size() < pageSize) {
+                break;
+            }
+        }
+
+        Integer removed = transactionTemplate.execute(_ -> replicaRepository.deleteNotReconciled(run,
+                removableBefore));
+        if (removed != null && removed > 0) {
+            markDrifted();
+        }
+        if (drifted > 0 || (removed != null && removed > 0)) {
+            log.warn("Client replica reconcile repaired drift: updated={}, removed={}", drifted, removed);
+        }
+        reconcileRequired.set(false);
+        caughtUp.set(true);
+    }
+
+    private boolean acquireReconcileLock(@NonNull Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, RECONCILE_LOCK_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseReconcileLock(@NonNull Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, RECONCILE_LOCK_NAME);
+            statement.execute();
+        } catch (SQLException e) {
+            log.warn("Failed to release client replica reconcile lock: {}", e.getMessage());
+        }
+    }
+
+    private void markDrifted() {
+        reconcileRequired.set(true);
+        caughtUp.set(false);
+    }
+
+    private List<ClientChangeDTO> fetchChanges(@NonNull LocalDateTime changedAfter, long afterId) {
+        List<ClientChangeDTO> changes = clientApiClient.getClientChanges(
+                changedAfter.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), afterId, pageSize).getBody();
+        return changes != null ? changes : List.of();
+    }
+
+    private void applyChanges(@NonNull List<ClientChangeDTO> changes) {
+        Map<Long, ClientReplica> existing = findExisting(changes);
+        for (ClientChangeDTO change : changes) {
+            upsert(existing.get(change.id()), change);
+        }
+    }
+
+    private int reconcilePage(@NonNull List<ClientChangeDTO> changes, long run) {
+        Map<Long, ClientReplica> existing = findExisting(changes);
+        int drifted = 0;
+        for (ClientChangeDTO change : changes) {
+            ClientReplica replica = existing.get(change.id());
+            if (replica == null || !replicaMapper.matches(replica, change)) {
+                upsert(replica, change);
+                drifted++;
+            }
+        }
+        replicaRepository.markReconciled(changes.stream().map(ClientChangeDTO::id).toList(), run);
+        return drifted;
+    }
+
+    private Map<Long, ClientReplica> findExisting(@NonNull List<ClientChangeDTO> changes) {
+        return replicaRepository.findAllById(changes.stream().map(ClientChangeDTO::id).toList()).stream()
+                .collect(Collectors.toMap(ClientReplica::getId, Function.identity()));
+    }
+
+    private void upsert(ClientReplica replica, @NonNull ClientChangeDTO change) {
+        if (replica != null) {
+            replicaMapper.applyChange(replica, change);
+            return;
+        }
+        ClientReplica created = new ClientReplica();
+        replicaMapper.applyChange(created, change);
+        entityManager.persist(created);
+    }
+
+    private SecurityContext serviceContext() {
+        List<String> authorities = List.of(CLIENT_VIEW_AUTHORITY);
+        String token = jwtTokenProvider.createToken(serviceUserId, serviceLogin, authorities,
+                tokenValiditySeconds * 1000);
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                serviceLogin, token, authorities.stream().map(SimpleGrantedAuthority::new).toList());
+        authentication.setDetails(serviceUserId);
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        return context;
+    }
+}
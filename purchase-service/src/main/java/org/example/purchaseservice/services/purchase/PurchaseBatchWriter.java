@@ -0,0 +1,106 @@
+package org.example.purchaseservice.services.purchase;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.example.purchaseservice.exceptions.PurchaseException;
+import org.example.purchaseservice.models.Purchase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PurchaseBatchWriter {
+
+    private static final String PURCHASE_COLUMNS = "user_id, executed_user_id, client_id, source_id, product_id, "
+            + "quantity, unit_price, total_price, payment_method, created_at, updated_at, currency, exchange_rate, "
+            + "exchange_rate_to_eur, comment, total_price_eur, unit_price_eur";
+    private static final int PURCHASE_PARAMS = 17;
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final String GENERATED_KEY_COLUMN = "GENERATED_KEY";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(@NonNull List<Purchase> purchases) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < purchases.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertChunk(purchases.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, purchases.size())), now);
+        }
+    }
+
+    private void insertChunk(@NonNull List<Purchase> chunk, @NonNull LocalDateTime now) {
+        String sql = buildMultiRowInsert(chunk.size());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (Purchase purchase : chunk) {
+                index = bindPurchase(ps, index, purchase, now);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != chunk.size()) {
+            throw new PurchaseException("PURCHASE_SAVE_ERROR",
+                    String.format("Expected %d generated IDs, got %d", chunk.size(), keys.size()));
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            Object key = keys.get(i).get(GENERATED_KEY_COLUMN);
+            if (key == null) {
+                key = keys.get(i).values().iterator().next();
+            }
+            chunk.get(i).setId(((Number) key).longValue());
+        }
+    }
+
+    private int bindPurchase(@NonNull PreparedStatement ps, int index, @NonNull Purchase purchase,
+                             @NonNull LocalDateTime now) throws SQLException {
+        purchase.setCreatedAt(purchase.getCreatedAt() != null ? purchase.getCreatedAt() : now);
+        purchase.setUpdatedAt(now);
+
+        ps.setLong(index++, purchase.getUser());
+        ps.setLong(index++, purchase.getExecutedUser());
+        ps.setLong(index++, purchase.getClient());
+        setNullableLong(ps, index++, purchase.getSource());
+        ps.setLong(index++, purchase.getProduct());
+        ps.setBigDecimal(index++, purchase.getQuantity());
+        ps.setBigDecimal(index++, purchase.getUnitPrice());
+        ps.setBigDecimal(index++, purchase.getTotalPrice());
+        ps.setString(index++, purchase.getPaymentMethod().name());
+        ps.setTimestamp(index++, Timestamp.valueOf(purchase.getCreatedAt()));
+        ps.setTimestamp(index++, Timestamp.valueOf(purchase.getUpdatedAt()));
+        ps.setString(index++, purchase.getCurrency());
+        ps.setBigDecimal(index++, purchase.getExchangeRate());
+        ps.setBigDecimal(index++, purchase.getExchangeRateToEur());
+        ps.setString(index++, purchase.getComment());
+        ps.setBigDecimal(index++, purchase.getTotalPriceEur());
+        ps.setBigDecimal(index++, purchase.getUnitPriceEur());
+        return index;
+    }
+
+    private void setNullableLong(@NonNull PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private String buildMultiRowInsert(int rows) {
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(PURCHASE_PARAMS, "?")) + ")";
+        return "INSERT INTO purchases (" + PURCHASE_COLUMNS + ") VALUES "
+                + String.join(", ", Collections.nCopies(rows, rowPlaceholders));
+    }
+}
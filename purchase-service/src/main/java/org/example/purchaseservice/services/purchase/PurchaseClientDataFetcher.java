@@ -4,17 +4,22 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.purchaseservice.clients.ClientApiClient;
+import org.example.purchaseservice.mappers.ClientReplicaMapper;
 import org.example.purchaseservice.models.ClientData;
+import org.example.purchaseservice.models.ClientReplicaFilter;
 import org.example.purchaseservice.models.dto.client.ClientSearchRequest;
 import org.example.purchaseservice.models.dto.client.ClientDTO;
 import org.example.purchaseservice.services.impl.ISourceService;
 import org.example.purchaseservice.models.dto.fields.SourceDTO;
+import org.example.purchaseservice.repositories.ClientReplicaRepository;
+import org.example.purchaseservice.utils.ClientIdSetCodec;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import feign.FeignException;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -26,10 +31,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PurchaseClientDataFetcher {
     
+    private static final String CLIENT_FILTER_SOURCE = "source";
+    
     private final ClientApiClient clientApiClient;
     private final ISourceService sourceService;
+    private final ClientReplicaSyncService replicaSyncService;
+    private final ClientReplicaRepository replicaRepository;
+    private final ClientReplicaMapper replicaMapper;
     
     public ClientData fetchClientData(String query, @NonNull Map<String, List<String>> clientFilterParams, Long clientTypeId) {
+        ClientReplicaFilter replicaFilter = toReplicaFilter(query, clientFilterParams, clientTypeId);
+        if (replicaFilter != null) {
+            return new ClientData(null, Collections.emptyMap(), replicaFilter);
+        }
+        
         try {
             if (hasClientFilters(clientFilterParams, query) || clientTypeId != null) {
                 List<Long> clientIds = fetchClientIdsWithFilters(query, clientFilterParams, clientTypeId);
@@ -65,22 +80,56 @@ public class PurchaseClientDataFetcher {
             return Collections.emptyMap();
         }
         
+        Map<Long, ClientDTO> clientMap = new HashMap<>();
+        replicaRepository.findAllById(clientIds)
+                .forEach(replica -> clientMap.put(replica.getId(), replicaMapper.replicaToClientDTO(replica)));
+        
+        List<Long> missingClientIds = clientIds.stream()
+                .filter(clientId -> !clientMap.containsKey(clientId))
+                .toList();
+        if (missingClientIds.isEmpty()) {
+            return clientMap;
+        }
+        
         try {
-            List<Long> clientIdsList = new ArrayList<>(clientIds);
-            List<ClientDTO> clients = clientApiClient.getClientsByIds(clientIdsList).getBody();
+            List<ClientDTO> clients = clientApiClient.getClientsByIds(new ArrayList<>(missingClientIds)).getBody();
             if (clients == null) {
                 clients = Collections.emptyList();
             }
-            return buildClientMap(clients);
+            clientMap.putAll(buildClientMap(clients));
+            return clientMap;
         } catch (FeignException e) {
             log.error("Feign error fetching clients by IDs: status={}, error={}", e.status(), e.getMessage(), e);
-            return Collections.emptyMap();
+            return clientMap;
         } catch (Exception e) {
             log.error("Unexpected error fetching clients by IDs: error={}", e.getMessage(), e);
-            return Collections.emptyMap();
+            return clientMap;
         }
     }
     
+    private ClientReplicaFilter toReplicaFilter(String query, @NonNull Map<String, List<String>> clientFilterParams,
+                                                Long clientTypeId) {
+        if (clientTypeId == null || StringUtils.hasText(query) || !replicaSyncService.isCaughtUp()) {
+            return null;
+        }
+        if (!clientFilterParams.keySet().stream().allMatch(CLIENT_FILTER_SOURCE::equals)) {
+            return null;
+        }
+        
+        List<Long> sourceIds = new ArrayList<>();
+        for (String value : clientFilterParams.getOrDefault(CLIENT_FILTER_SOURCE, Collections.emptyList())) {
+            if (value == null || value.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                sourceIds.add(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return new ClientReplicaFilter(clientTypeId, sourceIds);
+    }
+    
     private boolean hasClientFilters(@NonNull Map<String, List<String>> clientFilterParams, String query) {
         boolean hasQuery = query != null && !query.trim().isEmpty();
         boolean hasClientFilters = !clientFilterParams.isEmpty();
@@ -89,10 +138,10 @@ public class PurchaseClientDataFetcher {
 
     private List<Long> fetchClientIdsWithFilters(String query, @NonNull Map<String, List<String>> clientFilterParams, Long clientTypeId) {
         ClientSearchRequest clientRequest = new ClientSearchRequest(query, clientFilterParams, clientTypeId);
-        List<Long> clientIds = clientApiClient.searchClientIds(clientRequest).getBody();
-        if (clientIds == null) {
-            clientIds = Collections.emptyList();
-        }
+        byte[] encodedIds = clientApiClient.searchClientIdsCompact(clientRequest).getBody();
+        List<Long> clientIds = encodedIds != null && encodedIds.length > 0
+                ? ClientIdSetCodec.decode(encodedIds)
+                : Collections.emptyList();
         return clientIds;
     }
     
@@ -1,34 +1,31 @@
 package org.example.purchaseservice.services.purchase;
 
-import jakarta.persistence.criteria.Predicate;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.example.purchaseservice.clients.ClientApiClient;
+import org.example.purchaseservice.models.ClientProductQuantity;
 import org.example.purchaseservice.models.Product;
-import org.example.purchaseservice.models.Purchase;
 import org.example.purchaseservice.models.dto.client.ClientDTO;
-import org.example.purchaseservice.models.dto.client.ClientSearchRequest;
 import org.example.purchaseservice.exceptions.PurchaseException;
 import org.example.purchaseservice.repositories.PurchaseRepository;
 import org.example.purchaseservice.services.impl.IProductService;
 import feign.FeignException;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -40,7 +37,9 @@ public class PurchaseComparisonReportService {
     private static final String COMPARISON_EXCEL_FILENAME = "purchase_report.xlsx";
     private static final String ALL_PRODUCTS_FILTER = "all";
     private static final String UNKNOWN_PRODUCT = "Unknown Product";
-    private static final Long DEFAULT_PRODUCT_ID = 1L;
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int CLIENT_BATCH_SIZE = 500;
+    private static final int COLUMN_COUNT = 4;
     
     private final PurchaseRepository purchaseRepository;
     private final ClientApiClient clientApiClient;
@@ -48,20 +47,25 @@ public class PurchaseComparisonReportService {
     
     public record DateRange(LocalDateTime fromDateTime, LocalDateTime toDateTime) {}
     
+    @Transactional(readOnly = true)
     public void generateComparisonExcelFile(@NonNull String purchaseDataFrom, @NonNull String purchaseDataTo, 
                                             @NonNull HttpServletResponse response) {
+        SXSSFWorkbook workbook = null;
         try {
             DateRange dateRange = parseAndValidateDateRange(purchaseDataFrom, purchaseDataTo);
-            List<ClientDTO> clients = fetchAllClients();
             Map<Long, String> productNames = fetchProductNames();
             
-            XSSFWorkbook workbook = new XSSFWorkbook();
-            XSSFSheet sheet = workbook.createSheet("Purchase Report");
+            workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+            workbook.setCompressTempFiles(true);
+            SXSSFSheet sheet = workbook.createSheet("Purchase Report");
+            sheet.trackAllColumnsForAutoSizing();
             
             createComparisonHeaderRow(sheet);
             
-            Map<Long, Map<Long, BigDecimal>> clientProductSums = calculateClientProductSums(clients, dateRange);
-            fillComparisonDataRows(sheet, clients, clientProductSums, productNames);
+            try (Stream<ClientProductQuantity> sums = purchaseRepository.streamClientProductQuantities(
+                    dateRange.fromDateTime(), dateRange.toDateTime())) {
+                fillComparisonDataRows(sheet, sums, productNames);
+            }
             
             autoSizeColumns(sheet);
             sendComparisonExcelResponse(workbook, response);
@@ -75,6 +79,10 @@ public class PurchaseComparisonReportService {
             log.error("Error generating Excel file", e);
             throw new PurchaseException("EXCEL_GENERATION_ERROR", 
                 String.format("Failed to generate Excel file: %s", e.getMessage()));
+        } finally {
+            if (workbook != null) {
+                workbook.dispose();
+            }
         }
     }
 
@@ -99,7 +107,7 @@ public class PurchaseComparisonReportService {
                 .collect(Collectors.toMap(Product::getId, Product::getName, (existing, _) -> existing));
     }
 
-    private void createComparisonHeaderRow(@NonNull XSSFSheet sheet) {
+    private void createComparisonHeaderRow(@NonNull SXSSFSheet sheet) {
         Row headerRow = sheet.createRow(0);
         String[] headers = {"Client ID", "Company", "Product", "Total Volume"};
         for (int i = 0; i < headers.length; i++) {
@@ -107,97 +115,77 @@ public class PurchaseComparisonReportService {
         }
     }
 
-    private Map<Long, Map<Long, BigDecimal>> calculateClientProductSums(@NonNull List<ClientDTO> clients, 
-                                                                        @NonNull DateRange dateRange) {
-        List<Long> clientIds = clients.stream()
-                .filter(client -> client != null && client.getId() != null)
-                .map(ClientDTO::getId)
-                .toList();
-
-        Specification<Purchase> spec = buildPurchaseSpecification(clientIds, dateRange);
-        List<Purchase> allPurchases = purchaseRepository.findAll(spec, Pageable.unpaged()).getContent();
-
-        return allPurchases.stream()
-                .filter(p -> p.getClient() != null && p.getProduct() != null && p.getQuantity() != null)
-                .collect(Collectors.groupingBy(
-                        Purchase::getClient,
-                        Collectors.groupingBy(
-                                Purchase::getProduct,
-                                Collectors.reducing(
-                                        BigDecimal.ZERO,
-                                        Purchase::getQuantity,
-                                        BigDecimal::add
-                                )
-                        )
-                ));
-    }
+    private void fillComparisonDataRows(@NonNull SXSSFSheet sheet, @NonNull Stream<ClientProductQuantity> sums,
+                                       @NonNull Map<Long, String> productNames) {
+        List<ClientProductQuantity> batch = new ArrayList<>();
+        Set<Long> batchClientIds = new LinkedHashSet<>();
+        int rowNum = 1;
 
-    private Specification<Purchase> buildPurchaseSpecification(@NonNull List<Long> clientIds, @NonNull DateRange dateRange) {
-        return (root, _, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            if (!clientIds.isEmpty()) {
-                predicates.add(root.get("client").in(clientIds));
+        Iterator<ClientProductQuantity> iterator = sums.iterator();
+        while (iterator.hasNext()) {
+            ClientProductQuantity sum = iterator.next();
+            if (!batchClientIds.contains(sum.clientId()) && batchClientIds.size() >= CLIENT_BATCH_SIZE) {
+                rowNum = writeBatch(sheet, rowNum, batch, batchClientIds, productNames);
+                batch.clear();
+                batchClientIds.clear();
             }
-            predicates.add(cb.between(root.get("createdAt"), dateRange.fromDateTime(), dateRange.toDateTime()));
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+            batch.add(sum);
+            batchClientIds.add(sum.clientId());
+        }
+        writeBatch(sheet, rowNum, batch, batchClientIds, productNames);
     }
 
-    private void fillComparisonDataRows(@NonNull XSSFSheet sheet, @NonNull List<ClientDTO> clients,
-                                       @NonNull Map<Long, Map<Long, BigDecimal>> clientProductSums,
-                                       @NonNull Map<Long, String> productNames) {
-        int rowNum = 1;
-        for (ClientDTO client : clients) {
-            if (client == null || client.getId() == null) {
-                continue;
-            }
-            
-            Map<Long, BigDecimal> productSums = clientProductSums.getOrDefault(client.getId(), Collections.emptyMap());
-            
-            if (productSums.isEmpty()) {
-                createComparisonRow(sheet, rowNum++, client, DEFAULT_PRODUCT_ID, BigDecimal.ZERO, productNames);
-            } else {
-                for (Map.Entry<Long, BigDecimal> entry : productSums.entrySet()) {
-                    createComparisonRow(sheet, rowNum++, client, entry.getKey(), entry.getValue(), productNames);
-                }
-            }
+    private int writeBatch(@NonNull SXSSFSheet sheet, int rowNum, @NonNull List<ClientProductQuantity> batch,
+                           @NonNull Set<Long> clientIds, @NonNull Map<Long, String> productNames) {
+        if (batch.isEmpty()) {
+            return rowNum;
         }
+
+        Map<Long, String> companies = fetchCompanies(clientIds);
+        for (ClientProductQuantity sum : batch) {
+            createComparisonRow(sheet, rowNum++, sum, companies, productNames);
+        }
+        return rowNum;
     }
 
-    private void createComparisonRow(@NonNull XSSFSheet sheet, int rowNum, @NonNull ClientDTO client,
-                                    Long productId, @NonNull BigDecimal quantity, @NonNull Map<Long, String> productNames) {
+    private void createComparisonRow(@NonNull SXSSFSheet sheet, int rowNum, @NonNull ClientProductQuantity sum,
+                                    @NonNull Map<Long, String> companies, @NonNull Map<Long, String> productNames) {
         Row row = sheet.createRow(rowNum);
-        row.createCell(0).setCellValue(client.getId());
-        row.createCell(1).setCellValue(client.getCompany() != null ? client.getCompany() : "");
-        row.createCell(2).setCellValue(productNames.getOrDefault(productId, UNKNOWN_PRODUCT));
-        row.createCell(3).setCellValue(quantity.doubleValue());
+        row.createCell(0).setCellValue(sum.clientId());
+        row.createCell(1).setCellValue(companies.getOrDefault(sum.clientId(), ""));
+        row.createCell(2).setCellValue(productNames.getOrDefault(sum.productId(), UNKNOWN_PRODUCT));
+        row.createCell(3).setCellValue(sum.quantity() != null ? sum.quantity().doubleValue() : 0);
     }
 
-    private void autoSizeColumns(@NonNull XSSFSheet sheet) {
-        for (int i = 0; i < 4; i++) {
+    private void autoSizeColumns(@NonNull SXSSFSheet sheet) {
+        for (int i = 0; i < COLUMN_COUNT; i++) {
             sheet.autoSizeColumn(i);
         }
     }
 
-    private void sendComparisonExcelResponse(@NonNull XSSFWorkbook workbook, @NonNull HttpServletResponse response) throws IOException {
+    private void sendComparisonExcelResponse(@NonNull SXSSFWorkbook workbook, @NonNull HttpServletResponse response) throws IOException {
         response.setContentType(EXCEL_CONTENT_TYPE);
         response.setHeader("Content-Disposition", "attachment; filename=" + COMPARISON_EXCEL_FILENAME);
         workbook.write(response.getOutputStream());
         workbook.close();
     }
     
-    private List<ClientDTO> fetchAllClients() {
+    private Map<Long, String> fetchCompanies(@NonNull Set<Long> clientIds) {
         try {
-            ClientSearchRequest request = new ClientSearchRequest(null, null, null);
-            List<ClientDTO> clients = clientApiClient.searchClients(request).getBody();
-            return clients != null ? clients : Collections.emptyList();
+            List<ClientDTO> clients = clientApiClient.getClientsByIds(new ArrayList<>(clientIds)).getBody();
+            if (clients == null) {
+                return Collections.emptyMap();
+            }
+            return clients.stream()
+                    .filter(client -> client != null && client.getId() != null && client.getCompany() != null)
+                    .collect(Collectors.toMap(ClientDTO::getId, ClientDTO::getCompany, (existing, _) -> existing));
         } catch (FeignException e) {
-            log.error("Feign error fetching all clients: status={}, error={}", 
+            log.error("Feign error fetching clients for comparison report: status={}, error={}", 
                     e.status(), e.getMessage(), e);
-            return Collections.emptyList();
+            return Collections.emptyMap();
         } catch (Exception e) {
-            log.error("Unexpected error fetching all clients: error={}", e.getMessage(), e);
-            return Collections.emptyList();
+            log.error("Unexpected error fetching clients for comparison report: error={}", e.getMessage(), e);
+            return Collections.emptyMap();
         }
     }
 }
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.purchaseservice.exceptions.PurchaseNotFoundException;
 import org.example.purchaseservice.models.PaymentMethod;
 import org.example.purchaseservice.models.Purchase;
+import org.example.purchaseservice.models.dto.transaction.TransactionCreateRequestDTO;
 import org.example.purchaseservice.repositories.PurchaseRepository;
 import org.example.purchaseservice.services.impl.IDriverProductBalanceService;
 import org.example.purchaseservice.services.impl.IPurchaseCrudService;
@@ -16,6 +17,11 @@ import org.springframework.transaction.annotation.Transactional;
 import org.example.purchaseservice.services.exchange.IExchangeRateService;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
@@ -32,6 +38,8 @@ public class PurchaseCrudService implements IPurchaseCrudService {
     private final PurchaseUpdateService updateService;
     private final PurchaseTransactionService transactionService;
     private final PurchaseDeletionService deletionService;
+    private final PurchaseDailyRollupService rollupService;
+    private final PurchaseBatchWriter batchWriter;
 
     @Override
     @Transactional
@@ -49,17 +57,23 @@ public class PurchaseCrudService implements IPurchaseCrudService {
         purchase.setExchangeRateToEur(exchangeRateToEur);
         purchaseService.calculateAndSetPricesInEur(purchase, exchangeRateToEur);
 
-        Long transactionId = null;
+        TransactionCreateRequestDTO transactionRequest = null;
         if (PaymentMethod.CASH.equals(purchase.getPaymentMethod())) {
-            transactionId = transactionService.createAccountTransactionForPurchase(purchase.getUser(), purchase);
+            transactionRequest = transactionService.prepareAccountTransactionForPurchase(purchase.getUser(), purchase);
         }
 
-        purchase.setTransaction(transactionId);
+        purchase.setTransaction(null);
 
         Purchase savedPurchase = purchaseRepository.save(purchase);
         log.info("Purchase created: id={}, userId={}, productId={}", 
                 savedPurchase.getId(), savedPurchase.getUser(), savedPurchase.getProduct());
 
+        if (transactionRequest != null) {
+            transactionService.scheduleAccountTransactionCreation(savedPurchase, transactionRequest);
+        }
+
+        rollupService.add(savedPurchase);
+
         if (savedPurchase.getTotalPriceEur() != null && savedPurchase.getQuantity() != null) {
             driverProductBalanceService.addProduct(
                     savedPurchase.getUser(),
@@ -72,6 +86,67 @@ public class PurchaseCrudService implements IPurchaseCrudService {
         return savedPurchase;
     }
 
+    @Override
+    @Transactional
+    public List<Purchase> createPurchases(@NonNull List<Purchase> purchases) {
+        log.info("Creating batch of {} purchases", purchases.size());
+
+        Long executedUserId = SecurityUtils.getCurrentUserId();
+        Map<String, BigDecimal> exchangeRatesToEur = new HashMap<>();
+        for (Purchase purchase : purchases) {
+            purchase.setExecutedUser(executedUserId);
+            purchase.setTransaction(null);
+
+            purchaseService.calculateAndSetUnitPrice(purchase);
+
+            BigDecimal exchangeRateToEur = exchangeRatesToEur.computeIfAbsent(
+                    getPurchaseCurrencyOrDefault(purchase.getCurrency()), exchangeRateService::getExchangeRateToEur);
+            purchase.setExchangeRateToEur(exchangeRateToEur);
+            purchaseService.calculateAndSetPricesInEur(purchase, exchangeRateToEur);
+        }
+
+        List<TransactionCreateRequestDTO> transactionRequests =
+                transactionService.prepareAccountTransactionsForPurchases(purchases);
+
+        batchWriter.insertAll(purchases);
+        log.info("Purchases created: count={}", purchases.size());
+
+        for (int i = 0; i < purchases.size(); i++) {
+            TransactionCreateRequestDTO transactionRequest = transactionRequests.get(i);
+            if (transactionRequest != null) {
+                transactionService.scheduleAccountTransactionCreation(purchases.get(i), transactionRequest);
+            }
+        }
+
+        rollupService.addAll(purchases);
+        applyDriverBalanceDeltas(purchases);
+
+        return purchases;
+    }
+
+    private void applyDriverBalanceDeltas(@NonNull List<Purchase> purchases) {
+        Map<DriverProductKey, BalanceDelta> deltas = new TreeMap<>(Comparator
+                .comparing(DriverProductKey::driverId)
+                .thenComparing(DriverProductKey::productId));
+        for (Purchase purchase : purchases) {
+            if (purchase.getTotalPriceEur() == null || purchase.getQuantity() == null) {
+                continue;
+            }
+            deltas.merge(new DriverProductKey(purchase.getUser(), purchase.getProduct()),
+                    new BalanceDelta(purchase.getQuantity(), purchase.getTotalPriceEur()),
+                    (left, right) -> new BalanceDelta(left.quantity().add(right.quantity()),
+                            left.totalPriceEur().add(right.totalPriceEur())));
+        }
+        deltas.forEach((key, delta) -> driverProductBalanceService.addProduct(
+                key.driverId(), key.productId(), delta.quantity(), delta.totalPriceEur()));
+    }
+
+    private record DriverProductKey(Long driverId, Long productId) {
+    }
+
+    private record BalanceDelta(BigDecimal quantity, BigDecimal totalPriceEur) {
+    }
+
     @Override
     @Transactional
     public Purchase updatePurchase(@NonNull Long id, @NonNull Purchase updatedPurchase) {
@@ -83,6 +158,7 @@ public class PurchaseCrudService implements IPurchaseCrudService {
         
         BigDecimal oldQuantity = existingPurchase.getQuantity();
         BigDecimal oldTotalPriceEur = existingPurchase.getTotalPriceEur();
+        PurchaseDailyRollupService.Contribution oldContribution = PurchaseDailyRollupService.Contribution.of(existingPurchase);
         
         PurchaseUpdateService.UpdateResult updateResult = updateService.updatePurchase(existingPurchase, updatedPurchase);
 
@@ -90,6 +166,8 @@ public class PurchaseCrudService implements IPurchaseCrudService {
         log.info("Purchase updated: id={}, userId={}, productId={}", 
                 savedPurchase.getId(), savedPurchase.getUser(), savedPurchase.getProduct());
 
+        rollupService.replace(oldContribution, savedPurchase);
+
         if (updateResult.needsBalanceUpdate() && savedPurchase.getTotalPriceEur() != null) {
             driverProductBalanceService.updateFromPurchaseChange(
                     savedPurchase.getUser(),
@@ -129,6 +207,7 @@ public class PurchaseCrudService implements IPurchaseCrudService {
         Purchase purchase = findPurchaseById(id);
 
         deletionService.deletePurchase(purchase);
+        rollupService.remove(purchase);
         
         purchaseRepository.deleteById(id);
         log.info("Purchase deleted: id={}", id);
@@ -0,0 +1,101 @@
+package org.example.purchaseservice.services.purchase;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.example.purchaseservice.models.Purchase;
+import org.example.purchaseservice.models.PurchaseDailyRollup;
+import org.example.purchaseservice.repositories.PurchaseDailyRollupRepository;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class PurchaseDailyRollupService {
+
+    private static final Comparator<RollupKey> ROLLUP_KEY_ORDER = Comparator
+            .comparing(RollupKey::date)
+            .thenComparing(RollupKey::userId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RollupKey::sourceId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RollupKey::productId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final PurchaseDailyRollupRepository rollupRepository;
+
+    public record Contribution(LocalDate date, Long userId, Long sourceId, Long productId,
+                               BigDecimal quantity, BigDecimal totalPriceEur) {
+
+        public static Contribution of(@NonNull Purchase purchase) {
+            LocalDateTime createdAt = purchase.getCreatedAt() != null ? purchase.getCreatedAt() : LocalDateTime.now();
+            return new Contribution(
+                    createdAt.toLocalDate(),
+                    purchase.getUser(),
+                    purchase.getSource() != null ? purchase.getSource() : PurchaseDailyRollup.NO_SOURCE,
+                    purchase.getProduct(),
+                    purchase.getQuantity() != null ? purchase.getQuantity() : BigDecimal.ZERO,
+                    purchase.getTotalPriceEur() != null ? purchase.getTotalPriceEur() : BigDecimal.ZERO);
+        }
+    }
+
+    public void add(@NonNull Purchase purchase) {
+        apply(Contribution.of(purchase), 1);
+    }
+
+    public void addAll(@NonNull Collection<Purchase> purchases) {
+        Map<RollupKey, Contribution> grouped = new TreeMap<>(ROLLUP_KEY_ORDER);
+        Map<RollupKey, Long> counts = new HashMap<>();
+        for (Purchase purchase : purchases) {
+            Contribution contribution = Contribution.of(purchase);
+            RollupKey key = new RollupKey(contribution.date(), contribution.userId(),
+                    contribution.sourceId(), contribution.productId());
+            grouped.merge(key, contribution, (left, right) -> new Contribution(left.date(), left.userId(),
+                    left.sourceId(), left.productId(), left.quantity().add(right.quantity()),
+                    left.totalPriceEur().add(right.totalPriceEur())));
+            counts.merge(key, 1L, Long::sum);
+        }
+        grouped.forEach((key, contribution) -> apply(contribution, counts.get(key)));
+    }
+
+    public void remove(@NonNull Purchase purchase) {
+        apply(Contribution.of(purchase), -1);
+    }
+
+    public void replace(@NonNull Contribution previous, @NonNull Purchase updated) {
+        Contribution current = Contribution.of(updated);
+        if (previous.equals(current)) {
+            return;
+        }
+        apply(previous, -1);
+        apply(current, 1);
+    }
+
+    private record RollupKey(LocalDate date, Long userId, Long sourceId, Long productId) {
+    }
+
+    private void apply(@NonNull Contribution contribution, long purchaseCount) {
+        if (contribution.userId() == null || contribution.productId() == null) {
+            return;
+        }
+
+        BigDecimal multiplier = BigDecimal.valueOf(Long.signum(purchaseCount));
+        rollupRepository.applyDelta(
+                contribution.date(),
+                contribution.userId(),
+                contribution.sourceId(),
+                contribution.productId(),
+                contribution.quantity().multiply(multiplier),
+                contribution.totalPriceEur().multiply(multiplier),
+                purchaseCount);
+
+        if (purchaseCount < 0) {
+            rollupRepository.deleteIfEmpty(contribution.date(), contribution.userId(),
+                    contribution.sourceId(), contribution.productId());
+        }
+    }
+}
@@ -6,7 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.example.purchaseservice.models.Purchase;
 import org.example.purchaseservice.models.dto.client.ClientDTO;
 import org.example.purchaseservice.models.dto.clienttype.ClientFieldValueDTO;
@@ -48,21 +47,68 @@ public class PurchaseExcelGenerator {
     private static final String HEADER_UPDATED_AT = "Дата оновлення";
     private static final String HEADER_COMMENT = "Коментар";
     
+    private static final int WIDTH_SAMPLE_ROWS = 200;
+    private static final int COLUMN_PADDING = 2;
+    private static final int MIN_COLUMN_WIDTH = 8;
+    private static final int MAX_COLUMN_WIDTH = 60;
+    private static final int CHARACTER_WIDTH_UNITS = 256;
+    
     private final PurchaseExportDataFetcher dataFetcher;
     private final PurchaseFieldValueFormatter fieldValueFormatter;
     
-    public Workbook generateWorkbook(List<Purchase> purchaseList, List<String> selectedFields, FilterIds filterIds,
-                                      Map<Long, ClientDTO> clientMap, 
-                                      Map<Long, List<ClientFieldValueDTO>> clientFieldValuesMap) {
-        Workbook workbook = new XSSFWorkbook();
+    public static final class ExportSheet {
+        private final Sheet sheet;
+        private final List<String> fields;
+        private final int[] sampledWidths;
+        private int nextRowIndex = 1;
+
+        private ExportSheet(@NonNull Sheet sheet, @NonNull List<String> fields) {
+            this.sheet = sheet;
+            this.fields = fields;
+            this.sampledWidths = new int[fields.size()];
+        }
+    }
+
+    public ExportSheet createSheet(@NonNull Workbook workbook, @NonNull List<String> selectedFields) {
         Sheet sheet = workbook.createSheet("Purchase Data");
 
         List<String> sortedFields = sortFields(selectedFields);
         Map<String, String> fieldToHeader = createFieldToHeaderMap(sortedFields);
-        createHeaderRow(sheet, sortedFields, fieldToHeader);
-        fillDataRows(sheet, purchaseList, sortedFields, filterIds, clientMap, clientFieldValuesMap);
+        ExportSheet exportSheet = new ExportSheet(sheet, sortedFields);
+        createHeaderRow(exportSheet, fieldToHeader);
+        return exportSheet;
+    }
+
+    public void writeRows(@NonNull ExportSheet exportSheet, @NonNull List<Purchase> purchases, @NonNull FilterIds filterIds,
+                          @NonNull Map<Long, ClientDTO> clientMap,
+                          @NonNull Map<Long, List<ClientFieldValueDTO>> clientFieldValuesMap) {
+        for (Purchase purchase : purchases) {
+            int rowIndex = exportSheet.nextRowIndex++;
+            Row row = exportSheet.sheet.createRow(rowIndex);
+            ClientDTO client = clientMap.get(purchase.getClient());
+            List<ClientFieldValueDTO> fieldValues = client != null ? clientFieldValuesMap.getOrDefault(client.getId(), Collections.emptyList()) : Collections.emptyList();
+            for (int colIndex = 0; colIndex < exportSheet.fields.size(); colIndex++) {
+                String value = fieldValueFormatter.getFieldValue(
+                        purchase, client, exportSheet.fields.get(colIndex), filterIds, fieldValues);
+                row.createCell(colIndex).setCellValue(value);
+                if (rowIndex <= WIDTH_SAMPLE_ROWS) {
+                    sampleWidth(exportSheet, colIndex, value);
+                }
+            }
+        }
+    }
+
+    public void applyColumnWidths(@NonNull ExportSheet exportSheet) {
+        for (int colIndex = 0; colIndex < exportSheet.sampledWidths.length; colIndex++) {
+            int width = Math.clamp(exportSheet.sampledWidths[colIndex] + COLUMN_PADDING, MIN_COLUMN_WIDTH, MAX_COLUMN_WIDTH);
+            exportSheet.sheet.setColumnWidth(colIndex, width * CHARACTER_WIDTH_UNITS);
+        }
+    }
 
-        return workbook;
+    private void sampleWidth(@NonNull ExportSheet exportSheet, int colIndex, String value) {
+        if (value != null && value.length() > exportSheet.sampledWidths[colIndex]) {
+            exportSheet.sampledWidths[colIndex] = value.length();
+        }
     }
     
     private List<String> sortFields(List<String> selectedFields) {
@@ -151,27 +197,13 @@ public class PurchaseExcelGenerator {
         return header;
     }
 
-    private void createHeaderRow(Sheet sheet, List<String> selectedFields, Map<String, String> fieldToHeader) {
-        Row headerRow = sheet.createRow(0);
-        int colIndex = 0;
-        for (String field : selectedFields) {
+    private void createHeaderRow(@NonNull ExportSheet exportSheet, @NonNull Map<String, String> fieldToHeader) {
+        Row headerRow = exportSheet.sheet.createRow(0);
+        for (int colIndex = 0; colIndex < exportSheet.fields.size(); colIndex++) {
+            String field = exportSheet.fields.get(colIndex);
             String header = fieldToHeader.getOrDefault(field, field);
-            headerRow.createCell(colIndex++).setCellValue(header);
-        }
-    }
-
-    private void fillDataRows(Sheet sheet, List<Purchase> purchaseList, List<String> selectedFields, FilterIds filterIds,
-                              Map<Long, ClientDTO> clientMap, Map<Long, List<ClientFieldValueDTO>> clientFieldValuesMap) {
-        int rowIndex = 1;
-        for (Purchase purchase : purchaseList) {
-            Row row = sheet.createRow(rowIndex++);
-            int colIndex = 0;
-            ClientDTO client = clientMap.get(purchase.getClient());
-            List<ClientFieldValueDTO> fieldValues = client != null ? clientFieldValuesMap.getOrDefault(client.getId(), Collections.emptyList()) : Collections.emptyList();
-            for (String field : selectedFields) {
-                row.createCell(colIndex++).setCellValue(
-                        fieldValueFormatter.getFieldValue(purchase, client, field, filterIds, fieldValues));
-            }
+            headerRow.createCell(colIndex).setCellValue(header);
+            sampleWidth(exportSheet, colIndex, header);
         }
     }
 }
@@ -1,7 +1,10 @@
 package org.example.purchaseservice.services.purchase;
 
 import feign.FeignException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +27,7 @@ import org.example.purchaseservice.services.impl.IUserService;
 import org.example.purchaseservice.spec.PurchaseFilterBuilder;
 import org.example.purchaseservice.spec.PurchaseSearchPredicateBuilder;
 import org.example.purchaseservice.spec.PurchaseSpecification;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -38,6 +42,8 @@ public class PurchaseExportDataFetcher {
     
     private static final String ALL_PRODUCTS_FILTER = "all";
     private static final int BATCH_SIZE = 100;
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CLIENT = "client";
     
     private final PurchaseRepository purchaseRepository;
     private final ClientApiClient clientApiClient;
@@ -55,6 +61,8 @@ public class PurchaseExportDataFetcher {
             List<Long> sourceIds
     ) {}
     
+    public record ExportCursor(Object sortValue, Long id) {}
+    
     public record FilterIds(
             List<SourceDTO> sourceDTOs, List<Long> sourceIds,
             List<Product> productDTOs, List<Long> productIds,
@@ -115,24 +123,64 @@ public class PurchaseExportDataFetcher {
         }
     }
     
-    public List<Purchase> fetchPurchases(String query, Map<String, List<String>> filterParams, List<Long> clientIds,
-                                          List<Long> sourceIds, Sort sort) {
+    public List<Purchase> fetchPurchaseChunk(String query, Map<String, List<String>> filterParams,
+                                             @NonNull List<Long> clientIds, List<Long> sourceIds,
+                                             @NonNull Sort.Direction direction, @NonNull String sortProperty,
+                                             ExportCursor after, int limit) {
+        if (clientIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Specification<Purchase> purchaseSpec = new PurchaseSpecification(
+                query, filterParams, clientIds, sourceIds, filterBuilder, searchPredicateBuilder);
         Specification<Purchase> spec = (root, querySpec, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
-
-            if (!clientIds.isEmpty()) {
-                predicates.add(root.get("client").in(clientIds));
-            } else {
-                return criteriaBuilder.disjunction();
-            }
-
-            Specification<Purchase> purchaseSpec = new PurchaseSpecification(query, filterParams, clientIds, sourceIds, filterBuilder, searchPredicateBuilder);
+            predicates.add(root.get(FIELD_CLIENT).in(clientIds));
             predicates.add(purchaseSpec.toPredicate(root, querySpec, criteriaBuilder));
-
+            if (after != null) {
+                predicates.add(afterCursor(root, criteriaBuilder, direction, sortProperty, after));
+            }
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
 
-        return purchaseRepository.findAll(spec, sort);
+        Sort sort = FIELD_ID.equals(sortProperty)
+                ? Sort.by(direction, FIELD_ID)
+                : Sort.by(direction, sortProperty).and(Sort.by(direction, FIELD_ID));
+        return purchaseRepository.findBy(spec, fluentQuery -> fluentQuery.sortBy(sort).limit(limit).all());
+    }
+
+    public ExportCursor cursorOf(@NonNull Purchase purchase, @NonNull String sortProperty) {
+        Object sortValue = new BeanWrapperImpl(purchase).getPropertyValue(sortProperty);
+        return new ExportCursor(sortValue, purchase.getId());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate afterCursor(@NonNull Root<Purchase> root, @NonNull CriteriaBuilder criteriaBuilder,
+                                  @NonNull Sort.Direction direction, @NonNull String sortProperty,
+                                  @NonNull ExportCursor cursor) {
+        boolean ascending = direction.isAscending();
+        Path<Long> id = root.get(FIELD_ID);
+        Predicate idAfter = ascending
+                ? criteriaBuilder.greaterThan(id, cursor.id())
+                : criteriaBuilder.lessThan(id, cursor.id());
+        if (FIELD_ID.equals(sortProperty)) {
+            return idAfter;
+        }
+
+        Path<Comparable> value = root.get(sortProperty);
+        if (cursor.sortValue() == null) {
+            Predicate sameNullGroup = criteriaBuilder.and(criteriaBuilder.isNull(value), idAfter);
+            return ascending ? criteriaBuilder.or(sameNullGroup, criteriaBuilder.isNotNull(value)) : sameNullGroup;
+        }
+
+        Comparable lastValue = (Comparable) cursor.sortValue();
+        Predicate valueAfter = ascending
+                ? criteriaBuilder.greaterThan(value, lastValue)
+                : criteriaBuilder.lessThan(value, lastValue);
+        Predicate sameValue = criteriaBuilder.and(criteriaBuilder.equal(value, lastValue), idAfter);
+        return ascending
+                ? criteriaBuilder.or(valueAfter, sameValue)
+                : criteriaBuilder.or(valueAfter, sameValue, criteriaBuilder.isNull(value));
     }
     
     public FilterIds createFilterIds() {
@@ -154,32 +202,34 @@ public class PurchaseExportDataFetcher {
                 userDTOs, userIds);
     }
     
-    public FilterIds buildUpdatedFilterIds(@NonNull List<Purchase> purchaseList, @NonNull FilterIds baseFilterIds) {
-        List<SourceDTO> sourceDTOs = fetchSourceDTOs(purchaseList);
+    public FilterIds withPurchaseSources(@NonNull List<Purchase> purchases, @NonNull FilterIds filterIds) {
+        Set<Long> knownSourceIds = filterIds.sourceDTOs().stream()
+                .filter(Objects::nonNull)
+                .map(SourceDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> missingSourceIds = purchases.stream()
+                .map(Purchase::getSource)
+                .filter(sourceId -> sourceId != null && !knownSourceIds.contains(sourceId))
+                .collect(Collectors.toSet());
+        if (missingSourceIds.isEmpty()) {
+            return filterIds;
+        }
+
+        List<SourceDTO> sourceDTOs = mergeSourceDTOs(fetchSourceDTOs(missingSourceIds), filterIds.sourceDTOs());
         return new FilterIds(
                 sourceDTOs,
                 sourceDTOs.stream()
-                        .filter(Objects::nonNull)
                         .map(SourceDTO::getId)
-                        .filter(Objects::nonNull)
                         .toList(),
-                baseFilterIds.productDTOs(),
-                baseFilterIds.productIds(),
-                baseFilterIds.userDTOs(),
-                baseFilterIds.userIds()
+                filterIds.productDTOs(),
+                filterIds.productIds(),
+                filterIds.userDTOs(),
+                filterIds.userIds()
         );
     }
     
-    private List<SourceDTO> fetchSourceDTOs(@NonNull List<Purchase> purchases) {
-        Set<Long> sourceIds = purchases.stream()
-                .map(Purchase::getSource)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        if (sourceIds.isEmpty()) {
-            return Collections.emptyList();
-        }
-
+    private List<SourceDTO> fetchSourceDTOs(@NonNull Set<Long> sourceIds) {
         List<SourceDTO> sourceDTOs = new ArrayList<>();
         for (Long sourceId : sourceIds) {
             try {
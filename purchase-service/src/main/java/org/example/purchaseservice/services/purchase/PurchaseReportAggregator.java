@@ -0,0 +1,153 @@
+package org.example.purchaseservice.services.purchase;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.purchaseservice.models.Purchase;
+import org.example.purchaseservice.models.PurchaseDailyRollup;
+import org.example.purchaseservice.models.PurchaseReportRow;
+import org.example.purchaseservice.spec.PurchaseFilterValueParser;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurchaseReportAggregator {
+
+    private static final String FILTER_CREATED_AT_FROM = "createdAtFrom";
+    private static final String FILTER_CREATED_AT_TO = "createdAtTo";
+    private static final String FILTER_USER = "user";
+    private static final String FILTER_SOURCE = "source";
+    private static final String FILTER_PRODUCT = "product";
+    private static final Set<String> ROLLUP_FILTER_KEYS = Set.of(
+            FILTER_CREATED_AT_FROM, FILTER_CREATED_AT_TO, FILTER_USER, FILTER_SOURCE, FILTER_PRODUCT);
+
+    private final PurchaseFilterValueParser valueParser;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private record RollupFilter(LocalDate from, LocalDate to, List<Long> userIds,
+                                List<Long> sourceIds, List<Long> productIds) {}
+
+    public List<PurchaseReportRow> aggregate(@NonNull Map<String, List<String>> purchaseFilterParams,
+                                             @NonNull Specification<Purchase> spec) {
+        RollupFilter rollupFilter = toRollupFilter(purchaseFilterParams);
+        if (rollupFilter == null) {
+            return aggregate(spec);
+        }
+        return aggregateRollups(rollupFilter);
+    }
+
+    public List<PurchaseReportRow> aggregate(@NonNull Specification<Purchase> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PurchaseReportRow> query = cb.createQuery(PurchaseReportRow.class);
+        Root<Purchase> root = query.from(Purchase.class);
+
+        query.select(cb.construct(PurchaseReportRow.class,
+                        root.get("user"),
+                        root.get("source"),
+                        root.get("product"),
+                        cb.sum(root.get("quantity")),
+                        cb.sum(root.get("totalPriceEur"))))
+                .where(spec.toPredicate(root, query, cb))
+                .groupBy(root.get("user"), root.get("source"), root.get("product"));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<PurchaseReportRow> aggregateRollups(@NonNull RollupFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PurchaseReportRow> query = cb.createQuery(PurchaseReportRow.class);
+        Root<PurchaseDailyRollup> root = query.from(PurchaseDailyRollup.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("rollupDate"), filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("rollupDate"), filter.to()));
+        }
+        if (!filter.userIds().isEmpty()) {
+            predicates.add(root.get("userId").in(filter.userIds()));
+        }
+        if (!filter.sourceIds().isEmpty()) {
+            predicates.add(root.get("sourceId").in(filter.sourceIds()));
+        }
+        if (!filter.productIds().isEmpty()) {
+            predicates.add(root.get("productId").in(filter.productIds()));
+        }
+
+        query.select(cb.construct(PurchaseReportRow.class,
+                        root.get("userId"),
+                        root.get("sourceId"),
+                        root.get("productId"),
+                        cb.sum(root.get("quantity")),
+                        cb.sum(root.get("totalPriceEur"))))
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(root.get("userId"), root.get("sourceId"), root.get("productId"));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> Objects.equals(row.sourceId(), PurchaseDailyRollup.NO_SOURCE)
+                        ? new PurchaseReportRow(row.userId(), null, row.productId(), row.quantity(), row.totalPriceEur())
+                        : row)
+                .toList();
+    }
+
+    private RollupFilter toRollupFilter(@NonNull Map<String, List<String>> filterParams) {
+        if (!ROLLUP_FILTER_KEYS.containsAll(filterParams.keySet())) {
+            return null;
+        }
+
+        try {
+            return new RollupFilter(
+                    parseDate(filterParams.get(FILTER_CREATED_AT_FROM)),
+                    parseDate(filterParams.get(FILTER_CREATED_AT_TO)),
+                    parseIds(filterParams.get(FILTER_USER)),
+                    parseIds(filterParams.get(FILTER_SOURCE)),
+                    parseIds(filterParams.get(FILTER_PRODUCT)));
+        } catch (DateTimeParseException e) {
+            log.warn("Falling back to purchase aggregation, invalid report date filter: {}", e.getParsedString());
+            return null;
+        }
+    }
+
+    private LocalDate parseDate(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .filter(value -> !value.trim().isEmpty())
+                .findFirst()
+                .map(value -> LocalDate.parse(value.trim()))
+                .orElse(null);
+    }
+
+    private List<Long> parseIds(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .filter(value -> !value.trim().isEmpty())
+                .map(valueParser::parseLong)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -2,8 +2,8 @@ package org.example.purchaseservice.services.purchase;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.example.purchaseservice.models.Purchase;
 import org.example.purchaseservice.models.Product;
+import org.example.purchaseservice.models.PurchaseReportRow;
 import org.example.purchaseservice.models.dto.fields.SourceDTO;
 import org.example.purchaseservice.models.dto.purchase.PurchaseReportDTO;
 import org.example.purchaseservice.models.dto.user.UserDTO;
@@ -25,23 +25,23 @@ public class PurchaseReportGenerator {
     private final ProductRepository productRepository;
     private final ISourceService sourceService;
     
-    public PurchaseReportDTO generateReport(@NonNull List<Purchase> purchases) {
-        if (purchases.isEmpty()) {
+    public PurchaseReportDTO generateReport(@NonNull List<PurchaseReportRow> rows) {
+        if (rows.isEmpty()) {
             return new PurchaseReportDTO();
         }
         
-        Set<Long> userIds = purchases.stream()
-                .map(Purchase::getUser)
+        Set<Long> userIds = rows.stream()
+                .map(PurchaseReportRow::userId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         
-        Set<Long> productIds = purchases.stream()
-                .map(Purchase::getProduct)
+        Set<Long> productIds = rows.stream()
+                .map(PurchaseReportRow::productId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         
-        Set<Long> sourceIdSet = purchases.stream()
-                .map(Purchase::getSource)
+        Set<Long> sourceIdSet = rows.stream()
+                .map(PurchaseReportRow::sourceId)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
         
@@ -49,10 +49,10 @@ public class PurchaseReportGenerator {
         Map<Long, String> productNamesMap = loadProductNames(productIds);
         Map<Long, String> sourceNamesMap = loadSourceNames(sourceIdSet);
         
-        List<PurchaseReportDTO.DriverReport> driverReports = buildDriverReports(purchases, userNamesMap, productNamesMap);
-        List<PurchaseReportDTO.SourceReport> sourceReports = buildSourceReports(purchases, sourceNamesMap, productNamesMap);
-        List<PurchaseReportDTO.ProductTotal> totals = buildProductTotals(purchases, productNamesMap);
-        PurchaseReportDTO.Summary summary = buildSummary(purchases);
+        List<PurchaseReportDTO.DriverReport> driverReports = buildDriverReports(rows, userNamesMap, productNamesMap);
+        List<PurchaseReportDTO.SourceReport> sourceReports = buildSourceReports(rows, sourceNamesMap, productNamesMap);
+        List<PurchaseReportDTO.ProductTotal> totals = buildProductTotals(rows, productNamesMap);
+        PurchaseReportDTO.Summary summary = buildSummary(rows);
         
         PurchaseReportDTO report = new PurchaseReportDTO();
         report.setDrivers(driverReports);
@@ -63,16 +63,16 @@ public class PurchaseReportGenerator {
         return report;
     }
 
-    private PurchaseReportDTO.Summary buildSummary(@NonNull List<Purchase> purchases) {
+    private PurchaseReportDTO.Summary buildSummary(@NonNull List<PurchaseReportRow> rows) {
         BigDecimal totalQuantity = BigDecimal.ZERO;
         BigDecimal totalSpentEur = BigDecimal.ZERO;
 
-        for (Purchase purchase : purchases) {
-            if (purchase.getQuantity() != null) {
-                totalQuantity = totalQuantity.add(purchase.getQuantity());
+        for (PurchaseReportRow row : rows) {
+            if (row.quantity() != null) {
+                totalQuantity = totalQuantity.add(row.quantity());
             }
-            if (purchase.getTotalPriceEur() != null) {
-                totalSpentEur = totalSpentEur.add(purchase.getTotalPriceEur());
+            if (row.totalPriceEur() != null) {
+                totalSpentEur = totalSpentEur.add(row.totalPriceEur());
             }
         }
 
@@ -133,13 +133,13 @@ public class PurchaseReportGenerator {
         return sourceNamesMap;
     }
     
-    private List<PurchaseReportDTO.DriverReport> buildDriverReports(@NonNull List<Purchase> purchases,
+    private List<PurchaseReportDTO.DriverReport> buildDriverReports(@NonNull List<PurchaseReportRow> rows,
                                                                      @NonNull Map<Long, String> userNamesMap,
                                                                      @NonNull Map<Long, String> productNamesMap) {
         Map<Long, Map<Long, PurchaseReportDTO.ProductInfo>> driverProductMap = new HashMap<>();
         
-        for (Purchase purchase : purchases) {
-            processPurchaseForMap(driverProductMap, purchase, Purchase::getUser, productNamesMap);
+        for (PurchaseReportRow row : rows) {
+            processRowForMap(driverProductMap, row, PurchaseReportRow::userId, productNamesMap);
         }
         
         return driverProductMap.entrySet().stream()
@@ -154,13 +154,13 @@ public class PurchaseReportGenerator {
                 .collect(Collectors.toList());
     }
     
-    private List<PurchaseReportDTO.SourceReport> buildSourceReports(@NonNull List<Purchase> purchases,
+    private List<PurchaseReportDTO.SourceReport> buildSourceReports(@NonNull List<PurchaseReportRow> rows,
                                                                     @NonNull Map<Long, String> sourceNamesMap,
                                                                     @NonNull Map<Long, String> productNamesMap) {
         Map<Long, Map<Long, PurchaseReportDTO.ProductInfo>> sourceProductMap = new HashMap<>();
         
-        for (Purchase purchase : purchases) {
-            processPurchaseForMap(sourceProductMap, purchase, Purchase::getSource, productNamesMap);
+        for (PurchaseReportRow row : rows) {
+            processRowForMap(sourceProductMap, row, PurchaseReportRow::sourceId, productNamesMap);
         }
         
         return sourceProductMap.entrySet().stream()
@@ -175,12 +175,12 @@ public class PurchaseReportGenerator {
                 .collect(Collectors.toList());
     }
     
-    private void processPurchaseForMap(@NonNull Map<Long, Map<Long, PurchaseReportDTO.ProductInfo>> entityProductMap,
-                                       @NonNull Purchase purchase,
-                                       @NonNull java.util.function.Function<Purchase, Long> keyExtractor,
-                                       @NonNull Map<Long, String> productNamesMap) {
-        Long entityId = keyExtractor.apply(purchase);
-        Long productId = purchase.getProduct();
+    private void processRowForMap(@NonNull Map<Long, Map<Long, PurchaseReportDTO.ProductInfo>> entityProductMap,
+                                  @NonNull PurchaseReportRow row,
+                                  @NonNull java.util.function.Function<PurchaseReportRow, Long> keyExtractor,
+                                  @NonNull Map<Long, String> productNamesMap) {
+        Long entityId = keyExtractor.apply(row);
+        Long productId = row.productId();
         
         if (entityId == null || productId == null) {
             return;
@@ -188,12 +188,12 @@ public class PurchaseReportGenerator {
         
         entityProductMap.computeIfAbsent(entityId, _ -> new HashMap<>());
         Map<Long, PurchaseReportDTO.ProductInfo> productMap = entityProductMap.get(entityId);
-        updateProductInfo(productMap, productId, purchase, productNamesMap);
+        updateProductInfo(productMap, productId, row, productNamesMap);
     }
     
     private void updateProductInfo(@NonNull Map<Long, PurchaseReportDTO.ProductInfo> productMap,
                                    @NonNull Long productId,
-                                   @NonNull Purchase purchase,
+                                   @NonNull PurchaseReportRow row,
                                    @NonNull Map<Long, String> productNamesMap) {
         productMap.computeIfAbsent(productId, _ -> {
             PurchaseReportDTO.ProductInfo info = new PurchaseReportDTO.ProductInfo();
@@ -205,20 +205,20 @@ public class PurchaseReportGenerator {
         });
         
         PurchaseReportDTO.ProductInfo info = productMap.get(productId);
-        if (purchase.getQuantity() != null) {
-            info.setQuantity(info.getQuantity().add(purchase.getQuantity()));
+        if (row.quantity() != null) {
+            info.setQuantity(info.getQuantity().add(row.quantity()));
         }
-        if (purchase.getTotalPriceEur() != null) {
-            info.setTotalPriceEur(info.getTotalPriceEur().add(purchase.getTotalPriceEur()));
+        if (row.totalPriceEur() != null) {
+            info.setTotalPriceEur(info.getTotalPriceEur().add(row.totalPriceEur()));
         }
     }
     
-    private List<PurchaseReportDTO.ProductTotal> buildProductTotals(@NonNull List<Purchase> purchases,
+    private List<PurchaseReportDTO.ProductTotal> buildProductTotals(@NonNull List<PurchaseReportRow> rows,
                                                                     @NonNull Map<Long, String> productNamesMap) {
         Map<Long, PurchaseReportDTO.ProductTotal> productTotalMap = new HashMap<>();
         
-        for (Purchase purchase : purchases) {
-            Long productId = purchase.getProduct();
+        for (PurchaseReportRow row : rows) {
+            Long productId = row.productId();
             
             if (productId == null) {
                 continue;
@@ -234,11 +234,11 @@ public class PurchaseReportGenerator {
             });
             
             PurchaseReportDTO.ProductTotal total = productTotalMap.get(productId);
-            if (purchase.getQuantity() != null) {
-                total.setQuantity(total.getQuantity().add(purchase.getQuantity()));
+            if (row.quantity() != null) {
+                total.setQuantity(total.getQuantity().add(row.quantity()));
             }
-            if (purchase.getTotalPriceEur() != null) {
-                total.setTotalPriceEur(total.getTotalPriceEur().add(purchase.getTotalPriceEur()));
+            if (row.totalPriceEur() != null) {
+                total.setTotalPriceEur(total.getTotalPriceEur().add(row.totalPriceEur()));
             }
         }
         
@@ -7,11 +7,13 @@ import org.example.purchaseservice.mappers.PurchaseMapper;
 import org.example.purchaseservice.models.ClientData;
 import org.example.purchaseservice.models.PageResponse;
 import org.example.purchaseservice.models.Purchase;
+import org.example.purchaseservice.models.PurchaseReportRow;
 import org.example.purchaseservice.models.dto.client.ClientDTO;
 import org.example.purchaseservice.models.dto.purchase.PurchasePageDTO;
 import org.example.purchaseservice.models.dto.purchase.PurchaseReportDTO;
 import org.example.purchaseservice.repositories.PurchaseRepository;
 import org.example.purchaseservice.services.impl.IPurchaseSearchService;
+import org.example.purchaseservice.spec.ClientReplicaSpecification;
 import org.example.purchaseservice.spec.PurchaseFilterBuilder;
 import org.example.purchaseservice.spec.PurchaseSearchPredicateBuilder;
 import org.example.purchaseservice.spec.PurchaseSpecification;
@@ -20,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.List;
 import java.util.Map;
@@ -39,6 +42,7 @@ public class PurchaseSearchService implements IPurchaseSearchService {
     private final PurchaseClientDataFetcher clientDataFetcher;
     private final PurchaseReceivedStatusBuilder receivedStatusBuilder;
     private final PurchaseReportGenerator reportGenerator;
+    private final PurchaseReportAggregator reportAggregator;
     private final PurchaseFilterBuilder filterBuilder;
     private final PurchaseSearchPredicateBuilder searchPredicateBuilder;
 
@@ -54,11 +58,11 @@ public class PurchaseSearchService implements IPurchaseSearchService {
         List<Long> sourceIds = clientDataFetcher.resolveSourceIds(query, filters.clientFilterParams(), filters.clientTypeId());
         
         Page<Purchase> purchasePage = fetchPurchases(query, filters.purchaseFilterParams(), 
-                clientData.clientIds(), sourceIds, pageable);
+                clientData, sourceIds, pageable);
         
         List<Purchase> purchases = purchasePage.getContent();
         
-        Map<String, Boolean> receivedStatusMap = receivedStatusBuilder.buildReceivedStatusMap(purchases);
+        Set<Long> receivedPurchaseIds = receivedStatusBuilder.findReceivedPurchaseIds(purchases);
         
         Set<Long> requiredClientIds = purchases.stream()
                 .map(Purchase::getClient)
@@ -67,7 +71,7 @@ public class PurchaseSearchService implements IPurchaseSearchService {
         
         Map<Long, ClientDTO> clientMap = clientDataFetcher.fetchClientsByIds(requiredClientIds);
         
-        List<PurchasePageDTO> purchaseDTOs = mapPurchasesToDTOs(purchases, clientMap, receivedStatusMap);
+        List<PurchasePageDTO> purchaseDTOs = mapPurchasesToDTOs(purchases, clientMap, receivedPurchaseIds);
         
         return buildPageResponse(purchasePage, purchaseDTOs);
     }
@@ -93,16 +97,19 @@ public class PurchaseSearchService implements IPurchaseSearchService {
         ClientData clientData = clientDataFetcher.fetchClientData(query, filters.clientFilterParams(), filters.clientTypeId());
         List<Long> sourceIds = clientDataFetcher.resolveSourceIds(query, filters.clientFilterParams(), filters.clientTypeId());
         
-        Specification<Purchase> spec = new PurchaseSpecification(query, filters.purchaseFilterParams(), 
-                clientData.clientIds(), sourceIds, filterBuilder, searchPredicateBuilder);
-        List<Purchase> purchases = purchaseRepository.findAll(spec);
+        Specification<Purchase> spec = buildSpecification(query, filters.purchaseFilterParams(), clientData, sourceIds);
+        boolean clientScoped = StringUtils.hasText(query) || filters.clientTypeId() != null
+                || clientData.clientIds() != null || sourceIds != null;
+        List<PurchaseReportRow> rows = clientScoped
+                ? reportAggregator.aggregate(spec)
+                : reportAggregator.aggregate(filters.purchaseFilterParams(), spec);
         
-        return reportGenerator.generateReport(purchases);
+        return reportGenerator.generateReport(rows);
     }
     
     private Page<Purchase> fetchPurchases(String query, @NonNull Map<String, List<String>> filterParams,
-                                          List<Long> clientIds, List<Long> sourceIds, @NonNull Pageable pageable) {
-        if (clientIds != null && clientIds.isEmpty()) {
+                                          @NonNull ClientData clientData, List<Long> sourceIds, @NonNull Pageable pageable) {
+        if (clientData.clientIds() != null && clientData.clientIds().isEmpty()) {
             return Page.empty(pageable);
         }
 
@@ -110,19 +117,27 @@ public class PurchaseSearchService implements IPurchaseSearchService {
             return Page.empty(pageable);
         }
         
-        Specification<Purchase> spec = new PurchaseSpecification(query, filterParams, clientIds, sourceIds, filterBuilder, searchPredicateBuilder);
+        Specification<Purchase> spec = buildSpecification(query, filterParams, clientData, sourceIds);
         return purchaseRepository.findAll(spec, pageable);
     }
 
+    private Specification<Purchase> buildSpecification(String query, @NonNull Map<String, List<String>> filterParams,
+                                                       @NonNull ClientData clientData, List<Long> sourceIds) {
+        Specification<Purchase> spec = new PurchaseSpecification(query, filterParams, clientData.clientIds(), sourceIds,
+                filterBuilder, searchPredicateBuilder);
+        return clientData.replicaFilter() != null
+                ? spec.and(new ClientReplicaSpecification(clientData.replicaFilter()))
+                : spec;
+    }
+
     private List<PurchasePageDTO> mapPurchasesToDTOs(@NonNull List<Purchase> purchases, 
                                                       @NonNull Map<Long, ClientDTO> clientMap,
-                                                      @NonNull Map<String, Boolean> receivedStatusMap) {
+                                                      @NonNull Set<Long> receivedPurchaseIds) {
         return purchases.stream()
                 .map(purchase -> {
                     ClientDTO client = clientMap.get(purchase.getClient());
                     PurchasePageDTO dto = purchaseMapper.toPurchasePageDTO(purchase, client);
-                    String key = receivedStatusBuilder.buildReceivedStatusKey(purchase);
-                    dto.setIsReceived(receivedStatusMap.getOrDefault(key, false));
+                    dto.setIsReceived(receivedPurchaseIds.contains(purchase.getId()));
                     return dto;
                 })
                 .toList();
@@ -1,16 +1,19 @@
 package org.example.purchaseservice.services.purchase;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.example.purchaseservice.exceptions.PurchaseException;
+import org.example.purchaseservice.models.Purchase;
 import org.example.purchaseservice.models.dto.client.ClientDTO;
 import org.example.purchaseservice.models.dto.clienttype.ClientFieldValueDTO;
-import org.example.purchaseservice.models.dto.fields.SourceDTO;
 import org.example.purchaseservice.services.impl.IPurchaseSpecialOperationsService;
+import org.example.purchaseservice.services.purchase.PurchaseExcelGenerator.ExportSheet;
+import org.example.purchaseservice.services.purchase.PurchaseExportDataFetcher.ExportCursor;
 import org.example.purchaseservice.services.purchase.PurchaseExportDataFetcher.FilterIds;
 import org.example.purchaseservice.services.purchase.PurchaseExportDataFetcher.SearchContext;
 import org.springframework.data.domain.Sort;
@@ -18,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +31,9 @@ import java.util.Map;
 public class PurchaseSpecialOperationsService implements IPurchaseSpecialOperationsService {
 
     private static final String EXCEL_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final String FIELD_PREFIX = "field_";
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int EXPORT_CHUNK_SIZE = 500;
     
     private final PurchaseExportValidator validator;
     private final PurchaseExportDataFetcher dataFetcher;
@@ -34,6 +41,9 @@ public class PurchaseSpecialOperationsService implements IPurchaseSpecialOperati
     private final PurchaseExportFilenameGenerator filenameGenerator;
     private final PurchaseComparisonReportService comparisonReportService;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     @Transactional(readOnly = true)
     public void generateExcelFile(
@@ -48,35 +58,62 @@ public class PurchaseSpecialOperationsService implements IPurchaseSpecialOperati
         validator.validateFilterParams(filterParams);
         validator.validateSortProperty(sortProperty);
         
-        Sort sort = Sort.by(sortDirection, sortProperty);
         List<ClientDTO> clients = dataFetcher.fetchClientIds(query, filterParams);
-        
-        if (clients.isEmpty()) {
-            Workbook workbook = new XSSFWorkbook();
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            if (!clients.isEmpty()) {
+                Sort.Direction direction = sortDirection != null ? sortDirection : Sort.DEFAULT_DIRECTION;
+                writePurchaseSheet(workbook, direction, sortProperty, query, filterParams, selectedFields, clients);
+            }
             sendExcelFileResponse(workbook, response);
-            return;
+        } finally {
+            workbook.dispose();
         }
+    }
 
+    private void writePurchaseSheet(@NonNull SXSSFWorkbook workbook, @NonNull Sort.Direction sortDirection,
+                                    @NonNull String sortProperty, String query,
+                                    Map<String, List<String>> filterParams, @NonNull List<String> selectedFields,
+                                    @NonNull List<ClientDTO> clients) {
         SearchContext searchContext = dataFetcher.prepareSearchContext(query, filterParams, clients);
-        List<org.example.purchaseservice.models.Purchase> purchaseList = dataFetcher.fetchPurchases(
-                query, filterParams, searchContext.clientIds(), searchContext.sourceIds(), sort);
-        
-        FilterIds updatedFilterIds = dataFetcher.buildUpdatedFilterIds(purchaseList, dataFetcher.createFilterIds());
         Map<Long, ClientDTO> clientMap = dataFetcher.fetchClientMap(clients);
-        Map<Long, List<ClientFieldValueDTO>> clientFieldValuesMap = dataFetcher.fetchClientFieldValues(searchContext.clientIds());
-        List<SourceDTO> clientSourceDTOs = dataFetcher.fetchClientSourceDTOs(clients);
-        FilterIds filterIdsWithClientSources = new FilterIds(
-                dataFetcher.mergeSourceDTOs(updatedFilterIds.sourceDTOs(), clientSourceDTOs),
-                updatedFilterIds.sourceIds(),
-                updatedFilterIds.productDTOs(),
-                updatedFilterIds.productIds(),
-                updatedFilterIds.userDTOs(),
-                updatedFilterIds.userIds()
+        FilterIds baseFilterIds = dataFetcher.createFilterIds();
+        FilterIds filterIds = new FilterIds(
+                dataFetcher.fetchClientSourceDTOs(clients),
+                Collections.emptyList(),
+                baseFilterIds.productDTOs(),
+                baseFilterIds.productIds(),
+                baseFilterIds.userDTOs(),
+                baseFilterIds.userIds()
         );
+        boolean needsFieldValues = selectedFields.stream().anyMatch(field -> field.startsWith(FIELD_PREFIX));
+
+        ExportSheet exportSheet = excelGenerator.createSheet(workbook, selectedFields);
+        ExportCursor cursor = null;
+        int exportedRows = 0;
+        List<Purchase> chunk;
+        do {
+            chunk = dataFetcher.fetchPurchaseChunk(query, filterParams, searchContext.clientIds(),
+                    searchContext.sourceIds(), sortDirection, sortProperty, cursor, EXPORT_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
 
-        Workbook workbook = excelGenerator.generateWorkbook(purchaseList, selectedFields, filterIdsWithClientSources, 
-                clientMap, clientFieldValuesMap);
-        sendExcelFileResponse(workbook, response);
+            filterIds = dataFetcher.withPurchaseSources(chunk, filterIds);
+            Map<Long, List<ClientFieldValueDTO>> clientFieldValuesMap = needsFieldValues
+                    ? dataFetcher.fetchClientFieldValues(chunk.stream().map(Purchase::getClient).distinct().toList())
+                    : Collections.emptyMap();
+            excelGenerator.writeRows(exportSheet, chunk, filterIds, clientMap, clientFieldValuesMap);
+
+            exportedRows += chunk.size();
+            cursor = dataFetcher.cursorOf(chunk.getLast(), sortProperty);
+            entityManager.clear();
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
+
+        excelGenerator.applyColumnWidths(exportSheet);
+        log.info("Exported {} purchases to Excel", exportedRows);
     }
 
     @Override
@@ -85,7 +122,7 @@ public class PurchaseSpecialOperationsService implements IPurchaseSpecialOperati
         comparisonReportService.generateComparisonExcelFile(purchaseDataFrom, purchaseDataTo, response);
     }
 
-    private void sendExcelFileResponse(@NonNull Workbook workbook, @NonNull HttpServletResponse response) {
+    private void sendExcelFileResponse(@NonNull SXSSFWorkbook workbook, @NonNull HttpServletResponse response) {
         try {
             response.setContentType(EXCEL_CONTENT_TYPE);
             String filename = filenameGenerator.generateFilename();
@@ -93,11 +130,6 @@ public class PurchaseSpecialOperationsService implements IPurchaseSpecialOperati
             workbook.write(response.getOutputStream());
             workbook.close();
         } catch (IOException e) {
-            try {
-                workbook.close();
-            } catch (IOException closeException) {
-                log.error("Failed to close workbook: {}", closeException.getMessage(), closeException);
-            }
             throw new PurchaseException("EXCEL_GENERATION_ERROR", 
                 String.format("Error generating Excel file: %s", e.getMessage()));
         }
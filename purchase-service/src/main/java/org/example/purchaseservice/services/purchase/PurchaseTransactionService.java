@@ -3,61 +3,68 @@ package org.example.purchaseservice.services.purchase;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.purchaseservice.clients.AccountTransactionClient;
-import org.example.purchaseservice.clients.TransactionApiClient;
-import org.example.purchaseservice.exceptions.PurchaseException;
+import org.example.purchaseservice.models.PaymentMethod;
 import org.example.purchaseservice.models.Purchase;
 import org.example.purchaseservice.models.dto.account.AccountDTO;
 import org.example.purchaseservice.models.dto.transaction.TransactionCreateRequestDTO;
-import org.example.purchaseservice.models.dto.transaction.TransactionDTO;
 import org.example.purchaseservice.models.transaction.TransactionType;
+import org.example.purchaseservice.services.outbox.PurchaseOutboxService;
 import org.springframework.stereotype.Service;
-import feign.FeignException;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PurchaseTransactionService {
     
-    private final TransactionApiClient transactionApiClient;
-    private final AccountTransactionClient accountTransactionClient;
     private final PurchaseAccountService accountService;
+    private final PurchaseOutboxService outboxService;
     
-    public Long createAccountTransactionForPurchase(@NonNull Long userId, @NonNull Purchase purchase) {
+    public TransactionCreateRequestDTO prepareAccountTransactionForPurchase(@NonNull Long userId, @NonNull Purchase purchase) {
         List<AccountDTO> userAccounts = accountService.getUserAccounts(userId);
         accountService.validateUserHasAccounts(userId, userAccounts);
         
         String transactionCurrency = accountService.getTransactionCurrencyOrDefault(purchase.getCurrency());
         AccountDTO account = accountService.findAccountForTransaction(userId, userAccounts, transactionCurrency);
         
-        TransactionCreateRequestDTO transactionRequest = buildTransactionRequest(account, purchase, transactionCurrency);
-        return executeTransactionCreation(transactionRequest);
+        return buildTransactionRequest(account, purchase, transactionCurrency);
     }
-    
-    public void updateTransactionAmount(@NonNull Long transactionId, @NonNull java.math.BigDecimal newAmount) {
-        try {
-            transactionApiClient.updateTransactionAmount(transactionId, newAmount);
-        } catch (FeignException e) {
-            log.error("Feign error updating transaction amount: transactionId={}, status={}, error={}", 
-                    transactionId, e.status(), e.getMessage(), e);
-            throw new PurchaseException("TRANSACTION_UPDATE_FAILED", 
-                    String.format("Failed to update transaction amount: %s", e.getMessage()), e);
-        } catch (Exception e) {
-            log.error("Unexpected error updating transaction amount: transactionId={}", transactionId, e);
-            throw new PurchaseException("TRANSACTION_UPDATE_FAILED", 
-                    String.format("Failed to update transaction amount: %s", e.getMessage()), e);
+
+    public List<TransactionCreateRequestDTO> prepareAccountTransactionsForPurchases(@NonNull List<Purchase> purchases) {
+        Map<Long, List<AccountDTO>> accountsByUser = new HashMap<>();
+        List<TransactionCreateRequestDTO> requests = new ArrayList<>(purchases.size());
+        for (Purchase purchase : purchases) {
+            if (!PaymentMethod.CASH.equals(purchase.getPaymentMethod())) {
+                requests.add(null);
+                continue;
+            }
+            Long userId = purchase.getUser();
+            List<AccountDTO> userAccounts = accountsByUser.computeIfAbsent(userId, accountService::getUserAccounts);
+            accountService.validateUserHasAccounts(userId, userAccounts);
+
+            String transactionCurrency = accountService.getTransactionCurrencyOrDefault(purchase.getCurrency());
+            AccountDTO account = accountService.findAccountForTransaction(userId, userAccounts, transactionCurrency);
+            requests.add(buildTransactionRequest(account, purchase, transactionCurrency));
         }
+        return requests;
+    }
+
+    public void scheduleAccountTransactionCreation(@NonNull Purchase purchase,
+                                                   @NonNull TransactionCreateRequestDTO transactionRequest) {
+        outboxService.enqueueTransactionCreate(purchase.getId(), transactionRequest);
+    }
+    
+    public void updateTransactionAmount(@NonNull Purchase purchase, @NonNull BigDecimal newAmount) {
+        outboxService.enqueueTransactionAmountUpdate(purchase, newAmount);
     }
     
     public void deletePurchaseTransaction(@NonNull Purchase purchase) {
-        if (purchase.getTransaction() != null) {
-            try {
-                transactionApiClient.deleteTransaction(purchase.getTransaction());
-            } catch (RuntimeException _) {
-            }
-        }
+        outboxService.enqueueTransactionDelete(purchase);
     }
     
     private TransactionCreateRequestDTO buildTransactionRequest(@NonNull AccountDTO account, 
@@ -72,25 +79,4 @@ public class PurchaseTransactionService {
         transactionRequest.setDescription(purchase.getComment());
         return transactionRequest;
     }
-    
-    private Long executeTransactionCreation(@NonNull TransactionCreateRequestDTO transactionRequest) {
-        try {
-            TransactionDTO transactionDTO = accountTransactionClient.createTransaction(transactionRequest).getBody();
-            if (transactionDTO == null || transactionDTO.getId() == null) {
-                throw new PurchaseException("TRANSACTION_CREATION_FAILED", 
-                        "Failed to create transaction: response body or transaction ID is null");
-            }
-            return transactionDTO.getId();
-        } catch (FeignException e) {
-            log.error("Feign error creating transaction: accountId={}, status={}, error={}", 
-                    transactionRequest.getFromAccountId(), e.status(), e.getMessage());
-            throw new PurchaseException("TRANSACTION_CREATION_FAILED", 
-                    String.format("Failed to create transaction: %s", e.getMessage()), e);
-        } catch (Exception e) {
-            log.error("Unexpected error creating transaction: accountId={}", 
-                    transactionRequest.getFromAccountId(), e);
-            throw new PurchaseException("TRANSACTION_CREATION_FAILED", 
-                    String.format("Failed to create transaction: %s", e.getMessage()), e);
-        }
-    }
 }
@@ -69,9 +69,7 @@ public class PurchaseUpdateService {
             existingPurchase.setTotalPrice(updatedPurchase.getTotalPrice());
             purchaseService.calculateAndSetUnitPrice(existingPurchase);
 
-            if (existingPurchase.getTransaction() != null) {
-                transactionService.updateTransactionAmount(existingPurchase.getTransaction(), updatedPurchase.getTotalPrice());
-            }
+            transactionService.updateTransactionAmount(existingPurchase, updatedPurchase.getTotalPrice());
             return true;
         }
         return false;
@@ -5,16 +5,12 @@ import lombok.RequiredArgsConstructor;
 import org.example.purchaseservice.exceptions.PurchaseException;
 import org.example.purchaseservice.models.Purchase;
 import org.example.purchaseservice.models.dto.fields.SourceDTO;
-import org.example.purchaseservice.models.warehouse.WarehouseReceipt;
 import org.example.purchaseservice.repositories.WarehouseReceiptRepository;
 import org.example.purchaseservice.services.impl.ISourceService;
 import org.example.purchaseservice.services.impl.IUserService;
 import org.example.purchaseservice.utils.SecurityUtils;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class PurchaseValidator {
@@ -49,15 +45,8 @@ public class PurchaseValidator {
             return false;
         }
 
-        Specification<WarehouseReceipt> spec = (root, _, cb) -> cb.and(
-                cb.equal(root.get("userId"), purchase.getUser()),
-                cb.equal(root.get("productId"), purchase.getProduct()),
-                cb.greaterThanOrEqualTo(root.get("createdAt"), purchase.getCreatedAt())
-        );
-        
-        List<WarehouseReceipt> receipts = warehouseReceiptRepository.findAll(spec);
-
-        return !receipts.isEmpty();
+        return warehouseReceiptRepository.existsByUserIdAndProductIdAndCreatedAtGreaterThanEqual(
+                purchase.getUser(), purchase.getProduct(), purchase.getCreatedAt());
     }
     
     private String getFullName() {
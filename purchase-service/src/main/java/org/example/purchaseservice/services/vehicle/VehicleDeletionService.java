@@ -10,13 +10,16 @@ import org.example.purchaseservice.clients.TransactionApiClient;
 import org.example.purchaseservice.repositories.VehicleProductRepository;
 import org.example.purchaseservice.repositories.VehicleRepository;
 import org.example.purchaseservice.services.impl.IWarehouseProductBalanceService;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import feign.FeignException;
 
 import java.math.BigDecimal;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,6 +37,7 @@ public class VehicleDeletionService {
     private record WarehouseProductKey(Long warehouseId, Long productId) {}
     
     @Transactional
+    @CacheEvict(value = "vehicleStats", allEntries = true)
     public void deleteVehicle(@NonNull Long vehicleId) {
         log.info("Deleting vehicle: id={}", vehicleId);
         
@@ -98,7 +102,10 @@ public class VehicleDeletionService {
                                 existing.productId(),
                                 existing.quantity().add(replacement.quantity()),
                                 existing.totalCostEur().add(replacement.totalCostEur())
-                        )
+                        ),
+                        () -> new TreeMap<>(Comparator
+                                .comparing(WarehouseProductKey::warehouseId)
+                                .thenComparing(WarehouseProductKey::productId))
                 ));
     }
     
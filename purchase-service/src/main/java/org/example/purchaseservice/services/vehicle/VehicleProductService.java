@@ -9,6 +9,7 @@ import org.example.purchaseservice.models.balance.VehicleProduct;
 import org.example.purchaseservice.models.balance.WarehouseProductBalance;
 import org.example.purchaseservice.repositories.VehicleProductRepository;
 import org.example.purchaseservice.services.impl.IWarehouseProductBalanceService;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +30,7 @@ public class VehicleProductService {
     private static final java.math.RoundingMode PRICE_ROUNDING_MODE = java.math.RoundingMode.HALF_UP;
     
     @Transactional
+    @CacheEvict(value = "vehicleStats", allEntries = true)
     public Vehicle updateVehicleProduct(@NonNull Long vehicleId, @NonNull Long vehicleProductId,
                                        BigDecimal newQuantity, BigDecimal newTotalCost) {
         validator.validateUpdateRequest(newQuantity, newTotalCost);
@@ -55,6 +57,7 @@ public class VehicleProductService {
     }
     
     @Transactional
+    @CacheEvict(value = "vehicleStats", allEntries = true)
     public Vehicle addProductToVehicle(@NonNull Long vehicleId, @NonNull Long warehouseId, 
                                       @NonNull Long productId, @NonNull BigDecimal quantity, Long userId) {
         log.info("Adding product to vehicle: vehicleId={}, warehouseId={}, productId={}, quantity={}", 
@@ -6,8 +6,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.purchaseservice.models.balance.Vehicle;
 import org.example.purchaseservice.models.balance.VehicleProduct;
+import org.example.purchaseservice.models.VehicleStatsTotals;
 import org.example.purchaseservice.models.dto.balance.OurVehiclesStatsDTO;
 import org.example.purchaseservice.models.dto.balance.VehiclesStatsDTO;
+import org.example.purchaseservice.exceptions.PurchaseException;
+import org.example.purchaseservice.models.dto.balance.VehicleCostAdjustmentDTO;
 import org.example.purchaseservice.models.dto.balance.VehicleUpdateDTO;
 import org.example.purchaseservice.repositories.VehicleProductRepository;
 import org.example.purchaseservice.repositories.VehicleRepository;
@@ -16,7 +19,10 @@ import org.example.purchaseservice.services.impl.IVehicleService;
 import org.example.purchaseservice.spec.StockVehicleSpecification;
 import org.example.purchaseservice.spec.VehicleFilterBuilder;
 import org.example.purchaseservice.spec.VehicleSearchPredicateBuilder;
+import org.example.purchaseservice.spec.VehicleSearchTextNormalizer;
 import org.example.purchaseservice.spec.VehicleSpecification;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +35,8 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -46,12 +54,16 @@ public class VehicleService implements IVehicleService {
     private final IVehicleExpenseService vehicleExpenseService;
     private final VehicleFilterBuilder filterBuilder;
     private final VehicleSearchPredicateBuilder searchPredicateBuilder;
+    private final VehicleStatsAggregator statsAggregator;
 
     @Transactional
+    @CacheEvict(value = "vehicleStats", allEntries = true)
     public Vehicle createVehicle(@NonNull Vehicle vehicle) {
         log.info("Creating new vehicle: date={}, vehicle={}, invoiceUa={}, invoiceEu={}, managerId={}",
                 vehicle.getShipmentDate(), vehicle.getVehicleNumber(), vehicle.getInvoiceUa(),
                 vehicle.getInvoiceEu(), vehicle.getManagerId());
+        vehicle.setSearchKey(VehicleSearchTextNormalizer.buildSearchKey(
+                vehicle.getVehicleNumber(), vehicle.getInvoiceUa(), vehicle.getInvoiceEu()));
         Vehicle saved = vehicleRepository.save(vehicle);
         log.info("Vehicle created: id={}", saved.getId());
         return saved;
@@ -85,6 +97,39 @@ public class VehicleService implements IVehicleService {
         logVehicleCostUpdated(saved);
     }
     
+    @Transactional
+    public void applyWithdrawalCosts(@NonNull List<VehicleCostAdjustmentDTO> adjustments) {
+        if (adjustments.isEmpty()) {
+            return;
+        }
+        log.info("Applying {} withdrawal cost adjustments", adjustments.size());
+
+        List<Long> vehicleIds = adjustments.stream()
+                .map(VehicleCostAdjustmentDTO::getVehicleId)
+                .distinct()
+                .toList();
+        Map<Long, Vehicle> vehicles = vehicleRepository.findAllById(vehicleIds).stream()
+                .collect(Collectors.toMap(Vehicle::getId, Function.identity()));
+
+        for (VehicleCostAdjustmentDTO adjustment : adjustments) {
+            Vehicle vehicle = vehicles.get(adjustment.getVehicleId());
+            if (vehicle == null) {
+                throw new PurchaseException("VEHICLE_NOT_FOUND",
+                        String.format("Vehicle not found: id=%d", adjustment.getVehicleId()));
+            }
+            if ("add".equalsIgnoreCase(adjustment.getOperation())) {
+                costCalculator.addVehicleTotalCost(vehicle, adjustment.getAmountEur());
+            } else if ("subtract".equalsIgnoreCase(adjustment.getOperation())) {
+                costCalculator.subtractVehicleTotalCost(vehicle, adjustment.getAmountEur());
+            } else {
+                throw new PurchaseException("INVALID_OPERATION",
+                        String.format("Invalid operation: %s. Must be 'add' or 'subtract'", adjustment.getOperation()));
+            }
+        }
+
+        vehicleRepository.saveAll(vehicles.values()).forEach(this::logVehicleCostUpdated);
+    }
+    
     private void logVehicleCostUpdated(@NonNull Vehicle vehicle) {
         log.info("Vehicle updated: id={}, newTotalCost={}", vehicle.getId(), vehicle.getTotalCostEur());
     }
@@ -118,29 +163,21 @@ public class VehicleService implements IVehicleService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "vehicleStats", keyGenerator = "vehicleStatsKeyGenerator")
     public OurVehiclesStatsDTO getOurVehiclesStats(String query, LocalDate fromDate, LocalDate toDate, List<Long> managerIds) {
         List<Long> managerIdsList = managerIds != null ? managerIds : Collections.emptyList();
         StockVehicleSpecification spec = new StockVehicleSpecification(query, fromDate, toDate, managerIdsList);
-        Sort sort = Sort.by(Sort.Direction.DESC, "shipmentDate");
-        List<Vehicle> vehicles = vehicleRepository.findAll(spec, sort);
-        if (vehicles.isEmpty()) {
+        long vehicleCount = vehicleRepository.count(spec);
+        if (vehicleCount == 0) {
             return new OurVehiclesStatsDTO(0L, BigDecimal.ZERO, BigDecimal.ZERO);
         }
-        List<Long> vehicleIds = vehicles.stream().map(Vehicle::getId).toList();
-        Map<Long, List<VehicleProduct>> productsByVehicle = getVehicleProductsByVehicleIds(vehicleIds);
-        BigDecimal totalQuantity = BigDecimal.ZERO;
-        BigDecimal totalCost = BigDecimal.ZERO;
-        for (List<VehicleProduct> products : productsByVehicle.values()) {
-            for (VehicleProduct vp : products) {
-                if (vp.getQuantity() != null) totalQuantity = totalQuantity.add(vp.getQuantity());
-                if (vp.getTotalCostEur() != null) totalCost = totalCost.add(vp.getTotalCostEur());
-            }
-        }
-        return new OurVehiclesStatsDTO(vehicles.size(), totalQuantity, totalCost);
+        VehicleStatsTotals totals = statsAggregator.sumProducts(spec);
+        return new OurVehiclesStatsDTO(vehicleCount, totals.totalQuantity(), totals.totalCostEur());
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "vehicleStats", keyGenerator = "vehicleStatsKeyGenerator")
     public VehiclesStatsDTO getVehiclesStats(String query, Map<String, List<String>> filterParams) {
         VehicleSpecification spec = new VehicleSpecification(
                 query,
@@ -151,23 +188,8 @@ public class VehicleService implements IVehicleService {
                 null
         );
 
-        List<Vehicle> vehicles = vehicleRepository.findAll(spec);
-        if (vehicles.isEmpty()) {
-            return new VehiclesStatsDTO(BigDecimal.ZERO, BigDecimal.ZERO);
-        }
-
-        List<Long> vehicleIds = vehicles.stream().map(Vehicle::getId).toList();
-        Map<Long, List<VehicleProduct>> productsByVehicle = getVehicleProductsByVehicleIds(vehicleIds);
-
-        BigDecimal totalQuantity = BigDecimal.ZERO;
-        BigDecimal totalCost = BigDecimal.ZERO;
-        for (List<VehicleProduct> products : productsByVehicle.values()) {
-            for (VehicleProduct vp : products) {
-                if (vp.getQuantity() != null) totalQuantity = totalQuantity.add(vp.getQuantity());
-                if (vp.getTotalCostEur() != null) totalCost = totalCost.add(vp.getTotalCostEur());
-            }
-        }
-        return new VehiclesStatsDTO(totalQuantity, totalCost);
+        VehicleStatsTotals totals = statsAggregator.sumProducts(spec);
+        return new VehiclesStatsDTO(totals.totalQuantity(), totals.totalCostEur());
     }
     
     @Transactional(readOnly = true)
@@ -0,0 +1,40 @@
+package org.example.purchaseservice.services.vehicle;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.NonNull;
+import org.example.purchaseservice.models.VehicleStatsTotals;
+import org.example.purchaseservice.models.balance.Vehicle;
+import org.example.purchaseservice.models.balance.VehicleProduct;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Component
+public class VehicleStatsAggregator {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public VehicleStatsTotals sumProducts(@NonNull Specification<Vehicle> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VehicleStatsTotals> query = cb.createQuery(VehicleStatsTotals.class);
+        Root<VehicleProduct> product = query.from(VehicleProduct.class);
+
+        Subquery<Long> vehicleIds = query.subquery(Long.class);
+        Root<Vehicle> vehicle = vehicleIds.from(Vehicle.class);
+        vehicleIds.select(vehicle.get("id")).where(spec.toPredicate(vehicle, query, cb));
+
+        query.select(cb.construct(VehicleStatsTotals.class,
+                        cb.<BigDecimal>sum(product.get("quantity")),
+                        cb.<BigDecimal>sum(product.get("totalCostEur"))))
+                .where(product.get("vehicleId").in(vehicleIds));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
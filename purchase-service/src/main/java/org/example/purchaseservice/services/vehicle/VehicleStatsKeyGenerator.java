@@ -0,0 +1,55 @@
+package org.example.purchaseservice.services.vehicle;
+
+import lombok.NonNull;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Component("vehicleStatsKeyGenerator")
+public class VehicleStatsKeyGenerator implements KeyGenerator {
+
+    @Override
+    @NonNull
+    public Object generate(@NonNull Object target, @NonNull Method method, Object @NonNull ... params) {
+        List<Object> key = new ArrayList<>(params.length + 1);
+        key.add(method.getName());
+        for (Object param : params) {
+            key.add(normalize(param));
+        }
+        return key;
+    }
+
+    private Object normalize(Object value) {
+        if (value instanceof String text) {
+            return text.isBlank() ? null : text.trim();
+        }
+        if (value instanceof Collection<?> values) {
+            List<String> normalized = values.stream()
+                    .map(this::normalize)
+                    .filter(Objects::nonNull)
+                    .map(String::valueOf)
+                    .distinct()
+                    .sorted()
+                    .toList();
+            return normalized.isEmpty() ? null : normalized;
+        }
+        if (value instanceof Map<?, ?> map) {
+            TreeMap<String, Object> normalized = new TreeMap<>();
+            map.forEach((name, values) -> {
+                Object normalizedValues = normalize(values);
+                if (name != null && normalizedValues != null) {
+                    normalized.put(name.toString(), normalizedValues);
+                }
+            });
+            return normalized.isEmpty() ? null : normalized;
+        }
+        return value;
+    }
+}
@@ -14,7 +14,9 @@ import org.example.purchaseservice.repositories.VehicleSenderRepository;
 import org.example.purchaseservice.repositories.VehicleTerminalRepository;
 import org.example.purchaseservice.repositories.VehicleDestinationCountryRepository;
 import org.example.purchaseservice.repositories.VehicleDestinationPlaceRepository;
+import org.example.purchaseservice.spec.VehicleSearchTextNormalizer;
 import org.example.purchaseservice.utils.StringUtils;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -32,6 +34,7 @@ public class VehicleUpdateService {
     
     private static final int PRICE_SCALE = 6;
     
+    @CacheEvict(value = "vehicleStats", allEntries = true)
     public void updateVehicle(@NonNull Vehicle vehicle, @NonNull VehicleUpdateDTO dto) {
         updateBasicFields(vehicle, dto);
         updateVehicleRelations(vehicle, dto.getSenderId(), dto.getReceiverId(), dto.getCarrierId(), 
@@ -53,6 +56,8 @@ public class VehicleUpdateService {
         vehicle.setVehicleNumber(normalizeString(dto.getVehicleNumber()));
         vehicle.setInvoiceUa(normalizeString(dto.getInvoiceUa()));
         vehicle.setInvoiceEu(normalizeString(dto.getInvoiceEu()));
+        vehicle.setSearchKey(VehicleSearchTextNormalizer.buildSearchKey(
+                vehicle.getVehicleNumber(), vehicle.getInvoiceUa(), vehicle.getInvoiceEu()));
         vehicle.setDescription(normalizeString(dto.getDescription()));
         vehicle.setAdditionalDescription(normalizeString(dto.getAdditionalDescription()));
         vehicle.setProduct(normalizeString(dto.getProduct()));
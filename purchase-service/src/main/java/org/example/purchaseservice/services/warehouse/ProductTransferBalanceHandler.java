@@ -10,6 +10,7 @@ import org.example.purchaseservice.services.impl.IWarehouseProductBalanceService
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -46,6 +47,7 @@ public class ProductTransferBalanceHandler {
             BigDecimal quantity,
             BigDecimal totalCost) {
         
+        warehouseProductBalanceService.lockBalances(warehouseId, List.of(fromProductId, toProductId));
         warehouseProductBalanceService.removeProductWithCost(warehouseId, fromProductId, quantity, totalCost);
         warehouseProductBalanceService.addProduct(warehouseId, toProductId, quantity, totalCost);
     }
@@ -0,0 +1,47 @@
+package org.example.purchaseservice.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.NonNull;
+import org.example.purchaseservice.models.ClientReplica;
+import org.example.purchaseservice.models.ClientReplicaFilter;
+import org.example.purchaseservice.models.Purchase;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ClientReplicaSpecification implements Specification<Purchase> {
+
+    private static final String FIELD_CLIENT = "client";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CLIENT_TYPE_ID = "clientTypeId";
+    private static final String FIELD_SOURCE_ID = "sourceId";
+    private static final String FIELD_IS_ACTIVE = "isActive";
+
+    private final ClientReplicaFilter filter;
+
+    public ClientReplicaSpecification(@NonNull ClientReplicaFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public Predicate toPredicate(@NonNull Root<Purchase> root, CriteriaQuery<?> query,
+                                 @NonNull CriteriaBuilder criteriaBuilder) {
+        Subquery<Long> clients = query.subquery(Long.class);
+        Root<ClientReplica> replica = clients.from(ClientReplica.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(replica.get(FIELD_CLIENT_TYPE_ID), filter.clientTypeId()));
+        predicates.add(criteriaBuilder.isTrue(replica.get(FIELD_IS_ACTIVE)));
+        if (filter.sourceIds() != null && !filter.sourceIds().isEmpty()) {
+            predicates.add(replica.get(FIELD_SOURCE_ID).in(filter.sourceIds()));
+        }
+
+        clients.select(replica.get(FIELD_ID)).where(predicates.toArray(new Predicate[0]));
+        return root.get(FIELD_CLIENT).in(clients);
+    }
+}
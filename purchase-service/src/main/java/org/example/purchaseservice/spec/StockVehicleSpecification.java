@@ -17,7 +17,6 @@ import java.util.Set;
 public class StockVehicleSpecification implements Specification<Vehicle> {
 
     private static final String SHIPMENT_DATE = "shipmentDate";
-    private static final String VEHICLE_NUMBER = "vehicleNumber";
     private static final String DESCRIPTION = "description";
     private static final String ADDITIONAL_DESCRIPTION = "additionalDescription";
     private static final String MANAGER_ID = "managerId";
@@ -49,24 +48,28 @@ public class StockVehicleSpecification implements Specification<Vehicle> {
             predicates.add(root.get(MANAGER_ID).in(managerIds));
         }
         if (StringUtils.hasText(query)) {
-            Set<String> searchVariants = VehicleSearchTextNormalizer.buildSearchVariants(query);
             List<Predicate> searchPredicates = new ArrayList<>();
+            String searchKey = VehicleSearchTextNormalizer.canonicalize(query);
+            if (!searchKey.isEmpty()) {
+                searchPredicates.add(VehicleSearchKeyPredicateBuilder.createSearchKeyPredicate(root, criteriaBuilder, searchKey));
+            }
+            Set<String> searchVariants = VehicleSearchTextNormalizer.isPlateShaped(query)
+                    ? Set.of()
+                    : VehicleSearchTextNormalizer.buildSearchVariants(query);
             for (String searchVariant : searchVariants) {
                 String pattern = "%" + searchVariant + "%";
-                Predicate vehicleNumberLike = criteriaBuilder.like(
-                        criteriaBuilder.lower(criteriaBuilder.coalesce(root.get(VEHICLE_NUMBER), "")), pattern);
                 Predicate descriptionLike = criteriaBuilder.like(
                         criteriaBuilder.lower(criteriaBuilder.coalesce(root.get(DESCRIPTION), "")), pattern);
                 Predicate additionalDescriptionLike = criteriaBuilder.like(
                         criteriaBuilder.lower(criteriaBuilder.coalesce(root.get(ADDITIONAL_DESCRIPTION), "")), pattern);
-                searchPredicates.add(criteriaBuilder.or(vehicleNumberLike, descriptionLike, additionalDescriptionLike));
+                searchPredicates.add(criteriaBuilder.or(descriptionLike, additionalDescriptionLike));
             }
             if (!searchPredicates.isEmpty()) {
                 predicates.add(criteriaBuilder.or(searchPredicates.toArray(new Predicate[0])));
             }
         }
 
-        if (criteriaQuery.getResultType() != Long.class && criteriaQuery.getResultType() != long.class) {
+        if (criteriaQuery.getResultType() == Vehicle.class) {
             var shipmentDatePath = root.get(SHIPMENT_DATE);
             var nullRank = criteriaBuilder.selectCase()
                     .when(criteriaBuilder.isNull(shipmentDatePath), 0)
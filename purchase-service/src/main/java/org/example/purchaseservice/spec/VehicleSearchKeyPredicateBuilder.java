@@ -0,0 +1,35 @@
+package org.example.purchaseservice.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.NonNull;
+import org.example.purchaseservice.models.balance.Vehicle;
+
+import static org.example.purchaseservice.config.MySqlFunctionContributor.MATCH_AGAINST;
+
+public final class VehicleSearchKeyPredicateBuilder {
+
+    private static final String FIELD_SEARCH_KEY = "searchKey";
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final double MIN_RELEVANCE = 0.0;
+    private static final String PHRASE_QUOTE = "\"";
+
+    private VehicleSearchKeyPredicateBuilder() {
+    }
+
+    public static Predicate createSearchKeyPredicate(@NonNull Root<Vehicle> root,
+                                                     @NonNull CriteriaBuilder criteriaBuilder,
+                                                     @NonNull String searchKey) {
+        Predicate contains = criteriaBuilder.like(root.get(FIELD_SEARCH_KEY), "%" + searchKey + "%");
+        if (searchKey.length() < NGRAM_TOKEN_SIZE) {
+            return contains;
+        }
+
+        Predicate indexed = criteriaBuilder.greaterThan(
+                criteriaBuilder.function(MATCH_AGAINST, Double.class,
+                        root.get(FIELD_SEARCH_KEY), criteriaBuilder.literal(PHRASE_QUOTE + searchKey + PHRASE_QUOTE)),
+                MIN_RELEVANCE);
+        return criteriaBuilder.and(indexed, contains);
+    }
+}
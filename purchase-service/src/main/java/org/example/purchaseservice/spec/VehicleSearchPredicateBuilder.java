@@ -19,9 +19,6 @@ import java.util.Set;
 public class VehicleSearchPredicateBuilder {
     
     private static final String FIELD_ID = "id";
-    private static final String FIELD_VEHICLE_NUMBER = "vehicleNumber";
-    private static final String FIELD_INVOICE_UA = "invoiceUa";
-    private static final String FIELD_INVOICE_EU = "invoiceEu";
     private static final String FIELD_PRODUCT = "product";
     private static final String FIELD_PRODUCT_QUANTITY = "productQuantity";
     private static final String FIELD_DECLARATION_NUMBER = "declarationNumber";
@@ -49,13 +46,18 @@ public class VehicleSearchPredicateBuilder {
             @NonNull CriteriaBuilder criteriaBuilder) {
         
         List<Predicate> searchPredicates = new ArrayList<>();
+        String searchKey = VehicleSearchTextNormalizer.canonicalize(query);
+        if (!searchKey.isEmpty()) {
+            searchPredicates.add(VehicleSearchKeyPredicateBuilder.createSearchKeyPredicate(root, criteriaBuilder, searchKey));
+            if (VehicleSearchTextNormalizer.isPlateShaped(query)) {
+                return searchPredicates;
+            }
+        }
+
         Set<String> searchVariants = VehicleSearchTextNormalizer.buildSearchVariants(query);
         for (String searchVariant : searchVariants) {
             String searchTerm = String.format("%%%s%%", searchVariant);
             addIdSearchPredicate(searchPredicates, searchVariant, root, criteriaBuilder, searchTerm);
-            addStringFieldSearchPredicate(searchPredicates, root, criteriaBuilder, FIELD_VEHICLE_NUMBER, searchTerm);
-            addStringFieldSearchPredicate(searchPredicates, root, criteriaBuilder, FIELD_INVOICE_UA, searchTerm);
-            addStringFieldSearchPredicate(searchPredicates, root, criteriaBuilder, FIELD_INVOICE_EU, searchTerm);
             addStringFieldSearchPredicate(searchPredicates, root, criteriaBuilder, FIELD_PRODUCT, searchTerm);
             addStringFieldSearchPredicate(searchPredicates, root, criteriaBuilder, FIELD_PRODUCT_QUANTITY, searchTerm);
             addStringFieldSearchPredicate(searchPredicates, root, criteriaBuilder, FIELD_DECLARATION_NUMBER, searchTerm);
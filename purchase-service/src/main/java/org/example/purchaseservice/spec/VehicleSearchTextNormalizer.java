@@ -6,9 +6,15 @@ import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
 
 public final class VehicleSearchTextNormalizer {
 
+    private static final String SEARCH_KEY_SEPARATOR = " ";
+    private static final int SEARCH_KEY_MAX_LENGTH = 255;
+    private static final String PLATE_SEPARATORS = "-/.";
+    private static final int PLATE_MAX_LETTER_RUN = 3;
+
     private static final Map<Character, Character> LATIN_TO_CYRILLIC = Map.ofEntries(
             Map.entry('a', 'а'),
             Map.entry('b', 'в'),
@@ -59,6 +65,64 @@ public final class VehicleSearchTextNormalizer {
         return variants;
     }
 
+    public static String canonicalize(String value) {
+        if (!StringUtils.hasText(value)) {
+            return "";
+        }
+
+        String lowered = value.toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(lowered.length());
+        for (int i = 0; i < lowered.length(); i++) {
+            char current = CYRILLIC_TO_LATIN.getOrDefault(lowered.charAt(i), lowered.charAt(i));
+            if (Character.isLetterOrDigit(current)) {
+                builder.append(current);
+            }
+        }
+        return builder.toString();
+    }
+
+    public static boolean isPlateShaped(String query) {
+        if (!StringUtils.hasText(query)) {
+            return false;
+        }
+
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        int letterRun = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char current = query.charAt(i);
+            if (Character.isLetter(current)) {
+                hasLetter = true;
+                if (++letterRun > PLATE_MAX_LETTER_RUN) {
+                    return false;
+                }
+                continue;
+            }
+            letterRun = 0;
+            if (Character.isDigit(current)) {
+                hasDigit = true;
+            } else if (!Character.isWhitespace(current) && PLATE_SEPARATORS.indexOf(current) < 0) {
+                return false;
+            }
+        }
+        return hasLetter && hasDigit;
+    }
+
+    public static String buildSearchKey(String... values) {
+        StringJoiner joiner = new StringJoiner(SEARCH_KEY_SEPARATOR);
+        for (String value : values) {
+            String canonical = canonicalize(value);
+            if (!canonical.isEmpty()) {
+                joiner.add(canonical);
+            }
+        }
+        String searchKey = joiner.toString();
+        if (searchKey.isEmpty()) {
+            return null;
+        }
+        return searchKey.length() > SEARCH_KEY_MAX_LENGTH ? searchKey.substring(0, SEARCH_KEY_MAX_LENGTH) : searchKey;
+    }
+
     private static String swap(String value, Map<Character, Character> map) {
         StringBuilder builder = new StringBuilder(value.length());
         for (int i = 0; i < value.length(); i++) {
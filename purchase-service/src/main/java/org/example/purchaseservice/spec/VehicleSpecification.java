@@ -65,8 +65,7 @@ public class VehicleSpecification implements Specification<Vehicle> {
 
         if (sortField != null
                 && sortDirection != null
-                && criteriaQuery.getResultType() != Long.class
-                && criteriaQuery.getResultType() != long.class) {
+                && criteriaQuery.getResultType() == Vehicle.class) {
             if ("customsDate".equals(sortField)) {
                 var customsDatePath = root.get("customsDate");
                 var nullRank = criteriaBuilder.selectCase()
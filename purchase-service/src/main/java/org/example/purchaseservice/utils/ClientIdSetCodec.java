@@ -0,0 +1,90 @@
+package org.example.purchaseservice.utils;
+
+import lombok.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+public final class ClientIdSetCodec {
+    public static final String MEDIA_TYPE = "application/octet-stream";
+
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUATION_BIT = 0x80;
+
+    private ClientIdSetCodec() {
+    }
+
+    public static byte[] encode(@NonNull List<Long> ids) {
+        long[] sorted = ids.stream()
+                .filter(id -> id != null && id > 0)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(sorted.length * 2 + VARINT_PAYLOAD_BITS);
+        writeVarint(out, sorted.length);
+        long previous = 0;
+        for (long id : sorted) {
+            writeVarint(out, id - previous);
+            previous = id;
+        }
+        return out.toByteArray();
+    }
+
+    public static List<Long> decode(byte @NonNull [] data) {
+        int[] position = {0};
+        long count = readVarint(data, position);
+        if (count < 0 || count > data.length - position[0]) {
+            throw new IllegalArgumentException(String.format(
+                    "Client ID set declares %d IDs but only %d bytes follow", count, data.length - position[0]));
+        }
+
+        long[] ids = new long[(int) count];
+        long previous = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long delta = readVarint(data, position);
+            if (delta <= 0 || previous > Long.MAX_VALUE - delta) {
+                throw new IllegalArgumentException("Client ID set is not strictly ascending");
+            }
+            previous += delta;
+            ids[i] = previous;
+        }
+        if (position[0] != data.length) {
+            throw new IllegalArgumentException("Unexpected trailing bytes in client ID set");
+        }
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    private static void writeVarint(@NonNull ByteArrayOutputStream out, long value) {
+        while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.write((int) ((value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION_BIT));
+            value >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte @NonNull [] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] < 0 || position[0] >= data.length) {
+                throw new IllegalArgumentException("Truncated client ID set");
+            }
+            byte b = data[position[0]++];
+            if (shift == Long.SIZE - 1 && (b & VARINT_PAYLOAD_MASK) > 1) {
+                throw new IllegalArgumentException("Malformed varint in client ID set");
+            }
+            value |= (long) (b & VARINT_PAYLOAD_MASK) << shift;
+            if ((b & VARINT_CONTINUATION_BIT) == 0) {
+                return value;
+            }
+            shift += VARINT_PAYLOAD_BITS;
+            if (shift >= Long.SIZE) {
+                throw new IllegalArgumentException("Malformed varint in client ID set");
+            }
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.List;
+
 public final class SecurityUtils {
 
     private SecurityUtils() {
@@ -34,6 +36,16 @@ public final class SecurityUtils {
                 .anyMatch(authority::equals);
     }
 
+    public static List<String> getCurrentUserAuthorities() {
+        Authentication authentication = getAuthentication();
+        if (authentication == null) {
+            return List.of();
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+
     public static String getCurrentUserLogin() {
         Authentication authentication = getAuthentication();
         if (authentication == null) {
@@ -0,0 +1,17 @@
+CREATE TABLE purchase_daily_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    rollup_date DATE NOT NULL,
+    user_id BIGINT NOT NULL,
+    source_id BIGINT NOT NULL DEFAULT 0,
+    product_id BIGINT NOT NULL,
+    quantity DECIMAL(20, 2) NOT NULL DEFAULT 0,
+    total_price_eur DECIMAL(20, 6) NOT NULL DEFAULT 0,
+    purchase_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_purchase_daily_rollups UNIQUE (rollup_date, user_id, source_id, product_id)
+);
+
+INSERT INTO purchase_daily_rollups (rollup_date, user_id, source_id, product_id, quantity, total_price_eur, purchase_count)
+SELECT DATE(created_at), user_id, COALESCE(source_id, 0), product_id,
+       SUM(quantity), SUM(COALESCE(total_price_eur, 0)), COUNT(*)
+FROM purchases
+GROUP BY DATE(created_at), user_id, COALESCE(source_id, 0), product_id;
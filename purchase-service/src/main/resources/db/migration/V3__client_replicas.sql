@@ -0,0 +1,12 @@
+CREATE TABLE client_replicas (
+    id BIGINT PRIMARY KEY,
+    company VARCHAR(255) NOT NULL,
+    client_type_id BIGINT NOT NULL,
+    source_id BIGINT NULL,
+    is_active BOOLEAN NOT NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_client_replicas_type_active_source ON client_replicas (client_type_id, is_active, source_id, id);
+CREATE INDEX idx_client_replicas_updated ON client_replicas (updated_at, id);
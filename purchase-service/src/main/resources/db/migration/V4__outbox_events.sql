@@ -0,0 +1,25 @@
+CREATE TABLE outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    purchase_id BIGINT NOT NULL,
+    event_type VARCHAR(32) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    idempotency_key VARCHAR(64) NOT NULL,
+    transaction_id BIGINT NULL,
+    from_account_id BIGINT NULL,
+    amount DECIMAL(20, 2) NULL,
+    currency VARCHAR(3) NULL,
+    client_id BIGINT NULL,
+    description TEXT NULL,
+    executor_user_id BIGINT NOT NULL,
+    executor_login VARCHAR(255) NOT NULL,
+    executor_authorities TEXT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(1000) NULL,
+    created_at DATETIME(6) NULL,
+    delivered_at DATETIME(6) NULL,
+    CONSTRAINT uk_outbox_events_idempotency_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX idx_outbox_events_status_next_attempt ON outbox_events (status, next_attempt_at, id);
+CREATE INDEX idx_outbox_events_purchase ON outbox_events (purchase_id, status, id);
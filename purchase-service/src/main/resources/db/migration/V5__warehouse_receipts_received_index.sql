@@ -0,0 +1 @@
+CREATE INDEX idx_warehouse_receipts_user_product_created ON warehouse_receipts (user_id, product_id, created_at);
@@ -0,0 +1,23 @@
+ALTER TABLE vehicles ADD COLUMN search_key VARCHAR(255) NULL;
+
+UPDATE vehicles
+SET search_key = NULLIF(LEFT(TRIM(CONCAT_WS(' ',
+        NULLIF(REGEXP_REPLACE(
+            REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+                LOWER(vehicle_number),
+                'а', 'a'), 'в', 'b'), 'с', 'c'), 'е', 'e'), 'н', 'h'), 'і', 'i'), 'к', 'k'),
+                'м', 'm'), 'о', 'o'), 'р', 'p'), 'т', 't'), 'х', 'x'), 'у', 'y'),
+            '[^[:alnum:]]', ''), ''),
+        NULLIF(REGEXP_REPLACE(
+            REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+                LOWER(invoice_ua),
+                'а', 'a'), 'в', 'b'), 'с', 'c'), 'е', 'e'), 'н', 'h'), 'і', 'i'), 'к', 'k'),
+                'м', 'm'), 'о', 'o'), 'р', 'p'), 'т', 't'), 'х', 'x'), 'у', 'y'),
+            '[^[:alnum:]]', ''), ''),
+        NULLIF(REGEXP_REPLACE(
+            REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(REPLACE(
+                LOWER(invoice_eu),
+                'а', 'a'), 'в', 'b'), 'с', 'c'), 'е', 'e'), 'н', 'h'), 'і', 'i'), 'к', 'k'),
+                'м', 'm'), 'о', 'o'), 'р', 'p'), 'т', 't'), 'х', 'x'), 'у', 'y'),
+            '[^[:alnum:]]', ''), '')
+    )), 255), '');
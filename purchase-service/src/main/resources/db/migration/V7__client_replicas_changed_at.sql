@@ -0,0 +1,8 @@
+TRUNCATE TABLE client_replicas;
+
+ALTER TABLE client_replicas
+    ADD COLUMN changed_at DATETIME(6) NOT NULL,
+    ADD COLUMN reconcile_run BIGINT NULL;
+
+DROP INDEX idx_client_replicas_updated ON client_replicas;
+CREATE INDEX idx_client_replicas_changed ON client_replicas (changed_at, id);
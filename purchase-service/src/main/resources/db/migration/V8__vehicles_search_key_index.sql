@@ -0,0 +1,3 @@
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+CREATE FULLTEXT INDEX ft_vehicles_search_key ON vehicles (search_key) WITH PARSER ngram;
@@ -0,0 +1,2 @@
+ALTER TABLE outbox_events
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,122 @@
+package org.example.purchaseservice.services.balance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.purchaseservice.models.balance.DriverProductBalance;
+import org.example.purchaseservice.services.impl.IDriverProductBalanceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Concurrent writers against driver balance rows. Writes to the configured database, so it only runs with
+ * {@code -Dpurchase.balance.stress=true}; {@code purchase.balance.stress.writers} and
+ * {@code purchase.balance.stress.operations} override the thread count and the operations per thread.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "purchase.balance.stress", matches = "true")
+class DriverProductBalanceConcurrencyTest {
+
+    private static final int WRITERS = Integer.getInteger("purchase.balance.stress.writers", 32);
+    private static final int OPERATIONS_PER_WRITER = Integer.getInteger("purchase.balance.stress.operations", 200);
+    private static final BigDecimal ADDED_QUANTITY = new BigDecimal("1.00");
+    private static final BigDecimal ADDED_COST = new BigDecimal("2.000000");
+    private static final BigDecimal REMOVED_QUANTITY = new BigDecimal("0.50");
+    private static final BigDecimal REMOVED_COST = new BigDecimal("1.000000");
+    private static final BigDecimal CHANGED_QUANTITY = new BigDecimal("0.75");
+    private static final BigDecimal CHANGED_COST = new BigDecimal("1.500000");
+
+    @Autowired
+    private IDriverProductBalanceService driverProductBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long driverId;
+
+    @BeforeEach
+    void pickDriver() {
+        driverId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+
+    @AfterEach
+    void removeBalances() {
+        jdbcTemplate.update("DELETE FROM driver_product_balances WHERE driver_id = ?", driverId);
+    }
+
+    @Test
+    void concurrentWritersOnOneKeyLoseNoUpdates() throws Exception {
+        long productId = 1L;
+
+        long elapsedNanos = runWriters(WRITERS, _ -> {
+            for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                driverProductBalanceService.addProduct(driverId, productId, ADDED_QUANTITY, ADDED_COST);
+                driverProductBalanceService.removeProduct(driverId, productId, REMOVED_QUANTITY, REMOVED_COST);
+                driverProductBalanceService.updateFromPurchaseChange(driverId, productId,
+                        REMOVED_QUANTITY, REMOVED_COST, CHANGED_QUANTITY, CHANGED_COST);
+            }
+        });
+
+        long operations = 3L * WRITERS * OPERATIONS_PER_WRITER;
+        log.info("Driver balance ({}, {}): {} writers, {} operations in {} ms, {} ops/s",
+                driverId, productId, WRITERS, operations, elapsedNanos / 1_000_000,
+                operations * 1_000_000_000L / Math.max(1, elapsedNanos));
+
+        long iterations = (long) WRITERS * OPERATIONS_PER_WRITER;
+        BigDecimal quantityPerIteration = ADDED_QUANTITY.subtract(REMOVED_QUANTITY)
+                .subtract(REMOVED_QUANTITY).add(CHANGED_QUANTITY);
+        BigDecimal costPerIteration = ADDED_COST.subtract(REMOVED_COST)
+                .subtract(REMOVED_COST).add(CHANGED_COST);
+        DriverProductBalance balance = driverProductBalanceService.getBalance(driverId, productId);
+        assertNotNull(balance);
+        assertEquals(0, quantityPerIteration.multiply(BigDecimal.valueOf(iterations))
+                .compareTo(balance.getQuantity()), "quantity " + balance.getQuantity());
+        assertEquals(0, costPerIteration.multiply(BigDecimal.valueOf(iterations))
+                .compareTo(balance.getTotalCostEur()), "total cost " + balance.getTotalCostEur());
+    }
+
+    private long runWriters(int writers, Writer writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(writers);
+            for (int i = 0; i < writers; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    writer.run(index);
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void run(int index);
+    }
+}
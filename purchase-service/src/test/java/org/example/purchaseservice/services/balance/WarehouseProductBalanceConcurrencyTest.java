@@ -0,0 +1,151 @@
+package org.example.purchaseservice.services.balance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.purchaseservice.models.balance.WarehouseProductBalance;
+import org.example.purchaseservice.services.impl.IWarehouseProductBalanceService;
+import org.example.purchaseservice.services.warehouse.ProductTransferBalanceHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Concurrent writers against warehouse balance rows. Writes to the configured database, so it only runs with
+ * {@code -Dpurchase.balance.stress=true}; {@code purchase.balance.stress.writers} and
+ * {@code purchase.balance.stress.operations} override the thread count and the operations per thread.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "purchase.balance.stress", matches = "true")
+class WarehouseProductBalanceConcurrencyTest {
+
+    private static final int WRITERS = Integer.getInteger("purchase.balance.stress.writers", 32);
+    private static final int OPERATIONS_PER_WRITER = Integer.getInteger("purchase.balance.stress.operations", 200);
+    private static final BigDecimal ADDED_QUANTITY = new BigDecimal("1.00");
+    private static final BigDecimal ADDED_COST = new BigDecimal("2.000000");
+    private static final BigDecimal REMOVED_QUANTITY = new BigDecimal("0.50");
+    private static final BigDecimal REMOVED_COST = new BigDecimal("1.000000");
+
+    @Autowired
+    private IWarehouseProductBalanceService warehouseProductBalanceService;
+
+    @Autowired
+    private ProductTransferBalanceHandler transferBalanceHandler;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long warehouseId;
+
+    @BeforeEach
+    void pickWarehouse() {
+        warehouseId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+
+    @AfterEach
+    void removeBalances() {
+        jdbcTemplate.update("DELETE FROM warehouse_balance_adjustments WHERE warehouse_id = ?", warehouseId);
+        jdbcTemplate.update("DELETE FROM warehouse_product_balances WHERE warehouse_id = ?", warehouseId);
+    }
+
+    @Test
+    void concurrentWritersOnOneKeyLoseNoUpdates() throws Exception {
+        long productId = 1L;
+
+        long elapsedNanos = runWriters(WRITERS, _ -> {
+            for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                warehouseProductBalanceService.addProduct(warehouseId, productId, ADDED_QUANTITY, ADDED_COST);
+                warehouseProductBalanceService.removeProductWithCost(
+                        warehouseId, productId, REMOVED_QUANTITY, REMOVED_COST);
+            }
+        });
+
+        long operations = 2L * WRITERS * OPERATIONS_PER_WRITER;
+        log.info("Warehouse balance ({}, {}): {} writers, {} operations in {} ms, {} ops/s",
+                warehouseId, productId, WRITERS, operations, elapsedNanos / 1_000_000,
+                operations * 1_000_000_000L / Math.max(1, elapsedNanos));
+
+        long iterations = (long) WRITERS * OPERATIONS_PER_WRITER;
+        WarehouseProductBalance balance = warehouseProductBalanceService.getBalance(warehouseId, productId);
+        assertNotNull(balance);
+        assertEquals(0, ADDED_QUANTITY.subtract(REMOVED_QUANTITY).multiply(BigDecimal.valueOf(iterations))
+                .compareTo(balance.getQuantity()), "quantity " + balance.getQuantity());
+        assertEquals(0, ADDED_COST.subtract(REMOVED_COST).multiply(BigDecimal.valueOf(iterations))
+                .compareTo(balance.getTotalCostEur()), "total cost " + balance.getTotalCostEur());
+    }
+
+    @Test
+    void opposingTransfersDoNotDeadlock() throws Exception {
+        long firstProductId = 1L;
+        long secondProductId = 2L;
+        BigDecimal initialQuantity = BigDecimal.valueOf(WRITERS * OPERATIONS_PER_WRITER);
+        BigDecimal initialCost = initialQuantity.multiply(ADDED_COST);
+        warehouseProductBalanceService.addProduct(warehouseId, firstProductId, initialQuantity, initialCost);
+        warehouseProductBalanceService.addProduct(warehouseId, secondProductId, initialQuantity, initialCost);
+
+        long elapsedNanos = runWriters(WRITERS, writer -> {
+            long fromProductId = writer % 2 == 0 ? firstProductId : secondProductId;
+            long toProductId = writer % 2 == 0 ? secondProductId : firstProductId;
+            for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+                transactionTemplate.executeWithoutResult(_ -> transferBalanceHandler.transferProductBetweenBalances(
+                        warehouseId, fromProductId, toProductId, ADDED_QUANTITY, ADDED_COST));
+            }
+        });
+
+        log.info("Opposing transfers on warehouse {}: {} writers, {} transfers in {} ms",
+                warehouseId, WRITERS, WRITERS * OPERATIONS_PER_WRITER, elapsedNanos / 1_000_000);
+
+        BigDecimal totalQuantity = warehouseProductBalanceService.getBalance(warehouseId, firstProductId).getQuantity()
+                .add(warehouseProductBalanceService.getBalance(warehouseId, secondProductId).getQuantity());
+        assertEquals(0, initialQuantity.multiply(BigDecimal.TWO).compareTo(totalQuantity),
+                "total quantity " + totalQuantity);
+    }
+
+    private long runWriters(int writers, Writer writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(writers);
+            for (int i = 0; i < writers; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    writer.run(index);
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void run(int index);
+    }
+}
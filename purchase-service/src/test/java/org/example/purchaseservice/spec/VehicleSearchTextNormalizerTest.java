@@ -0,0 +1,73 @@
+package org.example.purchaseservice.spec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VehicleSearchTextNormalizerTest {
+
+    @Test
+    void canonicalizesCyrillicAndLatinPlatesToTheSameKey() {
+        assertEquals("ab1234cx", VehicleSearchTextNormalizer.canonicalize("АВ 1234 СХ"));
+        assertEquals("ab1234cx", VehicleSearchTextNormalizer.canonicalize("AB 1234 CX"));
+        assertEquals("ab1234cx", VehicleSearchTextNormalizer.canonicalize("Аb-1234-сX"));
+    }
+
+    @Test
+    void dropsSeparatorsAndPunctuation() {
+        assertEquals("ka7788ii", VehicleSearchTextNormalizer.canonicalize(" KA 77-88 / II. "));
+    }
+
+    @Test
+    void keepsCyrillicLettersWithoutLatinLookalike() {
+        assertEquals("жyгa", VehicleSearchTextNormalizer.canonicalize("ЖУГА"));
+    }
+
+    @Test
+    void canonicalizesBlankValuesToEmptyString() {
+        assertEquals("", VehicleSearchTextNormalizer.canonicalize(null));
+        assertEquals("", VehicleSearchTextNormalizer.canonicalize("   "));
+        assertEquals("", VehicleSearchTextNormalizer.canonicalize("-/."));
+    }
+
+    @Test
+    void buildsSearchKeyFromNonEmptyValues() {
+        assertEquals("ab1234cx зyбиk",
+                VehicleSearchTextNormalizer.buildSearchKey("АВ 1234 СХ", null, " ", "ЗУБИК"));
+        assertNull(VehicleSearchTextNormalizer.buildSearchKey(null, "", "--"));
+    }
+
+    @Test
+    void truncatesSearchKeyToColumnLength() {
+        String searchKey = VehicleSearchTextNormalizer.buildSearchKey("a".repeat(200), "b".repeat(200));
+        assertEquals(255, searchKey.length());
+    }
+
+    @Test
+    void buildsLoweredAndTransliteratedVariants() {
+        assertEquals(Set.of("ab 12", "ав 12"), VehicleSearchTextNormalizer.buildSearchVariants(" AB 12 "));
+        assertEquals(Set.of(), VehicleSearchTextNormalizer.buildSearchVariants("  "));
+    }
+
+    @Test
+    void recognizesPlateAndInvoiceShapedQueries() {
+        assertTrue(VehicleSearchTextNormalizer.isPlateShaped("АВ 1234 СХ"));
+        assertTrue(VehicleSearchTextNormalizer.isPlateShaped("KA-77-88/II"));
+        assertTrue(VehicleSearchTextNormalizer.isPlateShaped("inv2024.15"));
+    }
+
+    @Test
+    void treatsWordsNumbersAndPunctuatedTextAsFreeText() {
+        assertFalse(VehicleSearchTextNormalizer.isPlateShaped("пшениця"));
+        assertFalse(VehicleSearchTextNormalizer.isPlateShaped("1234"));
+        assertFalse(VehicleSearchTextNormalizer.isPlateShaped("пшениця 12"));
+        assertFalse(VehicleSearchTextNormalizer.isPlateShaped("вагон 12, склад"));
+        assertFalse(VehicleSearchTextNormalizer.isPlateShaped("   "));
+        assertFalse(VehicleSearchTextNormalizer.isPlateShaped(null));
+    }
+}
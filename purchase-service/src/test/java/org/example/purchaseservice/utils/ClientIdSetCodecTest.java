@@ -0,0 +1,79 @@
+package org.example.purchaseservice.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClientIdSetCodecTest {
+
+    @Test
+    void roundTripsEmptySet() {
+        assertEquals(Collections.emptyList(), ClientIdSetCodec.decode(ClientIdSetCodec.encode(Collections.emptyList())));
+    }
+
+    @Test
+    void sortsAndDeduplicatesIds() {
+        List<Long> ids = Arrays.asList(42L, 7L, 42L, 1L, 7L, 100_000L);
+
+        assertEquals(List.of(1L, 7L, 42L, 100_000L), ClientIdSetCodec.decode(ClientIdSetCodec.encode(ids)));
+    }
+
+    @Test
+    void dropsNullAndNonPositiveIds() {
+        List<Long> ids = Arrays.asList(3L, null, 0L, -5L, 2L);
+
+        assertEquals(List.of(2L, 3L), ClientIdSetCodec.decode(ClientIdSetCodec.encode(ids)));
+    }
+
+    @Test
+    void roundTripsLargeGaps() {
+        List<Long> ids = List.of(1L, 128L, 16_384L, Integer.MAX_VALUE + 1L, Long.MAX_VALUE);
+
+        assertEquals(ids, ClientIdSetCodec.decode(ClientIdSetCodec.encode(ids)));
+    }
+
+    @Test
+    void rejectsCountLargerThanPayload() {
+        assertMalformed(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x7F});
+        assertMalformed(new byte[]{2, 1});
+    }
+
+    @Test
+    void rejectsNegativeCount() {
+        assertMalformed(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01});
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        assertMalformed(new byte[0]);
+        assertMalformed(new byte[]{1, (byte) 0x80});
+    }
+
+    @Test
+    void rejectsTrailingBytes() {
+        assertMalformed(new byte[]{1, 1, 9});
+    }
+
+    @Test
+    void rejectsZeroDelta() {
+        assertMalformed(new byte[]{2, 1, 0});
+    }
+
+    @Test
+    void rejectsOverlongVarint() {
+        assertMalformed(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x02});
+        assertMalformed(new byte[]{1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01});
+    }
+
+    private static void assertMalformed(byte[] data) {
+        assertThrows(IllegalArgumentException.class, () -> ClientIdSetCodec.decode(data));
+    }
+}
@@ -3,11 +3,14 @@ package org.example.userservice.clients;
 import lombok.NonNull;
 import org.example.userservice.config.FeignConfig;
 import org.example.userservice.models.dto.UpdateVehicleCostRequest;
+import org.example.userservice.models.dto.VehicleCostAdjustmentDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 @FeignClient(name = "purchase-service", contextId = "vehicleCostApiClient",
         url = "${purchase.service.url}/api/v1/vehicles", configuration = FeignConfig.class)
 public interface VehicleCostApiClient {
@@ -16,5 +19,8 @@ public interface VehicleCostApiClient {
             @PathVariable("vehicleId") @NonNull Long vehicleId,
             @RequestBody @NonNull UpdateVehicleCostRequest request
     );
+
+    @PostMapping("/cost/batch")
+    void updateVehicleCosts(@RequestBody @NonNull List<VehicleCostAdjustmentDTO> adjustments);
 }
 
@@ -0,0 +1,6 @@
+package org.example.userservice.models.account;
+
+import java.math.BigDecimal;
+
+public record AccountBalanceDelta(Long transactionId, Long accountId, String currency, BigDecimal amount) {
+}
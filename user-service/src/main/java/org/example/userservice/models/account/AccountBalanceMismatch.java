@@ -0,0 +1,6 @@
+package org.example.userservice.models.account;
+
+import java.math.BigDecimal;
+
+public record AccountBalanceMismatch(Long accountId, String currency, BigDecimal balance, BigDecimal postedTotal) {
+}
@@ -0,0 +1,38 @@
+package org.example.userservice.models.account;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "account_balance_snapshots", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"account_id", "currency", "snapshot_date"})
+})
+public class AccountBalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "closing_balance", nullable = false, precision = 20, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Column(name = "debit_total", nullable = false, precision = 20, scale = 2)
+    private BigDecimal debitTotal;
+
+    @Column(name = "credit_total", nullable = false, precision = 20, scale = 2)
+    private BigDecimal creditTotal;
+}
@@ -0,0 +1,32 @@
+package org.example.userservice.models.account;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "account_ledger_totals", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"account_id", "currency"})
+})
+public class AccountLedgerTotal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "currency", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "posted_total", nullable = false, precision = 20, scale = 2)
+    private BigDecimal postedTotal = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
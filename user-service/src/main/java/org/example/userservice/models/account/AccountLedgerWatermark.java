@@ -0,0 +1,23 @@
+package org.example.userservice.models.account;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "account_ledger_watermarks")
+public class AccountLedgerWatermark {
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "last_posting_id", nullable = false)
+    private Long lastPostingId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
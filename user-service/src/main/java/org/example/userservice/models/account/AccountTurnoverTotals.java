@@ -0,0 +1,16 @@
+package org.example.userservice.models.account;
+
+import java.math.BigDecimal;
+
+public record AccountTurnoverTotals(Long accountId, String currency, BigDecimal debitTotal, BigDecimal creditTotal) {
+
+    public AccountTurnoverTotals {
+        debitTotal = debitTotal != null ? debitTotal : BigDecimal.ZERO;
+        creditTotal = creditTotal != null ? creditTotal : BigDecimal.ZERO;
+    }
+
+    public AccountTurnoverTotals plus(AccountTurnoverTotals other) {
+        return new AccountTurnoverTotals(accountId, currency,
+                debitTotal.add(other.debitTotal()), creditTotal.add(other.creditTotal()));
+    }
+}
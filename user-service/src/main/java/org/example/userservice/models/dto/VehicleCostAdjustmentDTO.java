@@ -0,0 +1,16 @@
+package org.example.userservice.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleCostAdjustmentDTO {
+    private Long vehicleId;
+    private BigDecimal amountEur;
+    private String operation;
+}
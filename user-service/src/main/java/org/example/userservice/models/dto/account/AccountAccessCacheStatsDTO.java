@@ -0,0 +1,13 @@
+package org.example.userservice.models.dto.account;
+
+import lombok.Data;
+
+@Data
+public class AccountAccessCacheStatsDTO {
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private double averageLoadPenaltyMillis;
+}
@@ -0,0 +1,18 @@
+package org.example.userservice.models.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceAtDTO {
+    private Long accountId;
+    private String currency;
+    private LocalDateTime at;
+    private BigDecimal amount;
+}
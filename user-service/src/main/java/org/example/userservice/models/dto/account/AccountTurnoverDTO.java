@@ -0,0 +1,19 @@
+package org.example.userservice.models.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTurnoverDTO {
+    private Long accountId;
+    private String currency;
+    private BigDecimal openingBalance;
+    private BigDecimal debitTotal;
+    private BigDecimal creditTotal;
+    private BigDecimal closingBalance;
+}
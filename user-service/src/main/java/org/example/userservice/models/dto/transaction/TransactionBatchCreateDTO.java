@@ -0,0 +1,18 @@
+package org.example.userservice.models.dto.transaction;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class TransactionBatchCreateDTO {
+    @NotBlank
+    @Size(max = 64)
+    private String idempotencyKey;
+
+    @Valid
+    @NotNull
+    private TransactionCreateRequestDTO transaction;
+}
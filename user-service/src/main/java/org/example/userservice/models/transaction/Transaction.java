@@ -66,4 +66,7 @@ public class Transaction {
 
     @Column(name = "counterparty_id")
     private Long counterpartyId;
+
+    @Column(name = "idempotency_key", length = 64, unique = true)
+    private String idempotencyKey;
 }
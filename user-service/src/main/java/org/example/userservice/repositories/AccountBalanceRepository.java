@@ -7,7 +7,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,12 +20,14 @@ public interface AccountBalanceRepository extends CrudRepository<AccountBalance,
     List<AccountBalance> findByAccountIdIn(@NonNull List<Long> accountIds);
     
     @Modifying
-    @Query("UPDATE AccountBalance ab SET ab.amount = ab.amount + :amount WHERE ab.accountId = :accountId AND ab.currency = :currency")
-    void addAmount(@Param("accountId") @NonNull Long accountId, @Param("currency") @NonNull String currency, @Param("amount") @NonNull BigDecimal amount);
-    
-    @Modifying
-    @Query("UPDATE AccountBalance ab SET ab.amount = ab.amount - :amount WHERE ab.accountId = :accountId AND ab.currency = :currency")
-    void subtractAmount(@Param("accountId") @NonNull Long accountId, @Param("currency") @NonNull String currency, @Param("amount") @NonNull BigDecimal amount);
+    @Query(value = "UPDATE account_balances ab " +
+            "LEFT JOIN (SELECT account_id, currency, SUM(amount) AS total FROM account_postings " +
+            "WHERE account_id = :accountId GROUP BY account_id, currency) p " +
+            "ON p.account_id = ab.account_id AND p.currency = ab.currency " +
+            "SET ab.amount = COALESCE(p.total, 0) " +
+            "WHERE ab.account_id = :accountId AND ab.amount <> COALESCE(p.total, 0)",
+            nativeQuery = true)
+    int rebuildFromPostings(@Param("accountId") @NonNull Long accountId);
     
     @Query("SELECT COUNT(ab) FROM AccountBalance ab WHERE ab.accountId = :accountId AND ab.amount != 0")
     long countNonZeroBalances(@Param("accountId") @NonNull Long accountId);
@@ -0,0 +1,66 @@
+package org.example.userservice.repositories;
+
+import lombok.NonNull;
+import org.example.userservice.models.account.AccountBalanceSnapshot;
+import org.example.userservice.models.account.AccountTurnoverTotals;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountBalanceSnapshotRepository extends CrudRepository<AccountBalanceSnapshot, Long> {
+
+    Optional<AccountBalanceSnapshot> findFirstByAccountIdAndCurrencyAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+            @NonNull Long accountId, @NonNull String currency, @NonNull LocalDate snapshotDate);
+
+    @Query("SELECT s FROM AccountBalanceSnapshot s " +
+            "WHERE s.accountId IN :accountIds AND s.snapshotDate = (" +
+            "SELECT MAX(l.snapshotDate) FROM AccountBalanceSnapshot l " +
+            "WHERE l.accountId = s.accountId AND l.currency = s.currency AND l.snapshotDate < :before)")
+    List<AccountBalanceSnapshot> findLatestBefore(@Param("accountIds") @NonNull List<Long> accountIds,
+                                                  @Param("before") @NonNull LocalDate before);
+
+    @Query("SELECT MIN(s.snapshotDate) FROM AccountBalanceSnapshot s")
+    Optional<LocalDate> findEarliestSnapshotDate();
+
+    @Query("SELECT MAX(s.snapshotDate) FROM AccountBalanceSnapshot s")
+    Optional<LocalDate> findLatestSnapshotDate();
+
+    @Query("SELECT new org.example.userservice.models.account.AccountTurnoverTotals(s.accountId, s.currency, " +
+            "SUM(s.debitTotal), SUM(s.creditTotal)) " +
+            "FROM AccountBalanceSnapshot s " +
+            "WHERE s.accountId IN :accountIds AND s.snapshotDate BETWEEN :from AND :to " +
+            "GROUP BY s.accountId, s.currency")
+    List<AccountTurnoverTotals> sumTurnover(@Param("accountIds") @NonNull List<Long> accountIds,
+                                            @Param("from") @NonNull LocalDate from,
+                                            @Param("to") @NonNull LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO account_balance_snapshots " +
+            "(account_id, currency, snapshot_date, closing_balance, debit_total, credit_total) " +
+            "SELECT ab.account_id, ab.currency, :snapshotDate, " +
+            "COALESCE(prev.closing_balance, 0) + COALESCE(m.net_amount, 0), " +
+            "COALESCE(m.debit_total, 0), COALESCE(m.credit_total, 0) " +
+            "FROM account_balances ab " +
+            "LEFT JOIN account_balance_snapshots prev ON prev.account_id = ab.account_id " +
+            "AND prev.currency = ab.currency AND prev.snapshot_date = :previousDate " +
+            "LEFT JOIN (SELECT account_id, currency, SUM(amount) AS net_amount, " +
+            "SUM(CASE WHEN amount > 0 THEN amount ELSE 0 END) AS debit_total, " +
+            "SUM(CASE WHEN amount < 0 THEN -amount ELSE 0 END) AS credit_total " +
+            "FROM account_postings WHERE created_at >= :dayStart AND created_at < :dayEnd " +
+            "AND account_id BETWEEN :fromAccountId AND :toAccountId " +
+            "GROUP BY account_id, currency) m ON m.account_id = ab.account_id AND m.currency = ab.currency " +
+            "WHERE ab.account_id BETWEEN :fromAccountId AND :toAccountId",
+            nativeQuery = true)
+    int createSnapshots(@Param("snapshotDate") @NonNull LocalDate snapshotDate,
+                        @Param("previousDate") @NonNull LocalDate previousDate,
+                        @Param("dayStart") @NonNull LocalDateTime dayStart,
+                        @Param("dayEnd") @NonNull LocalDateTime dayEnd,
+                        @Param("fromAccountId") long fromAccountId,
+                        @Param("toAccountId") long toAccountId);
+}
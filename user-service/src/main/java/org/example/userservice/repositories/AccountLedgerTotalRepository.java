@@ -0,0 +1,20 @@
+package org.example.userservice.repositories;
+
+import lombok.NonNull;
+import org.example.userservice.models.account.AccountLedgerTotal;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountLedgerTotalRepository extends CrudRepository<AccountLedgerTotal, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO account_ledger_totals (account_id, currency, posted_total, updated_at) " +
+            "SELECT p.account_id, p.currency, SUM(p.amount), NOW(6) FROM account_postings p " +
+            "WHERE p.id > :fromId AND p.id <= :toId " +
+            "GROUP BY p.account_id, p.currency " +
+            "ON DUPLICATE KEY UPDATE posted_total = posted_total + VALUES(posted_total), " +
+            "updated_at = VALUES(updated_at)", nativeQuery = true)
+    int addPostingsBetween(@Param("fromId") @NonNull Long fromId, @Param("toId") @NonNull Long toId);
+}
@@ -0,0 +1,18 @@
+package org.example.userservice.repositories;
+
+import jakarta.persistence.LockModeType;
+import lombok.NonNull;
+import org.example.userservice.models.account.AccountLedgerWatermark;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AccountLedgerWatermarkRepository extends CrudRepository<AccountLedgerWatermark, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM AccountLedgerWatermark w WHERE w.name = :name")
+    Optional<AccountLedgerWatermark> findForUpdate(@Param("name") @NonNull String name);
+}
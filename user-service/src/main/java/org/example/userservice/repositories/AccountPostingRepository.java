@@ -0,0 +1,74 @@
+package org.example.userservice.repositories;
+
+import lombok.NonNull;
+import org.example.userservice.models.account.AccountBalanceDelta;
+import org.example.userservice.models.account.AccountBalanceMismatch;
+import org.example.userservice.models.account.AccountPosting;
+import org.example.userservice.models.account.AccountTurnoverTotals;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AccountPostingRepository extends CrudRepository<AccountPosting, Long> {
+
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM AccountPosting p " +
+            "WHERE p.accountId = :accountId AND p.currency = :currency AND p.createdAt >= :from AND p.createdAt < :to")
+    BigDecimal sumAmount(@Param("accountId") @NonNull Long accountId,
+                         @Param("currency") @NonNull String currency,
+                         @Param("from") @NonNull LocalDateTime from,
+                         @Param("to") @NonNull LocalDateTime to);
+
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM AccountPosting p " +
+            "WHERE p.accountId = :accountId AND p.currency = :currency AND p.createdAt < :to")
+    BigDecimal sumAmountBefore(@Param("accountId") @NonNull Long accountId,
+                               @Param("currency") @NonNull String currency,
+                               @Param("to") @NonNull LocalDateTime to);
+
+    @Query("SELECT new org.example.userservice.models.account.AccountTurnoverTotals(p.accountId, p.currency, " +
+            "SUM(CASE WHEN p.amount > 0 THEN p.amount ELSE 0 END), " +
+            "SUM(CASE WHEN p.amount < 0 THEN -p.amount ELSE 0 END)) " +
+            "FROM AccountPosting p " +
+            "WHERE p.accountId IN :accountIds AND p.createdAt >= :from AND p.createdAt < :to " +
+            "GROUP BY p.accountId, p.currency")
+    List<AccountTurnoverTotals> sumTurnover(@Param("accountIds") @NonNull List<Long> accountIds,
+                                            @Param("from") @NonNull LocalDateTime from,
+                                            @Param("to") @NonNull LocalDateTime to);
+
+    @Query("SELECT new org.example.userservice.models.account.AccountBalanceDelta(p.transactionId, p.accountId, " +
+            "p.currency, SUM(p.amount)) " +
+            "FROM AccountPosting p " +
+            "WHERE p.transactionId IN :transactionIds " +
+            "GROUP BY p.transactionId, p.accountId, p.currency")
+    List<AccountBalanceDelta> sumByTransactionIds(@Param("transactionIds") @NonNull Collection<Long> transactionIds);
+
+    @Query("SELECT p FROM AccountPosting p " +
+            "WHERE p.accountId = :accountId AND (:currency IS NULL OR p.currency = :currency) " +
+            "AND p.createdAt >= :from " +
+            "AND (p.createdAt < :beforeCreatedAt OR (p.createdAt = :beforeCreatedAt AND p.id < :beforeId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<AccountPosting> findHistoryPage(@Param("accountId") @NonNull Long accountId,
+                                         @Param("currency") String currency,
+                                         @Param("from") @NonNull LocalDateTime from,
+                                         @Param("beforeCreatedAt") @NonNull LocalDateTime beforeCreatedAt,
+                                         @Param("beforeId") @NonNull Long beforeId,
+                                         @NonNull Pageable pageable);
+
+    @Query("SELECT MAX(p.id) FROM AccountPosting p WHERE p.createdAt < :before")
+    Optional<Long> findMaxIdCreatedBefore(@Param("before") @NonNull LocalDateTime before);
+
+    @Query("SELECT new org.example.userservice.models.account.AccountBalanceMismatch(ab.accountId, ab.currency, " +
+            "ab.amount, COALESCE(lt.postedTotal, 0) + SUM(p.amount)) " +
+            "FROM AccountBalance ab " +
+            "JOIN AccountPosting p ON p.accountId = ab.accountId AND p.currency = ab.currency AND p.id > :fromId " +
+            "LEFT JOIN AccountLedgerTotal lt ON lt.accountId = ab.accountId AND lt.currency = ab.currency " +
+            "GROUP BY ab.accountId, ab.currency, ab.amount, lt.postedTotal " +
+            "HAVING ab.amount <> COALESCE(lt.postedTotal, 0) + SUM(p.amount)")
+    List<AccountBalanceMismatch> findMismatchesTouchedAfter(@Param("fromId") @NonNull Long fromId);
+}
@@ -2,7 +2,9 @@ package org.example.userservice.repositories;
 
 import lombok.NonNull;
 import org.example.userservice.models.account.Account;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -16,5 +18,12 @@ public interface AccountRepository extends CrudRepository<Account, Long> {
     @NonNull
     List<Account> findAllByOrderByNameAsc();
 
+    @NonNull
+    @Query("SELECT DISTINCT a FROM Account a LEFT JOIN FETCH a.currencies " +
+            "LEFT JOIN BranchPermission bp ON bp.branchId = a.branchId AND bp.userId = :userId " +
+            "WHERE a.branchId IS NULL OR bp.canView = true " +
+            "ORDER BY a.name ASC")
+    List<Account> findAccessibleToUser(@Param("userId") @NonNull Long userId);
+
 }
 
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
     @NonNull
@@ -22,4 +23,6 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>,
     @NonNull
     @Query("SELECT t FROM Transaction t WHERE t.vehicleId IN :vehicleIds ORDER BY t.createdAt DESC")
     List<Transaction> findByVehicleIdInOrderByCreatedAtDesc(@Param("vehicleIds") @NonNull List<Long> vehicleIds);
+
+    Optional<Transaction> findByIdempotencyKey(@NonNull String idempotencyKey);
 }
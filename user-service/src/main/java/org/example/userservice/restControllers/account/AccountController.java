@@ -1,6 +1,8 @@
 package org.example.userservice.restControllers.account;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -8,21 +10,32 @@ import org.example.userservice.exceptions.user.UserException;
 import org.example.userservice.mappers.AccountMapper;
 import org.example.userservice.models.account.Account;
 import org.example.userservice.models.account.AccountBalance;
+import org.example.userservice.models.dto.account.AccountAccessCacheStatsDTO;
+import org.example.userservice.models.dto.account.AccountBalanceAtDTO;
 import org.example.userservice.models.dto.account.AccountBalanceDTO;
 import org.example.userservice.models.dto.account.AccountCreateDTO;
 import org.example.userservice.models.dto.account.AccountDTO;
+import org.example.userservice.models.dto.account.AccountPostingDTO;
+import org.example.userservice.models.dto.account.AccountTurnoverDTO;
+import org.example.userservice.services.impl.IAccountBalanceHistoryService;
+import org.example.userservice.services.impl.IAccountBalanceService;
 import org.example.userservice.services.impl.IAccountService;
 import org.example.userservice.services.impl.IBranchPermissionService;
 import org.example.userservice.utils.SecurityUtils;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.math.BigDecimal;
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.FORBIDDEN;
@@ -32,8 +45,12 @@ import static org.springframework.http.HttpStatus.FORBIDDEN;
 @RequiredArgsConstructor
 @Validated
 public class AccountController {
+    private static final int MAX_POSTINGS_PAGE_SIZE = 500;
+
     private final IAccountService accountService;
     private final IBranchPermissionService branchPermissionService;
+    private final IAccountBalanceHistoryService balanceHistoryService;
+    private final IAccountBalanceService accountBalanceService;
     private final AccountMapper accountMapper;
 
     @GetMapping
@@ -50,6 +67,12 @@ public class AccountController {
         return ResponseEntity.ok(dtos);
     }
 
+    @GetMapping("/access-cache/stats")
+    @PreAuthorize("hasAuthority('administration:view')")
+    public ResponseEntity<AccountAccessCacheStatsDTO> getAccessCacheStats() {
+        return ResponseEntity.ok(accountService.getAccessCacheStats());
+    }
+
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<AccountDTO>> getAccountsByUserId(@PathVariable @Positive @NonNull Long userId) {
         List<Account> accounts = accountService.getAccountsByUserId(userId);
@@ -96,6 +119,77 @@ public class AccountController {
         return ResponseEntity.ok(dtos);
     }
     
+    @GetMapping("/{id}/balances/history")
+    @PreAuthorize("hasAuthority('finance:view')")
+    public ResponseEntity<AccountBalanceAtDTO> getAccountBalanceAt(
+            @PathVariable @Positive @NonNull Long id,
+            @RequestParam @NonNull String currency,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @NonNull LocalDateTime at) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            throw new UserException("USER_NOT_FOUND", "Current user ID is null");
+        }
+        Account account = accountService.getAccountById(id);
+        if (account.getBranchId() != null && !branchPermissionService.canView(currentUserId, account.getBranchId())) {
+            return ResponseEntity.status(FORBIDDEN).build();
+        }
+
+        BigDecimal amount = balanceHistoryService.getBalanceAt(id, currency, at);
+        return ResponseEntity.ok(new AccountBalanceAtDTO(id, currency.toUpperCase(), at, amount));
+    }
+
+    @GetMapping("/{id}/postings")
+    @PreAuthorize("hasAuthority('finance:view')")
+    public ResponseEntity<List<AccountPostingDTO>> getAccountPostings(
+            @PathVariable @Positive @NonNull Long id,
+            @RequestParam(required = false) String currency,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @NonNull LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) @NonNull LocalDateTime to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "100") @Min(1) @Max(MAX_POSTINGS_PAGE_SIZE) int size) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            throw new UserException("USER_NOT_FOUND", "Current user ID is null");
+        }
+        Account account = accountService.getAccountById(id);
+        if (account.getBranchId() != null && !branchPermissionService.canView(currentUserId, account.getBranchId())) {
+            return ResponseEntity.status(FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(balanceHistoryService.getPostings(id, currency, from, to, cursorCreatedAt, cursorId, size));
+    }
+
+    @PostMapping("/{id}/balances/rebuild")
+    @PreAuthorize("hasAuthority('finance:balance_edit')")
+    public ResponseEntity<List<AccountBalanceDTO>> rebuildAccountBalances(@PathVariable @Positive @NonNull Long id) {
+        accountBalanceService.rebuildBalances(id);
+        List<AccountBalanceDTO> dtos = accountService.getAccountBalances(id).stream()
+                .map(accountMapper::accountBalanceToAccountBalanceDTO)
+                .toList();
+        return ResponseEntity.ok(dtos);
+    }
+
+    @GetMapping("/turnover")
+    @PreAuthorize("hasAuthority('finance:view')")
+    public ResponseEntity<List<AccountTurnoverDTO>> getAccountTurnover(
+            @RequestParam @NonNull List<@Positive Long> accountIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NonNull LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NonNull LocalDate to) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        if (currentUserId == null) {
+            throw new UserException("USER_NOT_FOUND", "Current user ID is null");
+        }
+        Set<Long> accessibleAccountIds = accountService.getAccountsAccessibleToUser(currentUserId).stream()
+                .map(Account::getId)
+                .collect(Collectors.toSet());
+        List<Long> permittedAccountIds = accountIds.stream()
+                .filter(accessibleAccountIds::contains)
+                .distinct()
+                .toList();
+        return ResponseEntity.ok(balanceHistoryService.getTurnover(permittedAccountIds, from, to));
+    }
+    
     @PostMapping("/balances/batch")
     @PreAuthorize("hasAuthority('finance:view')")
     public ResponseEntity<Map<Long, List<AccountBalanceDTO>>> getAccountBalancesBatch(@RequestBody @NonNull List<@Positive Long> accountIds) {
@@ -4,9 +4,11 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.example.userservice.mappers.TransactionMapper;
+import org.example.userservice.models.dto.transaction.TransactionBatchCreateDTO;
 import org.example.userservice.models.dto.transaction.TransactionCreateRequestDTO;
 import org.example.userservice.models.dto.transaction.TransactionDTO;
 import org.example.userservice.models.dto.transaction.TransactionUpdateDTO;
@@ -21,6 +23,7 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -32,6 +35,8 @@ import static org.springframework.http.HttpStatus.CREATED;
 @RequiredArgsConstructor
 @Validated
 public class TransactionCrudController {
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final ITransactionCrudService transactionCrudService;
     private final IAccountTransactionService accountTransactionService;
     private final TransactionMapper transactionMapper;
@@ -64,9 +69,10 @@ public class TransactionCrudController {
     @PreAuthorize("hasAuthority('finance:view')")
     @PostMapping
     public ResponseEntity<TransactionDTO> createTransaction(
-            @RequestBody @Valid @NonNull TransactionCreateRequestDTO request) {
+            @RequestBody @Valid @NonNull TransactionCreateRequestDTO request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Transaction transaction = transactionMapper.transactionCreateRequestDTOToTransaction(request);
-        Transaction created = accountTransactionService.createTransaction(transaction);
+        Transaction created = accountTransactionService.createTransaction(transaction, idempotencyKey);
         TransactionDTO response = transactionMapper.transactionToTransactionDTO(created);
         
         URI location = ServletUriComponentsBuilder.fromCurrentRequest()
@@ -76,6 +82,22 @@ public class TransactionCrudController {
         return ResponseEntity.status(CREATED).location(location).body(response);
     }
 
+    @PreAuthorize("hasAuthority('finance:view')")
+    @PostMapping("/batch")
+    public ResponseEntity<List<TransactionDTO>> createTransactions(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) @NonNull List<@Valid TransactionBatchCreateDTO> requests) {
+        Map<String, Transaction> transactions = new LinkedHashMap<>();
+        for (TransactionBatchCreateDTO request : requests) {
+            transactions.putIfAbsent(request.getIdempotencyKey(),
+                    transactionMapper.transactionCreateRequestDTOToTransaction(request.getTransaction()));
+        }
+        Map<String, Transaction> created = accountTransactionService.createTransactions(transactions);
+        List<TransactionDTO> response = requests.stream()
+                .map(request -> transactionMapper.transactionToTransactionDTO(created.get(request.getIdempotencyKey())))
+                .toList();
+        return ResponseEntity.status(CREATED).body(response);
+    }
+
     @PreAuthorize("hasAuthority('finance:view')")
     @GetMapping("/{transactionId}")
     public ResponseEntity<TransactionDTO> getTransaction(@PathVariable @Positive @NonNull Long transactionId) {
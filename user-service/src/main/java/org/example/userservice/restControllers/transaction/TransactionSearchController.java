@@ -1,6 +1,7 @@
 package org.example.userservice.restControllers.transaction;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,8 +9,6 @@ import org.example.userservice.models.dto.PageResponse;
 import org.example.userservice.models.dto.transaction.TransactionPageDTO;
 import org.example.userservice.services.impl.ITransactionSearchService;
 import org.example.userservice.services.impl.ITransactionExportService;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -18,8 +17,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -30,10 +27,6 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Validated
 public class TransactionSearchController {
-    private static final String FILENAME_PREFIX = "transactions_";
-    private static final String FILENAME_SUFFIX = ".xlsx";
-    private static final String DATE_TIME_PATTERN = "yyyy-MM-dd_HH-mm-ss";
-
     private final ITransactionSearchService transactionSearchService;
     private final ITransactionExportService transactionExportService;
     private final ObjectMapper objectMapper;
@@ -57,23 +50,13 @@ public class TransactionSearchController {
 
     @PreAuthorize("hasAuthority('finance:view')")
     @GetMapping("/export")
-    public ResponseEntity<byte[]> exportTransactions(
-            @RequestParam(required = false) String filters) {
+    public void exportTransactions(
+            @RequestParam(required = false) String filters,
+            HttpServletResponse response) {
 
         Map<String, List<String>> filterMap = parseFilters(filters);
 
-        byte[] excelData = transactionExportService.exportToExcel(filterMap);
-
-        String filename = FILENAME_PREFIX + LocalDateTime.now().format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN)) + FILENAME_SUFFIX;
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-        headers.setContentDispositionFormData("attachment", filename);
-        headers.setContentLength(excelData.length);
-
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(excelData);
+        transactionExportService.exportToExcel(filterMap, response);
     }
 
     private Map<String, List<String>> parseFilters(String filters) {
@@ -0,0 +1,82 @@
+package org.example.userservice.services.account;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.userservice.models.account.Account;
+import org.example.userservice.models.dto.account.AccountAccessCacheStatsDTO;
+import org.example.userservice.repositories.AccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+public class AccountAccessCache {
+
+    private static final long MAXIMUM_SIZE = 10_000L;
+
+    private final AccountRepository accountRepository;
+    private final Cache<Long, List<Account>> accessibleAccounts;
+
+    public AccountAccessCache(AccountRepository accountRepository,
+                              @Value("${account.access-cache.ttl-minutes:10}") long ttlMinutes) {
+        this.accountRepository = accountRepository;
+        this.accessibleAccounts = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    @NonNull
+    public List<Account> getAccessibleAccounts(@NonNull Long userId) {
+        return accessibleAccounts.get(userId, this::load);
+    }
+
+    public void invalidate(@NonNull Long userId) {
+        accessibleAccounts.invalidate(userId);
+        afterCompletion(() -> accessibleAccounts.invalidate(userId));
+    }
+
+    public void invalidateAll() {
+        accessibleAccounts.invalidateAll();
+        afterCompletion(accessibleAccounts::invalidateAll);
+    }
+
+    @NonNull
+    public AccountAccessCacheStatsDTO getStats() {
+        CacheStats stats = accessibleAccounts.stats();
+        AccountAccessCacheStatsDTO dto = new AccountAccessCacheStatsDTO();
+        dto.setSize(accessibleAccounts.estimatedSize());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setAverageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0);
+        return dto;
+    }
+
+    private List<Account> load(@NonNull Long userId) {
+        List<Account> accounts = List.copyOf(accountRepository.findAccessibleToUser(userId));
+        log.debug("Loaded {} accessible accounts for user {}", accounts.size(), userId);
+        return accounts;
+    }
+
+    private void afterCompletion(@NonNull Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.userservice.services.account;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.example.userservice.models.account.AccountBalanceDelta;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class AccountBalanceBatchWriter {
+
+    private static final String POSTING_COLUMNS = "transaction_id, account_id, currency, amount, created_at";
+    private static final int POSTING_PARAMS = 5;
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void applyDeltas(@NonNull List<BalanceRowDelta> deltas) {
+        for (int from = 0; from < deltas.size(); from += MAX_ROWS_PER_STATEMENT) {
+            updateChunk(deltas.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, deltas.size())));
+        }
+    }
+
+    public void insertPostings(@NonNull List<AccountBalanceDelta> postings) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < postings.size(); from += MAX_ROWS_PER_STATEMENT) {
+            insertPostingChunk(postings.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, postings.size())), now);
+        }
+    }
+
+    private void updateChunk(@NonNull List<BalanceRowDelta> chunk) {
+        String sql = "UPDATE account_balances SET amount = amount + CASE id "
+                + String.join(" ", Collections.nCopies(chunk.size(), "WHEN ? THEN ?"))
+                + " END WHERE id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            int index = 1;
+            for (BalanceRowDelta delta : chunk) {
+                ps.setLong(index++, delta.balanceId());
+                ps.setBigDecimal(index++, delta.amount());
+            }
+            for (BalanceRowDelta delta : chunk) {
+                ps.setLong(index++, delta.balanceId());
+            }
+            return ps;
+        });
+    }
+
+    private void insertPostingChunk(@NonNull List<AccountBalanceDelta> chunk, @NonNull LocalDateTime now) {
+        String rowPlaceholders = "(" + String.join(", ", Collections.nCopies(POSTING_PARAMS, "?")) + ")";
+        String sql = "INSERT INTO account_postings (" + POSTING_COLUMNS + ") VALUES "
+                + String.join(", ", Collections.nCopies(chunk.size(), rowPlaceholders));
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql);
+            int index = 1;
+            for (AccountBalanceDelta delta : chunk) {
+                if (delta.transactionId() != null) {
+                    ps.setLong(index++, delta.transactionId());
+                } else {
+                    ps.setNull(index++, Types.BIGINT);
+                }
+                ps.setLong(index++, delta.accountId());
+                ps.setString(index++, delta.currency());
+                ps.setBigDecimal(index++, delta.amount());
+                ps.setTimestamp(index++, Timestamp.valueOf(now));
+            }
+            return ps;
+        });
+    }
+
+    public record BalanceRowDelta(long balanceId, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.userservice.services.account;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.example.userservice.exceptions.account.AccountException;
+import org.example.userservice.models.account.AccountBalance;
+import org.example.userservice.models.account.AccountBalanceSnapshot;
+import org.example.userservice.models.account.AccountPosting;
+import org.example.userservice.models.account.AccountTurnoverTotals;
+import org.example.userservice.models.dto.account.AccountPostingDTO;
+import org.example.userservice.models.dto.account.AccountTurnoverDTO;
+import org.example.userservice.repositories.AccountBalanceRepository;
+import org.example.userservice.repositories.AccountBalanceSnapshotRepository;
+import org.example.userservice.repositories.AccountPostingRepository;
+import org.example.userservice.services.impl.IAccountBalanceHistoryService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceHistoryService implements IAccountBalanceHistoryService {
+    private static final String ERROR_CODE_HISTORY_UNAVAILABLE = "BALANCE_HISTORY_UNAVAILABLE";
+    private static final String ERROR_CODE_INVALID_PERIOD = "INVALID_PERIOD";
+    private static final LocalDateTime LEDGER_START = LocalDate.EPOCH.atStartOfDay();
+    // The earliest snapshot is the migration seed: it is dated the day before the migration but holds the balance
+    // at migration time, so the migration day itself cannot be reconstructed and history starts the day after.
+    private static final int HISTORY_START_OFFSET_DAYS = 2;
+
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final AccountPostingRepository postingRepository;
+    private final AccountBalanceRepository accountBalanceRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceAt(@NonNull Long accountId, @NonNull String currency, @NonNull LocalDateTime at) {
+        String normalizedCurrency = currency.toUpperCase();
+        validateHistoryAvailable(at.toLocalDate());
+
+        Optional<AccountBalanceSnapshot> snapshot = snapshotRepository
+                .findFirstByAccountIdAndCurrencyAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+                        accountId, normalizedCurrency, at.toLocalDate());
+        if (snapshot.isEmpty()) {
+            return postingRepository.sumAmountBefore(accountId, normalizedCurrency, at);
+        }
+
+        LocalDateTime postingsFrom = snapshot.get().getSnapshotDate().plusDays(1).atStartOfDay();
+        BigDecimal postings = postingRepository.sumAmount(accountId, normalizedCurrency, postingsFrom, at);
+        return snapshot.get().getClosingBalance().add(postings);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountTurnoverDTO> getTurnover(@NonNull List<Long> accountIds, @NonNull LocalDate from,
+                                                @NonNull LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new AccountException(ERROR_CODE_INVALID_PERIOD, "Start date cannot be after end date");
+        }
+        if (accountIds.isEmpty()) {
+            return List.of();
+        }
+        validateHistoryAvailable(from);
+
+        Map<String, AccountTurnoverTotals> totals = new HashMap<>();
+        LocalDate latestSnapshotDate = snapshotRepository.findLatestSnapshotDate().orElse(from.minusDays(1));
+        LocalDate snapshotTo = latestSnapshotDate.isBefore(to) ? latestSnapshotDate : to;
+        if (!snapshotTo.isBefore(from)) {
+            snapshotRepository.sumTurnover(accountIds, from, snapshotTo).forEach(turnover -> mergeTotals(totals, turnover));
+        }
+        if (snapshotTo.isBefore(to)) {
+            LocalDate postingsFrom = snapshotTo.isBefore(from) ? from : snapshotTo.plusDays(1);
+            postingRepository.sumTurnover(accountIds, postingsFrom.atStartOfDay(), to.plusDays(1).atStartOfDay())
+                    .forEach(turnover -> mergeTotals(totals, turnover));
+        }
+
+        List<AccountBalance> balances = accountBalanceRepository.findByAccountIdIn(accountIds);
+        Map<String, BigDecimal> openingBalances = getOpeningBalances(accountIds, balances, from);
+
+        List<AccountTurnoverDTO> result = new ArrayList<>();
+        for (AccountBalance balance : balances) {
+            String key = key(balance.getAccountId(), balance.getCurrency());
+            AccountTurnoverTotals turnover = totals.getOrDefault(key,
+                    new AccountTurnoverTotals(balance.getAccountId(), balance.getCurrency(), null, null));
+            BigDecimal openingBalance = openingBalances.getOrDefault(key, BigDecimal.ZERO);
+            BigDecimal closingBalance = openingBalance.add(turnover.debitTotal()).subtract(turnover.creditTotal());
+            result.add(new AccountTurnoverDTO(balance.getAccountId(), balance.getCurrency(), openingBalance,
+                    turnover.debitTotal(), turnover.creditTotal(), closingBalance));
+        }
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountPostingDTO> getPostings(@NonNull Long accountId, String currency, @NonNull LocalDateTime from,
+                                               @NonNull LocalDateTime to, LocalDateTime cursorCreatedAt,
+                                               Long cursorId, int limit) {
+        if (from.isAfter(to)) {
+            throw new AccountException(ERROR_CODE_INVALID_PERIOD, "Start date cannot be after end date");
+        }
+        boolean afterCursor = cursorCreatedAt != null && cursorCreatedAt.isBefore(to);
+        LocalDateTime beforeCreatedAt = afterCursor ? cursorCreatedAt : to;
+        long beforeId = afterCursor && cursorId != null ? cursorId : 0L;
+        String normalizedCurrency = currency != null && !currency.isBlank() ? currency.toUpperCase() : null;
+
+        List<AccountPosting> postings = postingRepository.findHistoryPage(accountId, normalizedCurrency, from,
+                beforeCreatedAt, beforeId, PageRequest.of(0, limit));
+        return postings.stream()
+                .map(posting -> new AccountPostingDTO(posting.getId(), posting.getTransactionId(),
+                        posting.getAccountId(), posting.getCurrency(), posting.getAmount(), posting.getCreatedAt()))
+                .toList();
+    }
+
+    private Map<String, BigDecimal> getOpeningBalances(@NonNull List<Long> accountIds,
+                                                       @NonNull List<AccountBalance> balances, @NonNull LocalDate date) {
+        LocalDateTime openingAt = date.atStartOfDay();
+        Map<String, BigDecimal> openingBalances = new HashMap<>();
+        Map<String, LocalDateTime> postingsFrom = new HashMap<>();
+        for (AccountBalanceSnapshot snapshot : snapshotRepository.findLatestBefore(accountIds, date)) {
+            String key = key(snapshot.getAccountId(), snapshot.getCurrency());
+            openingBalances.put(key, snapshot.getClosingBalance());
+            postingsFrom.put(key, snapshot.getSnapshotDate().plusDays(1).atStartOfDay());
+        }
+
+        Map<LocalDateTime, Set<String>> keysByPostingsFrom = new HashMap<>();
+        for (AccountBalance balance : balances) {
+            String key = key(balance.getAccountId(), balance.getCurrency());
+            LocalDateTime start = postingsFrom.getOrDefault(key, LEDGER_START);
+            if (start.isBefore(openingAt)) {
+                keysByPostingsFrom.computeIfAbsent(start, _ -> new HashSet<>()).add(key);
+            }
+        }
+
+        keysByPostingsFrom.forEach((start, keys) -> postingRepository.sumTurnover(accountIds, start, openingAt)
+                .forEach(turnover -> {
+                    String key = key(turnover.accountId(), turnover.currency());
+                    if (keys.contains(key)) {
+                        openingBalances.merge(key, turnover.debitTotal().subtract(turnover.creditTotal()),
+                                BigDecimal::add);
+                    }
+                }));
+        return openingBalances;
+    }
+
+    private void mergeTotals(@NonNull Map<String, AccountTurnoverTotals> totals, @NonNull AccountTurnoverTotals turnover) {
+        totals.merge(key(turnover.accountId(), turnover.currency()), turnover, AccountTurnoverTotals::plus);
+    }
+
+    private String key(@NonNull Long accountId, @NonNull String currency) {
+        return accountId + ":" + currency;
+    }
+
+    private void validateHistoryAvailable(@NonNull LocalDate date) {
+        snapshotRepository.findEarliestSnapshotDate().ifPresent(earliestSnapshotDate -> {
+            LocalDate historyStart = earliestSnapshotDate.plusDays(HISTORY_START_OFFSET_DAYS);
+            if (date.isBefore(historyStart)) {
+                throw new AccountException(ERROR_CODE_HISTORY_UNAVAILABLE,
+                        String.format("Balance history is available only from %s", historyStart));
+            }
+        });
+    }
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.userservice.exceptions.account.AccountException;
 import org.example.userservice.exceptions.account.AccountNotFoundException;
+import org.example.userservice.models.account.AccountBalance;
+import org.example.userservice.models.account.AccountBalanceDelta;
 import org.example.userservice.repositories.AccountBalanceRepository;
 import org.example.userservice.repositories.AccountRepository;
 import org.example.userservice.services.impl.IAccountBalanceService;
@@ -12,6 +14,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,6 +32,7 @@ public class AccountBalanceService implements IAccountBalanceService {
 
     private final AccountBalanceRepository accountBalanceRepository;
     private final AccountRepository accountRepository;
+    private final AccountBalanceBatchWriter batchWriter;
 
     @Override
     @Transactional(readOnly = true)
@@ -36,46 +48,73 @@ public class AccountBalanceService implements IAccountBalanceService {
 
     @Override
     @Transactional
-    public void addAmount(@NonNull Long accountId, @NonNull String currency, @NonNull BigDecimal amount) {
-        log.info("Adding amount to account balance: accountId={}, currency={}, amount={}", accountId, currency, amount);
-        validateAmount(amount);
-        validateAccountBalance(accountId, currency);
-        String normalizedCurrency = currency.toUpperCase();
-        accountBalanceRepository.addAmount(accountId, normalizedCurrency, amount);
-        log.info("Amount added to account balance: accountId={}, currency={}, amount={}", accountId, normalizedCurrency, amount);
+    public void applyDeltas(@NonNull Collection<AccountBalanceDelta> deltas) {
+        Map<PostingKey, BigDecimal> postings = new LinkedHashMap<>();
+        for (AccountBalanceDelta delta : deltas) {
+            if (delta.currency() == null || delta.currency().trim().isEmpty()) {
+                throw new IllegalArgumentException("Currency cannot be empty");
+            }
+            postings.merge(new PostingKey(delta.transactionId(), new BalanceKey(delta.accountId(),
+                    delta.currency().toUpperCase())), delta.amount(), BigDecimal::add);
+        }
+        postings.values().removeIf(amount -> amount.signum() == 0);
+        if (postings.isEmpty()) {
+            return;
+        }
+
+        Map<BalanceKey, BigDecimal> balanceDeltas = new HashMap<>();
+        postings.forEach((key, amount) -> balanceDeltas.merge(key.balance(), amount, BigDecimal::add));
+
+        List<Long> accountIds = balanceDeltas.keySet().stream().map(BalanceKey::accountId).distinct().toList();
+        Map<BalanceKey, AccountBalance> balances = accountBalanceRepository.findByAccountIdIn(accountIds).stream()
+                .collect(Collectors.toMap(b -> new BalanceKey(b.getAccountId(), b.getCurrency()), Function.identity()));
+
+        List<AccountBalanceBatchWriter.BalanceRowDelta> rows = new ArrayList<>();
+        balanceDeltas.forEach((key, amount) -> {
+            AccountBalance balance = balances.get(key);
+            if (balance == null) {
+                throw missingBalance(key.accountId(), key.currency());
+            }
+            if (amount.signum() != 0) {
+                rows.add(new AccountBalanceBatchWriter.BalanceRowDelta(balance.getId(), amount));
+            }
+        });
+        rows.sort(Comparator.comparingLong(AccountBalanceBatchWriter.BalanceRowDelta::balanceId));
+
+        batchWriter.insertPostings(postings.entrySet().stream()
+                .map(entry -> new AccountBalanceDelta(entry.getKey().transactionId(), entry.getKey().balance().accountId(),
+                        entry.getKey().balance().currency(), entry.getValue()))
+                .toList());
+        batchWriter.applyDeltas(rows);
+        log.info("Posted {} ledger lines, updated {} balances across {} accounts",
+                postings.size(), rows.size(), accountIds.size());
     }
 
     @Override
     @Transactional
-    public void subtractAmount(@NonNull Long accountId, @NonNull String currency, @NonNull BigDecimal amount) {
-        log.info("Subtracting amount from account balance: accountId={}, currency={}, amount={}", accountId, currency, amount);
-        validateAmount(amount);
-        validateAccountBalance(accountId, currency);
-        String normalizedCurrency = currency.toUpperCase();
-        accountBalanceRepository.subtractAmount(accountId, normalizedCurrency, amount);
-        log.info("Amount subtracted from account balance: accountId={}, currency={}, amount={}", accountId, normalizedCurrency, amount);
+    public int rebuildBalances(@NonNull Long accountId) {
+        if (!accountRepository.existsById(accountId)) {
+            throw new AccountNotFoundException(String.format("Account with ID %d not found", accountId));
+        }
+        int corrected = accountBalanceRepository.rebuildFromPostings(accountId);
+        if (corrected > 0) {
+            log.warn("Rebuilt {} balances of account {} from ledger postings", corrected, accountId);
+        }
+        return corrected;
     }
 
-    private void validateAccountBalance(@NonNull Long accountId, @NonNull String currency) {
-        if (currency.trim().isEmpty()) {
-            throw new IllegalArgumentException("Currency cannot be empty");
+    private RuntimeException missingBalance(@NonNull Long accountId, @NonNull String currency) {
+        if (!accountRepository.existsById(accountId)) {
+            return new AccountNotFoundException(
+                    String.format("Account with ID %d not found", accountId));
         }
-        String normalizedCurrency = currency.toUpperCase();
-        accountBalanceRepository
-                .findByAccountIdAndCurrency(accountId, normalizedCurrency)
-                .orElseThrow(() -> {
-                    if (!accountRepository.existsById(accountId)) {
-                        return new AccountNotFoundException(
-                                String.format("Account with ID %d not found", accountId));
-                    }
-                    return new AccountException(ERROR_CODE_CURRENCY_NOT_SUPPORTED,
-                            String.format("Currency %s is not supported for account %d", currency, accountId));
-                });
+        return new AccountException(ERROR_CODE_CURRENCY_NOT_SUPPORTED,
+                String.format("Currency %s is not supported for account %d", currency, accountId));
     }
 
-    private void validateAmount(@NonNull BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Amount must be greater than zero");
-        }
+    private record BalanceKey(Long accountId, String currency) {
+    }
+
+    private record PostingKey(Long transactionId, BalanceKey balance) {
     }
 }
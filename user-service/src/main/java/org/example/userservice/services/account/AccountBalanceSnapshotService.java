@@ -0,0 +1,56 @@
+package org.example.userservice.services.account;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.userservice.repositories.AccountBalanceSnapshotRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+public class AccountBalanceSnapshotService {
+
+    private static final long FIRST_ACCOUNT_ID = 0L;
+    private static final long LAST_ACCOUNT_ID = Long.MAX_VALUE;
+
+    private final AccountBalanceSnapshotRepository snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountBalanceSnapshotService(@NonNull AccountBalanceSnapshotRepository snapshotRepository,
+                                         @NonNull PlatformTransactionManager transactionManager) {
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${account.balance.snapshot.cron:0 5 0 * * *}")
+    public void createDailySnapshots() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate date = snapshotRepository.findLatestSnapshotDate()
+                .map(latest -> latest.plusDays(1))
+                .orElse(yesterday);
+
+        for (; !date.isAfter(yesterday); date = date.plusDays(1)) {
+            if (!createSnapshots(date)) {
+                return;
+            }
+        }
+    }
+
+    private boolean createSnapshots(@NonNull LocalDate date) {
+        try {
+            Integer created = transactionTemplate.execute(_ -> snapshotRepository.createSnapshots(
+                    date, date.minusDays(1), date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                    FIRST_ACCOUNT_ID, LAST_ACCOUNT_ID));
+            log.info("Created {} account balance snapshots for {}", created, date);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Account balance snapshots for {} were already created by another instance", date);
+            return false;
+        }
+    }
+}
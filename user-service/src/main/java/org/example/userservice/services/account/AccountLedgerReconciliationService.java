@@ -0,0 +1,81 @@
+package org.example.userservice.services.account;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.example.userservice.models.account.AccountBalanceMismatch;
+import org.example.userservice.models.account.AccountLedgerWatermark;
+import org.example.userservice.repositories.AccountLedgerTotalRepository;
+import org.example.userservice.repositories.AccountLedgerWatermarkRepository;
+import org.example.userservice.repositories.AccountPostingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Verifies account balances against the posting ledger from a watermark. {@code account_ledger_totals} holds the
+ * posted total of every account and currency up to the watermark, so a run only reads postings after it: a touched
+ * balance must equal its stored total plus its newer postings, and the stored totals then advance to the new
+ * watermark. The watermark row is locked for the run, so instances never add the same postings twice.
+ */
+@Slf4j
+@Service
+public class AccountLedgerReconciliationService {
+
+    private static final String WATERMARK_NAME = "reconciliation";
+
+    private final AccountPostingRepository postingRepository;
+    private final AccountLedgerWatermarkRepository watermarkRepository;
+    private final AccountLedgerTotalRepository ledgerTotalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long lagSeconds;
+
+    public AccountLedgerReconciliationService(@NonNull AccountPostingRepository postingRepository,
+                                              @NonNull AccountLedgerWatermarkRepository watermarkRepository,
+                                              @NonNull AccountLedgerTotalRepository ledgerTotalRepository,
+                                              @NonNull PlatformTransactionManager transactionManager,
+                                              @Value("${account.ledger.reconciliation.lag-seconds:60}") long lagSeconds) {
+        this.postingRepository = postingRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.ledgerTotalRepository = ledgerTotalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lagSeconds = lagSeconds;
+    }
+
+    @Scheduled(cron = "${account.ledger.reconciliation.cron:0 */10 * * * *}")
+    public void reconcile() {
+        transactionTemplate.executeWithoutResult(_ -> {
+            AccountLedgerWatermark watermark = watermarkRepository.findForUpdate(WATERMARK_NAME)
+                    .orElseGet(this::newWatermark);
+            long fromId = watermark.getLastPostingId();
+            long toId = postingRepository.findMaxIdCreatedBefore(LocalDateTime.now().minusSeconds(lagSeconds))
+                    .orElse(fromId);
+            if (toId <= fromId) {
+                return;
+            }
+
+            List<AccountBalanceMismatch> mismatches = postingRepository.findMismatchesTouchedAfter(fromId);
+            for (AccountBalanceMismatch mismatch : mismatches) {
+                log.error("Account balance does not match ledger: accountId={}, currency={}, balance={}, posted={}",
+                        mismatch.accountId(), mismatch.currency(), mismatch.balance(), mismatch.postedTotal());
+            }
+
+            ledgerTotalRepository.addPostingsBetween(fromId, toId);
+            watermark.setLastPostingId(toId);
+            watermark.setUpdatedAt(LocalDateTime.now());
+            watermarkRepository.save(watermark);
+            log.info("Reconciled ledger postings {}..{}: {} mismatched balances", fromId + 1, toId, mismatches.size());
+        });
+    }
+
+    private AccountLedgerWatermark newWatermark() {
+        AccountLedgerWatermark watermark = new AccountLedgerWatermark();
+        watermark.setName(WATERMARK_NAME);
+        watermark.setLastPostingId(0L);
+        return watermark;
+    }
+}
@@ -7,10 +7,10 @@ import org.example.userservice.exceptions.account.AccountException;
 import org.example.userservice.exceptions.account.AccountNotFoundException;
 import org.example.userservice.models.account.Account;
 import org.example.userservice.models.account.AccountBalance;
+import org.example.userservice.models.dto.account.AccountAccessCacheStatsDTO;
 import org.example.userservice.repositories.AccountBalanceRepository;
 import org.example.userservice.repositories.AccountRepository;
 import org.example.userservice.services.impl.IAccountService;
-import org.example.userservice.services.impl.IBranchPermissionService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,32 +27,19 @@ public class AccountService implements IAccountService {
 
     private final AccountRepository accountRepository;
     private final AccountBalanceRepository accountBalanceRepository;
-    private final IBranchPermissionService branchPermissionService;
+    private final AccountAccessCache accountAccessCache;
     private final AccountBalanceLifecycleHelper balanceLifecycleHelper;
 
     @Override
     @Transactional(readOnly = true)
     public List<Account> getAccountsAccessibleToUser(@NonNull Long userId) {
-        List<Account> allAccounts = accountRepository.findAllByOrderByNameAsc();
-        Set<Long> accessibleBranchIds = getAccessibleBranchIds(userId);
-        
-        return allAccounts.stream()
-                .filter(account -> {
-                    if (account.getBranchId() == null) {
-                        return true;
-                    }
-                    return accessibleBranchIds.contains(account.getBranchId());
-                })
-                .toList();
+        return accountAccessCache.getAccessibleAccounts(userId);
     }
 
-    private Set<Long> getAccessibleBranchIds(@NonNull Long userId) {
-        List<org.example.userservice.models.branch.BranchPermission> userPermissions = 
-                branchPermissionService.getPermissionsByUserId(userId);
-        return userPermissions.stream()
-                .filter(org.example.userservice.models.branch.BranchPermission::getCanView)
-                .map(org.example.userservice.models.branch.BranchPermission::getBranchId)
-                .collect(Collectors.toSet());
+    @Override
+    @NonNull
+    public AccountAccessCacheStatsDTO getAccessCacheStats() {
+        return accountAccessCache.getStats();
     }
 
     @Override
@@ -83,6 +70,7 @@ public class AccountService implements IAccountService {
 
         Account savedAccount = accountRepository.save(account);
         balanceLifecycleHelper.createBalancesForAccount(savedAccount.getId(), account.getCurrencies());
+        accountAccessCache.invalidateAll();
 
         log.info("Account created: id={}", savedAccount.getId());
         return savedAccount;
@@ -103,6 +91,7 @@ public class AccountService implements IAccountService {
 
         account.setCurrencies(newCurrencies);
         Account savedAccount = accountRepository.save(account);
+        accountAccessCache.invalidateAll();
         log.info("Account updated: id={}", savedAccount.getId());
         return savedAccount;
     }
@@ -115,6 +104,7 @@ public class AccountService implements IAccountService {
         balanceLifecycleHelper.validateAccountCanBeDeleted(id);
 
         accountRepository.delete(account);
+        accountAccessCache.invalidateAll();
         log.info("Account deleted: id={}", id);
     }
 
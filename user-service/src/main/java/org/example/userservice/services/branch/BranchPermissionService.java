@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.userservice.models.branch.BranchPermission;
 import org.example.userservice.repositories.BranchPermissionRepository;
+import org.example.userservice.services.account.AccountAccessCache;
 import org.example.userservice.services.impl.IBranchPermissionService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,7 @@ public class BranchPermissionService implements IBranchPermissionService {
     private static final boolean DEFAULT_CAN_OPERATE = false;
 
     private final BranchPermissionRepository branchPermissionRepository;
+    private final AccountAccessCache accountAccessCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -65,6 +67,7 @@ public class BranchPermissionService implements IBranchPermissionService {
         updatePermissionFlags(permission, canView, canOperate);
         
         BranchPermission saved = branchPermissionRepository.save(permission);
+        accountAccessCache.invalidate(userId);
         log.info("Branch permission created or updated: id={}", saved.getId());
         return saved;
     }
@@ -89,6 +92,7 @@ public class BranchPermissionService implements IBranchPermissionService {
     public void deletePermission(@NonNull Long userId, @NonNull Long branchId) {
         log.info("Deleting branch permission: userId={}, branchId={}", userId, branchId);
         branchPermissionRepository.deleteByUserIdAndBranchId(userId, branchId);
+        accountAccessCache.invalidate(userId);
         log.info("Branch permission deleted: userId={}, branchId={}", userId, branchId);
     }
 
@@ -98,6 +102,7 @@ public class BranchPermissionService implements IBranchPermissionService {
         log.info("Deleting all permissions for branch: branchId={}", branchId);
         List<BranchPermission> permissions = branchPermissionRepository.findByBranchId(branchId);
         branchPermissionRepository.deleteAll(permissions);
+        permissions.forEach(permission -> accountAccessCache.invalidate(permission.getUserId()));
         log.info("Deleted {} permissions for branch: branchId={}", permissions.size(), branchId);
     }
 }
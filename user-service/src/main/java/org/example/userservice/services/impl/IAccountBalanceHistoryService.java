@@ -0,0 +1,19 @@
+package org.example.userservice.services.impl;
+
+import lombok.NonNull;
+import org.example.userservice.models.dto.account.AccountPostingDTO;
+import org.example.userservice.models.dto.account.AccountTurnoverDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface IAccountBalanceHistoryService {
+    BigDecimal getBalanceAt(@NonNull Long accountId, @NonNull String currency, @NonNull LocalDateTime at);
+
+    List<AccountTurnoverDTO> getTurnover(@NonNull List<Long> accountIds, @NonNull LocalDate from, @NonNull LocalDate to);
+
+    List<AccountPostingDTO> getPostings(@NonNull Long accountId, String currency, @NonNull LocalDateTime from,
+                                        @NonNull LocalDateTime to, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
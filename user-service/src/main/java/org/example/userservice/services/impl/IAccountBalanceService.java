@@ -1,13 +1,14 @@
 package org.example.userservice.services.impl;
 
 import lombok.NonNull;
+import org.example.userservice.models.account.AccountBalanceDelta;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 
 public interface IAccountBalanceService {
     void getBalance(@NonNull Long accountId, @NonNull String currency);
     
-    void addAmount(@NonNull Long accountId, @NonNull String currency, @NonNull BigDecimal amount);
+    void applyDeltas(@NonNull Collection<AccountBalanceDelta> deltas);
     
-    void subtractAmount(@NonNull Long accountId, @NonNull String currency, @NonNull BigDecimal amount);
+    int rebuildBalances(@NonNull Long accountId);
 }
@@ -3,6 +3,7 @@ package org.example.userservice.services.impl;
 import lombok.NonNull;
 import org.example.userservice.models.account.Account;
 import org.example.userservice.models.account.AccountBalance;
+import org.example.userservice.models.dto.account.AccountAccessCacheStatsDTO;
 
 import java.util.List;
 import java.util.Map;
@@ -10,6 +11,8 @@ import java.util.Map;
 public interface IAccountService {
     List<Account> getAccountsAccessibleToUser(@NonNull Long userId);
     
+    AccountAccessCacheStatsDTO getAccessCacheStats();
+    
     List<Account> getAccountsByUserId(@NonNull Long userId);
     
     List<Account> getAccountsByBranchId(@NonNull Long branchId);
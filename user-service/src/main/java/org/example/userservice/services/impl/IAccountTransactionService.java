@@ -17,6 +17,10 @@ public interface IAccountTransactionService {
     void deleteTransactionsByVehicleId(@NonNull Long vehicleId);
     
     Transaction createTransaction(@NonNull Transaction transaction);
+
+    Transaction createTransaction(@NonNull Transaction transaction, String idempotencyKey);
+
+    Map<String, Transaction> createTransactions(@NonNull Map<String, Transaction> transactionsByIdempotencyKey);
     
     Transaction updateTransaction(@NonNull Long transactionId, Long categoryId, String description, 
                                    BigDecimal newAmount, BigDecimal newExchangeRate, BigDecimal newCommission, 
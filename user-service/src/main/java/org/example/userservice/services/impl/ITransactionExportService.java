@@ -1,10 +1,11 @@
 package org.example.userservice.services.impl;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 
 import java.util.List;
 import java.util.Map;
 
 public interface ITransactionExportService {
-    byte[] exportToExcel(@NonNull Map<String, List<String>> filters);
+    void exportToExcel(@NonNull Map<String, List<String>> filters, @NonNull HttpServletResponse response);
 }
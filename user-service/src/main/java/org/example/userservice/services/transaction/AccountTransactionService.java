@@ -19,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -73,6 +74,31 @@ public class AccountTransactionService implements IAccountTransactionService {
     @Override
     @Transactional
     public Transaction createTransaction(@NonNull Transaction transaction) {
+        return createTransaction(transaction, null);
+    }
+
+    @Override
+    @Transactional
+    public Map<String, Transaction> createTransactions(@NonNull Map<String, Transaction> transactionsByIdempotencyKey) {
+        log.info("Creating transaction batch: size={}", transactionsByIdempotencyKey.size());
+        Map<String, Transaction> created = new LinkedHashMap<>();
+        transactionsByIdempotencyKey.forEach((idempotencyKey, transaction) ->
+                created.put(idempotencyKey, createTransaction(transaction, idempotencyKey)));
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public Transaction createTransaction(@NonNull Transaction transaction, String idempotencyKey) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            Transaction existing = transactionRepository.findByIdempotencyKey(idempotencyKey).orElse(null);
+            if (existing != null) {
+                log.info("Transaction for idempotency key {} already exists: id={}", idempotencyKey, existing.getId());
+                return existing;
+            }
+            transaction.setIdempotencyKey(idempotencyKey);
+        }
+
         Long executorUserId = SecurityUtils.getCurrentUserId();
         if (executorUserId == null) {
             throw new TransactionException(ERROR_CODE_ACCESS_DENIED, "Current user ID is required");
@@ -6,7 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.example.userservice.exceptions.transaction.TransactionException;
 import org.example.userservice.models.transaction.Transaction;
 import org.example.userservice.repositories.TransactionRepository;
-import org.example.userservice.services.impl.IAccountBalanceService;
 import org.example.userservice.services.impl.ITransactionCreationService;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,7 +26,7 @@ public class TransactionCreationService implements ITransactionCreationService {
     private static final int CONVERTED_AMOUNT_SCALE = 2;
 
     private final TransactionRepository transactionRepository;
-    private final IAccountBalanceService accountBalanceService;
+    private final TransactionLedgerService ledgerService;
     private final TransactionValidationService validationService;
 
     @Override
@@ -45,21 +44,8 @@ public class TransactionCreationService implements ITransactionCreationService {
         
         validationService.validateCommission(commission, amount);
 
-        BigDecimal transferAmount = commission != null ? amount.subtract(commission) : amount;
-
-        accountBalanceService.subtractAmount(
-                transaction.getFromAccountId(),
-                transaction.getCurrency(),
-                amount
-        );
-
-        accountBalanceService.addAmount(
-                transaction.getToAccountId(),
-                transaction.getCurrency(),
-                transferAmount
-        );
-
         Transaction saved = transactionRepository.save(transaction);
+        ledgerService.post(saved);
         log.info("Internal transfer transaction created: id={}", saved.getId());
         return saved;
     }
@@ -72,13 +58,8 @@ public class TransactionCreationService implements ITransactionCreationService {
         validationService.validateAccount(transaction.getToAccountId());
         validationService.validateCurrency(transaction.getToAccountId(), transaction.getCurrency());
 
-        accountBalanceService.addAmount(
-                transaction.getToAccountId(),
-                transaction.getCurrency(),
-                transaction.getAmount()
-        );
-
         Transaction saved = transactionRepository.save(transaction);
+        ledgerService.post(saved);
         log.info("External income transaction created: id={}", saved.getId());
         return saved;
     }
@@ -91,13 +72,8 @@ public class TransactionCreationService implements ITransactionCreationService {
         validationService.validateAccount(transaction.getFromAccountId());
         validationService.validateCurrency(transaction.getFromAccountId(), transaction.getCurrency());
 
-        accountBalanceService.subtractAmount(
-                transaction.getFromAccountId(),
-                transaction.getCurrency(),
-                transaction.getAmount()
-        );
-
         Transaction saved = transactionRepository.save(transaction);
+        ledgerService.post(saved);
         log.info("External expense transaction created: id={}", saved.getId());
         return saved;
     }
@@ -114,15 +90,10 @@ public class TransactionCreationService implements ITransactionCreationService {
             throw new TransactionException(ERROR_CODE_CLIENT_ID_REQUIRED, "Client ID is required for client payment");
         }
 
-        accountBalanceService.subtractAmount(
-                transaction.getFromAccountId(),
-                transaction.getCurrency(),
-                transaction.getAmount()
-        );
-
         transaction.setToAccountId(null);
 
         Transaction saved = transactionRepository.save(transaction);
+        ledgerService.post(saved);
         log.info("Client payment transaction created: id={}", saved.getId());
         return saved;
     }
@@ -165,19 +136,8 @@ public class TransactionCreationService implements ITransactionCreationService {
             throw new TransactionException(ERROR_CODE_EXCHANGE_RATE_OR_AMOUNT_REQUIRED, "Either exchange rate or converted amount must be provided");
         }
 
-        accountBalanceService.subtractAmount(
-                transaction.getFromAccountId(),
-                fromCurrency,
-                transaction.getAmount()
-        );
-
-        accountBalanceService.addAmount(
-                transaction.getFromAccountId(),
-                toCurrency,
-                convertedAmount
-        );
-
         Transaction saved = transactionRepository.save(transaction);
+        ledgerService.post(saved);
         log.info("Currency conversion transaction created: id={}", saved.getId());
         return saved;
     }
@@ -8,7 +8,6 @@ import org.example.userservice.exceptions.transaction.TransactionNotFoundExcepti
 import org.example.userservice.models.transaction.Transaction;
 import org.example.userservice.models.transaction.TransactionType;
 import org.example.userservice.repositories.TransactionRepository;
-import org.example.userservice.services.impl.IAccountBalanceService;
 import org.example.userservice.services.impl.IAccountTransactionService;
 import org.example.userservice.services.impl.ITransactionCrudService;
 import org.springframework.stereotype.Service;
@@ -22,13 +21,12 @@ import java.math.RoundingMode;
 @RequiredArgsConstructor
 public class TransactionCrudService implements ITransactionCrudService {
     private static final String ERROR_CODE_INVALID_AMOUNT = "INVALID_AMOUNT";
-    private static final String DEFAULT_CURRENCY = "UAH";
     private static final int CONVERTED_AMOUNT_SCALE = 2;
     private static final RoundingMode CONVERTED_AMOUNT_ROUNDING_MODE = RoundingMode.HALF_UP;
 
     private final TransactionRepository transactionRepository;
     private final IAccountTransactionService accountTransactionService;
-    private final IAccountBalanceService accountBalanceService;
+    private final TransactionLedgerService ledgerService;
 
     @Override
     @Transactional(readOnly = true)
@@ -52,111 +50,22 @@ public class TransactionCrudService implements ITransactionCrudService {
         }
 
         transaction.setAmount(amount);
+        if (transaction.getType() == TransactionType.CURRENCY_CONVERSION) {
+            updateConvertedAmount(transaction, amount);
+        }
         transactionRepository.save(transaction);
-
-        updateAccountBalanceForTransaction(transaction, oldAmount, amount, difference);
+        ledgerService.post(transaction);
         
         log.info("Updated transaction amount: id={}, oldAmount={}, newAmount={}, difference={}", 
                 transactionId, oldAmount, amount, difference);
     }
-    
-    private void updateAccountBalanceForTransaction(@NonNull Transaction transaction, @NonNull BigDecimal oldAmount, 
-                                                   @NonNull BigDecimal newAmount, @NonNull BigDecimal difference) {
-        TransactionType type = transaction.getType();
-        if (type == null) {
-            return;
-        }
-
-        String currency = transaction.getCurrency() != null ? transaction.getCurrency() : DEFAULT_CURRENCY;
-        
-        switch (type) {
-            case CLIENT_PAYMENT:
-            case EXTERNAL_EXPENSE:
-            case VEHICLE_EXPENSE:
-                updateBalanceForClientPaymentOrExpense(transaction, currency, difference);
-                break;
-            case EXTERNAL_INCOME:
-                updateBalanceForExternalIncome(transaction, currency, difference);
-                break;
-            case INTERNAL_TRANSFER:
-                updateBalanceForInternalTransfer(transaction, currency, difference);
-                break;
-            case CURRENCY_CONVERSION:
-                updateBalanceForCurrencyConversion(transaction, oldAmount, newAmount, difference);
-                break;
-        }
-    }
-
-    private void updateBalanceForClientPaymentOrExpense(@NonNull Transaction transaction, @NonNull String currency, 
-                                                        @NonNull BigDecimal difference) {
-        if (transaction.getFromAccountId() == null) {
-            return;
-        }
-        
-        if (difference.compareTo(BigDecimal.ZERO) > 0) {
-            accountBalanceService.subtractAmount(transaction.getFromAccountId(), currency, difference);
-        } else {
-            accountBalanceService.addAmount(transaction.getFromAccountId(), currency, difference.negate());
-        }
-    }
-
-    private void updateBalanceForExternalIncome(@NonNull Transaction transaction, @NonNull String currency, 
-                                                @NonNull BigDecimal difference) {
-        if (transaction.getToAccountId() == null) {
-            return;
-        }
-        
-        if (difference.compareTo(BigDecimal.ZERO) > 0) {
-            accountBalanceService.addAmount(transaction.getToAccountId(), currency, difference);
-        } else {
-            accountBalanceService.subtractAmount(transaction.getToAccountId(), currency, difference.negate());
-        }
-    }
 
-    private void updateBalanceForInternalTransfer(@NonNull Transaction transaction, @NonNull String currency, 
-                                                  @NonNull BigDecimal difference) {
-        if (transaction.getFromAccountId() == null || transaction.getToAccountId() == null) {
-            return;
-        }
-        
-        if (difference.compareTo(BigDecimal.ZERO) > 0) {
-            accountBalanceService.subtractAmount(transaction.getFromAccountId(), currency, difference);
-            accountBalanceService.addAmount(transaction.getToAccountId(), currency, difference);
-        } else {
-            accountBalanceService.addAmount(transaction.getFromAccountId(), currency, difference.negate());
-            accountBalanceService.subtractAmount(transaction.getToAccountId(), currency, difference.negate());
-        }
-    }
-
-    private void updateBalanceForCurrencyConversion(@NonNull Transaction transaction, @NonNull BigDecimal oldAmount, 
-                                                    @NonNull BigDecimal newAmount, @NonNull BigDecimal difference) {
-        if (transaction.getFromAccountId() == null) {
-            return;
-        }
-        
-        String fromCurrency = transaction.getCurrency();
-        String toCurrency = transaction.getConvertedCurrency();
-        
-        if (fromCurrency == null || toCurrency == null) {
-            return;
-        }
-        
+    private void updateConvertedAmount(@NonNull Transaction transaction, @NonNull BigDecimal amount) {
         BigDecimal exchangeRate = transaction.getExchangeRate();
         if (exchangeRate == null || exchangeRate.compareTo(BigDecimal.ZERO) <= 0) {
             return;
         }
-        
-        BigDecimal newConvertedAmount = newAmount.divide(exchangeRate, CONVERTED_AMOUNT_SCALE, CONVERTED_AMOUNT_ROUNDING_MODE);
-        BigDecimal oldConvertedAmount = oldAmount.divide(exchangeRate, CONVERTED_AMOUNT_SCALE, CONVERTED_AMOUNT_ROUNDING_MODE);
-        BigDecimal convertedDifference = newConvertedAmount.subtract(oldConvertedAmount);
-        
-        if (difference.compareTo(BigDecimal.ZERO) > 0) {
-            accountBalanceService.subtractAmount(transaction.getFromAccountId(), fromCurrency, difference);
-            accountBalanceService.addAmount(transaction.getFromAccountId(), toCurrency, convertedDifference);
-        } else {
-            accountBalanceService.addAmount(transaction.getFromAccountId(), fromCurrency, difference.negate());
-            accountBalanceService.subtractAmount(transaction.getFromAccountId(), toCurrency, convertedDifference.negate());
-        }
+        transaction.setConvertedAmount(amount.divide(exchangeRate, CONVERTED_AMOUNT_SCALE, CONVERTED_AMOUNT_ROUNDING_MODE));
     }
 
     private void validateAmount(@NonNull BigDecimal amount) {
@@ -1,13 +1,12 @@
 package org.example.userservice.services.transaction;
 
+import lombok.NonNull;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.example.userservice.models.transaction.Transaction;
 import org.example.userservice.models.transaction.TransactionType;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -21,6 +20,12 @@ public class TransactionExcelBuilder {
     private static final String DATE_FORMAT_PATTERN = "dd.MM.yyyy HH:mm";
     private static final short HEADER_FONT_SIZE = 12;
     private static final int COLUMN_COUNT = 15;
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int WIDTH_SAMPLE_ROWS = 200;
+    private static final int COLUMN_PADDING = 2;
+    private static final int MIN_COLUMN_WIDTH = 8;
+    private static final int MAX_COLUMN_WIDTH = 60;
+    private static final int CHARACTER_WIDTH_UNITS = 256;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT_PATTERN);
 
@@ -40,38 +45,55 @@ public class TransactionExcelBuilder {
             "VEHICLE_EXPENSE", "Витрати на машину"
     );
 
-    public byte[] buildEmpty() throws IOException {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet(SHEET_NAME);
-            Row headerRow = sheet.createRow(0);
-            Cell headerCell = headerRow.createCell(0);
-            headerCell.setCellValue(NO_TRANSACTIONS_MESSAGE);
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
+    public static final class ExportSheet {
+        private final Sheet sheet;
+        private final CellStyle dataStyle;
+        private final int[] sampledWidths = new int[COLUMN_COUNT];
+        private int nextRowIndex = 1;
+
+        private ExportSheet(@NonNull Sheet sheet, @NonNull CellStyle dataStyle) {
+            this.sheet = sheet;
+            this.dataStyle = dataStyle;
         }
     }
 
-    public byte[] buildWithData(List<Transaction> transactions,
-                                Map<Long, String> clientCompanyMap,
-                                Map<Long, String> accountNameMap,
-                                Map<Long, String> categoryNameMap,
-                                Map<Long, String> counterpartyNameMap) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-
-            Sheet sheet = workbook.createSheet(SHEET_NAME);
+    public SXSSFWorkbook createWorkbook() {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
 
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
+    public ExportSheet createSheet(@NonNull Workbook workbook) {
+        Sheet sheet = workbook.createSheet(SHEET_NAME);
+        ExportSheet exportSheet = new ExportSheet(sheet, createDataStyle(workbook));
+        createHeaderRow(exportSheet, createHeaderStyle(workbook));
+        return exportSheet;
+    }
 
-            createHeaderRow(sheet, headerStyle);
-            fillDataRows(sheet, transactions, clientCompanyMap, accountNameMap,
-                    categoryNameMap, counterpartyNameMap, dataStyle);
-            autoSizeColumns(sheet);
+    public void writeRows(@NonNull ExportSheet exportSheet,
+                          @NonNull List<Transaction> transactions,
+                          @NonNull Map<Long, String> clientCompanyMap,
+                          @NonNull Map<Long, String> accountNameMap,
+                          @NonNull Map<Long, String> categoryNameMap,
+                          @NonNull Map<Long, String> counterpartyNameMap) {
+        for (Transaction transaction : transactions) {
+            int rowIndex = exportSheet.nextRowIndex++;
+            Row row = exportSheet.sheet.createRow(rowIndex);
+            fillTransactionRow(row, transaction, clientCompanyMap, accountNameMap,
+                    categoryNameMap, counterpartyNameMap, exportSheet.dataStyle);
+            if (rowIndex <= WIDTH_SAMPLE_ROWS) {
+                sampleRowWidths(exportSheet, row);
+            }
+        }
+    }
 
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
+    public void finishSheet(@NonNull ExportSheet exportSheet) {
+        if (exportSheet.nextRowIndex == 1) {
+            exportSheet.sheet.createRow(1).createCell(0).setCellValue(NO_TRANSACTIONS_MESSAGE);
+        }
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            int width = Math.clamp(exportSheet.sampledWidths[i] + COLUMN_PADDING, MIN_COLUMN_WIDTH, MAX_COLUMN_WIDTH);
+            exportSheet.sheet.setColumnWidth(i, width * CHARACTER_WIDTH_UNITS);
         }
     }
 
@@ -99,27 +121,26 @@ public class TransactionExcelBuilder {
         return dataStyle;
     }
 
-    private void createHeaderRow(Sheet sheet, CellStyle headerStyle) {
-        Row headerRow = sheet.createRow(0);
+    private void createHeaderRow(ExportSheet exportSheet, CellStyle headerStyle) {
+        Row headerRow = exportSheet.sheet.createRow(0);
         for (int i = 0; i < HEADERS.length; i++) {
             Cell cell = headerRow.createCell(i);
             cell.setCellValue(HEADERS[i]);
             cell.setCellStyle(headerStyle);
         }
+        sampleRowWidths(exportSheet, headerRow);
     }
 
-    private void fillDataRows(Sheet sheet,
-                              List<Transaction> transactions,
-                              Map<Long, String> clientCompanyMap,
-                              Map<Long, String> accountNameMap,
-                              Map<Long, String> categoryNameMap,
-                              Map<Long, String> counterpartyNameMap,
-                              CellStyle dataStyle) {
-        int rowNum = 1;
-        for (Transaction transaction : transactions) {
-            Row row = sheet.createRow(rowNum++);
-            fillTransactionRow(row, transaction, clientCompanyMap, accountNameMap,
-                    categoryNameMap, counterpartyNameMap, dataStyle);
+    private void sampleRowWidths(ExportSheet exportSheet, Row row) {
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            Cell cell = row.getCell(i);
+            if (cell == null) {
+                continue;
+            }
+            int length = cell.getCellType() == CellType.NUMERIC
+                    ? String.valueOf(cell.getNumericCellValue()).length()
+                    : cell.getStringCellValue().length();
+            exportSheet.sampledWidths[i] = Math.max(exportSheet.sampledWidths[i], length);
         }
     }
 
@@ -215,10 +236,4 @@ public class TransactionExcelBuilder {
     private String getCounterpartyName(Long counterpartyId, Map<Long, String> counterpartyNameMap) {
         return counterpartyId != null ? counterpartyNameMap.getOrDefault(counterpartyId, "") : "";
     }
-
-    private void autoSizeColumns(Sheet sheet) {
-        for (int i = 0; i < COLUMN_COUNT; i++) {
-            sheet.autoSizeColumn(i);
-        }
-    }
 }
@@ -1,16 +1,33 @@
 package org.example.userservice.services.transaction;
 
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.example.userservice.models.transaction.Transaction;
+import org.example.userservice.repositories.TransactionRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class TransactionExportDataFetcher {
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final Sort EXPORT_SORT = Sort.by(Sort.Direction.DESC, FIELD_CREATED_AT)
+            .and(Sort.by(Sort.Direction.DESC, FIELD_ID));
 
     public record ExportData(
             Map<Long, String> clientCompanyMap,
@@ -20,14 +37,61 @@ public class TransactionExportDataFetcher {
     ) {
     }
 
+    public record ExportCursor(LocalDateTime createdAt, Long id) {
+    }
+
+    private final TransactionRepository transactionRepository;
     private final TransactionLookupDataFetcher lookupDataFetcher;
 
-    public ExportData loadExportData(@NonNull List<Transaction> transactions) {
-        return new ExportData(
-                lookupDataFetcher.loadClientData(transactions),
-                lookupDataFetcher.loadAccountData(transactions),
-                lookupDataFetcher.loadCategoryData(transactions),
-                lookupDataFetcher.loadCounterpartyData(transactions)
-        );
+    public List<Transaction> fetchChunk(@NonNull Specification<Transaction> spec, ExportCursor after, int limit) {
+        Specification<Transaction> chunkSpec = after != null ? spec.and(afterCursor(after)) : spec;
+        return transactionRepository.findBy(chunkSpec, query -> query.sortBy(EXPORT_SORT).limit(limit).all());
+    }
+
+    public ExportCursor cursorOf(@NonNull Transaction transaction) {
+        return new ExportCursor(transaction.getCreatedAt(), transaction.getId());
+    }
+
+    public ExportData createExportData() {
+        return new ExportData(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+
+    public void loadExportData(@NonNull List<Transaction> transactions, @NonNull ExportData data) {
+        loadMissing(transactions.stream().map(Transaction::getClientId),
+                data.clientCompanyMap(), lookupDataFetcher::loadClientNames);
+        loadMissing(transactions.stream().flatMap(t -> Stream.of(t.getFromAccountId(), t.getToAccountId())),
+                data.accountNameMap(), lookupDataFetcher::loadAccountNames);
+        loadMissing(transactions.stream().map(Transaction::getCategoryId),
+                data.categoryNameMap(), lookupDataFetcher::loadCategoryNames);
+        loadMissing(transactions.stream().map(Transaction::getCounterpartyId),
+                data.counterpartyNameMap(), lookupDataFetcher::loadCounterpartyNames);
+    }
+
+    private void loadMissing(@NonNull Stream<Long> ids, @NonNull Map<Long, String> names,
+                             @NonNull Function<Collection<Long>, Map<Long, String>> loader) {
+        Set<Long> missingIds = ids
+                .filter(Objects::nonNull)
+                .filter(id -> !names.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        names.putAll(loader.apply(missingIds));
+        missingIds.forEach(id -> names.putIfAbsent(id, ""));
+    }
+
+    private Specification<Transaction> afterCursor(@NonNull ExportCursor cursor) {
+        return (root, _, cb) -> {
+            Path<LocalDateTime> createdAt = root.get(FIELD_CREATED_AT);
+            Predicate idBefore = cb.lessThan(root.get(FIELD_ID), cursor.id());
+            if (cursor.createdAt() == null) {
+                return cb.and(cb.isNull(createdAt), idBefore);
+            }
+            return cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), idBefore),
+                    cb.isNull(createdAt));
+        };
     }
 }
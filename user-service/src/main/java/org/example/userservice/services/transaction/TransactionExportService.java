@@ -1,17 +1,27 @@
 package org.example.userservice.services.transaction;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.example.userservice.exceptions.transaction.TransactionException;
 import org.example.userservice.models.transaction.Transaction;
-import org.example.userservice.repositories.TransactionRepository;
 import org.example.userservice.services.impl.ITransactionExportService;
+import org.example.userservice.services.transaction.TransactionExportDataFetcher.ExportCursor;
+import org.example.userservice.services.transaction.TransactionExportDataFetcher.ExportData;
 import org.example.userservice.spec.TransactionSpecification;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
@@ -20,34 +30,65 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TransactionExportService implements ITransactionExportService {
     private static final String ERROR_CODE_EXPORT_FAILED = "EXPORT_FAILED";
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+    private static final String FILENAME_PREFIX = "transactions_";
+    private static final String FILENAME_SUFFIX = ".xlsx";
+    private static final String DATE_TIME_PATTERN = "yyyy-MM-dd_HH-mm-ss";
 
-    private final TransactionRepository transactionRepository;
     private final TransactionExportDataFetcher dataFetcher;
     private final TransactionExcelBuilder excelBuilder;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     @Transactional(readOnly = true)
-    public byte[] exportToExcel(@NonNull Map<String, List<String>> filters) {
+    public void exportToExcel(@NonNull Map<String, List<String>> filters, @NonNull HttpServletResponse response) {
+        SXSSFWorkbook workbook = excelBuilder.createWorkbook();
         try {
             TransactionSpecification spec = new TransactionSpecification(filters);
-            Sort sortBy = Sort.by(Sort.Direction.DESC, "createdAt");
-            List<Transaction> transactions = transactionRepository.findAll(spec, sortBy);
-
-            if (transactions.isEmpty()) {
-                return excelBuilder.buildEmpty();
-            }
-
-            TransactionExportDataFetcher.ExportData data = dataFetcher.loadExportData(transactions);
-            return excelBuilder.buildWithData(
-                    transactions,
-                    data.clientCompanyMap(),
-                    data.accountNameMap(),
-                    data.categoryNameMap(),
-                    data.counterpartyNameMap()
-            );
+            TransactionExcelBuilder.ExportSheet sheet = excelBuilder.createSheet(workbook);
+            ExportData data = dataFetcher.createExportData();
+
+            ExportCursor cursor = null;
+            int exportedRows = 0;
+            List<Transaction> chunk;
+            do {
+                chunk = dataFetcher.fetchChunk(spec, cursor, EXPORT_CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                dataFetcher.loadExportData(chunk, data);
+                excelBuilder.writeRows(sheet, chunk,
+                        data.clientCompanyMap(),
+                        data.accountNameMap(),
+                        data.categoryNameMap(),
+                        data.counterpartyNameMap());
+
+                exportedRows += chunk.size();
+                cursor = dataFetcher.cursorOf(chunk.getLast());
+                entityManager.clear();
+            } while (chunk.size() == EXPORT_CHUNK_SIZE);
+
+            excelBuilder.finishSheet(sheet);
+            sendExcelFileResponse(workbook, response);
+            log.info("Exported {} transactions", exportedRows);
         } catch (Exception e) {
             log.error("Failed to export transactions: {}", e.getMessage(), e);
             throw new TransactionException(ERROR_CODE_EXPORT_FAILED, "Failed to export transactions: " + e.getMessage());
+        } finally {
+            workbook.dispose();
         }
     }
+
+    private void sendExcelFileResponse(@NonNull SXSSFWorkbook workbook, @NonNull HttpServletResponse response)
+            throws IOException {
+        String filename = FILENAME_PREFIX + LocalDateTime.now().format(DateTimeFormatter.ofPattern(DATE_TIME_PATTERN))
+                + FILENAME_SUFFIX;
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.formData().name("attachment").filename(filename).build().toString());
+        workbook.write(response.getOutputStream());
+    }
 }
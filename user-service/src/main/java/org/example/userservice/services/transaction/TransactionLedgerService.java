@@ -0,0 +1,63 @@
+package org.example.userservice.services.transaction;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.example.userservice.exceptions.transaction.TransactionException;
+import org.example.userservice.models.account.AccountBalanceDelta;
+import org.example.userservice.models.transaction.Transaction;
+import org.example.userservice.repositories.AccountPostingRepository;
+import org.example.userservice.services.impl.IAccountBalanceService;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionLedgerService {
+
+    private static final String ERROR_CODE_TRANSACTION_NOT_SAVED = "TRANSACTION_NOT_SAVED";
+    private static final String ERROR_CODE_INVALID_AMOUNT = "INVALID_AMOUNT";
+
+    private final AccountPostingRepository postingRepository;
+    private final IAccountBalanceService accountBalanceService;
+
+    public void post(@NonNull Transaction transaction) {
+        if (transaction.getId() == null) {
+            throw new TransactionException(ERROR_CODE_TRANSACTION_NOT_SAVED,
+                    "Transaction must be saved before it is posted to the ledger");
+        }
+        if (transaction.getAmount() == null || transaction.getAmount().signum() <= 0) {
+            throw new TransactionException(ERROR_CODE_INVALID_AMOUNT, "Amount must be greater than zero");
+        }
+        List<AccountBalanceDelta> lines = new ArrayList<>();
+        for (TransactionRevertCalculator.BalanceAdjustment adjustment :
+                TransactionRevertCalculator.computeRevertPlan(transaction).balanceAdjustments()) {
+            lines.add(new AccountBalanceDelta(transaction.getId(), adjustment.accountId(), adjustment.currency(),
+                    adjustment.amount().negate()));
+        }
+        for (AccountBalanceDelta posted : postingRepository.sumByTransactionIds(List.of(transaction.getId()))) {
+            lines.add(negate(posted));
+        }
+        accountBalanceService.applyDeltas(lines);
+    }
+
+    public void reverse(@NonNull Collection<Transaction> transactions) {
+        List<Long> transactionIds = transactions.stream()
+                .map(Transaction::getId)
+                .toList();
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        accountBalanceService.applyDeltas(postingRepository.sumByTransactionIds(transactionIds).stream()
+                .map(this::negate)
+                .toList());
+    }
+
+    private AccountBalanceDelta negate(@NonNull AccountBalanceDelta delta) {
+        BigDecimal amount = delta.amount() != null ? delta.amount().negate() : BigDecimal.ZERO;
+        return new AccountBalanceDelta(delta.transactionId(), delta.accountId(), delta.currency(), amount);
+    }
+}
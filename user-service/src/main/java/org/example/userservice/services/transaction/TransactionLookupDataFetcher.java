@@ -12,6 +12,8 @@ import org.example.userservice.repositories.CounterpartyRepository;
 import org.example.userservice.repositories.TransactionCategoryRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -38,12 +40,16 @@ public class TransactionLookupDataFetcher {
                 .distinct()
                 .toList();
 
+        return loadClientNames(clientIds);
+    }
+
+    public Map<Long, String> loadClientNames(@NonNull Collection<Long> clientIds) {
         if (clientIds.isEmpty()) {
             return Collections.emptyMap();
         }
 
         try {
-            return Optional.ofNullable(clientApiClient.getClients(clientIds).getBody())
+            return Optional.ofNullable(clientApiClient.getClients(new ArrayList<>(clientIds)).getBody())
                     .map(clients -> clients.stream()
                             .flatMap(map -> map.entrySet().stream())
                             .collect(Collectors.toMap(
@@ -72,6 +78,10 @@ public class TransactionLookupDataFetcher {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
+        return loadAccountNames(accountIds);
+    }
+
+    public Map<Long, String> loadAccountNames(@NonNull Collection<Long> accountIds) {
         return fetchMapByIds(accountIds, accountRepository.findAllById(accountIds), Account::getId, Account::getName);
     }
 
@@ -81,6 +91,10 @@ public class TransactionLookupDataFetcher {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
+        return loadCategoryNames(categoryIds);
+    }
+
+    public Map<Long, String> loadCategoryNames(@NonNull Collection<Long> categoryIds) {
         return fetchMapByIds(categoryIds, transactionCategoryRepository.findAllById(categoryIds), TransactionCategory::getId, TransactionCategory::getName);
     }
 
@@ -90,10 +104,14 @@ public class TransactionLookupDataFetcher {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
+        return loadCounterpartyNames(counterpartyIds);
+    }
+
+    public Map<Long, String> loadCounterpartyNames(@NonNull Collection<Long> counterpartyIds) {
         return fetchMapByIds(counterpartyIds, counterpartyRepository.findAllById(counterpartyIds), Counterparty::getId, Counterparty::getName);
     }
 
-    private <T> Map<Long, String> fetchMapByIds(Set<Long> ids, Iterable<T> entities, Function<T, Long> idGetter, Function<T, String> nameGetter) {
+    private <T> Map<Long, String> fetchMapByIds(Collection<Long> ids, Iterable<T> entities, Function<T, Long> idGetter, Function<T, String> nameGetter) {
         if (ids == null || ids.isEmpty()) {
             return Collections.emptyMap();
         }
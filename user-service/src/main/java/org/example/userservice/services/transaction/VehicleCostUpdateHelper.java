@@ -5,9 +5,12 @@ import lombok.RequiredArgsConstructor;
 import org.example.userservice.clients.VehicleCostApiClient;
 import org.example.userservice.exceptions.transaction.TransactionException;
 import org.example.userservice.models.dto.UpdateVehicleCostRequest;
+import org.example.userservice.models.dto.VehicleCostAdjustmentDTO;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -41,4 +44,18 @@ public class VehicleCostUpdateHelper {
             throw new TransactionException(ERROR_CODE_FAILED_TO_REVERT_VEHICLE_COST, "Failed to revert vehicle cost: " + e.getMessage());
         }
     }
+
+    public void subtractVehicleCosts(@NonNull Map<Long, BigDecimal> amountsEurByVehicleId) {
+        if (amountsEurByVehicleId.isEmpty()) {
+            return;
+        }
+        List<VehicleCostAdjustmentDTO> adjustments = amountsEurByVehicleId.entrySet().stream()
+                .map(entry -> new VehicleCostAdjustmentDTO(entry.getKey(), entry.getValue(), OPERATION_SUBTRACT))
+                .toList();
+        try {
+            vehicleCostApiClient.updateVehicleCosts(adjustments);
+        } catch (Exception e) {
+            throw new TransactionException(ERROR_CODE_FAILED_TO_REVERT_VEHICLE_COST, "Failed to revert vehicle cost: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,3 @@
+ALTER TABLE transactions ADD COLUMN idempotency_key VARCHAR(64) NULL;
+
+CREATE UNIQUE INDEX uk_transactions_idempotency_key ON transactions (idempotency_key);
@@ -0,0 +1,27 @@
+CREATE TABLE account_balance_movements (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    amount DECIMAL(20, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_account_balance_movements_account ON account_balance_movements (account_id, currency, created_at);
+CREATE INDEX idx_account_balance_movements_created ON account_balance_movements (created_at);
+
+CREATE TABLE account_balance_snapshots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    snapshot_date DATE NOT NULL,
+    closing_balance DECIMAL(20, 2) NOT NULL,
+    debit_total DECIMAL(20, 2) NOT NULL,
+    credit_total DECIMAL(20, 2) NOT NULL,
+    CONSTRAINT uk_account_balance_snapshots UNIQUE (account_id, currency, snapshot_date)
+);
+
+CREATE INDEX idx_account_balance_snapshots_date ON account_balance_snapshots (snapshot_date);
+
+INSERT INTO account_balance_snapshots (account_id, currency, snapshot_date, closing_balance, debit_total, credit_total)
+SELECT account_id, currency, DATE_SUB(CURRENT_DATE, INTERVAL 1 DAY), amount, 0, 0
+FROM account_balances;
@@ -0,0 +1,54 @@
+RENAME TABLE account_balance_movements TO account_postings;
+
+ALTER TABLE account_postings ADD COLUMN transaction_id BIGINT NULL AFTER id;
+
+ALTER TABLE account_postings
+    RENAME INDEX idx_account_balance_movements_account TO idx_account_postings_account_currency,
+    RENAME INDEX idx_account_balance_movements_created TO idx_account_postings_created;
+
+CREATE INDEX idx_account_postings_account_history ON account_postings (account_id, created_at, id);
+CREATE INDEX idx_account_postings_transaction ON account_postings (transaction_id);
+
+CREATE TABLE account_ledger_watermarks (
+    name VARCHAR(64) PRIMARY KEY,
+    last_posting_id BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+SET @ledger_start = (SELECT COALESCE(TIMESTAMP(MIN(snapshot_date)), NOW(6)) FROM account_balance_snapshots);
+
+INSERT INTO account_postings (transaction_id, account_id, currency, amount, created_at)
+SELECT t.id, t.from_account_id, UPPER(t.currency), -t.amount,
+       LEAST(COALESCE(t.created_at, @ledger_start), @ledger_start)
+FROM transactions t
+WHERE t.type IN ('INTERNAL_TRANSFER', 'EXTERNAL_EXPENSE', 'CLIENT_PAYMENT', 'VEHICLE_EXPENSE', 'CURRENCY_CONVERSION')
+  AND t.from_account_id IS NOT NULL AND t.currency IS NOT NULL
+UNION ALL
+SELECT t.id, t.to_account_id, UPPER(t.currency), t.amount - COALESCE(t.commission, 0),
+       LEAST(COALESCE(t.created_at, @ledger_start), @ledger_start)
+FROM transactions t
+WHERE t.type = 'INTERNAL_TRANSFER'
+  AND t.to_account_id IS NOT NULL AND t.currency IS NOT NULL
+UNION ALL
+SELECT t.id, t.to_account_id, UPPER(t.currency), t.amount,
+       LEAST(COALESCE(t.created_at, @ledger_start), @ledger_start)
+FROM transactions t
+WHERE t.type = 'EXTERNAL_INCOME'
+  AND t.to_account_id IS NOT NULL AND t.currency IS NOT NULL
+UNION ALL
+SELECT t.id, t.from_account_id, UPPER(t.converted_currency), t.converted_amount,
+       LEAST(COALESCE(t.created_at, @ledger_start), @ledger_start)
+FROM transactions t
+WHERE t.type = 'CURRENCY_CONVERSION'
+  AND t.from_account_id IS NOT NULL AND t.converted_currency IS NOT NULL AND t.converted_amount IS NOT NULL;
+
+INSERT INTO account_postings (transaction_id, account_id, currency, amount, created_at)
+SELECT NULL, ab.account_id, ab.currency, ab.amount - COALESCE(p.total, 0), @ledger_start
+FROM account_balances ab
+LEFT JOIN (SELECT account_id, currency, SUM(amount) AS total
+           FROM account_postings
+           GROUP BY account_id, currency) p ON p.account_id = ab.account_id AND p.currency = ab.currency
+WHERE ab.amount - COALESCE(p.total, 0) <> 0;
+
+INSERT INTO account_ledger_watermarks (name, last_posting_id, updated_at)
+SELECT 'reconciliation', COALESCE(MAX(id), 0), NOW(6) FROM account_postings;
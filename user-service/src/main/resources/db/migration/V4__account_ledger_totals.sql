@@ -0,0 +1,14 @@
+CREATE TABLE account_ledger_totals (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_id BIGINT NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    posted_total DECIMAL(20, 2) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_account_ledger_totals_account_currency UNIQUE (account_id, currency)
+);
+
+INSERT INTO account_ledger_totals (account_id, currency, posted_total, updated_at)
+SELECT p.account_id, p.currency, SUM(p.amount), NOW(6)
+FROM account_postings p
+WHERE p.id <= (SELECT w.last_posting_id FROM account_ledger_watermarks w WHERE w.name = 'reconciliation')
+GROUP BY p.account_id, p.currency;
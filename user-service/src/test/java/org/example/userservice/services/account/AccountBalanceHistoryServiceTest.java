@@ -0,0 +1,147 @@
+package org.example.userservice.services.account;
+
+import org.example.userservice.exceptions.account.AccountException;
+import org.example.userservice.models.account.AccountBalance;
+import org.example.userservice.models.account.AccountBalanceSnapshot;
+import org.example.userservice.models.account.AccountTurnoverTotals;
+import org.example.userservice.models.dto.account.AccountTurnoverDTO;
+import org.example.userservice.repositories.AccountBalanceRepository;
+import org.example.userservice.repositories.AccountBalanceSnapshotRepository;
+import org.example.userservice.repositories.AccountPostingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountBalanceHistoryServiceTest {
+
+    private static final LocalDate SEED_SNAPSHOT_DATE = LocalDate.of(2026, 1, 1);
+    private static final List<Long> ACCOUNT_IDS = List.of(1L, 2L);
+
+    private AccountBalanceSnapshotRepository snapshotRepository;
+    private AccountPostingRepository postingRepository;
+    private AccountBalanceRepository accountBalanceRepository;
+    private AccountBalanceHistoryService historyService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotRepository = mock(AccountBalanceSnapshotRepository.class);
+        postingRepository = mock(AccountPostingRepository.class);
+        accountBalanceRepository = mock(AccountBalanceRepository.class);
+        historyService = new AccountBalanceHistoryService(snapshotRepository, postingRepository, accountBalanceRepository);
+        when(snapshotRepository.findEarliestSnapshotDate()).thenReturn(Optional.of(SEED_SNAPSHOT_DATE));
+    }
+
+    @Test
+    void rejectsTimesOnTheMigrationDay() {
+        AccountException exception = assertThrows(AccountException.class,
+                () -> historyService.getBalanceAt(1L, "UAH", LocalDateTime.of(2026, 1, 2, 15, 0)));
+        assertEquals("BALANCE_HISTORY_UNAVAILABLE", exception.getErrorCode());
+    }
+
+    @Test
+    void addsPostingsAfterTheLatestSnapshot() {
+        LocalDateTime at = LocalDateTime.of(2026, 1, 5, 10, 30);
+        when(snapshotRepository.findFirstByAccountIdAndCurrencyAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+                1L, "UAH", at.toLocalDate())).thenReturn(Optional.of(snapshot(1L, "UAH", LocalDate.of(2026, 1, 4), "100.00")));
+        when(postingRepository.sumAmount(1L, "UAH", LocalDateTime.of(2026, 1, 5, 0, 0), at))
+                .thenReturn(new BigDecimal("25.50"));
+
+        assertEquals(new BigDecimal("125.50"), historyService.getBalanceAt(1L, "uah", at));
+    }
+
+    @Test
+    void sumsAllPostingsWhenThereIsNoSnapshot() {
+        LocalDateTime at = LocalDateTime.of(2026, 1, 3, 0, 0);
+        when(snapshotRepository.findFirstByAccountIdAndCurrencyAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+                1L, "EUR", at.toLocalDate())).thenReturn(Optional.empty());
+        when(postingRepository.sumAmountBefore(1L, "EUR", at)).thenReturn(new BigDecimal("7.00"));
+
+        assertEquals(new BigDecimal("7.00"), historyService.getBalanceAt(1L, "EUR", at));
+    }
+
+    @Test
+    void computesTurnoverWithGroupedOpeningBalances() {
+        LocalDate from = LocalDate.of(2026, 1, 5);
+        LocalDate to = LocalDate.of(2026, 1, 10);
+        LocalDateTime openingAt = from.atStartOfDay();
+        when(accountBalanceRepository.findByAccountIdIn(ACCOUNT_IDS)).thenReturn(List.of(
+                balance(1L, "UAH"), balance(2L, "USD"), balance(2L, "EUR")));
+        when(snapshotRepository.findLatestSnapshotDate()).thenReturn(Optional.of(LocalDate.of(2026, 1, 6)));
+        when(snapshotRepository.sumTurnover(ACCOUNT_IDS, from, LocalDate.of(2026, 1, 6)))
+                .thenReturn(List.of(totals(1L, "UAH", "10.00", "5.00")));
+        when(postingRepository.sumTurnover(ACCOUNT_IDS, LocalDateTime.of(2026, 1, 7, 0, 0), LocalDateTime.of(2026, 1, 11, 0, 0)))
+                .thenReturn(List.of(totals(1L, "UAH", "3.00", "1.00")));
+        when(snapshotRepository.findLatestBefore(ACCOUNT_IDS, from)).thenReturn(List.of(
+                snapshot(1L, "UAH", LocalDate.of(2026, 1, 4), "100.00"),
+                snapshot(2L, "USD", LocalDate.of(2026, 1, 3), "50.00")));
+        when(postingRepository.sumTurnover(ACCOUNT_IDS, LocalDateTime.of(2026, 1, 4, 0, 0), openingAt))
+                .thenReturn(List.of(totals(2L, "USD", "7.00", "2.00"), totals(1L, "UAH", "99.00", "0.00")));
+        when(postingRepository.sumTurnover(ACCOUNT_IDS, LocalDate.EPOCH.atStartOfDay(), openingAt))
+                .thenReturn(List.of(totals(2L, "EUR", "20.00", "5.00"), totals(2L, "USD", "1000.00", "0.00")));
+
+        List<AccountTurnoverDTO> turnover = historyService.getTurnover(ACCOUNT_IDS, from, to);
+
+        assertEquals(List.of(
+                new AccountTurnoverDTO(1L, "UAH", new BigDecimal("100.00"), new BigDecimal("13.00"),
+                        new BigDecimal("6.00"), new BigDecimal("107.00")),
+                new AccountTurnoverDTO(2L, "USD", new BigDecimal("55.00"), BigDecimal.ZERO, BigDecimal.ZERO,
+                        new BigDecimal("55.00")),
+                new AccountTurnoverDTO(2L, "EUR", new BigDecimal("15.00"), BigDecimal.ZERO, BigDecimal.ZERO,
+                        new BigDecimal("15.00"))), turnover);
+        verify(snapshotRepository, never())
+                .findFirstByAccountIdAndCurrencyAndSnapshotDateLessThanOrderBySnapshotDateDesc(anyLong(), anyString(), any());
+        verify(postingRepository, never()).sumAmount(anyLong(), anyString(), any(), any());
+        verify(postingRepository, never()).sumAmountBefore(anyLong(), anyString(), any());
+    }
+
+    @Test
+    void rejectsTurnoverStartingBeforeHistory() {
+        AccountException exception = assertThrows(AccountException.class,
+                () -> historyService.getTurnover(ACCOUNT_IDS, LocalDate.of(2026, 1, 2), LocalDate.of(2026, 1, 5)));
+        assertEquals("BALANCE_HISTORY_UNAVAILABLE", exception.getErrorCode());
+    }
+
+    @Test
+    void rejectsReversedTurnoverPeriod() {
+        AccountException exception = assertThrows(AccountException.class,
+                () -> historyService.getTurnover(ACCOUNT_IDS, LocalDate.of(2026, 1, 9), LocalDate.of(2026, 1, 5)));
+        assertEquals("INVALID_PERIOD", exception.getErrorCode());
+    }
+
+    private static AccountBalanceSnapshot snapshot(Long accountId, String currency, LocalDate date, String closing) {
+        AccountBalanceSnapshot snapshot = new AccountBalanceSnapshot();
+        snapshot.setAccountId(accountId);
+        snapshot.setCurrency(currency);
+        snapshot.setSnapshotDate(date);
+        snapshot.setClosingBalance(new BigDecimal(closing));
+        snapshot.setDebitTotal(BigDecimal.ZERO);
+        snapshot.setCreditTotal(BigDecimal.ZERO);
+        return snapshot;
+    }
+
+    private static AccountBalance balance(Long accountId, String currency) {
+        AccountBalance balance = new AccountBalance();
+        balance.setAccountId(accountId);
+        balance.setCurrency(currency);
+        return balance;
+    }
+
+    private static AccountTurnoverTotals totals(Long accountId, String currency, String debit, String credit) {
+        return new AccountTurnoverTotals(accountId, currency, new BigDecimal(debit), new BigDecimal(credit));
+    }
+}
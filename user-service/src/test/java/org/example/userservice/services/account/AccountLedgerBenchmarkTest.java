@@ -0,0 +1,224 @@
+package org.example.userservice.services.account;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.userservice.models.dto.account.AccountTurnoverDTO;
+import org.example.userservice.repositories.AccountBalanceSnapshotRepository;
+import org.example.userservice.services.impl.IAccountBalanceHistoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Point-in-time balances and turnover over a generated ledger. Seeds the configured database, so it only runs with
+ * {@code -Daccount.ledger.benchmark=true}; {@code account.ledger.benchmark.postings} and
+ * {@code account.ledger.benchmark.accounts} override the ledger size. Results are checked against plain sums over
+ * {@code account_postings}.
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "account.ledger.benchmark", matches = "true")
+class AccountLedgerBenchmarkTest {
+
+    private static final int POSTING_COUNT = Integer.getInteger("account.ledger.benchmark.postings", 5_000_000);
+    private static final int ACCOUNT_COUNT = Integer.getInteger("account.ledger.benchmark.accounts", 50);
+    private static final int LEDGER_DAYS = 90;
+    private static final int SEED_BATCH_SIZE = 5000;
+    private static final int BALANCE_QUERIES = 200;
+    private static final int TURNOVER_QUERIES = 20;
+    private static final String CURRENCY = "UAH";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private IAccountBalanceHistoryService historyService;
+
+    @Autowired
+    private AccountBalanceSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> accountIds = new ArrayList<>();
+    private LocalDate firstDay;
+    // History is served from two days after the earliest snapshot, which is at most firstDay.
+    private LocalDate historyStart;
+
+    @BeforeEach
+    void seedLedger() {
+        firstDay = LocalDate.now().minusDays(LEDGER_DAYS);
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            accountIds.add(createAccount("ledger-benchmark-" + System.nanoTime()));
+        }
+
+        Random random = new Random(42);
+        long ledgerSeconds = LEDGER_DAYS * 86_400L;
+        for (int from = 0; from < POSTING_COUNT; from += SEED_BATCH_SIZE) {
+            int rows = Math.min(SEED_BATCH_SIZE, POSTING_COUNT - from);
+            String sql = "INSERT INTO account_postings (account_id, currency, amount, created_at) VALUES "
+                    + String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?)"));
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (int i = 0; i < rows; i++) {
+                    ps.setLong(index++, accountIds.get(random.nextInt(accountIds.size())));
+                    ps.setString(index++, CURRENCY);
+                    ps.setBigDecimal(index++, BigDecimal.valueOf(random.nextLong(-100_000, 100_001), 2));
+                    ps.setTimestamp(index++, Timestamp.valueOf(firstDay.atStartOfDay()
+                            .plusSeconds(random.nextLong(ledgerSeconds))
+                            .plusNanos(random.nextInt(1_000_000) * 1000L)));
+                }
+            });
+        }
+
+        MapSqlParameterSource accounts = new MapSqlParameterSource("accountIds", accountIds);
+        namedParameterJdbcTemplate.update("INSERT INTO account_balances (account_id, currency, amount, updated_at) "
+                + "SELECT account_id, currency, SUM(amount), NOW() FROM account_postings "
+                + "WHERE account_id IN (:accountIds) GROUP BY account_id, currency", accounts);
+        long fromAccountId = Collections.min(accountIds);
+        long toAccountId = Collections.max(accountIds);
+        assertEquals(ACCOUNT_COUNT, toAccountId - fromAccountId + 1,
+                "benchmark accounts must have contiguous IDs so snapshots cover no other accounts");
+        for (LocalDate day = firstDay; day.isBefore(LocalDate.now()); day = day.plusDays(1)) {
+            LocalDate snapshotDay = day;
+            transactionTemplate.executeWithoutResult(_ -> snapshotRepository.createSnapshots(snapshotDay,
+                    snapshotDay.minusDays(1), snapshotDay.atStartOfDay(), snapshotDay.plusDays(1).atStartOfDay(),
+                    fromAccountId, toAccountId));
+        }
+        historyStart = firstDay.plusDays(2);
+        log.info("Seeded {} postings over {} accounts and {} days", POSTING_COUNT, ACCOUNT_COUNT, LEDGER_DAYS);
+    }
+
+    @AfterEach
+    void removeLedger() {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource accounts = new MapSqlParameterSource("accountIds", accountIds);
+        namedParameterJdbcTemplate.update("DELETE FROM account_balance_snapshots WHERE account_id IN (:accountIds)", accounts);
+        namedParameterJdbcTemplate.update("DELETE FROM account_postings WHERE account_id IN (:accountIds)", accounts);
+        namedParameterJdbcTemplate.update("DELETE FROM account_balances WHERE account_id IN (:accountIds)", accounts);
+        namedParameterJdbcTemplate.update("DELETE FROM accounts WHERE id IN (:accountIds)", accounts);
+        accountIds.clear();
+    }
+
+    @Test
+    void balanceAtMatchesLedgerSums() {
+        Random random = new Random(7);
+        long querySeconds = Duration.between(historyStart.atStartOfDay(), LocalDateTime.now()).toSeconds();
+        List<Long> latencies = new ArrayList<>(BALANCE_QUERIES);
+        for (int i = 0; i < BALANCE_QUERIES; i++) {
+            Long accountId = accountIds.get(random.nextInt(accountIds.size()));
+            LocalDateTime at = historyStart.atStartOfDay().plusSeconds(random.nextLong(querySeconds));
+
+            long start = System.nanoTime();
+            BigDecimal balance = historyService.getBalanceAt(accountId, CURRENCY, at);
+            latencies.add((System.nanoTime() - start) / 1_000_000);
+
+            BigDecimal expected = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(amount), 0) FROM account_postings "
+                    + "WHERE account_id = ? AND currency = ? AND created_at < ?", BigDecimal.class,
+                    accountId, CURRENCY, Timestamp.valueOf(at));
+            assertEquals(0, Objects.requireNonNull(expected).compareTo(balance),
+                    String.format("balance of account %d at %s: expected %s, got %s", accountId, at, expected, balance));
+        }
+        logLatencies("getBalanceAt", latencies);
+    }
+
+    @Test
+    void turnoverMatchesLedgerSums() {
+        Random random = new Random(11);
+        int queryDays = (int) (LocalDate.now().toEpochDay() - historyStart.toEpochDay());
+        List<Long> latencies = new ArrayList<>(TURNOVER_QUERIES);
+        for (int i = 0; i < TURNOVER_QUERIES; i++) {
+            LocalDate from = historyStart.plusDays(random.nextInt(queryDays));
+            LocalDate to = from.plusDays(random.nextInt(queryDays + 1));
+
+            long start = System.nanoTime();
+            List<AccountTurnoverDTO> turnover = historyService.getTurnover(accountIds, from, to);
+            latencies.add((System.nanoTime() - start) / 1_000_000);
+
+            Map<Long, BigDecimal[]> expected = expectedTurnover(from, to);
+            assertEquals(accountIds.size(), turnover.size());
+            for (AccountTurnoverDTO dto : turnover) {
+                BigDecimal[] sums = expected.get(dto.getAccountId());
+                String context = String.format("account %d from %s to %s", dto.getAccountId(), from, to);
+                assertEquals(0, sums[0].compareTo(dto.getOpeningBalance()), "opening balance of " + context);
+                assertEquals(0, sums[1].compareTo(dto.getDebitTotal()), "debit total of " + context);
+                assertEquals(0, sums[2].compareTo(dto.getCreditTotal()), "credit total of " + context);
+                assertEquals(0, sums[0].add(sums[1]).subtract(sums[2]).compareTo(dto.getClosingBalance()),
+                        "closing balance of " + context);
+            }
+        }
+        logLatencies("getTurnover over " + ACCOUNT_COUNT + " accounts", latencies);
+    }
+
+    private Map<Long, BigDecimal[]> expectedTurnover(LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource("accountIds", accountIds)
+                .addValue("currency", CURRENCY)
+                .addValue("from", Timestamp.valueOf(from.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        Map<Long, BigDecimal[]> expected = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT account_id, "
+                + "COALESCE(SUM(CASE WHEN created_at < :from THEN amount END), 0) AS opening, "
+                + "COALESCE(SUM(CASE WHEN created_at >= :from AND created_at < :to AND amount > 0 THEN amount END), 0) AS debit, "
+                + "COALESCE(SUM(CASE WHEN created_at >= :from AND created_at < :to AND amount < 0 THEN -amount END), 0) AS credit "
+                + "FROM account_postings WHERE account_id IN (:accountIds) AND currency = :currency "
+                + "GROUP BY account_id", params, rs -> {
+            expected.put(rs.getLong("account_id"), new BigDecimal[]{
+                    rs.getBigDecimal("opening"), rs.getBigDecimal("debit"), rs.getBigDecimal("credit")});
+        });
+        return expected;
+    }
+
+    private Long createAccount(String name) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO accounts (name, created_at, updated_at) VALUES (?, NOW(), NOW())",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, name);
+            return ps;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    private static void logLatencies(String operation, List<Long> latencies) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        log.info("{} over {} postings: p50={} ms, p95={} ms, max={} ms", operation, POSTING_COUNT,
+                percentile(sorted, 50), percentile(sorted, 95), sorted.getLast());
+    }
+
+    private static long percentile(List<Long> sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -947,8 +947,14 @@ async function handleClientImport(e) {
     
     try {
         if (loaderBackdrop) loaderBackdrop.style.display = 'flex';
-        const result = await AdministrationDataLoader.importClients(clientTypeId, file);
-        showMessage(result || 'Клієнтів успішно імпортовано', 'success');
+        const submittedJob = await AdministrationDataLoader.importClients(clientTypeId, file);
+        const job = await waitForClientImportJob(submittedJob.id);
+        if (job.status === 'FAILED') {
+            const details = job.errors && job.errors.length > 0 ? `\n${job.errors.join('\n')}` : '';
+            showMessage(`${job.message || 'Помилка імпорту'}${details}`, 'error');
+            return;
+        }
+        showMessage(job.message || 'Клієнтів успішно імпортовано', 'success');
         AdministrationModal.closeModal('client-import-modal');
         document.getElementById('client-import-form')?.reset();
     } catch (error) {
@@ -958,6 +964,31 @@ async function handleClientImport(e) {
     }
 }
 
+const CLIENT_IMPORT_POLL_INTERVAL_MS = 2000;
+const CLIENT_IMPORT_MAX_WAIT_MS = 30 * 60 * 1000;
+const CLIENT_IMPORT_MAX_POLL_ERRORS = 5;
+
+async function waitForClientImportJob(jobId) {
+    const deadline = Date.now() + CLIENT_IMPORT_MAX_WAIT_MS;
+    let pollErrors = 0;
+    while (Date.now() < deadline) {
+        try {
+            const job = await AdministrationDataLoader.loadClientImportJob(jobId);
+            pollErrors = 0;
+            if (job.status === 'COMPLETED' || job.status === 'FAILED') {
+                return job;
+            }
+        } catch (error) {
+            pollErrors++;
+            if (pollErrors >= CLIENT_IMPORT_MAX_POLL_ERRORS) {
+                throw error;
+            }
+        }
+        await new Promise(resolve => setTimeout(resolve, CLIENT_IMPORT_POLL_INTERVAL_MS));
+    }
+    throw new Error('Імпорт триває занадто довго. Перевірте результат пізніше');
+}
+
 async function handleCreateClientType(e) {
     e.preventDefault();
     const formData = {
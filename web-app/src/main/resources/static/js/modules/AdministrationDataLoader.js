@@ -673,13 +673,29 @@ const AdministrationDataLoader = (function() {
                     throw new Error(errorText);
                 }
             }
-            return await response.text();
+            return await response.json();
         } catch (error) {
             console.error('Error importing clients:', error);
             throw error;
         }
     }
 
+    async function loadClientImportJob(jobId) {
+        try {
+            const response = await fetch(`${API_BASE}/client/import/jobs/${jobId}`, {
+                credentials: 'include'
+            });
+            if (!response.ok) {
+                const error = await parseErrorResponse(response);
+                throw error;
+            }
+            return await response.json();
+        } catch (error) {
+            console.error('Error loading client import job:', error);
+            throw error;
+        }
+    }
+
     async function loadClientTypePermissions(userId) {
         try {
             if (!userId || userId === 'undefined' || userId === undefined) {
@@ -894,6 +910,7 @@ const AdministrationDataLoader = (function() {
         loadClientTypeStaticFieldsConfig,
         updateClientTypeStaticFieldsConfig,
         importClients,
+        loadClientImportJob,
         loadClientTypePermissions,
         updateClientTypePermission,
         createClientTypePermission,